@@ -0,0 +1,98 @@
+package org.opendatadiscovery.oddplatform.auth;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.dto.CollectorDto;
+import org.opendatadiscovery.oddplatform.dto.TokenDto;
+import org.opendatadiscovery.oddplatform.exception.NotFoundException;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.CollectorPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TokenPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves the tokens the ingestion requests are authorized with: the token a data source accepts,
+ * which is its own token or the token of its collector, and the collector a token belongs to.
+ * Resolved values are cached, so that collectors sending many requests don't query the database
+ * for every one of them. Values which aren't found aren't cached.
+ *
+ * <p>The services changing tokens, collectors and data sources evict the affected values,
+ * the TTL bounds the staleness of changes made by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestionTokenResolver {
+    private static final String DATA_SOURCE_TOKENS_CACHE = "ingestion_data_source_tokens";
+    private static final String COLLECTOR_IDS_CACHE = "ingestion_collector_ids";
+
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final ReactiveCollectorRepository collectorRepository;
+    private final IngestionProperties ingestionProperties;
+    private final MeterRegistry meterRegistry;
+
+    private AsyncLoadingCache<String, String> dataSourceTokens;
+    private AsyncLoadingCache<String, Long> collectorIds;
+
+    @PostConstruct
+    public void init() {
+        this.dataSourceTokens = CaffeineCacheMetrics.monitor(meterRegistry,
+            cacheBuilder().buildAsync((oddrn, ex) -> loadDataSourceToken(oddrn).toFuture()),
+            DATA_SOURCE_TOKENS_CACHE);
+        this.collectorIds = CaffeineCacheMetrics.monitor(meterRegistry,
+            cacheBuilder().buildAsync((token, ex) -> collectorRepository.getByToken(token)
+                .map(CollectorPojo::getId)
+                .toFuture()),
+            COLLECTOR_IDS_CACHE);
+    }
+
+    public Mono<String> getDataSourceToken(final String dataSourceOddrn) {
+        return Mono.fromFuture(() -> dataSourceTokens.get(dataSourceOddrn));
+    }
+
+    public Mono<Long> getCollectorId(final String token) {
+        return Mono.fromFuture(() -> collectorIds.get(token));
+    }
+
+    public void evictDataSource(final String dataSourceOddrn) {
+        dataSourceTokens.synchronous().invalidate(dataSourceOddrn);
+    }
+
+    // the data sources without their own token accept the token of their collector
+    public void evictToken(final String token) {
+        collectorIds.synchronous().invalidate(token);
+        dataSourceTokens.synchronous().asMap().values().removeIf(token::equals);
+    }
+
+    public void evictCollector(final long collectorId) {
+        collectorIds.synchronous().asMap().values().removeIf(id -> id == collectorId);
+    }
+
+    private Caffeine<Object, Object> cacheBuilder() {
+        final IngestionProperties.TokenCacheProperties properties = ingestionProperties.getTokenCache();
+        return Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats();
+    }
+
+    private Mono<String> loadDataSourceToken(final String dataSourceOddrn) {
+        return dataSourceRepository.getDtoByOddrn(dataSourceOddrn)
+            .flatMap(dto -> {
+                if (dto.token() != null) {
+                    return Mono.just(dto.token());
+                }
+                return collectorRepository.getDto(dto.dataSource().getCollectorId())
+                    .switchIfEmpty(Mono.error(new NotFoundException("collector", dto.dataSource().getCollectorId())))
+                    .map(CollectorDto::tokenDto);
+            })
+            .map(TokenDto::tokenPojo)
+            .map(TokenPojo::getValue);
+    }
+}
@@ -1,13 +1,11 @@
 package org.opendatadiscovery.oddplatform.auth.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.ByteArrayOutputStream;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -24,24 +22,28 @@ import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
 @RequiredArgsConstructor
-@Slf4j
 public abstract class AbstractIngestionFilter implements WebFilter {
 
     private static final String BEARER = "bearer ";
     private final ServerWebExchangeMatcher matcher;
-    private final ObjectMapper mapper = new ObjectMapper();
 
     @Override
     public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
         return matcher.matches(exchange)
             .filter(ServerWebExchangeMatcher.MatchResult::isMatch)
             .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).then(Mono.empty())))
-            .flatMap(ignored -> chain.filter(exchange.mutate().request(getRequestDecorator(exchange)).build()))
+            .flatMap(result -> authorize(exchange, result.getVariables())
+                .then(Mono.defer(() -> chain.filter(exchange.mutate().request(getRequestDecorator(exchange)).build()))))
             .onErrorResume(AccessDeniedException.class, e -> writeResponse(exchange, e.getMessage()));
     }
 
     protected abstract ServerHttpRequestDecorator getRequestDecorator(final ServerWebExchange exchange);
 
+    // checks the requests which can be authorized without reading the body
+    protected Mono<Void> authorize(final ServerWebExchange exchange, final Map<String, Object> pathVariables) {
+        return Mono.empty();
+    }
+
     protected String resolveToken(final ServerHttpRequest request) {
         final String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         if (!StringUtils.hasText(bearerToken) || !bearerToken.toLowerCase().startsWith(BEARER)) {
@@ -50,17 +52,15 @@ public abstract class AbstractIngestionFilter implements WebFilter {
         return bearerToken.substring(BEARER.length());
     }
 
-    protected <T> T readBody(final List<DataBuffer> dataBuffer, final Class<T> clazz) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             WritableByteChannel channel = Channels.newChannel(baos)) {
-            for (final DataBuffer buffer : dataBuffer) {
-                channel.write(buffer.asByteBuffer().asReadOnlyBuffer());
+    // Read-only views of the buffers' readable bytes, the buffers themselves are left untouched for the controller
+    protected List<ByteBuffer> readableByteBuffers(final List<DataBuffer> dataBuffers) {
+        final List<ByteBuffer> byteBuffers = new ArrayList<>(dataBuffers.size());
+        for (final DataBuffer dataBuffer : dataBuffers) {
+            try (final DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+                iterator.forEachRemaining(byteBuffers::add);
             }
-            return mapper.readValue(baos.toByteArray(), clazz);
-        } catch (final Exception e) {
-            log.error("Exception while parsing request body");
-            throw new RuntimeException(e);
         }
+        return byteBuffers;
     }
 
     private Mono<Void> writeResponse(final ServerWebExchange exchange, final String message) {
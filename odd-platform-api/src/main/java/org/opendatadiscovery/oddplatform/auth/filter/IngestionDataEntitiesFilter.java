@@ -1,16 +1,20 @@
 package org.opendatadiscovery.oddplatform.auth.filter;
 
-import org.opendatadiscovery.oddplatform.dto.CollectorDto;
+import java.io.IOException;
+import java.util.List;
+import org.opendatadiscovery.oddplatform.auth.IngestionTokenResolver;
+import org.opendatadiscovery.oddplatform.auth.util.IngestionPayloadReader;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
-import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.util.matcher.OrServerWebExchangeMatcher;
 import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
@@ -20,14 +24,22 @@ import reactor.core.publisher.Mono;
 @ConditionalOnProperty(value = "auth.ingestion.filter.enabled", havingValue = "true")
 public class IngestionDataEntitiesFilter extends AbstractIngestionFilter {
 
-    private final ReactiveDataSourceRepository dataSourceRepository;
-    private final ReactiveCollectorRepository collectorRepository;
+    private static final MediaType PROTOBUF_MEDIA_TYPE = MediaType.parseMediaType("application/x-protobuf");
 
-    public IngestionDataEntitiesFilter(final ReactiveDataSourceRepository dataSourceRepository,
-                                       final ReactiveCollectorRepository collectorRepository) {
-        super(new PathPatternParserServerWebExchangeMatcher("/ingestion/entities", HttpMethod.POST));
-        this.dataSourceRepository = dataSourceRepository;
-        this.collectorRepository = collectorRepository;
+    private final IngestionTokenResolver tokenResolver;
+
+    public IngestionDataEntitiesFilter(final IngestionTokenResolver tokenResolver) {
+        this(new OrServerWebExchangeMatcher(
+                new PathPatternParserServerWebExchangeMatcher("/ingestion/entities", HttpMethod.POST),
+                new PathPatternParserServerWebExchangeMatcher("/ingestion/entities/async", HttpMethod.POST)
+            ),
+            tokenResolver);
+    }
+
+    protected IngestionDataEntitiesFilter(final ServerWebExchangeMatcher matcher,
+                                          final IngestionTokenResolver tokenResolver) {
+        super(matcher);
+        this.tokenResolver = tokenResolver;
     }
 
     @Override
@@ -37,29 +49,44 @@ public class IngestionDataEntitiesFilter extends AbstractIngestionFilter {
             public Flux<DataBuffer> getBody() {
                 return super.getBody().collectList()
                     .flatMapMany(dataBuffer -> {
-                        final DataEntityList body = readBody(dataBuffer, DataEntityList.class);
+                        final String dataSourceOddrn = readDataSourceOddrn(exchange.getRequest(), dataBuffer);
                         final String token = resolveToken(exchange.getRequest());
 
-                        return dataSourceRepository.getDtoByOddrn(body.getDataSourceOddrn())
-                            .switchIfEmpty(Mono.error(new NotFoundException("dataSource", body.getDataSourceOddrn())))
-                            .flatMap(dto -> {
-                                if (dto.token() != null) {
-                                    return Mono.just(dto.token());
-                                } else {
-                                    return collectorRepository.getDto(dto.dataSource().getCollectorId())
-                                        .switchIfEmpty(Mono.error(
-                                            new NotFoundException("collector", dto.dataSource().getCollectorId())))
-                                        .map(CollectorDto::tokenDto);
-                                }
-                            })
-                            .doOnNext(dto -> {
-                                if (!dto.tokenPojo().getValue().equals(token)) {
-                                    throw new AccessDeniedException("Token is not correct");
-                                }
-                            })
-                            .flatMapIterable(ignored -> dataBuffer);
+                        return checkDataSourceToken(dataSourceOddrn, token)
+                            .thenMany(Flux.fromIterable(dataBuffer));
                     });
             }
         };
     }
+
+    private String readDataSourceOddrn(final ServerHttpRequest request, final List<DataBuffer> dataBuffer) {
+        final String dataSourceOddrn;
+        try {
+            dataSourceOddrn = isProtobuf(request)
+                ? IngestionPayloadReader.readProtobufDataSourceOddrn(readableByteBuffers(dataBuffer))
+                : IngestionPayloadReader.readJsonDataSourceOddrn(readableByteBuffers(dataBuffer));
+        } catch (final IOException e) {
+            throw new AccessDeniedException("Data source oddrn can't be read");
+        }
+        if (dataSourceOddrn == null) {
+            throw new AccessDeniedException("Data source oddrn is missed");
+        }
+        return dataSourceOddrn;
+    }
+
+    private boolean isProtobuf(final ServerHttpRequest request) {
+        final MediaType contentType = request.getHeaders().getContentType();
+        return contentType != null && contentType.isCompatibleWith(PROTOBUF_MEDIA_TYPE);
+    }
+
+    protected Mono<Void> checkDataSourceToken(final String dataSourceOddrn, final String token) {
+        return tokenResolver.getDataSourceToken(dataSourceOddrn)
+            .switchIfEmpty(Mono.error(new NotFoundException("dataSource", dataSourceOddrn)))
+            .doOnNext(expectedToken -> {
+                if (!expectedToken.equals(token)) {
+                    throw new AccessDeniedException("Token is not correct");
+                }
+            })
+            .then();
+    }
 }
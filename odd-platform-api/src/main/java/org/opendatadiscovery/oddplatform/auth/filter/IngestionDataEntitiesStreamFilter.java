@@ -0,0 +1,44 @@
+package org.opendatadiscovery.oddplatform.auth.filter;
+
+import org.opendatadiscovery.oddplatform.auth.IngestionTokenResolver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(value = "auth.ingestion.filter.enabled", havingValue = "true")
+public class IngestionDataEntitiesStreamFilter extends IngestionDataEntitiesFilter {
+    private static final String DATA_SOURCE_ODDRN_PARAM = "data_source_oddrn";
+
+    public IngestionDataEntitiesStreamFilter(final IngestionTokenResolver tokenResolver) {
+        super(new PathPatternParserServerWebExchangeMatcher("/ingestion/entities/stream", HttpMethod.POST),
+            tokenResolver);
+    }
+
+    @Override
+    protected ServerHttpRequestDecorator getRequestDecorator(final ServerWebExchange exchange) {
+        return new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                // The data source is passed as a query parameter, so the body is never buffered here
+                return Mono
+                    .fromCallable(() -> {
+                        final String dataSourceOddrn = getQueryParams().getFirst(DATA_SOURCE_ODDRN_PARAM);
+                        if (dataSourceOddrn == null) {
+                            throw new AccessDeniedException("Data source oddrn is missed");
+                        }
+                        return dataSourceOddrn;
+                    })
+                    .flatMap(oddrn -> checkDataSourceToken(oddrn, resolveToken(exchange.getRequest())))
+                    .thenMany(super.getBody());
+            }
+        };
+    }
+}
@@ -1,8 +1,8 @@
 package org.opendatadiscovery.oddplatform.auth.filter;
 
 import java.nio.file.AccessDeniedException;
+import org.opendatadiscovery.oddplatform.auth.IngestionTokenResolver;
 import org.opendatadiscovery.oddplatform.auth.session.SessionConstants;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
@@ -14,11 +14,11 @@ import reactor.core.publisher.Mono;
 
 @Component
 public class IngestionDataSourceFilter extends AbstractIngestionFilter {
-    private final ReactiveCollectorRepository collectorRepository;
+    private final IngestionTokenResolver tokenResolver;
 
-    public IngestionDataSourceFilter(final ReactiveCollectorRepository collectorRepository) {
+    public IngestionDataSourceFilter(final IngestionTokenResolver tokenResolver) {
         super(new PathPatternParserServerWebExchangeMatcher("/ingestion/datasources", HttpMethod.POST));
-        this.collectorRepository = collectorRepository;
+        this.tokenResolver = tokenResolver;
     }
 
     @Override
@@ -26,18 +26,13 @@ public class IngestionDataSourceFilter extends AbstractIngestionFilter {
         return new ServerHttpRequestDecorator(exchange.getRequest()) {
             @Override
             public Flux<DataBuffer> getBody() {
-                return super.getBody().collectList()
-                    .flatMapMany(dataBuffer -> {
-                        final String token = resolveToken(exchange.getRequest());
-
-                        return collectorRepository.getByToken(token)
-                            .switchIfEmpty(
-                                Mono.error(new AccessDeniedException("Collector with such token doesn't exist")))
-                            .zipWith(exchange.getSession())
-                            .doOnNext(t -> t.getT2().getAttributes()
-                                .put(SessionConstants.COLLECTOR_ID_SESSION_KEY, t.getT1().getId()))
-                            .flatMapIterable(i -> dataBuffer);
-                    });
+                // The collector is resolved by the token only, so the body is never buffered here
+                return Mono.defer(() -> tokenResolver.getCollectorId(resolveToken(exchange.getRequest())))
+                    .switchIfEmpty(Mono.error(new AccessDeniedException("Collector with such token doesn't exist")))
+                    .zipWith(exchange.getSession())
+                    .doOnNext(t -> t.getT2().getAttributes()
+                        .put(SessionConstants.COLLECTOR_ID_SESSION_KEY, t.getT1()))
+                    .thenMany(super.getBody());
             }
         };
     }
@@ -0,0 +1,70 @@
+package org.opendatadiscovery.oddplatform.auth.filter;
+
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.auth.IngestionTokenResolver;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Allows reading an ingestion job only with the token its data source is ingested with
+ * or with the token of the data source's collector.
+ */
+@Component
+public class IngestionJobFilter extends AbstractIngestionFilter {
+    private static final String JOB_ID_VARIABLE = "job_id";
+
+    private final ReactiveIngestionJobRepository ingestionJobRepository;
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final IngestionTokenResolver tokenResolver;
+
+    public IngestionJobFilter(final ReactiveIngestionJobRepository ingestionJobRepository,
+                              final ReactiveDataSourceRepository dataSourceRepository,
+                              final IngestionTokenResolver tokenResolver) {
+        super(new PathPatternParserServerWebExchangeMatcher("/ingestion/jobs/{job_id}", HttpMethod.GET));
+        this.ingestionJobRepository = ingestionJobRepository;
+        this.dataSourceRepository = dataSourceRepository;
+        this.tokenResolver = tokenResolver;
+    }
+
+    @Override
+    protected ServerHttpRequestDecorator getRequestDecorator(final ServerWebExchange exchange) {
+        return new ServerHttpRequestDecorator(exchange.getRequest());
+    }
+
+    @Override
+    protected Mono<Void> authorize(final ServerWebExchange exchange, final Map<String, Object> pathVariables) {
+        return Mono.defer(() -> {
+            final String token = resolveToken(exchange.getRequest());
+            return ingestionJobRepository.get(jobId(pathVariables))
+                .flatMap(job -> dataSourceRepository.get(job.getDataSourceId()))
+                .filterWhen(dataSource -> isAccepted(dataSource, token))
+                // a job which doesn't exist is denied too, so that job ids can't be probed
+                .switchIfEmpty(Mono.error(() -> new AccessDeniedException("Token is not correct")))
+                .then();
+        });
+    }
+
+    private Mono<Boolean> isAccepted(final DataSourcePojo dataSource, final String token) {
+        return tokenResolver.getDataSourceToken(dataSource.getOddrn())
+            .filter(token::equals)
+            .map(ignored -> true)
+            .switchIfEmpty(tokenResolver.getCollectorId(token).map(id -> id.equals(dataSource.getCollectorId())))
+            .defaultIfEmpty(false);
+    }
+
+    private long jobId(final Map<String, Object> pathVariables) {
+        try {
+            return Long.parseLong(String.valueOf(pathVariables.get(JOB_ID_VARIABLE)));
+        } catch (final NumberFormatException e) {
+            throw new AccessDeniedException("Ingestion job id is invalid");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.opendatadiscovery.oddplatform.auth.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.opendatadiscovery.oddplatform.proto.ingestion.IngestionProto;
+
+/**
+ * Reads the data source oddrn of an ingestion payload without deserializing the payload.
+ * The buffers are read in place and the nested values are skipped, but the whole top level message is read,
+ * so that the oddrn is the same one the payload is deserialized with.
+ */
+@UtilityClass
+public final class IngestionPayloadReader {
+    private static final String DATA_SOURCE_ODDRN_FIELD = "data_source_oddrn";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    // field number in the upper bits and wire type in the lower three, as WireFormat.makeTag builds it
+    private static final int ODDRN_TAG =
+        IngestionProto.DataEntityList.DATA_SOURCE_ODDRN_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    /**
+     * Returns the top level data source oddrn of a JSON data entity list
+     * or null if the payload has no such string field.
+     *
+     * @throws IOException if the payload isn't a complete JSON value or has more than one top level oddrn,
+     *                     as the decoder would take the last one of them
+     */
+    public static String readJsonDataSourceOddrn(final List<ByteBuffer> buffers) throws IOException {
+        try (final JsonParser parser = JSON_FACTORY.createNonBlockingByteBufferParser()) {
+            final ByteBufferFeeder feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            int depth = 0;
+            boolean oddrnFound = false;
+            boolean oddrnIsNext = false;
+            String oddrn = null;
+            for (int i = 0; i <= buffers.size(); i++) {
+                if (i < buffers.size()) {
+                    feeder.feedInput(buffers.get(i));
+                } else {
+                    feeder.endOfInput();
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of the payload");
+                    }
+                    if (oddrnIsNext) {
+                        oddrnIsNext = false;
+                        oddrn = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    }
+                    switch (token) {
+                        case START_OBJECT, START_ARRAY -> depth++;
+                        case END_OBJECT, END_ARRAY -> depth--;
+                        case FIELD_NAME -> {
+                            if (depth == 1 && DATA_SOURCE_ODDRN_FIELD.equals(parser.currentName())) {
+                                if (oddrnFound) {
+                                    throw new JsonParseException(parser, "Duplicate " + DATA_SOURCE_ODDRN_FIELD);
+                                }
+                                oddrnFound = true;
+                                oddrnIsNext = true;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    if (depth == 0) {
+                        return oddrn;
+                    }
+                }
+            }
+            throw new JsonParseException(parser, "Unexpected end of the payload");
+        }
+    }
+
+    /**
+     * Returns the data source oddrn of a protobuf data entity list, skipping the entities without parsing them,
+     * or null if the payload has no such field. Like the protobuf parser, the last occurrence of the field wins.
+     *
+     * @throws IOException if the payload isn't a valid protobuf message
+     */
+    public static String readProtobufDataSourceOddrn(final List<ByteBuffer> buffers) throws IOException {
+        final CodedInputStream input = CodedInputStream.newInstance(buffers);
+        String oddrn = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            // the field with another wire type is an unknown field for the parser
+            if (tag == ODDRN_TAG) {
+                oddrn = input.readStringRequireUtf8();
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return oddrn;
+    }
+}
@@ -0,0 +1,46 @@
+package org.opendatadiscovery.oddplatform.config;
+
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.service.search.SearchResultCache;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bumps the catalog epoch of {@link SearchResultCache} once a request which may have changed the catalog,
+ * either an edit made in the UI or an ingestion request, is completed and its transaction is committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeWebFilter implements WebFilter {
+    private static final Set<HttpMethod> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+    private static final List<String> CHANGING_PATH_PREFIXES = List.of("/api/", "/ingestion/");
+
+    // the search requests only save the facet state of a search
+    private static final List<String> SEARCH_PATHS = List.of("/api/search", "/api/terms/search");
+
+    private final SearchResultCache searchResultCache;
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        if (READ_METHODS.contains(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        final String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (CHANGING_PATH_PREFIXES.stream().noneMatch(path::startsWith) || isSearchPath(path)) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange).doFinally(signal -> searchResultCache.bumpEpoch());
+    }
+
+    private boolean isSearchPath(final String path) {
+        return SEARCH_PATHS.stream().anyMatch(p -> path.equals(p) || path.startsWith(p + "/"));
+    }
+}
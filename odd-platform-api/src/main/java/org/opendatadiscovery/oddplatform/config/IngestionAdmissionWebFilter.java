@@ -0,0 +1,87 @@
+package org.opendatadiscovery.oddplatform.config;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.api.contract.model.ErrorResponse;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.exception.TooManyRequestsException;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionAdmissionControl;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies {@link IngestionAdmissionControl} to the ingestion requests before any other work is done for them,
+ * including the token check and reading the body. Requests are limited per collector token,
+ * requests without a token are limited per client address.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class IngestionAdmissionWebFilter implements WebFilter {
+    private static final String INGESTION_PATH_PREFIX = "/ingestion/";
+    private static final String BEARER = "bearer ";
+
+    private final IngestionAdmissionControl admissionControl;
+    private final IngestionProperties ingestionProperties;
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        final ServerHttpRequest request = exchange.getRequest();
+        if (!ingestionProperties.getAdmission().isEnabled()
+            || request.getMethod() != HttpMethod.POST
+            || !request.getPath().pathWithinApplication().value().startsWith(INGESTION_PATH_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        return Mono.usingWhen(
+                admissionControl.acquire(collectorKey(request)),
+                permit -> chain.filter(exchange),
+                permit -> Mono.fromRunnable(permit::release))
+            .onErrorResume(TooManyRequestsException.class, e -> writeTooManyRequests(exchange, e));
+    }
+
+    private String collectorKey(final ServerHttpRequest request) {
+        final String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(authorization) && authorization.toLowerCase().startsWith(BEARER)) {
+            return "token:" + authorization.substring(BEARER.length());
+        }
+        final InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+            ? "address:" + remoteAddress.getAddress().getHostAddress()
+            : "anonymous";
+    }
+
+    private Mono<Void> writeTooManyRequests(final ServerWebExchange exchange, final TooManyRequestsException e) {
+        final ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(e);
+        }
+
+        final ErrorResponse error = new ErrorResponse()
+            .message(e.getMessage())
+            .code(e.getCode().getValue())
+            .resolvable(e.getCode().isResolvable())
+            .retryable(e.getCode().isRetryable());
+
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+            String.valueOf(ingestionProperties.getAdmission().getRetryAfter().toSeconds()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromCallable(() -> response.bufferFactory()
+            .wrap(JSONSerDeUtils.serializeJson(error).getBytes(StandardCharsets.UTF_8))));
+    }
+}
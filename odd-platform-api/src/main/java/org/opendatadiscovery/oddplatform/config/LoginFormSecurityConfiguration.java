@@ -44,7 +44,8 @@ public class LoginFormSecurityConfiguration {
             : new RedirectServerAuthenticationSuccessHandler("/");
 
         final String[] permittedPaths = new String[] {
-            "/actuator/health", "/favicon.ico", "/ingestion/entities", "/api/slack/events"
+            "/actuator/health", "/favicon.ico", "/ingestion/entities", "/ingestion/entities/stream",
+            "/ingestion/entities/async", "/ingestion/jobs/**", "/api/slack/events"
         };
         return http
             .csrf(ServerHttpSecurity.CsrfSpec::disable)
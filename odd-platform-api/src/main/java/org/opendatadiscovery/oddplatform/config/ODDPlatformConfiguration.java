@@ -1,6 +1,12 @@
 package org.opendatadiscovery.oddplatform.config;
 
+import org.opendatadiscovery.oddplatform.config.properties.BatchingProperties;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
 import org.opendatadiscovery.oddplatform.config.properties.MetricExporterProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchCacheProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchCountProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchFacetProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchIndexerProperties;
 import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +18,13 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableAspectJAutoProxy
 @EnableConfigurationProperties({
     MetricExporterProperties.class,
-    HousekeepingTTLProperties.class
+    HousekeepingTTLProperties.class,
+    IngestionProperties.class,
+    SearchIndexerProperties.class,
+    SearchCacheProperties.class,
+    SearchFacetProperties.class,
+    SearchCountProperties.class,
+    BatchingProperties.class
 })
 public class ODDPlatformConfiguration {
 }
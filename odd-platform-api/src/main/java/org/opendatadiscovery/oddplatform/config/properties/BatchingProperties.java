@@ -0,0 +1,14 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("repository.batching")
+@Data
+public class BatchingProperties {
+    private int maxBindParameters = 30000;
+    private DataSize maxBatchSize = DataSize.ofMegabytes(4);
+    private int maxRows = 5000;
+    private int concurrency = 2;
+}
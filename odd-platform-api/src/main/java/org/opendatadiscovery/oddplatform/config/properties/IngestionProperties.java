@@ -0,0 +1,66 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("ingestion")
+@Data
+public class IngestionProperties {
+    private boolean skipUnchangedEntities = false;
+    private int processorParallelism = 4;
+    private DatasetVersionHashEncoding datasetVersionHashEncoding = DatasetVersionHashEncoding.COMPATIBLE;
+    private StreamProperties stream = new StreamProperties();
+    private AsyncProperties async = new AsyncProperties();
+    private CoalescingProperties coalescing = new CoalescingProperties();
+    private StatisticsProperties statistics = new StatisticsProperties();
+    private AdmissionProperties admission = new AdmissionProperties();
+    private TokenCacheProperties tokenCache = new TokenCacheProperties();
+
+    public enum DatasetVersionHashEncoding {
+        COMPATIBLE,
+        CANONICAL
+    }
+
+    @Data
+    public static class StreamProperties {
+        private int batchSize = 1000;
+    }
+
+    @Data
+    public static class AsyncProperties {
+        private boolean enabled = false;
+        private int workers = 4;
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private Duration staleJobTimeout = Duration.ofMinutes(30);
+        private Duration heartbeatInterval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class CoalescingProperties {
+        private boolean enabled = false;
+        private int maxEntities = 10000;
+        private int maxQueuedRequests = 1000;
+    }
+
+    @Data
+    public static class StatisticsProperties {
+        private int batchSize = 5000;
+    }
+
+    @Data
+    public static class AdmissionProperties {
+        private boolean enabled = false;
+        private int maxConcurrentRequests = 8;
+        private int maxConcurrentRequestsPerCollector = 4;
+        private int queueCapacity = 100;
+        private Duration maxWait = Duration.ofSeconds(30);
+        private Duration retryAfter = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class TokenCacheProperties {
+        private long maximumSize = 10000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
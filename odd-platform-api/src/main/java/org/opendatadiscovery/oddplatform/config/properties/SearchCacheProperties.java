@@ -0,0 +1,13 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("search.cache")
+@Data
+public class SearchCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 2000;
+    private Duration ttl = Duration.ofMinutes(1);
+}
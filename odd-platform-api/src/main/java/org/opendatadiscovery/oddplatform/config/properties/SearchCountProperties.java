@@ -0,0 +1,17 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("search.count")
+@Data
+public class SearchCountProperties {
+    private CountMode mode = CountMode.EXACT;
+    private long cap = 1000;
+
+    public enum CountMode {
+        EXACT,
+        CAPPED,
+        ESTIMATED
+    }
+}
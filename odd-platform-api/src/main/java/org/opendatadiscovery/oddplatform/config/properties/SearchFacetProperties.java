@@ -0,0 +1,17 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("search.facets")
+@Data
+public class SearchFacetProperties {
+    private boolean countersEnabled = false;
+    private CountingMode countingMode = CountingMode.EXACT;
+    private int sampleSize = 1000;
+
+    public enum CountingMode {
+        EXACT,
+        SAMPLED
+    }
+}
@@ -0,0 +1,14 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("search.indexer")
+@Data
+public class SearchIndexerProperties {
+    private boolean enabled = false;
+    private long advisoryLockId = 130;
+    private int batchSize = 500;
+    private Duration lagTarget = Duration.ofSeconds(5);
+}
@@ -6,21 +6,36 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.opendatadiscovery.oddplatform.auth.session.SessionConstants;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobDto;
 import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
 import org.opendatadiscovery.oddplatform.ingestion.contract.api.IngestionApi;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.CompactDataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSourceList;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSetList;
+import org.opendatadiscovery.oddplatform.mapper.ingestion.IngestionProtobufMapper;
+import org.opendatadiscovery.oddplatform.proto.ingestion.IngestionProto;
 import org.opendatadiscovery.oddplatform.service.DataEntityGroupService;
 import org.opendatadiscovery.oddplatform.service.DataSourceIngestionService;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionCoalescer;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionJobService;
 import org.opendatadiscovery.oddplatform.service.ingestion.IngestionService;
+import org.opendatadiscovery.oddplatform.service.ingestion.StreamingIngestionService;
 import org.opendatadiscovery.oddplatform.service.ingestion.metric.IngestionMetricsService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static reactor.function.TupleUtils.function;
@@ -29,10 +44,17 @@ import static reactor.function.TupleUtils.function;
 @RequiredArgsConstructor
 @Slf4j
 public class IngestionController implements IngestionApi {
+    private static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
     private final IngestionService ingestionService;
+    private final IngestionCoalescer ingestionCoalescer;
+    private final StreamingIngestionService streamingIngestionService;
+    private final IngestionJobService ingestionJobService;
+    private final IngestionProperties ingestionProperties;
     private final DataEntityGroupService dataEntityGroupService;
     private final DataSourceIngestionService dataSourceIngestionService;
     private final IngestionMetricsService ingestionMetricsService;
+    private final IngestionProtobufMapper ingestionProtobufMapper;
 
     @Override
     public Mono<ResponseEntity<Void>> postDataEntityList(final Mono<DataEntityList> dataEntityList,
@@ -40,10 +62,47 @@ public class IngestionController implements IngestionApi {
         return dataEntityList
             .filter(del -> CollectionUtils.isNotEmpty(del.getItems()))
             .switchIfEmpty(Mono.error(() -> new BadUserRequestException("Ingestion payload is empty")))
-            .flatMap(ingestionService::ingest)
+            .flatMap(ingestionCoalescer::ingest)
+            .thenReturn(ResponseEntity.ok().build());
+    }
+
+    @PostMapping(path = "/ingestion/entities", consumes = APPLICATION_PROTOBUF_VALUE)
+    public Mono<ResponseEntity<Void>> postDataEntityListProtobuf(
+        @RequestBody final Mono<IngestionProto.DataEntityList> dataEntityList,
+        final ServerWebExchange exchange
+    ) {
+        return postDataEntityList(dataEntityList.map(ingestionProtobufMapper::mapDataEntityList), exchange);
+    }
+
+    @PostMapping(path = "/ingestion/entities/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Void>> postDataEntityStream(
+        @RequestParam("data_source_oddrn") final String dataSourceOddrn,
+        @RequestBody(required = false) final Flux<DataEntity> dataEntities
+    ) {
+        return streamingIngestionService.ingest(dataSourceOddrn, dataEntities)
             .thenReturn(ResponseEntity.ok().build());
     }
 
+    @PostMapping(path = "/ingestion/entities/async", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<IngestionJobDto>> postDataEntityListAsync(
+        @RequestBody final Mono<DataEntityList> dataEntityList
+    ) {
+        if (!ingestionProperties.getAsync().isEnabled()) {
+            return Mono.error(new BadUserRequestException("Asynchronous ingestion is disabled"));
+        }
+
+        return dataEntityList
+            .filter(del -> CollectionUtils.isNotEmpty(del.getItems()))
+            .switchIfEmpty(Mono.error(() -> new BadUserRequestException("Ingestion payload is empty")))
+            .flatMap(ingestionJobService::enqueue)
+            .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job));
+    }
+
+    @GetMapping(path = "/ingestion/jobs/{job_id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<IngestionJobDto>> getIngestionJob(@PathVariable("job_id") final Long jobId) {
+        return ingestionJobService.getJob(jobId).map(ResponseEntity::ok);
+    }
+
     @Override
     public Mono<ResponseEntity<Void>> createDataSource(final Mono<DataSourceList> dataSourceList,
                                                        final ServerWebExchange exchange) {
@@ -72,6 +131,14 @@ public class IngestionController implements IngestionApi {
             .then(Mono.just(ResponseEntity.ok().build()));
     }
 
+    @PostMapping(path = "/ingestion/datasources", consumes = APPLICATION_PROTOBUF_VALUE)
+    public Mono<ResponseEntity<Void>> createDataSourceProtobuf(
+        @RequestBody final Mono<IngestionProto.DataSourceList> dataSourceList,
+        final ServerWebExchange exchange
+    ) {
+        return createDataSource(dataSourceList.map(ingestionProtobufMapper::mapDataSourceList), exchange);
+    }
+
     @Override
     public Mono<ResponseEntity<CompactDataEntityList>> getDataEntitiesByDEGOddrn(final String degOddrn,
                                                                                  final ServerWebExchange exchange) {
@@ -86,6 +153,15 @@ public class IngestionController implements IngestionApi {
             .thenReturn(ResponseEntity.status(HttpStatus.CREATED).build());
     }
 
+    @PostMapping(path = "/ingestion/entities/datasets/stats", consumes = APPLICATION_PROTOBUF_VALUE)
+    public Mono<ResponseEntity<Void>> postDataSetStatsListProtobuf(
+        @RequestBody final Mono<IngestionProto.DatasetStatisticsList> datasetStatisticsList,
+        final ServerWebExchange exchange
+    ) {
+        return postDataSetStatsList(
+            datasetStatisticsList.map(ingestionProtobufMapper::mapDatasetStatisticsList), exchange);
+    }
+
     @Override
     public Mono<ResponseEntity<Void>> ingestMetrics(final Mono<MetricSetList> metricSetList,
                                                     final ServerWebExchange exchange) {
@@ -94,6 +170,14 @@ public class IngestionController implements IngestionApi {
             .thenReturn(ResponseEntity.status(HttpStatus.CREATED).build());
     }
 
+    @PostMapping(path = "/ingestion/metrics", consumes = APPLICATION_PROTOBUF_VALUE)
+    public Mono<ResponseEntity<Void>> ingestMetricsProtobuf(
+        @RequestBody final Mono<IngestionProto.MetricSetList> metricSetList,
+        final ServerWebExchange exchange
+    ) {
+        return ingestMetrics(metricSetList.map(ingestionProtobufMapper::mapMetricSetList), exchange);
+    }
+
     private boolean validateDataSources(final DataSourceList dsList) {
         return dsList.getItems()
             .stream()
@@ -50,9 +50,11 @@ public class SearchController implements SearchApi {
     public Mono<ResponseEntity<DataEntityList>> getSearchResults(final UUID searchId,
                                                                  @NotNull @Valid final Integer page,
                                                                  @NotNull @Valid final Integer size,
+                                                                 @Valid final String cursor,
+                                                                 @Valid final Boolean exactCount,
                                                                  final ServerWebExchange exchange) {
         return searchService
-            .getSearchResults(searchId, page, size)
+            .getSearchResults(searchId, page, size, cursor, Boolean.TRUE.equals(exactCount))
             .map(ResponseEntity::ok);
     }
 
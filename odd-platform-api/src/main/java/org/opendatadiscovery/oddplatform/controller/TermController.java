@@ -89,12 +89,14 @@ public class TermController implements TermApi {
     @Override
     public Mono<ResponseEntity<DataEntityList>> getTermLinkedEntities(final Long termId, final Integer page,
                                                                    final Integer size,
+                                                                   final String cursor,
                                                                    final String query,
                                                                    final Integer entityClassId,
                                                                    final ServerWebExchange exchange) {
-        return dataEntityService
-            .listByTerm(termId, query, entityClassId, page, size)
-            .map(ResponseEntity::ok);
+        final Mono<DataEntityList> entities = cursor != null
+            ? dataEntityService.listByTermAfter(termId, query, entityClassId, cursor, size)
+            : dataEntityService.listByTerm(termId, query, entityClassId, page, size);
+        return entities.map(ResponseEntity::ok);
     }
 
     @Override
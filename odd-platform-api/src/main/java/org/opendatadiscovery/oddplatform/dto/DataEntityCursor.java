@@ -0,0 +1,47 @@
+package org.opendatadiscovery.oddplatform.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
+
+/**
+ * Position of the last data entity of a page ordered by the full-text search rank, if any, and id, both descending.
+ * The next page is fetched by seeking past it instead of skipping the preceding rows with an offset.
+ * The API exposes it as an opaque continuation token.
+ *
+ * @param rank full-text search rank, null if the data entities aren't searched by a query
+ */
+public record DataEntityCursor(Float rank, long id) {
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        // the rank is encoded by its bits, so that it's compared with the exact same value on the next request
+        final String rankBits = rank != null ? Integer.toHexString(Float.floatToIntBits(rank)) : "";
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((rankBits + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @return the cursor or null for an empty token, which requests the first page
+     */
+    public static DataEntityCursor decode(final String token) {
+        if (StringUtils.isEmpty(token)) {
+            return null;
+        }
+
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = value.split(SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new BadUserRequestException("Invalid cursor: %s", token);
+            }
+            final Float rank = parts[0].isEmpty() ? null : Float.intBitsToFloat(Integer.parseUnsignedInt(parts[0], 16));
+            return new DataEntityCursor(rank, Long.parseLong(parts[1]));
+        } catch (final IllegalArgumentException e) {
+            throw new BadUserRequestException("Invalid cursor: %s", token);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.opendatadiscovery.oddplatform.dto;
+
+import java.time.LocalDateTime;
+
+public record SearchIndexBacklogDto(long size, LocalDateTime oldestEnqueuedAt) {
+}
@@ -29,6 +29,8 @@ public class DataEntityIngestionDto {
     protected Map<String, Object> metadata;
     protected List<String> tags;
     protected String specificAttributesJson;
+    protected String fingerprint;
+    protected Map<String, String> searchVectorFingerprints;
 
     protected DataSetIngestionDto dataSet;
     protected DataTransformerIngestionDto dataTransformer;
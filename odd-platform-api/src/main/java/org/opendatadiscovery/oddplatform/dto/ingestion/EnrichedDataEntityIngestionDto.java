@@ -16,9 +16,10 @@ public class EnrichedDataEntityIngestionDto extends DataEntityIngestionDto {
                                           final DataEntityIngestionDto ingestionDto) {
         super(ingestionDto.name, ingestionDto.oddrn, ingestionDto.dataSourceId, ingestionDto.externalDescription,
             ingestionDto.sourceCreatedAt, ingestionDto.sourceUpdatedAt, ingestionDto.entityClasses, ingestionDto.type,
-            ingestionDto.metadata, ingestionDto.tags, ingestionDto.specificAttributesJson, ingestionDto.dataSet,
-            ingestionDto.dataTransformer, ingestionDto.dataConsumer, ingestionDto.dataQualityTest,
-            ingestionDto.dataInput, ingestionDto.dataEntityGroup);
+            ingestionDto.metadata, ingestionDto.tags, ingestionDto.specificAttributesJson, ingestionDto.fingerprint,
+            ingestionDto.searchVectorFingerprints, ingestionDto.dataSet, ingestionDto.dataTransformer,
+            ingestionDto.dataConsumer, ingestionDto.dataQualityTest, ingestionDto.dataInput,
+            ingestionDto.dataEntityGroup);
 
         this.id = id;
         this.previousVersionPojo = previousVersionPojo;
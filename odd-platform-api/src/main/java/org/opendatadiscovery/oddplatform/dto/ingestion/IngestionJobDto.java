@@ -0,0 +1,16 @@
+package org.opendatadiscovery.oddplatform.dto.ingestion;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+public record IngestionJobDto(@JsonProperty("id") long id,
+                              @JsonProperty("data_source_id") long dataSourceId,
+                              @JsonProperty("status") IngestionJobStatus status,
+                              @JsonProperty("entities_count") int entitiesCount,
+                              @JsonProperty("phase_timings") Map<String, Long> phaseTimings,
+                              @JsonProperty("error") String error,
+                              @JsonProperty("created_at") OffsetDateTime createdAt,
+                              @JsonProperty("started_at") OffsetDateTime startedAt,
+                              @JsonProperty("finished_at") OffsetDateTime finishedAt) {
+}
@@ -0,0 +1,25 @@
+package org.opendatadiscovery.oddplatform.dto.ingestion;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+
+public enum IngestionJobStatus {
+    PENDING(1),
+    RUNNING(2),
+    COMPLETED(3),
+    FAILED(4);
+
+    @Getter
+    private final short code;
+
+    IngestionJobStatus(final int code) {
+        this.code = (short) code;
+    }
+
+    public static Optional<IngestionJobStatus> fromCode(final short code) {
+        return Arrays.stream(IngestionJobStatus.values())
+            .filter(s -> s.getCode() == code)
+            .findFirst();
+    }
+}
@@ -0,0 +1,23 @@
+package org.opendatadiscovery.oddplatform.dto.ingestion;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects wall-clock durations (in milliseconds) of ingestion phases.
+ * An instance is put into the Reactor context by the caller which wants to know the timings.
+ */
+public class IngestionPhaseTimings {
+    private final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public void record(final String phase, final long durationNanos) {
+        timings.merge(phase, durationNanos / 1_000_000, Long::sum);
+    }
+
+    public Map<String, Long> asMap() {
+        synchronized (timings) {
+            return new LinkedHashMap<>(timings);
+        }
+    }
+}
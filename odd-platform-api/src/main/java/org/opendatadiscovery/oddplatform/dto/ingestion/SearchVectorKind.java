@@ -0,0 +1,12 @@
+package org.opendatadiscovery.oddplatform.dto.ingestion;
+
+/**
+ * Groups of search vectors that depend on the same part of an ingested data entity.
+ */
+public enum SearchVectorKind {
+    DATA_ENTITY,
+    DATA_SOURCE,
+    METADATA,
+    STRUCTURE,
+    TAG
+}
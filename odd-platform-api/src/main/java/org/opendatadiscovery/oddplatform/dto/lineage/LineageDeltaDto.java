@@ -0,0 +1,7 @@
+package org.opendatadiscovery.oddplatform.dto.lineage;
+
+import java.util.List;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+
+public record LineageDeltaDto(List<LineagePojo> added, List<LineagePojo> removed) {
+}
@@ -11,7 +11,8 @@ public enum ErrorCode {
     UNIQUE_CONSTRAINT("USR003", false, true),
     CASCADE_DELETE("USR004", false, true),
     SERVER_EXCEPTION("SYS001", false, false),
-    DATABASE_EXCEPTION("SYS002", true, false);
+    DATABASE_EXCEPTION("SYS002", true, false),
+    TOO_MANY_REQUESTS("SYS003", true, false);
 
     private final String value;
 
@@ -0,0 +1,7 @@
+package org.opendatadiscovery.oddplatform.exception;
+
+public class TooManyRequestsException extends ExceptionWithErrorCode {
+    public TooManyRequestsException(final String message) {
+        super(ErrorCode.TOO_MANY_REQUESTS, message);
+    }
+}
@@ -9,4 +9,5 @@ public class HousekeepingTTLProperties {
     private int resolvedAlertsDays;
     private int searchFacetsDays;
     private int dataEntityDeleteDays;
+    private int ingestionJobsDays;
 }
\ No newline at end of file
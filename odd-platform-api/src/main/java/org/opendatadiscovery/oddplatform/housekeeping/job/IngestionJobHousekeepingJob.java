@@ -0,0 +1,32 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import java.sql.Connection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.tables.IngestionJob.INGESTION_JOB;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionJobHousekeepingJob implements HousekeepingJob {
+    private final HousekeepingTTLProperties housekeepingTTLProperties;
+
+    @Override
+    public void doHousekeeping(final Connection connection) {
+        final DSLContext dslContext = DSL.using(connection);
+
+        final int deletedJobs = dslContext
+            .deleteFrom(INGESTION_JOB)
+            .where(INGESTION_JOB.FINISHED_AT.lessOrEqual(
+                DateTimeUtil.generateNow().minusDays(housekeepingTTLProperties.getIngestionJobsDays())))
+            .execute();
+
+        log.debug("Housekeeping job deleted {} finished ingestion jobs", deletedJobs);
+    }
+}
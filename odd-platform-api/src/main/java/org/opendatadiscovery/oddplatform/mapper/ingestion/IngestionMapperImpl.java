@@ -38,6 +38,7 @@ import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransforme
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransformerRun;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.service.ingestion.DataEntityFingerprintCalculator;
 import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
 import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
@@ -80,6 +81,7 @@ import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestio
 public class IngestionMapperImpl implements IngestionMapper {
     private final DatasetFieldIngestionMapper datasetFieldIngestionMapper;
     private final DatasetVersionHashCalculator datasetVersionHashCalculator;
+    private final DataEntityFingerprintCalculator dataEntityFingerprintCalculator;
 
     private static final List<Pair<Predicate<DataEntity>, DataEntityClassDto>> ENTITY_CLASS_DISCRIMINATOR = List.of(
         Pair.of(de -> de.getDataset() != null, DATA_SET),
@@ -107,7 +109,10 @@ public class IngestionMapperImpl implements IngestionMapper {
             .sourceUpdatedAt(dataEntity.getUpdatedAt())
             .entityClasses(entityClasses)
             .type(type)
-            .specificAttributesJson(specificAttributesAsString(entityClasses, dataEntity));
+            .specificAttributesJson(specificAttributesAsString(entityClasses, dataEntity))
+            .fingerprint(dataEntityFingerprintCalculator.calculateFingerprint(dataEntity, dataSourceId))
+            .searchVectorFingerprints(
+                dataEntityFingerprintCalculator.calculateSearchVectorFingerprints(dataEntity, dataSourceId));
 
         if (CollectionUtils.isNotEmpty(dataEntity.getMetadata())) {
             builder = builder.metadata(dataEntity.getMetadata().get(0).getMetadata());
@@ -165,6 +170,10 @@ public class IngestionMapperImpl implements IngestionMapper {
             .setSourceCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null)
             .setSourceUpdatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
             .setLastIngestedAt(now)
+            .setIngestionFingerprint(dto.getFingerprint())
+            .setSearchVectorFingerprints(dto.getSearchVectorFingerprints() != null
+                ? JSONB.jsonb(JSONSerDeUtils.serializeJson(dto.getSearchVectorFingerprints()))
+                : null)
             .setTypeId(dto.getType().getId())
             .setHollow(false)
             .setSpecificAttributes(JSONB.jsonb(dto.getSpecificAttributesJson()))
@@ -0,0 +1,17 @@
+package org.opendatadiscovery.oddplatform.mapper.ingestion;
+
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSourceList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSetList;
+import org.opendatadiscovery.oddplatform.proto.ingestion.IngestionProto;
+
+public interface IngestionProtobufMapper {
+    DataEntityList mapDataEntityList(final IngestionProto.DataEntityList message);
+
+    DatasetStatisticsList mapDatasetStatisticsList(final IngestionProto.DatasetStatisticsList message);
+
+    DataSourceList mapDataSourceList(final IngestionProto.DataSourceList message);
+
+    MetricSetList mapMetricSetList(final IngestionProto.MetricSetList message);
+}
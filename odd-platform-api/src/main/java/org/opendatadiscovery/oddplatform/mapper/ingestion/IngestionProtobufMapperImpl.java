@@ -0,0 +1,529 @@
+package org.opendatadiscovery.oddplatform.mapper.ingestion;
+
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.Value;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.BinaryFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.BooleanFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Bucket;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.ComplexFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.CounterValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataConsumer;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityGroup;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataInput;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataQualityTest;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataQualityTestExpectation;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataQualityTestExpectationCategory;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataQualityTestRun;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldEnumValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetStatistics;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSource;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSourceList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransformer;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransformerRun;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DateTimeFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Exemplar;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.GaugeValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.HistogramValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.InfoValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.IntegerFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.JobRunStatus;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Label;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.LinkedUrl;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetadataExtension;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Metric;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricPoint;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSetList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.NumberFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.QualityRunStatus;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Quantile;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.State;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.StateSetValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.StringFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.SummaryValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.UnknownValue;
+import org.opendatadiscovery.oddplatform.proto.ingestion.IngestionProto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IngestionProtobufMapperImpl implements IngestionProtobufMapper {
+    @Override
+    public DataEntityList mapDataEntityList(final IngestionProto.DataEntityList message) {
+        final DataEntityList result = new DataEntityList().dataSourceOddrn(emptyToNull(message.getDataSourceOddrn()));
+        mapRepeated(message.getItemsList(), this::mapDataEntity, result::setItems);
+        return result;
+    }
+
+    @Override
+    public DatasetStatisticsList mapDatasetStatisticsList(final IngestionProto.DatasetStatisticsList message) {
+        final DatasetStatisticsList result = new DatasetStatisticsList();
+        mapRepeated(message.getItemsList(), this::mapDatasetStatistics, result::setItems);
+        return result;
+    }
+
+    @Override
+    public DataSourceList mapDataSourceList(final IngestionProto.DataSourceList message) {
+        final DataSourceList result = new DataSourceList();
+        mapRepeated(message.getItemsList(), this::mapDataSource, result::setItems);
+        return result;
+    }
+
+    @Override
+    public MetricSetList mapMetricSetList(final IngestionProto.MetricSetList message) {
+        final MetricSetList result = new MetricSetList();
+        mapRepeated(message.getItemsList(), this::mapMetricSet, result::setItems);
+        return result;
+    }
+
+    private DataEntity mapDataEntity(final IngestionProto.DataEntity message) {
+        final DataEntity result = new DataEntity()
+            .oddrn(emptyToNull(message.getOddrn()))
+            .name(emptyToNull(message.getName()))
+            .version(message.hasVersion() ? message.getVersion() : null)
+            .description(message.hasDescription() ? message.getDescription() : null)
+            .owner(message.hasOwner() ? message.getOwner() : null)
+            .updatedAt(message.hasUpdatedAt() ? mapTimestamp(message.getUpdatedAt()) : null)
+            .createdAt(message.hasCreatedAt() ? mapTimestamp(message.getCreatedAt()) : null)
+            .type(mapEnum(message.getType(), DataEntityType::fromValue))
+            .dataset(message.hasDataset() ? mapDataSet(message.getDataset()) : null)
+            .dataTransformer(message.hasDataTransformer() ? mapDataTransformer(message.getDataTransformer()) : null)
+            .dataTransformerRun(message.hasDataTransformerRun()
+                ? mapDataTransformerRun(message.getDataTransformerRun())
+                : null)
+            .dataQualityTest(message.hasDataQualityTest() ? mapDataQualityTest(message.getDataQualityTest()) : null)
+            .dataQualityTestRun(message.hasDataQualityTestRun()
+                ? mapDataQualityTestRun(message.getDataQualityTestRun())
+                : null)
+            .dataInput(message.hasDataInput() ? mapDataInput(message.getDataInput()) : null)
+            .dataConsumer(message.hasDataConsumer() ? mapDataConsumer(message.getDataConsumer()) : null)
+            .dataEntityGroup(message.hasDataEntityGroup() ? mapDataEntityGroup(message.getDataEntityGroup()) : null);
+
+        mapRepeated(message.getMetadataList(), this::mapMetadataExtension, result::setMetadata);
+        mapRepeated(message.getTagsList(), this::mapTag, result::setTags);
+        return result;
+    }
+
+    private MetadataExtension mapMetadataExtension(final IngestionProto.MetadataExtension message) {
+        final MetadataExtension result = new MetadataExtension()
+            .schemaUrl(message.hasSchemaUrl() ? URI.create(message.getSchemaUrl()) : null);
+        if (message.hasMetadata()) {
+            result.setMetadata(mapStruct(message.getMetadata()));
+        }
+        return result;
+    }
+
+    private Tag mapTag(final IngestionProto.Tag message) {
+        return new Tag().name(emptyToNull(message.getName()));
+    }
+
+    private DataSet mapDataSet(final IngestionProto.DataSet message) {
+        final DataSet result = new DataSet()
+            .parentOddrn(message.hasParentOddrn() ? message.getParentOddrn() : null)
+            .rowsNumber(message.hasRowsNumber() ? message.getRowsNumber() : null);
+        mapRepeated(message.getFieldListList(), this::mapDataSetField, result::setFieldList);
+        return result;
+    }
+
+    private DataSetField mapDataSetField(final IngestionProto.DataSetField message) {
+        final DataSetField result = new DataSetField()
+            .oddrn(emptyToNull(message.getOddrn()))
+            .name(emptyToNull(message.getName()))
+            .version(message.hasVersion() ? message.getVersion() : null)
+            .description(message.hasDescription() ? message.getDescription() : null)
+            .owner(message.hasOwner() ? message.getOwner() : null)
+            .parentFieldOddrn(message.hasParentFieldOddrn() ? message.getParentFieldOddrn() : null)
+            .type(message.hasType() ? mapDataSetFieldType(message.getType()) : null)
+            .isPrimaryKey(message.hasIsPrimaryKey() ? message.getIsPrimaryKey() : null)
+            .isSortKey(message.hasIsSortKey() ? message.getIsSortKey() : null)
+            .isKey(message.hasIsKey() ? message.getIsKey() : null)
+            .isValue(message.hasIsValue() ? message.getIsValue() : null)
+            .referenceOddrn(message.hasReferenceOddrn() ? message.getReferenceOddrn() : null)
+            .defaultValue(message.hasDefaultValue() ? message.getDefaultValue() : null)
+            .stats(message.hasStats() ? mapDataSetFieldStat(message.getStats()) : null);
+
+        mapRepeated(message.getMetadataList(), this::mapMetadataExtension, result::setMetadata);
+        mapRepeated(message.getTagsList(), this::mapTag, result::setTags);
+        mapRepeated(message.getEnumValuesList(), this::mapEnumValue, result::setEnumValues);
+        return result;
+    }
+
+    private DataSetFieldType mapDataSetFieldType(final IngestionProto.DataSetFieldType message) {
+        return new DataSetFieldType()
+            .type(mapEnum(message.getType(), DataSetFieldType.TypeEnum::fromValue))
+            .logicalType(message.hasLogicalType() ? message.getLogicalType() : null)
+            .isNullable(message.hasIsNullable() ? message.getIsNullable() : null);
+    }
+
+    private DataSetFieldEnumValue mapEnumValue(final IngestionProto.DataSetFieldEnumValue message) {
+        return new DataSetFieldEnumValue()
+            .name(emptyToNull(message.getName()))
+            .description(message.hasDescription() ? message.getDescription() : null);
+    }
+
+    private DataTransformer mapDataTransformer(final IngestionProto.DataTransformer message) {
+        final DataTransformer result = new DataTransformer()
+            .sourceCodeUrl(message.hasSourceCodeUrl() ? message.getSourceCodeUrl() : null)
+            .sql(message.hasSql() ? message.getSql() : null);
+        mapRepeated(message.getInputsList(), Function.identity(), result::setInputs);
+        mapRepeated(message.getOutputsList(), Function.identity(), result::setOutputs);
+        return result;
+    }
+
+    private DataTransformerRun mapDataTransformerRun(final IngestionProto.DataTransformerRun message) {
+        return new DataTransformerRun()
+            .transformerOddrn(emptyToNull(message.getTransformerOddrn()))
+            .startTime(message.hasStartTime() ? mapTimestamp(message.getStartTime()) : null)
+            .endTime(message.hasEndTime() ? mapTimestamp(message.getEndTime()) : null)
+            .statusReason(message.hasStatusReason() ? message.getStatusReason() : null)
+            .status(mapEnum(message.getStatus(), JobRunStatus::fromValue));
+    }
+
+    private DataQualityTest mapDataQualityTest(final IngestionProto.DataQualityTest message) {
+        final DataQualityTest result = new DataQualityTest()
+            .suiteName(message.hasSuiteName() ? message.getSuiteName() : null)
+            .suiteUrl(message.hasSuiteUrl() ? message.getSuiteUrl() : null)
+            .expectation(message.hasExpectation() ? mapExpectation(message.getExpectation()) : null);
+        mapRepeated(message.getDatasetListList(), Function.identity(), result::setDatasetList);
+        mapRepeated(message.getLinkedUrlListList(), this::mapLinkedUrl, result::setLinkedUrlList);
+        return result;
+    }
+
+    private DataQualityTestExpectation mapExpectation(final IngestionProto.DataQualityTestExpectation message) {
+        final DataQualityTestExpectation result = new DataQualityTestExpectation();
+        result.putAll(message.getParametersMap());
+        result.setType(emptyToNull(message.getType()));
+        if (message.hasCategory()) {
+            result.setCategory(mapEnum(message.getCategory(), DataQualityTestExpectationCategory::fromValue));
+        }
+        return result;
+    }
+
+    private LinkedUrl mapLinkedUrl(final IngestionProto.LinkedUrl message) {
+        return new LinkedUrl()
+            .name(emptyToNull(message.getName()))
+            .url(emptyToNull(message.getUrl()));
+    }
+
+    private DataQualityTestRun mapDataQualityTestRun(final IngestionProto.DataQualityTestRun message) {
+        return new DataQualityTestRun()
+            .dataQualityTestOddrn(emptyToNull(message.getDataQualityTestOddrn()))
+            .startTime(message.hasStartTime() ? mapTimestamp(message.getStartTime()) : null)
+            .endTime(message.hasEndTime() ? mapTimestamp(message.getEndTime()) : null)
+            .statusReason(message.hasStatusReason() ? message.getStatusReason() : null)
+            .status(mapEnum(message.getStatus(), QualityRunStatus::fromValue));
+    }
+
+    private DataInput mapDataInput(final IngestionProto.DataInput message) {
+        final DataInput result = new DataInput();
+        mapRepeated(message.getOutputsList(), Function.identity(), result::setOutputs);
+        return result;
+    }
+
+    private DataConsumer mapDataConsumer(final IngestionProto.DataConsumer message) {
+        final DataConsumer result = new DataConsumer();
+        mapRepeated(message.getInputsList(), Function.identity(), result::setInputs);
+        return result;
+    }
+
+    private DataEntityGroup mapDataEntityGroup(final IngestionProto.DataEntityGroup message) {
+        final DataEntityGroup result = new DataEntityGroup()
+            .groupOddrn(message.hasGroupOddrn() ? message.getGroupOddrn() : null);
+        mapRepeated(message.getEntitiesListList(), Function.identity(), result::setEntitiesList);
+        return result;
+    }
+
+    private DataSetStatistics mapDatasetStatistics(final IngestionProto.DataSetStatistics message) {
+        final DataSetStatistics result = new DataSetStatistics()
+            .datasetOddrn(emptyToNull(message.getDatasetOddrn()));
+        final Map<String, DataSetFieldStat> fields = new LinkedHashMap<>();
+        message.getFieldsMap().forEach((oddrn, stat) -> fields.put(oddrn, mapDataSetFieldStat(stat)));
+        result.setFields(fields);
+        return result;
+    }
+
+    private DataSetFieldStat mapDataSetFieldStat(final IngestionProto.DataSetFieldStat message) {
+        final DataSetFieldStat result = new DataSetFieldStat()
+            .complexStats(message.hasComplexStats() ? mapComplexStat(message.getComplexStats()) : null)
+            .booleanStats(message.hasBooleanStats() ? mapBooleanStat(message.getBooleanStats()) : null)
+            .integerStats(message.hasIntegerStats() ? mapIntegerStat(message.getIntegerStats()) : null)
+            .numberStats(message.hasNumberStats() ? mapNumberStat(message.getNumberStats()) : null)
+            .stringStats(message.hasStringStats() ? mapStringStat(message.getStringStats()) : null)
+            .binaryStats(message.hasBinaryStats() ? mapBinaryStat(message.getBinaryStats()) : null)
+            .datetimeStats(message.hasDatetimeStats() ? mapDateTimeStat(message.getDatetimeStats()) : null);
+        mapRepeated(message.getTagsList(), this::mapTag, result::setTags);
+        return result;
+    }
+
+    private ComplexFieldStat mapComplexStat(final IngestionProto.ComplexFieldStat message) {
+        return new ComplexFieldStat()
+            .nullsCount(message.hasNullsCount() ? message.getNullsCount() : null)
+            .uniqueCount(message.hasUniqueCount() ? message.getUniqueCount() : null);
+    }
+
+    private BooleanFieldStat mapBooleanStat(final IngestionProto.BooleanFieldStat message) {
+        return new BooleanFieldStat()
+            .trueCount(message.hasTrueCount() ? message.getTrueCount() : null)
+            .falseCount(message.hasFalseCount() ? message.getFalseCount() : null)
+            .nullsCount(message.hasNullsCount() ? message.getNullsCount() : null);
+    }
+
+    private IntegerFieldStat mapIntegerStat(final IngestionProto.IntegerFieldStat message) {
+        return new IntegerFieldStat()
+            .lowValue(message.hasLowValue() ? message.getLowValue() : null)
+            .highValue(message.hasHighValue() ? message.getHighValue() : null)
+            .meanValue(message.hasMeanValue() ? message.getMeanValue() : null)
+            .medianValue(message.hasMedianValue() ? message.getMedianValue() : null)
+            .nullsCount(message.hasNullsCount() ? message.getNullsCount() : null)
+            .uniqueCount(message.hasUniqueCount() ? message.getUniqueCount() : null);
+    }
+
+    private NumberFieldStat mapNumberStat(final IngestionProto.NumberFieldStat message) {
+        return new NumberFieldStat()
+            .lowValue(message.hasLowValue() ? BigDecimal.valueOf(message.getLowValue()) : null)
+            .highValue(message.hasHighValue() ? BigDecimal.valueOf(message.getHighValue()) : null)
+            .meanValue(message.hasMeanValue() ? BigDecimal.valueOf(message.getMeanValue()) : null)
+            .medianValue(message.hasMedianValue() ? BigDecimal.valueOf(message.getMedianValue()) : null)
+            .nullsCount(message.hasNullsCount() ? message.getNullsCount() : null)
+            .uniqueCount(message.hasUniqueCount() ? message.getUniqueCount() : null);
+    }
+
+    private StringFieldStat mapStringStat(final IngestionProto.StringFieldStat message) {
+        return new StringFieldStat()
+            .maxLength(message.hasMaxLength() ? message.getMaxLength() : null)
+            .avgLength(message.hasAvgLength() ? BigDecimal.valueOf(message.getAvgLength()) : null)
+            .nullsCount(message.hasNullsCount() ? message.getNullsCount() : null)
+            .uniqueCount(message.hasUniqueCount() ? message.getUniqueCount() : null);
+    }
+
+    private BinaryFieldStat mapBinaryStat(final IngestionProto.BinaryFieldStat message) {
+        return new BinaryFieldStat()
+            .maxLength(message.hasMaxLength() ? message.getMaxLength() : null)
+            .avgLength(message.hasAvgLength() ? BigDecimal.valueOf(message.getAvgLength()) : null)
+            .nullsCount(message.hasNullsCount() ? message.getNullsCount() : null)
+            .uniqueCount(message.hasUniqueCount() ? message.getUniqueCount() : null);
+    }
+
+    private DateTimeFieldStat mapDateTimeStat(final IngestionProto.DateTimeFieldStat message) {
+        return new DateTimeFieldStat()
+            .lowValue(message.hasLowValue() ? mapTimestamp(message.getLowValue()) : null)
+            .highValue(message.hasHighValue() ? mapTimestamp(message.getHighValue()) : null)
+            .meanValue(message.hasMeanValue() ? mapTimestamp(message.getMeanValue()) : null)
+            .medianValue(message.hasMedianValue() ? mapTimestamp(message.getMedianValue()) : null)
+            .nullsCount(message.hasNullsCount() ? message.getNullsCount() : null)
+            .uniqueCount(message.hasUniqueCount() ? message.getUniqueCount() : null);
+    }
+
+    private DataSource mapDataSource(final IngestionProto.DataSource message) {
+        return new DataSource()
+            .oddrn(emptyToNull(message.getOddrn()))
+            .name(emptyToNull(message.getName()))
+            .description(message.hasDescription() ? message.getDescription() : null);
+    }
+
+    private MetricSet mapMetricSet(final IngestionProto.MetricSet message) {
+        final MetricSet result = new MetricSet().oddrn(emptyToNull(message.getOddrn()));
+        mapRepeated(message.getMetricFamiliesList(), this::mapMetricFamily, result::setMetricFamilies);
+        return result;
+    }
+
+    private MetricFamily mapMetricFamily(final IngestionProto.MetricFamily message) {
+        final MetricFamily result = new MetricFamily()
+            .name(emptyToNull(message.getName()))
+            .type(mapEnum(message.getType(), MetricType::fromValue))
+            .unit(message.hasUnit() ? message.getUnit() : null)
+            .help(message.hasHelp() ? message.getHelp() : null);
+        mapRepeated(message.getMetricsList(), this::mapMetric, result::setMetrics);
+        return result;
+    }
+
+    private Metric mapMetric(final IngestionProto.Metric message) {
+        final Metric result = new Metric();
+        mapRepeated(message.getLabelsList(), this::mapLabel, result::setLabels);
+        mapRepeated(message.getMetricPointsList(), this::mapMetricPoint, result::setMetricPoints);
+        return result;
+    }
+
+    private Label mapLabel(final IngestionProto.Label message) {
+        return new Label()
+            .name(emptyToNull(message.getName()))
+            .value(message.getValue());
+    }
+
+    private MetricPoint mapMetricPoint(final IngestionProto.MetricPoint message) {
+        return new MetricPoint()
+            .timestamp(message.hasTimestamp() ? message.getTimestamp() : null)
+            .unknownValue(message.hasUnknownValue()
+                ? new UnknownValue().value(BigDecimal.valueOf(message.getUnknownValue().getValue()))
+                : null)
+            .gaugeValue(message.hasGaugeValue()
+                ? new GaugeValue().value(BigDecimal.valueOf(message.getGaugeValue().getValue()))
+                : null)
+            .counterValue(message.hasCounterValue() ? mapCounterValue(message.getCounterValue()) : null)
+            .histogramValue(message.hasHistogramValue() ? mapHistogramValue(message.getHistogramValue()) : null)
+            .stateSetValue(message.hasStateSetValue() ? mapStateSetValue(message.getStateSetValue()) : null)
+            .infoValue(message.hasInfoValue() ? mapInfoValue(message.getInfoValue()) : null)
+            .summaryValue(message.hasSummaryValue() ? mapSummaryValue(message.getSummaryValue()) : null);
+    }
+
+    private CounterValue mapCounterValue(final IngestionProto.CounterValue message) {
+        return new CounterValue()
+            .total(BigDecimal.valueOf(message.getTotal()))
+            .created(message.hasCreated() ? message.getCreated() : null)
+            .exemplar(message.hasExemplar() ? mapExemplar(message.getExemplar()) : null);
+    }
+
+    private HistogramValue mapHistogramValue(final IngestionProto.HistogramValue message) {
+        final HistogramValue result = new HistogramValue()
+            .sum(message.hasSum() ? BigDecimal.valueOf(message.getSum()) : null)
+            .count(message.hasCount() ? message.getCount() : null)
+            .created(message.hasCreated() ? message.getCreated() : null);
+        mapRepeated(message.getBucketsList(), this::mapBucket, result::setBuckets);
+        return result;
+    }
+
+    private Bucket mapBucket(final IngestionProto.Bucket message) {
+        return new Bucket()
+            .upperBound(BigDecimal.valueOf(message.getUpperBound()))
+            .count(message.getCount())
+            .exemplar(message.hasExemplar() ? mapExemplar(message.getExemplar()) : null);
+    }
+
+    private SummaryValue mapSummaryValue(final IngestionProto.SummaryValue message) {
+        final SummaryValue result = new SummaryValue()
+            .sum(message.hasSum() ? BigDecimal.valueOf(message.getSum()) : null)
+            .count(message.hasCount() ? message.getCount() : null)
+            .created(message.hasCreated() ? message.getCreated() : null);
+        mapRepeated(message.getQuantileList(), this::mapQuantile, result::setQuantile);
+        return result;
+    }
+
+    private Quantile mapQuantile(final IngestionProto.Quantile message) {
+        return new Quantile()
+            .quantile(BigDecimal.valueOf(message.getQuantile()))
+            .value(BigDecimal.valueOf(message.getValue()));
+    }
+
+    private StateSetValue mapStateSetValue(final IngestionProto.StateSetValue message) {
+        final StateSetValue result = new StateSetValue();
+        mapRepeated(message.getStatesList(), this::mapState, result::setStates);
+        return result;
+    }
+
+    private State mapState(final IngestionProto.State message) {
+        return new State()
+            .enabled(message.getEnabled())
+            .name(emptyToNull(message.getName()));
+    }
+
+    private InfoValue mapInfoValue(final IngestionProto.InfoValue message) {
+        final InfoValue result = new InfoValue();
+        mapRepeated(message.getInfoList(), this::mapLabel, result::setInfo);
+        return result;
+    }
+
+    private Exemplar mapExemplar(final IngestionProto.Exemplar message) {
+        final Exemplar result = new Exemplar()
+            .value(BigDecimal.valueOf(message.getValue()))
+            .timestamp(message.hasTimestamp() ? message.getTimestamp() : null);
+        mapRepeated(message.getLabelList(), this::mapLabel, result::setLabel);
+        return result;
+    }
+
+    // Mirrors the untyped JSON deserialization, so metadata types are deduced the same way for both formats
+    private Map<String, Object> mapStruct(final Struct struct) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        struct.getFieldsMap().forEach((key, value) -> result.put(key, mapValue(value)));
+        return result;
+    }
+
+    private List<Object> mapListValue(final ListValue listValue) {
+        final List<Object> result = new ArrayList<>(listValue.getValuesCount());
+        listValue.getValuesList().forEach(value -> result.add(mapValue(value)));
+        return result;
+    }
+
+    private Object mapValue(final Value value) {
+        return switch (value.getKindCase()) {
+            case NUMBER_VALUE -> mapNumber(value.getNumberValue());
+            case STRING_VALUE -> value.getStringValue();
+            case BOOL_VALUE -> value.getBoolValue();
+            case STRUCT_VALUE -> mapStruct(value.getStructValue());
+            case LIST_VALUE -> mapListValue(value.getListValue());
+            case NULL_VALUE, KIND_NOT_SET -> null;
+        };
+    }
+
+    private Object mapNumber(final double number) {
+        if (number == Math.rint(number) && !Double.isInfinite(number)) {
+            if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+                return (int) number;
+            }
+            if (number >= Long.MIN_VALUE && number <= Long.MAX_VALUE) {
+                return (long) number;
+            }
+        }
+        return number;
+    }
+
+    private OffsetDateTime mapTimestamp(final Timestamp timestamp) {
+        return OffsetDateTime.ofInstant(
+            Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()), ZoneOffset.UTC);
+    }
+
+    private <T> T mapEnum(final String value, final Function<String, T> parser) {
+        if (StringUtils.isEmpty(value)) {
+            return null;
+        }
+
+        try {
+            return parser.apply(value);
+        } catch (final IllegalArgumentException e) {
+            throw new BadUserRequestException("Unexpected enum value: %s", value);
+        }
+    }
+
+    // Empty repeated fields are left untouched, as if they were omitted from a JSON payload
+    private <S, T> void mapRepeated(final List<S> source,
+                                    final Function<S, T> mapper,
+                                    final Consumer<List<T>> setter) {
+        if (source.isEmpty()) {
+            return;
+        }
+
+        final List<T> result = new ArrayList<>(source.size());
+        for (final S item : source) {
+            result.add(mapper.apply(item));
+        }
+        setter.accept(result);
+    }
+
+    private String emptyToNull(final String value) {
+        return StringUtils.isEmpty(value) ? null : value;
+    }
+}
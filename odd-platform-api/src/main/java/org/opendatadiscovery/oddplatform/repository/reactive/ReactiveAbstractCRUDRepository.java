@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,7 +21,6 @@ import org.jooq.Select;
 import org.jooq.SelectConditionStep;
 import org.jooq.SortOrder;
 import org.jooq.Table;
-import org.jooq.UpdateResultStep;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
@@ -28,10 +28,11 @@ import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
 import org.opendatadiscovery.oddplatform.repository.util.OrderByField;
 import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
 import org.opendatadiscovery.oddplatform.utils.Page;
-import org.opendatadiscovery.oddplatform.utils.Pair;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
+
 @RequiredArgsConstructor
 @Slf4j
 public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implements ReactiveCRUDRepository<P> {
@@ -122,6 +123,10 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
             .map(e -> createRecord(e, now))
             .toList();
 
+        if (records.size() >= copyThreshold()) {
+            return insertManyCopyReturning(records).map(this::recordToPojo);
+        }
+
         return insertManyReturning(records).map(this::recordToPojo);
     }
 
@@ -184,6 +189,33 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
         });
     }
 
+    /**
+     * Inserts records via PostgreSQL COPY. Records are grouped by the set of their changed fields
+     * so that fields which aren't set keep their default values as they do with a regular INSERT.
+     * Groups smaller than {@link #copyThreshold()} are inserted with a regular INSERT.
+     */
+    protected Flux<R> insertManyCopyReturning(final List<R> records) {
+        final Map<List<Field<?>>, List<R>> recordsByFields = records.stream()
+            .collect(Collectors.groupingBy(
+                r -> r.fieldStream().filter(r::changed).<Field<?>>map(f -> f).toList(),
+                LinkedHashMap::new,
+                Collectors.toList()
+            ));
+
+        return Flux.fromIterable(recordsByFields.entrySet())
+            .concatMap(e -> e.getValue().size() >= copyThreshold()
+                ? jooqReactiveOperations.copyInsertReturning(recordTable, e.getKey(), e.getValue())
+                : insertManyReturning(e.getValue()));
+    }
+
+    /**
+     * Number of records from which {@link #bulkCreate(Collection)} switches to COPY, COPY is never used by default.
+     * Repositories of tables populated in bulk during ingestion are expected to override it.
+     */
+    protected int copyThreshold() {
+        return Integer.MAX_VALUE;
+    }
+
     protected Mono<Void> insertMany(final List<R> records, final boolean failOnDuplicateKey) {
         return jooqReactiveOperations.executeInPartition(records, rs -> {
             InsertSetStep<R> insertStep = DSL.insertInto(recordTable);
@@ -201,25 +233,14 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
     }
 
     protected Flux<R> updateMany(final List<R> records) {
-        return jooqReactiveOperations.executeInPartitionReturning(records, rs -> {
-            final Table<?> table = DSL.table(jooqReactiveOperations.newResult(recordTable, rs));
-
-            final List<Field<?>> nonUpdatableFields = getNonUpdatableFields();
-
-            final Map<? extends Field<?>, Field<?>> fields = Arrays
-                .stream(recordTable.fields())
-                .filter(f -> !nonUpdatableFields.contains(f))
-                .map(r -> Pair.of(r, table.field(r.getName())))
-                .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
+        final List<Field<?>> nonUpdatableFields = getNonUpdatableFields();
 
-            final UpdateResultStep<R> returning = DSL.update(recordTable)
-                .set(fields)
-                .from(table)
-                .where(idField.eq(table.field(idField.getName(), Long.class)))
-                .returning();
+        final List<Field<?>> fields = Arrays
+            .stream(recordTable.fields())
+            .filter(f -> !nonUpdatableFields.contains(f))
+            .toList();
 
-            return jooqReactiveOperations.flux(returning);
-        });
+        return jooqReactiveOperations.updateManyReturning(recordTable, idField, fields, records);
     }
 
     protected Mono<Long> fetchCount(final String nameQuery) {
@@ -243,7 +264,7 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
             conditions.add(nameField.containsIgnoreCase(nameQuery));
         }
         if (CollectionUtils.isNotEmpty(ids)) {
-            conditions.add(idField.in(ids));
+            conditions.add(anyOf(idField, ids));
         }
         return conditions;
     }
@@ -253,7 +274,7 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
     }
 
     protected List<Condition> idCondition(final Collection<Long> ids) {
-        return List.of(idField.in(ids));
+        return List.of(anyOf(idField, ids));
     }
 
     protected SelectConditionStep<R> baseSelectManyQuery(final String query, final List<Long> ids) {
@@ -1,9 +1,11 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.opendatadiscovery.oddplatform.dto.DataEntityCursor;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDomainInfoDto;
@@ -11,6 +13,7 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityDto;
 import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
+import org.opendatadiscovery.oddplatform.utils.Pair;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -65,6 +68,10 @@ public interface ReactiveDataEntityRepository extends ReactiveCRUDRepository<Dat
 
     Mono<Void> createHollow(final Collection<String> hollowOddrns);
 
+    Mono<Void> updateLastIngestedAt(final Collection<Long> dataEntityIds, final LocalDateTime lastIngestedAt);
+
+    Mono<Void> resetIngestionFingerprint(final Collection<String> oddrns);
+
     Mono<DataEntityPojo> setInternalName(final long dataEntityId, final String name);
 
     Mono<DataEntityPojo> setInternalDescription(final long dataEntityId, final String description);
@@ -75,6 +82,16 @@ public interface ReactiveDataEntityRepository extends ReactiveCRUDRepository<Dat
 
     Mono<Long> countByState(final FacetStateDto state, final OwnerPojo owner);
 
+    /**
+     * Counts the data entities matching the facet state, but stops counting at the limit.
+     */
+    Mono<Long> countByState(final FacetStateDto state, final OwnerPojo owner, final long limit);
+
+    /**
+     * Returns the query planner estimate of the number of the data entities matching the facet state.
+     */
+    Mono<Long> estimateCountByState(final FacetStateDto state, final OwnerPojo owner);
+
     Flux<DataEntityDto> getQuerySuggestions(final String query, final Integer entityClassId,
                                             final Boolean manuallyCreated);
 
@@ -89,6 +106,16 @@ public interface ReactiveDataEntityRepository extends ReactiveCRUDRepository<Dat
     Flux<DataEntityDimensionsDto> listByTerm(final long termId, final String query, final Integer entityClassId,
                                              final int page, final int size);
 
+    /**
+     * Returns a page of the data entities linked to the term, which follow the given cursor,
+     * and the cursor of the next page if there may be one.
+     */
+    Mono<Pair<List<DataEntityDimensionsDto>, DataEntityCursor>> listByTermAfter(final long termId,
+                                                                               final String query,
+                                                                               final Integer entityClassId,
+                                                                               final DataEntityCursor after,
+                                                                               final int size);
+
     Mono<List<DataEntityDimensionsDto>> listByDatasourceAndType(final long datasourceId, final Integer typeId,
                                                                 final int page, final int size);
 
@@ -99,12 +126,19 @@ public interface ReactiveDataEntityRepository extends ReactiveCRUDRepository<Dat
                                                     final int size,
                                                     final OwnerPojo owner);
 
+    /**
+     * Returns a page of the search results, which follow the given cursor,
+     * and the cursor of the next page if there may be one.
+     */
+    Mono<Pair<List<DataEntityDimensionsDto>, DataEntityCursor>> findByStateAfter(final FacetStateDto state,
+                                                                                final DataEntityCursor after,
+                                                                                final int size,
+                                                                                final OwnerPojo owner);
+
     Mono<Map<String, Set<DataEntityPojo>>> getParentDEGs(final Collection<String> oddrns);
 
     Mono<DataEntityDetailsDto> getDataEntitySearchFields(final long dataEntityId);
 
-    Mono<String> getHighlightedResult(final String text, final String query);
-
     Flux<Integer> getDataSourceEntityTypeIds(final long dataSourceId);
 
     default Mono<Map<Long, Long>> getCountByDataSources() {
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -7,6 +8,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
@@ -18,11 +21,15 @@ import org.jooq.OrderField;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record2;
+import org.jooq.ResultQuery;
 import org.jooq.Select;
 import org.jooq.SelectConditionStep;
+import org.jooq.SelectLimitStep;
+import org.jooq.SelectSelectStep;
 import org.jooq.SortOrder;
 import org.jooq.Table;
 import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.DataEntityCursor;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDomainInfoDto;
@@ -83,12 +90,15 @@ import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQue
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.HAS_ALERTS_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.DATA_ENTITY_CONDITIONS;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.RANK_FIELD_ALIAS;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
 
 @Repository
 public class ReactiveDataEntityRepositoryImpl
     extends ReactiveAbstractSoftDeleteCRUDRepository<DataEntityRecord, DataEntityPojo>
     implements ReactiveDataEntityRepository {
     private static final int SUGGESTION_LIMIT = 5;
+    private static final int COPY_THRESHOLD = 2000;
+    private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
     private final JooqFTSHelper jooqFTSHelper;
     private final JooqRecordHelper jooqRecordHelper;
     private final DataEntityDtoMapper dataEntityDtoMapper;
@@ -105,6 +115,11 @@ public class ReactiveDataEntityRepositoryImpl
         this.dataEntityDtoMapper = dataEntityDtoMapper;
     }
 
+    @Override
+    protected int copyThreshold() {
+        return COPY_THRESHOLD;
+    }
+
     @Override
     protected Map<Field<?>, Object> getDeleteChangedFields() {
         final Map<Field<?>, Object> updatedFieldsMap = new HashMap<>();
@@ -129,7 +144,7 @@ public class ReactiveDataEntityRepositoryImpl
 
     @Override
     public Flux<DataEntityPojo> get(final List<Long> ids) {
-        return jooqReactiveOperations.flux(DSL.selectFrom(DATA_ENTITY).where(DATA_ENTITY.ID.in(ids)))
+        return jooqReactiveOperations.flux(DSL.selectFrom(DATA_ENTITY).where(anyOf(DATA_ENTITY.ID, ids)))
             .map(this::recordToPojo);
     }
 
@@ -192,7 +207,7 @@ public class ReactiveDataEntityRepositoryImpl
     @Override
     public Mono<List<DataEntityDimensionsDto>> getDimensions(final Collection<String> oddrns) {
         final DataEntityCTEQueryConfig cteConfig = DataEntityCTEQueryConfig.builder()
-            .conditions(List.of(DATA_ENTITY.ODDRN.in(oddrns)))
+            .conditions(List.of(anyOf(DATA_ENTITY.ODDRN, oddrns)))
             .build();
         final var query = baseDimensionsSelect(cteConfig);
         return jooqReactiveOperations.flux(query)
@@ -222,10 +237,10 @@ public class ReactiveDataEntityRepositoryImpl
         }
         final List<Condition> conditions;
         if (!includeDeleted) {
-            conditions = new ArrayList<>(addSoftDeleteFilter(DATA_ENTITY.ODDRN.in(oddrns)));
+            conditions = new ArrayList<>(addSoftDeleteFilter(anyOf(DATA_ENTITY.ODDRN, oddrns)));
         } else {
             conditions = new ArrayList<>();
-            conditions.add(DATA_ENTITY.ODDRN.in(oddrns));
+            conditions.add(anyOf(DATA_ENTITY.ODDRN, oddrns));
         }
         if (!includeHollow) {
             conditions.add(DATA_ENTITY.HOLLOW.eq(false));
@@ -262,7 +277,7 @@ public class ReactiveDataEntityRepositoryImpl
 
     @Override
     public Flux<DataEntityDimensionsDto> getDataEntitiesWithDataSourceAndNamespace(final Collection<String> oddrns) {
-        final List<Condition> conditions = addSoftDeleteFilter(DATA_ENTITY.ODDRN.in(oddrns));
+        final List<Condition> conditions = addSoftDeleteFilter(anyOf(DATA_ENTITY.ODDRN, oddrns));
         final Select<Record> query = baseDataEntityWithDatasourceAndNamespaceSelect(conditions);
         return jooqReactiveOperations.flux(query)
             .map(r -> DataEntityDimensionsDto.dimensionsBuilder()
@@ -278,7 +293,7 @@ public class ReactiveDataEntityRepositoryImpl
             return Mono.just(List.of());
         }
         final List<Condition> conditions = getDataEntityDefaultConditions();
-        conditions.add(DATA_ENTITY.ODDRN.in(oddrns));
+        conditions.add(anyOf(DATA_ENTITY.ODDRN, oddrns));
         final var query = DSL.select(DATA_ENTITY.fields())
             .select(jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD))
             .select(jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD))
@@ -319,7 +334,8 @@ public class ReactiveDataEntityRepositoryImpl
             .select(jsonArrayAgg(field(DATA_ENTITY.asterisk().toString())).as(dataEntityFields))
             .from(GROUP_ENTITY_RELATIONS)
             .leftJoin(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN))
-            .where(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.in(groupOddrns).and(GROUP_ENTITY_RELATIONS.IS_DELETED.isFalse()))
+            .where(anyOf(GROUP_ENTITY_RELATIONS.GROUP_ODDRN, groupOddrns)
+                .and(GROUP_ENTITY_RELATIONS.IS_DELETED.isFalse()))
             .groupBy(GROUP_ENTITY_RELATIONS.GROUP_ODDRN);
         return jooqReactiveOperations.flux(query).collectMap(
             r -> r.get(GROUP_ENTITY_RELATIONS.GROUP_ODDRN),
@@ -388,7 +404,7 @@ public class ReactiveDataEntityRepositoryImpl
             .select(count(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN).cast(Long.class).as(childrenCountField))
             .from(GROUP_PARENT_GROUP_RELATIONS)
             .join(DATA_ENTITY).on(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.eq(DATA_ENTITY.ODDRN))
-            .where(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN.in(groupOddrns)
+            .where(anyOf(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN, groupOddrns)
                 .and(GROUP_PARENT_GROUP_RELATIONS.IS_DELETED.isFalse()))
             .groupBy(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN);
         return jooqReactiveOperations.flux(query).collectMap(
@@ -402,6 +418,32 @@ public class ReactiveDataEntityRepositoryImpl
         return insertMany(hollowOddrns.stream().map(this::buildHollowRecord).toList(), false);
     }
 
+    @Override
+    public Mono<Void> updateLastIngestedAt(final Collection<Long> dataEntityIds, final LocalDateTime lastIngestedAt) {
+        if (CollectionUtils.isEmpty(dataEntityIds)) {
+            return Mono.empty();
+        }
+
+        final var query = DSL.update(DATA_ENTITY)
+            .set(DATA_ENTITY.LAST_INGESTED_AT, lastIngestedAt)
+            .where(anyOf(DATA_ENTITY.ID, dataEntityIds));
+
+        return jooqReactiveOperations.mono(query).then();
+    }
+
+    @Override
+    public Mono<Void> resetIngestionFingerprint(final Collection<String> oddrns) {
+        if (CollectionUtils.isEmpty(oddrns)) {
+            return Mono.empty();
+        }
+
+        final var query = DSL.update(DATA_ENTITY)
+            .setNull(DATA_ENTITY.INGESTION_FINGERPRINT)
+            .where(anyOf(DATA_ENTITY.ODDRN, oddrns));
+
+        return jooqReactiveOperations.mono(query).then();
+    }
+
     @Override
     public Mono<DataEntityPojo> setInternalName(final long dataEntityId, final String name) {
         final String newBusinessName = StringUtils.isEmpty(name) ? null : name;
@@ -426,6 +468,37 @@ public class ReactiveDataEntityRepositoryImpl
 
     @Override
     public Mono<Long> countByState(final FacetStateDto state, final OwnerPojo owner) {
+        final var select = selectByState(DSL.select(countDistinct(DATA_ENTITY.ID)), state, owner);
+
+        return jooqReactiveOperations.mono(select).map(r -> r.value1().longValue());
+    }
+
+    @Override
+    public Mono<Long> countByState(final FacetStateDto state, final OwnerPojo owner, final long limit) {
+        final var matches = selectByState(DSL.selectDistinct(DATA_ENTITY.ID), state, owner).limit(limit);
+
+        return jooqReactiveOperations.mono(DSL.selectCount().from(matches.asTable("matches")))
+            .map(r -> r.value1().longValue());
+    }
+
+    @Override
+    public Mono<Long> estimateCountByState(final FacetStateDto state, final OwnerPojo owner) {
+        final var matches = selectByState(DSL.selectDistinct(DATA_ENTITY.ID), state, owner);
+
+        // the first line of the plan describes its root node, which returns the matching data entities
+        return jooqReactiveOperations.mono(DSL.resultQuery("explain {0}", matches))
+            .map(r -> {
+                final Matcher matcher = PLAN_ROWS_PATTERN.matcher(r.get(0, String.class));
+                if (!matcher.find()) {
+                    throw new IllegalStateException("Couldn't parse the query plan: " + r.get(0, String.class));
+                }
+                return Long.parseLong(matcher.group(1));
+            });
+    }
+
+    private <R extends Record> SelectConditionStep<R> selectByState(final SelectSelectStep<R> select,
+                                                                    final FacetStateDto state,
+                                                                    final OwnerPojo owner) {
         final List<Condition> conditions = new ArrayList<>(jooqFTSHelper
             .facetStateConditions(state, DATA_ENTITY_CONDITIONS, List.of(FacetType.ENTITY_CLASSES)));
         if (!deletedEntitiesAreRequested(state.getState())) {
@@ -440,7 +513,7 @@ public class ReactiveDataEntityRepositoryImpl
             conditions.add(OWNER.ID.eq(owner.getId()));
         }
 
-        final var select = DSL.select(countDistinct(DATA_ENTITY.ID))
+        return select
             .from(DATA_ENTITY)
             .join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
             .leftJoin(DATA_SOURCE).on(DATA_SOURCE.ID.eq(DATA_ENTITY.DATA_SOURCE_ID))
@@ -448,10 +521,8 @@ public class ReactiveDataEntityRepositoryImpl
             .or(NAMESPACE.ID.eq(DATA_SOURCE.NAMESPACE_ID))
             .leftJoin(GROUP_ENTITY_RELATIONS).on(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.eq(DATA_ENTITY.ODDRN))
             .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
-            .leftJoin(OWNER).on(OWNERSHIP.OWNER_ID.eq(OWNER.ID));
-        select.where(conditions);
-
-        return jooqReactiveOperations.mono(select).map(r -> r.value1().longValue());
+            .leftJoin(OWNER).on(OWNERSHIP.OWNER_ID.eq(OWNER.ID))
+            .where(conditions);
     }
 
     @Override
@@ -526,12 +597,34 @@ public class ReactiveDataEntityRepositoryImpl
                                                     final Integer entityClassId,
                                                     final int page,
                                                     final int size) {
+        final var query = listByTermQuery(termId, queryString, entityClassId, null)
+            .limit(size)
+            .offset((page - 1) * size);
+        return jooqReactiveOperations.flux(query)
+            .map(dataEntityDtoMapper::mapDimensionRecord);
+    }
+
+    @Override
+    public Mono<Pair<List<DataEntityDimensionsDto>, DataEntityCursor>> listByTermAfter(final long termId,
+                                                                                      final String queryString,
+                                                                                      final Integer entityClassId,
+                                                                                      final DataEntityCursor after,
+                                                                                      final int size) {
+        final var query = listByTermQuery(termId, queryString, entityClassId, after).limit(size);
+        return fetchPageAfter(query, StringUtils.isNotEmpty(queryString), size);
+    }
+
+    private SelectLimitStep<Record> listByTermQuery(final long termId,
+                                                    final String queryString,
+                                                    final Integer entityClassId,
+                                                    final DataEntityCursor after) {
         final List<Condition> cteConditions = new ArrayList<>();
         if (entityClassId != null) {
             cteConditions.add(DATA_ENTITY.ENTITY_CLASS_IDS.contains(new Integer[] {entityClassId}));
         }
         final var builder = DataEntityCTEQueryConfig.builder()
-            .conditions(cteConditions);
+            .conditions(cteConditions)
+            .after(after);
 
         if (StringUtils.isNotEmpty(queryString)) {
             builder.fts(new DataEntityCTEQueryConfig.Fts(queryString));
@@ -564,18 +657,14 @@ public class ReactiveDataEntityRepositoryImpl
             .leftJoin(DATA_ENTITY_TO_TERM)
             .on(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)));
 
-        final var query = DSL.with(deCteName)
+        return DSL.with(deCteName)
             .asMaterialized(dataEntitySelect)
             .select(groupByFields)
             .select(aggregatedFields)
             .from(fromTable)
             .where(DATA_ENTITY_TO_TERM.TERM_ID.eq(termId))
             .groupBy(groupByFields)
-            .orderBy(getOrderFields(cteConfig, deCte))
-            .limit(size)
-            .offset((page - 1) * size);
-        return jooqReactiveOperations.flux(query)
-            .map(dataEntityDtoMapper::mapDimensionRecord);
+            .orderBy(getOrderFields(cteConfig, deCte));
     }
 
     @Override
@@ -640,9 +729,31 @@ public class ReactiveDataEntityRepositoryImpl
                                                            final int page,
                                                            final int size,
                                                            final OwnerPojo owner) {
+        final var query = findByStateQuery(state, owner, null)
+            .limit(DSL.val(size))
+            .offset(DSL.val((page - 1) * size));
+
+        return jooqReactiveOperations.flux(query)
+            .map(dataEntityDtoMapper::mapDimensionRecord)
+            .collectList();
+    }
+
+    @Override
+    public Mono<Pair<List<DataEntityDimensionsDto>, DataEntityCursor>> findByStateAfter(final FacetStateDto state,
+                                                                                       final DataEntityCursor after,
+                                                                                       final int size,
+                                                                                       final OwnerPojo owner) {
+        final var query = findByStateQuery(state, owner, after).limit(DSL.val(size));
+        return fetchPageAfter(query, StringUtils.isNotEmpty(state.getQuery()), size);
+    }
+
+    private SelectLimitStep<Record> findByStateQuery(final FacetStateDto state,
+                                                     final OwnerPojo owner,
+                                                     final DataEntityCursor after) {
         final Pair<List<Condition>, List<Condition>> conditionsPair = jooqFTSHelper.resultFacetStateConditions(state);
         final var builder = DataEntityCTEQueryConfig.builder()
-            .conditions(conditionsPair.getLeft());
+            .conditions(conditionsPair.getLeft())
+            .after(after);
         if (deletedEntitiesAreRequested(state.getState())) {
             builder.includeDeleted(true);
         }
@@ -686,20 +797,35 @@ public class ReactiveDataEntityRepositoryImpl
             .leftJoin(GROUP_ENTITY_RELATIONS)
             .on(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ODDRN)));
 
-        final var query = DSL.with(deCteName)
+        return DSL.with(deCteName)
             .asMaterialized(dataEntitySelect)
             .select(groupByFields)
             .select(aggregatedFields)
             .from(fromTable)
             .where(conditions)
             .groupBy(groupByFields)
-            .orderBy(getOrderFields(cteConfig, deCte))
-            .limit(DSL.val(size))
-            .offset(DSL.val((page - 1) * size));
+            .orderBy(getOrderFields(cteConfig, deCte));
+    }
 
+    // a full page may be followed by another one, so the cursor is returned to seek past its last data entity
+    private Mono<Pair<List<DataEntityDimensionsDto>, DataEntityCursor>> fetchPageAfter(
+        final ResultQuery<Record> query,
+        final boolean ranked,
+        final int size
+    ) {
         return jooqReactiveOperations.flux(query)
-            .map(dataEntityDtoMapper::mapDimensionRecord)
-            .collectList();
+            .collectList()
+            .map(records -> {
+                final List<DataEntityDimensionsDto> dtos = records.stream()
+                    .map(dataEntityDtoMapper::mapDimensionRecord)
+                    .toList();
+                if (dtos.isEmpty() || dtos.size() < size) {
+                    return Pair.of(dtos, null);
+                }
+                final Record last = records.get(records.size() - 1);
+                final Float rank = ranked ? last.get(RANK_FIELD_ALIAS.getName(), Float.class) : null;
+                return Pair.of(dtos, new DataEntityCursor(rank, dtos.get(dtos.size() - 1).getDataEntity().getId()));
+            });
     }
 
     @Override
@@ -711,11 +837,12 @@ public class ReactiveDataEntityRepositoryImpl
         final var cteSelect = DSL.select(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN)
             .select(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.as(degOddrnField))
             .from(GROUP_ENTITY_RELATIONS)
-            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.in(oddrns).and(GROUP_ENTITY_RELATIONS.IS_DELETED.isFalse()))
+            .where(anyOf(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, oddrns)
+                .and(GROUP_ENTITY_RELATIONS.IS_DELETED.isFalse()))
             .union(DSL.select(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN)
                 .select(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.as(degOddrnField))
                 .from(GROUP_PARENT_GROUP_RELATIONS)
-                .where(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.in(oddrns)
+                .where(anyOf(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN, oddrns)
                     .and(GROUP_PARENT_GROUP_RELATIONS.IS_DELETED.isFalse())));
 
         final Table<Record> selectTable = cteSelect.asTable(cteName);
@@ -771,16 +898,6 @@ public class ReactiveDataEntityRepositoryImpl
             .map(dataEntityDtoMapper::mapDataEntitySearchFieldsRecord);
     }
 
-    @Override
-    public Mono<String> getHighlightedResult(final String text, final String query) {
-        final String tsQuery = jooqFTSHelper.tsQuery(query);
-        final String sql = "ts_headline('english', '%s', to_tsquery('%s'), 'HighlightAll=true')"
-            .formatted(text, tsQuery);
-        final var select = DSL.select(field(sql, String.class));
-        return jooqReactiveOperations.mono(select)
-            .map(Record1::value1);
-    }
-
     @Override
     public Flux<Integer> getDataSourceEntityTypeIds(final long dataSourceId) {
         final List<Condition> conditions = getDataEntityDefaultConditions();
@@ -796,7 +913,7 @@ public class ReactiveDataEntityRepositoryImpl
     public Mono<Map<Long, Long>> getCountByDataSources(final Collection<Long> dataSourceIds) {
         final List<Condition> conditions = getDataEntityDefaultConditions();
         if (CollectionUtils.isNotEmpty(dataSourceIds)) {
-            conditions.add(DATA_ENTITY.DATA_SOURCE_ID.in(dataSourceIds));
+            conditions.add(anyOf(DATA_ENTITY.DATA_SOURCE_ID, dataSourceIds));
         }
         final var query = DSL.select(DATA_ENTITY.DATA_SOURCE_ID, count(DATA_ENTITY.ID))
             .from(DATA_ENTITY)
@@ -892,12 +1009,19 @@ public class ReactiveDataEntityRepositoryImpl
             final Field<?> rankField = jooqFTSHelper
                 .ftsRankField(SEARCH_ENTRYPOINT.SEARCH_VECTOR, cteConfig.getFts().query());
             selectFields.add(rankField.as(cteConfig.getFts().rankFieldAlias()));
+            if (cteConfig.getAfter() != null) {
+                conditions.add(DSL.row(rankField.coerce(Float.class), DATA_ENTITY.ID)
+                    .lt(cteConfig.getAfter().rank(), cteConfig.getAfter().id()));
+            }
 
             fromTable = SEARCH_ENTRYPOINT
                 .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(SEARCH_ENTRYPOINT.DATA_ENTITY_ID));
             conditions.add(jooqFTSHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, cteConfig.getFts().query()));
         } else {
             fromTable = DATA_ENTITY;
+            if (cteConfig.getAfter() != null) {
+                conditions.add(DATA_ENTITY.ID.lt(cteConfig.getAfter().id()));
+            }
         }
         return DSL
             .select(selectFields)
@@ -21,6 +21,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD_METADATA_VALUE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
 
 @Repository
 @RequiredArgsConstructor
@@ -76,7 +77,7 @@ public class ReactiveDatasetFieldMetadataValueRepositoryImpl implements Reactive
     public Flux<DatasetFieldMetadataValuePojo> listByDatasetFieldIds(final List<Long> fieldIds) {
         final var query = DSL.select(DATASET_FIELD_METADATA_VALUE.fields())
             .from(DATASET_FIELD_METADATA_VALUE)
-            .where(DATASET_FIELD_METADATA_VALUE.DATASET_FIELD_ID.in(fieldIds));
+            .where(anyOf(DATASET_FIELD_METADATA_VALUE.DATASET_FIELD_ID, fieldIds));
 
         return jooqReactiveOperations.flux(query).map(r -> r.into(DatasetFieldMetadataValuePojo.class));
     }
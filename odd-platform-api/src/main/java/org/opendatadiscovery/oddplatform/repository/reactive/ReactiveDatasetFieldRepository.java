@@ -1,6 +1,8 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
 import java.util.List;
+import java.util.Map;
+import org.jooq.JSONB;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldTermsDto;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldWithTagsDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
@@ -16,6 +18,10 @@ public interface ReactiveDatasetFieldRepository extends ReactiveCRUDRepository<D
 
     Flux<DatasetFieldPojo> getLastVersionDatasetFieldsByOddrns(final List<String> oddrns);
 
+    Mono<Map<String, Long>> getLastVersionDatasetFieldIdsByOddrns(final List<String> oddrns);
+
+    Mono<Void> updateStatistics(final Map<Long, JSONB> statistics);
+
     Mono<Long> getDataEntityIdByDatasetFieldId(final long datasetFieldId);
 
     Flux<DatasetFieldTermsDto> listByTerm(final long termId, final String query,
@@ -3,6 +3,7 @@ package org.opendatadiscovery.oddplatform.repository.reactive;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
@@ -10,9 +11,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jooq.Condition;
 import org.jooq.Field;
+import org.jooq.JSONB;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
+import org.jooq.SelectConditionStep;
 import org.jooq.SelectSeekStepN;
 import org.jooq.Table;
 import org.jooq.impl.DSL;
@@ -46,6 +49,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
 
 @Repository
 @Slf4j
@@ -57,6 +61,8 @@ public class ReactiveDatasetFieldRepositoryImpl
     public static final String AGG_OWNERSHIP_FIELD = "ownership";
     public static final String AGG_TITLE_FIELD = "title";
 
+    private static final int COPY_THRESHOLD = 2000;
+
     private final JooqRecordHelper jooqRecordHelper;
     private final DatasetFieldTermsDtoMapper datasetFieldTermsDtoMapper;
 
@@ -69,6 +75,11 @@ public class ReactiveDatasetFieldRepositoryImpl
         this.datasetFieldTermsDtoMapper = datasetFieldTermsDtoMapper;
     }
 
+    @Override
+    protected int copyThreshold() {
+        return COPY_THRESHOLD;
+    }
+
     @Override
     public Mono<DatasetFieldPojo> updateDescription(final long datasetFieldId,
                                                     final String description) {
@@ -91,25 +102,29 @@ public class ReactiveDatasetFieldRepositoryImpl
 
     @Override
     public Flux<DatasetFieldPojo> getLastVersionDatasetFieldsByOddrns(final List<String> oddrns) {
-        return jooqReactiveOperations.executeInPartitionReturning(oddrns, partitionedOddrns -> {
-            final String version = "version";
-            final String maxVersion = "max_version";
-            final Name cteName = name("cte");
-
-            final var cte = cteName.as(select(DATASET_FIELD.fields())
-                .select(DATASET_VERSION.VERSION.as(version))
-                .select(DSL.max(DATASET_VERSION.VERSION).over(partitionBy(DATASET_FIELD.ODDRN)).as(maxVersion))
-                .from(DATASET_FIELD)
-                .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DATASET_FIELD.ID))
-                .join(DATASET_VERSION).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
-                .where(DATASET_FIELD.ODDRN.in(partitionedOddrns)));
-
-            final var query = DSL.with(cte)
-                .select(cte.fields())
-                .from(cte.getName())
-                .where(cte.field(version, Long.class).eq(cte.field(maxVersion, Long.class)));
-            return jooqReactiveOperations.flux(query);
-        }).map(r -> r.into(DatasetFieldPojo.class));
+        return jooqReactiveOperations.executeInPartitionReturning(oddrns, partitionedOddrns ->
+                jooqReactiveOperations.flux(lastVersionFieldsQuery(DATASET_FIELD.fields(), partitionedOddrns)))
+            .map(r -> r.into(DatasetFieldPojo.class));
+    }
+
+    @Override
+    public Mono<Map<String, Long>> getLastVersionDatasetFieldIdsByOddrns(final List<String> oddrns) {
+        final Field<?>[] fields = {DATASET_FIELD.ID, DATASET_FIELD.ODDRN};
+        return jooqReactiveOperations.executeInPartitionReturning(oddrns, partitionedOddrns ->
+                jooqReactiveOperations.flux(lastVersionFieldsQuery(fields, partitionedOddrns)))
+            .collectMap(r -> r.get(DATASET_FIELD.ODDRN.getName(), String.class),
+                r -> r.get(DATASET_FIELD.ID.getName(), Long.class));
+    }
+
+    @Override
+    public Mono<Void> updateStatistics(final Map<Long, JSONB> statistics) {
+        final List<DatasetFieldRecord> records = statistics.entrySet().stream()
+            .map(e -> jooqReactiveOperations.newRecord(DATASET_FIELD,
+                new DatasetFieldPojo().setId(e.getKey()).setStats(e.getValue())))
+            .toList();
+
+        return jooqReactiveOperations.executeInPartition(records, partition -> jooqReactiveOperations
+            .updateMany(DATASET_FIELD, DATASET_FIELD.ID, List.of(DATASET_FIELD.STATS), partition));
     }
 
     @Override
@@ -211,4 +226,24 @@ public class ReactiveDatasetFieldRepositoryImpl
 
         return new DatasetFieldWithTagsDto(pojo, tags);
     }
+
+    private SelectConditionStep<Record> lastVersionFieldsQuery(final Field<?>[] fields,
+                                                              final List<String> oddrns) {
+        final String version = "version";
+        final String maxVersion = "max_version";
+        final Name cteName = name("cte");
+
+        final var cte = cteName.as(select(fields)
+            .select(DATASET_VERSION.VERSION.as(version))
+            .select(DSL.max(DATASET_VERSION.VERSION).over(partitionBy(DATASET_FIELD.ODDRN)).as(maxVersion))
+            .from(DATASET_FIELD)
+            .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DATASET_FIELD.ID))
+            .join(DATASET_VERSION).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
+            .where(anyOf(DATASET_FIELD.ODDRN, oddrns)));
+
+        return DSL.with(cte)
+            .select(cte.fields())
+            .from(cte.getName())
+            .where(cte.field(version, Long.class).eq(cte.field(maxVersion, Long.class)));
+    }
 }
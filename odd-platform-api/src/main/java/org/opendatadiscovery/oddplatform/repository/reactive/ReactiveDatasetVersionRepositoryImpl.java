@@ -66,6 +66,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.TERM;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
 import static reactor.function.TupleUtils.function;
 
 @Repository
@@ -83,6 +84,8 @@ public class ReactiveDatasetVersionRepositoryImpl
     public static final String TERM_NAMESPACES = "term_namespaces";
     public static final String TERM_RELATIONS = "term_relations";
 
+    private static final int COPY_THRESHOLD = 2000;
+
     private final JooqRecordHelper jooqRecordHelper;
 
     public ReactiveDatasetVersionRepositoryImpl(final JooqReactiveOperations jooqReactiveOperations,
@@ -92,6 +95,11 @@ public class ReactiveDatasetVersionRepositoryImpl
         this.jooqRecordHelper = jooqRecordHelper;
     }
 
+    @Override
+    protected int copyThreshold() {
+        return COPY_THRESHOLD;
+    }
+
     @Override
     public Mono<DatasetStructureDto> getDatasetVersion(final long datasetVersionId) {
         final List<Field<?>> selectFields = Stream.of(DATASET_VERSION.fields(), DATASET_FIELD.fields())
@@ -146,7 +154,7 @@ public class ReactiveDatasetVersionRepositoryImpl
             .from(DATASET_VERSION)
             .leftJoin(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
             .leftJoin(DATASET_FIELD).on(DATASET_FIELD.ID.eq(DATASET_STRUCTURE.DATASET_FIELD_ID))
-            .where(DATASET_VERSION.ID.in(datasetVersionIds))
+            .where(anyOf(DATASET_VERSION.ID, datasetVersionIds))
             .groupBy(DATASET_VERSION.fields());
         return jooqReactiveOperations.flux(query).map(r -> mapToDatasetVersionFields(r, fieldsAlias)).collectList();
     }
@@ -230,7 +238,7 @@ public class ReactiveDatasetVersionRepositoryImpl
             .select(datasetOddrnField, dsvMaxField)
             .from(DATASET_VERSION)
             .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(DATASET_VERSION.DATASET_ODDRN))
-            .where(DATA_ENTITY.ID.in(datasetIds))
+            .where(anyOf(DATA_ENTITY.ID, datasetIds))
             .groupBy(DATASET_VERSION.DATASET_ODDRN);
         final SelectOnConditionStep<Record> conditionStep = DSL.select(DATASET_VERSION.fields())
             .from(subquery)
@@ -271,7 +279,7 @@ public class ReactiveDatasetVersionRepositoryImpl
                 .select(DATASET_FIELD.asterisk())
                 .from(DATASET_FIELD)
                 .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DATASET_FIELD.ID))
-                .where(DATASET_STRUCTURE.DATASET_VERSION_ID.in(versions));
+                .where(anyOf(DATASET_STRUCTURE.DATASET_VERSION_ID, versions));
             return jooqReactiveOperations.flux(vidToFieldsSelect);
         }).collect(
             groupingBy(r -> r.get(DATASET_STRUCTURE.DATASET_VERSION_ID), mapping(this::extractDatasetField, toList())));
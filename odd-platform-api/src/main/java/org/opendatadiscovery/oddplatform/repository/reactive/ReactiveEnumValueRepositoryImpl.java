@@ -30,6 +30,8 @@ import reactor.util.function.Tuples;
 import static java.util.function.Function.identity;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.ENUM_VALUE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.noneOf;
 
 @Repository
 public class ReactiveEnumValueRepositoryImpl
@@ -45,7 +47,7 @@ public class ReactiveEnumValueRepositoryImpl
     public Flux<EnumValueDto> getEnumState(final Collection<Long> datasetFieldIds) {
         final List<Flux<EnumValueDto>> collect = ListUtils.partition(new ArrayList<>(datasetFieldIds), 100)
             .stream()
-            .map(dsf -> fetchEnumState(addSoftDeleteFilter(DATASET_FIELD.ID.in(dsf))))
+            .map(dsf -> fetchEnumState(addSoftDeleteFilter(anyOf(DATASET_FIELD.ID, dsf))))
             .toList();
 
         return Flux.merge(collect);
@@ -69,7 +71,7 @@ public class ReactiveEnumValueRepositoryImpl
     public Flux<EnumValuePojo> getEnumValuesByDatasetFieldIds(final Collection<Long> datasetFieldIds,
                                                               final EnumValueOrigin origin) {
         final List<Condition> conditions = new ArrayList<>();
-        conditions.add(ENUM_VALUE.DATASET_FIELD_ID.in(datasetFieldIds));
+        conditions.add(anyOf(ENUM_VALUE.DATASET_FIELD_ID, datasetFieldIds));
         if (origin != null) {
             conditions.add(ENUM_VALUE.ORIGIN.eq(origin.getCode()));
         }
@@ -82,7 +84,8 @@ public class ReactiveEnumValueRepositoryImpl
 
     @Override
     public Flux<EnumValuePojo> softDeleteExcept(final long datasetFieldId, final List<Long> idsToKeep) {
-        return deleteConditionally(ENUM_VALUE.DATASET_FIELD_ID.eq(datasetFieldId).and(ENUM_VALUE.ID.notIn(idsToKeep)));
+        return deleteConditionally(ENUM_VALUE.DATASET_FIELD_ID.eq(datasetFieldId)
+            .and(noneOf(ENUM_VALUE.ID, idsToKeep)));
     }
 
     @Override
@@ -27,6 +27,8 @@ import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_ENTITY_RELATIONS;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.noneOf;
 
 @Repository
 @RequiredArgsConstructor
@@ -48,7 +50,7 @@ public class ReactiveGroupEntityRelationRepositoryImpl implements ReactiveGroupE
                                                                 final List<String> oddrnsToKeep) {
         final var query = DSL.deleteFrom(GROUP_ENTITY_RELATIONS)
             .where(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.eq(groupOddrn)
-                .and(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.notIn(oddrnsToKeep)))
+                .and(noneOf(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, oddrnsToKeep)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(GroupEntityRelationsPojo.class));
@@ -93,8 +95,8 @@ public class ReactiveGroupEntityRelationRepositoryImpl implements ReactiveGroupE
     public Flux<GroupEntityRelationsPojo> softDeleteRelationsForDeletedDataEntities(final List<String> oddrns) {
         final var query = DSL.update(GROUP_ENTITY_RELATIONS)
             .set(GROUP_ENTITY_RELATIONS.IS_DELETED, true)
-            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.in(oddrns)
-                .or(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.in(oddrns)))
+            .where(anyOf(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, oddrns)
+                .or(anyOf(GROUP_ENTITY_RELATIONS.GROUP_ODDRN, oddrns)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(GroupEntityRelationsPojo.class));
@@ -104,8 +106,8 @@ public class ReactiveGroupEntityRelationRepositoryImpl implements ReactiveGroupE
     public Flux<GroupEntityRelationsPojo> restoreRelationsForDataEntities(final List<String> oddrns) {
         final var query = DSL.update(GROUP_ENTITY_RELATIONS)
             .set(GROUP_ENTITY_RELATIONS.IS_DELETED, false)
-            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.in(oddrns)
-                .or(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.in(oddrns)))
+            .where(anyOf(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, oddrns)
+                .or(anyOf(GROUP_ENTITY_RELATIONS.GROUP_ODDRN, oddrns)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(GroupEntityRelationsPojo.class));
@@ -117,8 +119,8 @@ public class ReactiveGroupEntityRelationRepositoryImpl implements ReactiveGroupE
         final List<String> entityOddrns = pojos.stream().map(GroupEntityRelationsPojo::getDataEntityOddrn).toList();
 
         final var deleteQuery = DSL.deleteFrom(GROUP_ENTITY_RELATIONS)
-            .where(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.in(groupOddrns))
-            .and(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.notIn(entityOddrns));
+            .where(anyOf(GROUP_ENTITY_RELATIONS.GROUP_ODDRN, groupOddrns))
+            .and(noneOf(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, entityOddrns));
 
         return jooqReactiveOperations.mono(deleteQuery).then();
     }
@@ -165,7 +167,7 @@ public class ReactiveGroupEntityRelationRepositoryImpl implements ReactiveGroupE
                 GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN
             )
             .from(GROUP_ENTITY_RELATIONS)
-            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.in(childOddrns)
+            .where(anyOf(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, childOddrns)
                 .and(GROUP_ENTITY_RELATIONS.IS_DELETED.isFalse()));
         return jooqReactiveOperations.flux(query)
             .collect(Collectors.groupingBy(
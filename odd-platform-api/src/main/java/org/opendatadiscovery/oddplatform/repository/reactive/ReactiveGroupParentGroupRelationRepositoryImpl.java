@@ -10,6 +10,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_PARENT_GROUP_RELATIONS;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
 
 @Repository
 @RequiredArgsConstructor
@@ -37,8 +38,8 @@ public class ReactiveGroupParentGroupRelationRepositoryImpl implements ReactiveG
     public Flux<GroupParentGroupRelationsPojo> softDeleteRelationsForDeletedDataEntities(final List<String> oddrns) {
         final var query = DSL.update(GROUP_PARENT_GROUP_RELATIONS)
             .set(GROUP_PARENT_GROUP_RELATIONS.IS_DELETED, true)
-            .where(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.in(oddrns)
-                .or(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN.in(oddrns)))
+            .where(anyOf(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN, oddrns)
+                .or(anyOf(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN, oddrns)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(GroupParentGroupRelationsPojo.class));
@@ -48,8 +49,8 @@ public class ReactiveGroupParentGroupRelationRepositoryImpl implements ReactiveG
     public Flux<GroupParentGroupRelationsPojo> restoreRelationsForDataEntities(final List<String> oddrns) {
         final var query = DSL.update(GROUP_PARENT_GROUP_RELATIONS)
             .set(GROUP_PARENT_GROUP_RELATIONS.IS_DELETED, false)
-            .where(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.in(oddrns)
-                .or(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN.in(oddrns)))
+            .where(anyOf(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN, oddrns)
+                .or(anyOf(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN, oddrns)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(GroupParentGroupRelationsPojo.class));
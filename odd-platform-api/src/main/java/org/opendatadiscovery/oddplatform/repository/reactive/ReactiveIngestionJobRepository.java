@@ -0,0 +1,19 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveIngestionJobRepository extends ReactiveCRUDRepository<IngestionJobPojo> {
+    Mono<IngestionJobPojo> claimNext(final int partition, final int partitions, final LocalDateTime staleBefore);
+
+    Mono<IngestionJobPojo> heartbeat(final long id, final int attempt);
+
+    Mono<IngestionJobPojo> markCompleted(final long id, final int attempt, final Map<String, Long> phaseTimings);
+
+    Mono<IngestionJobPojo> markFailed(final long id,
+                                      final int attempt,
+                                      final Map<String, Long> phaseTimings,
+                                      final String error);
+}
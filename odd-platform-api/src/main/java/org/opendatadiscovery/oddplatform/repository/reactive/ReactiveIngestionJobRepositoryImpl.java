@@ -0,0 +1,128 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.jooq.Condition;
+import org.jooq.JSONB;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatus;
+import org.opendatadiscovery.oddplatform.model.tables.IngestionJob;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.IngestionJobRecord;
+import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.INGESTION_JOB;
+
+@Repository
+public class ReactiveIngestionJobRepositoryImpl
+    extends ReactiveAbstractCRUDRepository<IngestionJobRecord, IngestionJobPojo>
+    implements ReactiveIngestionJobRepository {
+
+    public ReactiveIngestionJobRepositoryImpl(final JooqReactiveOperations jooqReactiveOperations,
+                                              final JooqQueryHelper jooqQueryHelper) {
+        super(jooqReactiveOperations, jooqQueryHelper, INGESTION_JOB, IngestionJobPojo.class);
+    }
+
+    /**
+     * Claims the oldest claimable job of a data source which belongs to the given partition.
+     * A job is claimable if it's pending or if it's running without a heartbeat for longer than the stale timeout,
+     * which means the worker processing it has died. Jobs of the same data source are processed one by one
+     * in the order they were enqueued. Every claim starts a new attempt, only the worker holding the latest attempt
+     * can finish the job.
+     */
+    @Override
+    public Mono<IngestionJobPojo> claimNext(final int partition,
+                                            final int partitions,
+                                            final LocalDateTime staleBefore) {
+        final IngestionJob other = INGESTION_JOB.as("other");
+
+        final var candidate = DSL.select(INGESTION_JOB.ID)
+            .from(INGESTION_JOB)
+            .where(claimable(INGESTION_JOB, staleBefore))
+            .and(INGESTION_JOB.DATA_SOURCE_ID.mod((long) partitions).eq((long) partition))
+            .and(INGESTION_JOB.ID.eq(DSL.select(DSL.min(other.ID))
+                .from(other)
+                .where(other.DATA_SOURCE_ID.eq(INGESTION_JOB.DATA_SOURCE_ID))
+                .and(claimable(other, staleBefore))))
+            .andNotExists(DSL.selectOne()
+                .from(other)
+                .where(other.DATA_SOURCE_ID.eq(INGESTION_JOB.DATA_SOURCE_ID))
+                .and(other.STATUS.eq(IngestionJobStatus.RUNNING.getCode()))
+                .and(other.HEARTBEAT_AT.greaterThan(staleBefore)))
+            .orderBy(INGESTION_JOB.ID)
+            .limit(1)
+            .forUpdate()
+            .skipLocked();
+
+        final LocalDateTime now = DateTimeUtil.generateNow();
+        final var query = DSL.update(INGESTION_JOB)
+            .set(INGESTION_JOB.STATUS, IngestionJobStatus.RUNNING.getCode())
+            .set(INGESTION_JOB.ATTEMPT, INGESTION_JOB.ATTEMPT.plus(1))
+            .set(INGESTION_JOB.STARTED_AT, now)
+            .set(INGESTION_JOB.HEARTBEAT_AT, now)
+            .setNull(INGESTION_JOB.FINISHED_AT)
+            .setNull(INGESTION_JOB.ERROR)
+            .where(INGESTION_JOB.ID.eq(candidate))
+            .returning();
+
+        return jooqReactiveOperations.mono(query).map(this::recordToPojo);
+    }
+
+    @Override
+    public Mono<IngestionJobPojo> heartbeat(final long id, final int attempt) {
+        final var query = DSL.update(INGESTION_JOB)
+            .set(INGESTION_JOB.HEARTBEAT_AT, DateTimeUtil.generateNow())
+            .where(currentAttempt(id, attempt))
+            .returning();
+
+        return jooqReactiveOperations.mono(query).map(this::recordToPojo);
+    }
+
+    @Override
+    public Mono<IngestionJobPojo> markCompleted(final long id,
+                                                final int attempt,
+                                                final Map<String, Long> phaseTimings) {
+        return finish(id, attempt, IngestionJobStatus.COMPLETED, phaseTimings, null);
+    }
+
+    @Override
+    public Mono<IngestionJobPojo> markFailed(final long id,
+                                             final int attempt,
+                                             final Map<String, Long> phaseTimings,
+                                             final String error) {
+        return finish(id, attempt, IngestionJobStatus.FAILED, phaseTimings, error);
+    }
+
+    private Mono<IngestionJobPojo> finish(final long id,
+                                          final int attempt,
+                                          final IngestionJobStatus status,
+                                          final Map<String, Long> phaseTimings,
+                                          final String error) {
+        final var query = DSL.update(INGESTION_JOB)
+            .set(INGESTION_JOB.STATUS, status.getCode())
+            .set(INGESTION_JOB.PHASE_TIMINGS, JSONB.jsonb(JSONSerDeUtils.serializeJson(phaseTimings)))
+            .set(INGESTION_JOB.ERROR, error)
+            .set(INGESTION_JOB.FINISHED_AT, DateTimeUtil.generateNow())
+            .where(currentAttempt(id, attempt))
+            .returning();
+
+        return jooqReactiveOperations.mono(query).map(this::recordToPojo);
+    }
+
+    private Condition claimable(final IngestionJob job, final LocalDateTime staleBefore) {
+        return job.STATUS.eq(IngestionJobStatus.PENDING.getCode())
+            .or(job.STATUS.eq(IngestionJobStatus.RUNNING.getCode()).and(job.HEARTBEAT_AT.lessOrEqual(staleBefore)));
+    }
+
+    // a reclaimed job gets a new attempt, so the worker it was taken from can neither refresh nor finish it
+    private Condition currentAttempt(final long id, final int attempt) {
+        return INGESTION_JOB.ID.eq(id)
+            .and(INGESTION_JOB.ATTEMPT.eq(attempt))
+            .and(INGESTION_JOB.STATUS.eq(IngestionJobStatus.RUNNING.getCode()));
+    }
+}
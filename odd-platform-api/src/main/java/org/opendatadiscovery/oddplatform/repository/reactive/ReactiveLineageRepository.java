@@ -11,10 +11,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ReactiveLineageRepository {
-    Flux<LineagePojo> batchDeleteByEstablisherOddrn(Collection<String> oddrns);
+    Flux<LineagePojo> batchDeleteLineages(final List<LineagePojo> pojos);
 
     Flux<LineagePojo> batchInsertLineages(final List<LineagePojo> pojos);
 
+    Flux<LineagePojo> getLineageByEstablisherOddrns(final Collection<String> establishers);
+
     Mono<Map<String, Long>> getTargetsCount(final Set<String> oddrns);
 
     Flux<LineagePojo> getLineageRelations(final List<String> oddrns);
@@ -33,6 +33,8 @@ import static org.jooq.impl.DSL.one;
 import static org.jooq.impl.DSL.val;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.LINEAGE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyTripleOf;
 
 @Repository
 @RequiredArgsConstructor
@@ -40,21 +42,36 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
     private final JooqReactiveOperations jooqReactiveOperations;
 
     @Override
-    public Flux<LineagePojo> batchDeleteByEstablisherOddrn(final Collection<String> establishers) {
-        final var query = DSL.deleteFrom(LINEAGE)
-            .where(LINEAGE.ESTABLISHER_ODDRN.in(establishers));
-        return jooqReactiveOperations.flux(query.returning()).map(r -> r.into(LineagePojo.class));
+    public Flux<LineagePojo> batchDeleteLineages(final List<LineagePojo> pojos) {
+        return jooqReactiveOperations.executeInPartitionReturning(pojos, partition -> {
+            final var query = DSL.deleteFrom(LINEAGE)
+                .where(anyTripleOf(
+                    LINEAGE.PARENT_ODDRN, partition.stream().map(LineagePojo::getParentOddrn).toList(),
+                    LINEAGE.CHILD_ODDRN, partition.stream().map(LineagePojo::getChildOddrn).toList(),
+                    LINEAGE.ESTABLISHER_ODDRN, partition.stream().map(LineagePojo::getEstablisherOddrn).toList()))
+                .returning();
+            return jooqReactiveOperations.flux(query);
+        }).map(r -> r.into(LineagePojo.class));
     }
 
     @Override
     public Flux<LineagePojo> batchInsertLineages(final List<LineagePojo> pojos) {
-        InsertValuesStep3<LineageRecord, String, String, String> step
-            = DSL.insertInto(LINEAGE, LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN, LINEAGE.ESTABLISHER_ODDRN);
+        return jooqReactiveOperations.executeInPartitionReturning(pojos, partition -> {
+            InsertValuesStep3<LineageRecord, String, String, String> step
+                = DSL.insertInto(LINEAGE, LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN, LINEAGE.ESTABLISHER_ODDRN);
+
+            for (final LineagePojo p : partition) {
+                step = step.values(p.getParentOddrn(), p.getChildOddrn(), p.getEstablisherOddrn());
+            }
+            return jooqReactiveOperations.flux(step.onDuplicateKeyIgnore().returning());
+        }).map(r -> r.into(LineagePojo.class));
+    }
 
-        for (final LineagePojo p : pojos) {
-            step = step.values(p.getParentOddrn(), p.getChildOddrn(), p.getEstablisherOddrn());
-        }
-        return jooqReactiveOperations.flux(step.onDuplicateKeyIgnore().returning()).map(r -> r.into(LineagePojo.class));
+    @Override
+    public Flux<LineagePojo> getLineageByEstablisherOddrns(final Collection<String> establishers) {
+        final var query = DSL.selectFrom(LINEAGE)
+            .where(anyOf(LINEAGE.ESTABLISHER_ODDRN, establishers));
+        return jooqReactiveOperations.flux(query).map(r -> r.into(LineagePojo.class));
     }
 
     @Override
@@ -62,7 +79,7 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
         final var query = DSL.select(LINEAGE.PARENT_ODDRN)
             .select(count(one()).cast(Long.class))
             .from(LINEAGE)
-            .where(LINEAGE.PARENT_ODDRN.in(oddrns).and(LINEAGE.IS_DELETED.isFalse()))
+            .where(anyOf(LINEAGE.PARENT_ODDRN, oddrns).and(LINEAGE.IS_DELETED.isFalse()))
             .groupBy(LINEAGE.PARENT_ODDRN);
         return jooqReactiveOperations.flux(query)
             .collectMap(r -> r.get(0, String.class), r -> r.get(1, Long.class));
@@ -73,7 +90,7 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
         final Field<Integer> childrenCount = countDistinct(LINEAGE.CHILD_ODDRN).as("children_count");
         final var query = DSL.select(LINEAGE.PARENT_ODDRN, childrenCount)
             .from(LINEAGE)
-            .where(LINEAGE.PARENT_ODDRN.in(oddrns).and(LINEAGE.IS_DELETED.isFalse()))
+            .where(anyOf(LINEAGE.PARENT_ODDRN, oddrns).and(LINEAGE.IS_DELETED.isFalse()))
             .groupBy(LINEAGE.PARENT_ODDRN);
         return jooqReactiveOperations.flux(query).collectMap(Record2::value1, Record2::value2);
     }
@@ -83,7 +100,7 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
         final Field<Integer> parentsCount = countDistinct(LINEAGE.PARENT_ODDRN).as("parents_count");
         final var query = DSL.select(LINEAGE.CHILD_ODDRN, parentsCount)
             .from(LINEAGE)
-            .where(LINEAGE.CHILD_ODDRN.in(oddrns).and(LINEAGE.IS_DELETED.isFalse()))
+            .where(anyOf(LINEAGE.CHILD_ODDRN, oddrns).and(LINEAGE.IS_DELETED.isFalse()))
             .groupBy(LINEAGE.CHILD_ODDRN);
         return jooqReactiveOperations.flux(query).collectMap(Record2::value1, Record2::value2);
     }
@@ -92,7 +109,7 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
     public Flux<LineagePojo> softDeleteLineageRelations(final List<String> dataEntityOddrns) {
         final var query = DSL.update(LINEAGE)
             .set(LINEAGE.IS_DELETED, true)
-            .where(LINEAGE.CHILD_ODDRN.in(dataEntityOddrns).or(LINEAGE.PARENT_ODDRN.in(dataEntityOddrns)))
+            .where(anyOf(LINEAGE.CHILD_ODDRN, dataEntityOddrns).or(anyOf(LINEAGE.PARENT_ODDRN, dataEntityOddrns)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(LineagePojo.class));
@@ -102,7 +119,7 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
     public Flux<LineagePojo> restoreLineageRelations(final List<String> dataEntityOddrns) {
         final var query = DSL.update(LINEAGE)
             .set(LINEAGE.IS_DELETED, false)
-            .where(LINEAGE.CHILD_ODDRN.in(dataEntityOddrns).or(LINEAGE.PARENT_ODDRN.in(dataEntityOddrns)))
+            .where(anyOf(LINEAGE.CHILD_ODDRN, dataEntityOddrns).or(anyOf(LINEAGE.PARENT_ODDRN, dataEntityOddrns)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(LineagePojo.class));
@@ -113,8 +130,8 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
         final var query = DSL.selectDistinct(LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN)
             .from(LINEAGE)
             .where(LINEAGE.IS_DELETED.isFalse()
-                .and(LINEAGE.PARENT_ODDRN.in(oddrns).and(LINEAGE.CHILD_ODDRN.in(oddrns))
-                    .or(LINEAGE.CHILD_ODDRN.in(oddrns).and(LINEAGE.PARENT_ODDRN.in(oddrns)))));
+                .and(anyOf(LINEAGE.PARENT_ODDRN, oddrns).and(anyOf(LINEAGE.CHILD_ODDRN, oddrns))
+                    .or(anyOf(LINEAGE.CHILD_ODDRN, oddrns).and(anyOf(LINEAGE.PARENT_ODDRN, oddrns)))));
         return jooqReactiveOperations.flux(query).map(r -> r.into(LineagePojo.class));
     }
 
@@ -142,7 +159,7 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
         final var query = DSL.selectDistinct(LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN)
             .from(LINEAGE)
             .join(DATA_ENTITY).on(joinCondition)
-            .where(DATA_ENTITY.ID.in(rootIds).and(LINEAGE.IS_DELETED.isFalse()));
+            .where(anyOf(DATA_ENTITY.ID, rootIds).and(LINEAGE.IS_DELETED.isFalse()));
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(LineagePojo.class));
     }
@@ -164,7 +181,7 @@ public class ReactiveLineageRepositoryImpl implements ReactiveLineageRepository
             .select(LINEAGE.asterisk())
             .select(startDepth)
             .from(LINEAGE)
-            .where(conditions.getLeft().in(oddrns).and(LINEAGE.IS_DELETED.isFalse()))
+            .where(anyOf(conditions.getLeft(), oddrns).and(LINEAGE.IS_DELETED.isFalse()))
             .unionAll(
                 DSL
                     .select(LINEAGE.asterisk())
@@ -23,6 +23,7 @@ import reactor.core.publisher.Mono;
 
 import static org.opendatadiscovery.oddplatform.model.Tables.METADATA_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.METADATA_FIELD_VALUE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
 
 @Repository
 @RequiredArgsConstructor
@@ -75,7 +76,7 @@ public class ReactiveMetadataFieldValueRepositoryImpl implements ReactiveMetadat
     public Flux<MetadataFieldValuePojo> listByDataEntityIds(final List<Long> dataEntityIds) {
         final var query = DSL.select(METADATA_FIELD_VALUE.fields())
             .from(METADATA_FIELD_VALUE)
-            .where(METADATA_FIELD_VALUE.DATA_ENTITY_ID.in(dataEntityIds));
+            .where(anyOf(METADATA_FIELD_VALUE.DATA_ENTITY_ID, dataEntityIds));
 
         return jooqReactiveOperations.flux(query).map(r -> r.into(MetadataFieldValuePojo.class));
     }
@@ -86,7 +87,8 @@ public class ReactiveMetadataFieldValueRepositoryImpl implements ReactiveMetadat
         final var query = DSL.select(METADATA_FIELD_VALUE.fields())
             .from(METADATA_FIELD_VALUE)
             .join(METADATA_FIELD).on(METADATA_FIELD_VALUE.METADATA_FIELD_ID.eq(METADATA_FIELD.ID))
-            .where(METADATA_FIELD_VALUE.DATA_ENTITY_ID.in(dataEntityIds).and(METADATA_FIELD.ORIGIN.eq(origin.name())));
+            .where(anyOf(METADATA_FIELD_VALUE.DATA_ENTITY_ID, dataEntityIds)
+                .and(METADATA_FIELD.ORIGIN.eq(origin.name())));
 
         return jooqReactiveOperations.flux(query).map(r -> r.into(MetadataFieldValuePojo.class));
     }
@@ -45,6 +45,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
 import static org.opendatadiscovery.oddplatform.model.tables.DataSource.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.tables.SearchEntrypoint.SEARCH_ENTRYPOINT;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConfig.FTS_CONFIG_DETAILS_MAP;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
 
 @Repository
 @RequiredArgsConstructor
@@ -225,7 +226,7 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
 
     @Override
     public Mono<Integer> updateStructureVectorForDataEntitiesByOddrns(final Collection<String> dataEntityOddrns) {
-        return updateStructureVectorForDataEntities(DATA_ENTITY.ODDRN.in(dataEntityOddrns));
+        return updateStructureVectorForDataEntities(anyOf(DATA_ENTITY.ODDRN, dataEntityOddrns));
     }
 
     @Override
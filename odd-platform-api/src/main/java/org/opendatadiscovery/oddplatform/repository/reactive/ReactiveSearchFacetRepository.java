@@ -51,4 +51,16 @@ public interface ReactiveSearchFacetRepository {
                                                                 final int page,
                                                                 final int size,
                                                                 final FacetStateDto state);
+
+    /**
+     * Recalculates the facet counters of the searches without a query.
+     *
+     * @return number of the counters which have been changed
+     */
+    Mono<Integer> refreshCounters();
+
+    /**
+     * Checks whether the facets of the search query are counted over a sample of its results.
+     */
+    Mono<Boolean> isSampled(final String query);
 }
@@ -12,13 +12,19 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.Condition;
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Record1;
+import org.jooq.Record2;
 import org.jooq.Record3;
+import org.jooq.ResultQuery;
 import org.jooq.SelectOrderByStep;
 import org.jooq.Table;
 import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.opendatadiscovery.oddplatform.config.properties.SearchFacetProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchFacetProperties.CountingMode;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
@@ -26,6 +32,7 @@ import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
 import org.opendatadiscovery.oddplatform.dto.FacetType;
 import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
 import org.opendatadiscovery.oddplatform.dto.SearchFilterId;
+import org.opendatadiscovery.oddplatform.model.tables.SearchEntrypoint;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchFacetsPojo;
 import org.opendatadiscovery.oddplatform.model.tables.records.SearchFacetsRecord;
 import org.opendatadiscovery.oddplatform.repository.util.JooqFTSHelper;
@@ -38,8 +45,14 @@ import reactor.core.publisher.Mono;
 import static org.jooq.impl.DSL.coalesce;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.countDistinct;
+import static org.jooq.impl.DSL.excluded;
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.selectCount;
+import static org.jooq.impl.DSL.selectOne;
+import static org.jooq.impl.DSL.table;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_STRUCTURE;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_VERSION;
@@ -51,6 +64,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.OWNER;
 import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
 import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT;
 import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_FACETS;
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_FACET_COUNTER;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
@@ -65,6 +79,16 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
 
     private final JooqReactiveOperations jooqReactiveOperations;
     private final JooqFTSHelper jooqFTSHelper;
+    private final SearchFacetProperties searchFacetProperties;
+
+    // filters of the facet state, which are taken into account by the facets
+    private static final Set<FacetType> DATA_ENTITY_FACET_FILTERS = Set.of(FacetType.DATA_SOURCES);
+    private static final Set<FacetType> TYPE_FACET_FILTERS = Set.of(FacetType.DATA_SOURCES, FacetType.OWNERS,
+        FacetType.NAMESPACES, FacetType.TAGS, FacetType.GROUPS);
+    private static final Set<FacetType> ENTITY_CLASS_FACET_FILTERS = Set.of(FacetType.DATA_SOURCES, FacetType.OWNERS,
+        FacetType.NAMESPACES, FacetType.TAGS, FacetType.GROUPS, FacetType.TYPES, FacetType.STATUSES);
+
+    private static final int ALL_ENTITY_CLASSES = 0;
 
     private static final Collector<Record3<Long, String, Integer>, ?, Map<SearchFilterId, Long>> FACET_COLLECTOR
         = Collectors.toMap(
@@ -179,7 +203,7 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
 
         if (StringUtils.isNotEmpty(state.getQuery())) {
             select.join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID));
-            conditions.add(jooqFTSHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, state.getQuery()));
+            conditions.add(searchCondition(state.getQuery()));
         }
         final Set<Long> dataSourceIds = state.getFacetEntitiesIds(FacetType.DATA_SOURCES);
         if (!CollectionUtils.isEmpty(dataSourceIds)) {
@@ -226,10 +250,13 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             conditions.add(DATA_ENTITY.STATUS.in(statusIds));
         }
 
-        select
-            .where(conditions)
-            .groupBy(field(entityClassUnnestedField));
-        final Flux<Pair<SearchFilterId, Long>> existingClasses = jooqReactiveOperations.flux(select)
+        final ResultQuery<? extends Record> query = countersApply(state, ENTITY_CLASS_FACET_FILTERS)
+            ? DSL.select(SEARCH_FACET_COUNTER.FACET_ENTITY_ID.as(entityClassUnnestedField),
+                    SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT.as(deCountField))
+                .from(SEARCH_FACET_COUNTER)
+                .where(counterCondition(FacetType.ENTITY_CLASSES, null))
+            : select.where(conditions).groupBy(field(entityClassUnnestedField));
+        final Flux<Pair<SearchFilterId, Long>> existingClasses = jooqReactiveOperations.flux(query)
             .map(r -> {
                 final Integer entityClassId = r.get(entityClassUnnestedField, Integer.class);
 
@@ -264,7 +291,7 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
 
         if (StringUtils.isNotEmpty(state.getQuery())) {
             select.join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID));
-            conditions.add(jooqFTSHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, state.getQuery()));
+            conditions.add(searchCondition(state.getQuery()));
         }
 
         final Set<Long> dataSourceIds = state.getFacetEntitiesIds(FacetType.DATA_SOURCES);
@@ -314,7 +341,10 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             .limit(size)
             .offset((page - 1) * size);
 
-        final Flux<Pair<SearchFilterId, Long>> existingTypes = jooqReactiveOperations.flux(select)
+        final ResultQuery<Record2<Integer, Integer>> query = countersApply(state, TYPE_FACET_FILTERS)
+            ? enumCounterQuery(SQLDataType.INTEGER, FacetType.TYPES, selectedEntityClass, typeIds, page, size)
+            : select;
+        final Flux<Pair<SearchFilterId, Long>> existingTypes = jooqReactiveOperations.flux(query)
             .map(r -> {
                 final DataEntityTypeDto type = DataEntityTypeDto.findById(r.component1())
                     .orElseThrow(() -> new IllegalArgumentException(
@@ -367,6 +397,18 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             .orderBy(countDistinct(SEARCH_ENTRYPOINT.DATA_ENTITY_ID).desc())
             .limit(size)
             .offset((page - 1) * size);
+
+        if (countersApply(state, DATA_ENTITY_FACET_FILTERS)) {
+            final List<Condition> ownerConditions = new ArrayList<>();
+            ownerConditions.add(OWNER.DELETED_AT.isNull());
+            if (StringUtils.isNotEmpty(facetQuery)) {
+                ownerConditions.add(OWNER.NAME.containsIgnoreCase(facetQuery));
+            }
+            return jooqReactiveOperations
+                .flux(namedCounterQuery(FacetType.OWNERS, OWNER, OWNER.ID, OWNER.NAME, ownerConditions, state,
+                    page, size))
+                .collect(FACET_COLLECTOR);
+        }
         return jooqReactiveOperations.flux(select)
             .collect(FACET_COLLECTOR);
     }
@@ -402,6 +444,17 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             .orderBy(countDistinct(SEARCH_ENTRYPOINT.DATA_ENTITY_ID).desc())
             .limit(size)
             .offset((page - 1) * size);
+
+        if (countersApply(state, DATA_ENTITY_FACET_FILTERS)) {
+            final List<Condition> tagConditions = new ArrayList<>();
+            tagConditions.add(TAG.DELETED_AT.isNull());
+            if (StringUtils.isNotEmpty(facetQuery)) {
+                tagConditions.add(TAG.NAME.containsIgnoreCase(facetQuery));
+            }
+            return jooqReactiveOperations
+                .flux(namedCounterQuery(FacetType.TAGS, TAG, TAG.ID, TAG.NAME, tagConditions, state, page, size))
+                .collect(FACET_COLLECTOR);
+        }
         return jooqReactiveOperations.flux(select)
             .collect(FACET_COLLECTOR);
     }
@@ -438,6 +491,12 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
         if (StringUtils.isNotEmpty(facetQuery)) {
             conditions.add(groupName.containsIgnoreCase(facetQuery));
         }
+        if (countersApply(state, DATA_ENTITY_FACET_FILTERS)) {
+            return jooqReactiveOperations
+                .flux(namedCounterQuery(FacetType.GROUPS, DATA_ENTITY, DATA_ENTITY.ID, groupName, conditions, state,
+                    page, size))
+                .collect(FACET_COLLECTOR);
+        }
         final var select = DSL.with(cte.getName())
             .as(cteSelect)
             .select(DATA_ENTITY.ID, groupName, cte.field(dataEntityCount))
@@ -466,7 +525,7 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
 
         if (StringUtils.isNotEmpty(state.getQuery())) {
             select.join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID));
-            conditions.add(jooqFTSHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, state.getQuery()));
+            conditions.add(searchCondition(state.getQuery()));
         }
 
         final Set<Long> dataSourceIds = state.getFacetEntitiesIds(FacetType.DATA_SOURCES);
@@ -515,7 +574,11 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             .limit(size)
             .offset((page - 1) * size);
 
-        final Flux<Pair<SearchFilterId, Long>> existingStatuses = jooqReactiveOperations.flux(select)
+        final ResultQuery<Record2<Short, Integer>> counted = countersApply(state, TYPE_FACET_FILTERS)
+            ? enumCounterQuery(SQLDataType.SMALLINT, FacetType.STATUSES,
+                state.selectedDataEntityClass().orElse(null), statusIds, page, size)
+            : select;
+        final Flux<Pair<SearchFilterId, Long>> existingStatuses = jooqReactiveOperations.flux(counted)
             .map(r -> {
                 final DataEntityStatusDto status = DataEntityStatusDto.findById(r.component1())
                     .orElseThrow(() -> new IllegalArgumentException(
@@ -533,6 +596,116 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             .collect(Collectors.toMap(Pair::getLeft, Pair::getRight, (t1, t2) -> t1 == 0 ? t2 : t1));
     }
 
+    @Override
+    public Mono<Integer> refreshCounters() {
+        // every data entity is counted for each of its entity classes and for all of them
+        final Field<Integer> entityClassId = field("unnest(array_append(?, ?))", Integer.class,
+            DATA_ENTITY.ENTITY_CLASS_IDS, inline(ALL_ENTITY_CLASSES))
+            .as(SEARCH_FACET_COUNTER.ENTITY_CLASS_ID.getName());
+        final Field<Object> entityClassIdGroup = field(name(entityClassId.getName()));
+        final Field<Long> dataEntityCount = countDistinct(DATA_ENTITY.ID).cast(SQLDataType.BIGINT);
+        final var group = DATA_ENTITY.as("group");
+
+        final var tags = DSL
+            .select(inline(FacetType.TAGS.name()), entityClassId, TAG_TO_DATA_ENTITY.TAG_ID, dataEntityCount)
+            .from(TAG_TO_DATA_ENTITY)
+            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID))
+            .join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
+            .where(getDataEntityDefaultConditions())
+            .groupBy(entityClassIdGroup, TAG_TO_DATA_ENTITY.TAG_ID);
+
+        final var owners = DSL
+            .select(inline(FacetType.OWNERS.name()), entityClassId, OWNERSHIP.OWNER_ID, dataEntityCount)
+            .from(OWNERSHIP)
+            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(OWNERSHIP.DATA_ENTITY_ID))
+            .join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
+            .where(getDataEntityDefaultConditions())
+            .groupBy(entityClassIdGroup, OWNERSHIP.OWNER_ID);
+
+        final var groups = DSL
+            .select(inline(FacetType.GROUPS.name()), entityClassId, group.ID, dataEntityCount)
+            .from(GROUP_ENTITY_RELATIONS)
+            .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN))
+            .join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
+            .join(group).on(group.ODDRN.eq(GROUP_ENTITY_RELATIONS.GROUP_ODDRN))
+            .where(getDataEntityDefaultConditions())
+            .groupBy(entityClassIdGroup, group.ID);
+
+        final var types = DSL
+            .select(inline(FacetType.TYPES.name()), entityClassId, DATA_ENTITY.TYPE_ID.cast(SQLDataType.BIGINT),
+                dataEntityCount)
+            .from(DATA_ENTITY)
+            .where(getDataEntityDefaultConditions())
+            .and(DATA_ENTITY.TYPE_ID.isNotNull())
+            .groupBy(entityClassIdGroup, DATA_ENTITY.TYPE_ID);
+
+        // the status facet counts the deleted data entities as well
+        final var statuses = DSL
+            .select(inline(FacetType.STATUSES.name()), entityClassId, DATA_ENTITY.STATUS.cast(SQLDataType.BIGINT),
+                dataEntityCount)
+            .from(DATA_ENTITY)
+            .where(DATA_ENTITY.HOLLOW.isFalse())
+            .and(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isNull().or(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isFalse()))
+            .and(DATA_ENTITY.STATUS.isNotNull())
+            .groupBy(entityClassIdGroup, DATA_ENTITY.STATUS);
+
+        final Field<Long> unnestedEntityClassId = field("unnest(?)", Long.class, DATA_ENTITY.ENTITY_CLASS_IDS)
+            .as(SEARCH_FACET_COUNTER.FACET_ENTITY_ID.getName());
+        final var entityClasses = DSL
+            .select(inline(FacetType.ENTITY_CLASSES.name()), inline(ALL_ENTITY_CLASSES), unnestedEntityClassId,
+                dataEntityCount)
+            .from(DATA_ENTITY)
+            .where(getDataEntityDefaultConditions())
+            .groupBy(field(name(unnestedEntityClassId.getName())));
+
+        final Table<?> fresh = table(name("fresh"));
+        final Field<String> freshFacetType = freshField(fresh, SEARCH_FACET_COUNTER.FACET_TYPE);
+        final Field<Integer> freshEntityClassId = freshField(fresh, SEARCH_FACET_COUNTER.ENTITY_CLASS_ID);
+        final Field<Long> freshFacetEntityId = freshField(fresh, SEARCH_FACET_COUNTER.FACET_ENTITY_ID);
+        final Field<Long> freshDataEntityCount = freshField(fresh, SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT);
+
+        // only the counters which have been changed since the previous refresh are written
+        final var query = DSL
+            .with(fresh.getName(), SEARCH_FACET_COUNTER.FACET_TYPE.getName(),
+                SEARCH_FACET_COUNTER.ENTITY_CLASS_ID.getName(), SEARCH_FACET_COUNTER.FACET_ENTITY_ID.getName(),
+                SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT.getName())
+            .as(tags.unionAll(owners).unionAll(groups).unionAll(types).unionAll(statuses).unionAll(entityClasses))
+            .with("stale")
+            .as(DSL.deleteFrom(SEARCH_FACET_COUNTER)
+                .whereNotExists(selectOne()
+                    .from(fresh)
+                    .where(freshFacetType.eq(SEARCH_FACET_COUNTER.FACET_TYPE))
+                    .and(freshEntityClassId.eq(SEARCH_FACET_COUNTER.ENTITY_CLASS_ID))
+                    .and(freshFacetEntityId.eq(SEARCH_FACET_COUNTER.FACET_ENTITY_ID)))
+                .returning(SEARCH_FACET_COUNTER.FACET_TYPE))
+            .insertInto(SEARCH_FACET_COUNTER, SEARCH_FACET_COUNTER.FACET_TYPE, SEARCH_FACET_COUNTER.ENTITY_CLASS_ID,
+                SEARCH_FACET_COUNTER.FACET_ENTITY_ID, SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT)
+            .select(DSL.select(freshFacetType, freshEntityClassId, freshFacetEntityId, freshDataEntityCount)
+                .from(fresh))
+            .onConflict(SEARCH_FACET_COUNTER.FACET_TYPE, SEARCH_FACET_COUNTER.ENTITY_CLASS_ID,
+                SEARCH_FACET_COUNTER.FACET_ENTITY_ID)
+            .doUpdate()
+            .set(SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT, excluded(SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT))
+            .where(SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT.ne(excluded(SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT)));
+
+        return jooqReactiveOperations.mono(query);
+    }
+
+    @Override
+    public Mono<Boolean> isSampled(final String query) {
+        if (searchFacetProperties.getCountingMode() != CountingMode.SAMPLED || StringUtils.isEmpty(query)) {
+            return Mono.just(false);
+        }
+
+        final var matches = DSL.select(SEARCH_ENTRYPOINT.DATA_ENTITY_ID)
+            .from(SEARCH_ENTRYPOINT)
+            .where(jooqFTSHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, query))
+            .limit(searchFacetProperties.getSampleSize() + 1);
+
+        return jooqReactiveOperations.mono(selectCount().from(matches.asTable("matches")))
+            .map(r -> r.value1() > searchFacetProperties.getSampleSize());
+    }
+
     private List<Integer> typeIdsByName(final String name) {
         return Arrays.stream(DataEntityTypeDto.values())
             .filter(s -> StringUtils.containsIgnoreCase(name, s.name()))
@@ -568,6 +741,72 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             .build();
     }
 
+    private <T> Field<T> freshField(final Table<?> fresh, final Field<T> counterField) {
+        return field(name(fresh.getName(), counterField.getName()), counterField.getType());
+    }
+
+    private boolean countersApply(final FacetStateDto state, final Set<FacetType> facetFilters) {
+        return searchFacetProperties.isCountersEnabled()
+            && StringUtils.isEmpty(state.getQuery())
+            && facetFilters.stream().allMatch(f -> state.getFacetEntitiesIds(f).isEmpty());
+    }
+
+    private Condition counterCondition(final FacetType facetType, final Long entityClassId) {
+        return SEARCH_FACET_COUNTER.FACET_TYPE.eq(facetType.name())
+            .and(SEARCH_FACET_COUNTER.ENTITY_CLASS_ID.eq(
+                entityClassId != null ? entityClassId.intValue() : ALL_ENTITY_CLASSES));
+    }
+
+    private <T> ResultQuery<Record2<T, Integer>> enumCounterQuery(final DataType<T> idType,
+                                                                  final FacetType facetType,
+                                                                  final Long entityClassId,
+                                                                  final List<? extends Number> ids,
+                                                                  final int page,
+                                                                  final int size) {
+        return DSL
+            .select(SEARCH_FACET_COUNTER.FACET_ENTITY_ID.cast(idType),
+                SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT.cast(SQLDataType.INTEGER))
+            .from(SEARCH_FACET_COUNTER)
+            .where(counterCondition(facetType, entityClassId))
+            .and(ids.isEmpty() ? DSL.noCondition() : SEARCH_FACET_COUNTER.FACET_ENTITY_ID.in(ids))
+            .orderBy(SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT.desc())
+            .limit(size)
+            .offset((page - 1) * size);
+    }
+
+    private ResultQuery<Record3<Long, String, Integer>> namedCounterQuery(final FacetType facetType,
+                                                                          final Table<?> table,
+                                                                          final Field<Long> id,
+                                                                          final Field<String> name,
+                                                                          final List<Condition> conditions,
+                                                                          final FacetStateDto state,
+                                                                          final int page,
+                                                                          final int size) {
+        return DSL
+            .select(id, name, SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT.cast(SQLDataType.INTEGER))
+            .from(SEARCH_FACET_COUNTER)
+            .join(table).on(id.eq(SEARCH_FACET_COUNTER.FACET_ENTITY_ID))
+            .where(counterCondition(facetType, state.selectedDataEntityClass().orElse(null)))
+            .and(DSL.and(conditions))
+            .orderBy(SEARCH_FACET_COUNTER.DATA_ENTITY_COUNT.desc())
+            .limit(size)
+            .offset((page - 1) * size);
+    }
+
+    // in the sampled mode the facets are counted over the sample of the latest data entities matching the query
+    private Condition searchCondition(final String query) {
+        if (searchFacetProperties.getCountingMode() != CountingMode.SAMPLED) {
+            return jooqFTSHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, query);
+        }
+
+        final SearchEntrypoint sample = SEARCH_ENTRYPOINT.as("sample");
+        return SEARCH_ENTRYPOINT.DATA_ENTITY_ID.in(select(sample.DATA_ENTITY_ID)
+            .from(sample)
+            .where(jooqFTSHelper.ftsCondition(sample.SEARCH_VECTOR, query))
+            .orderBy(sample.DATA_ENTITY_ID.desc())
+            .limit(searchFacetProperties.getSampleSize()));
+    }
+
     private List<Condition> getDataEntityDefaultConditions() {
         final List<Condition> conditions = new ArrayList<>();
         conditions.add(DATA_ENTITY.HOLLOW.isFalse());
@@ -579,7 +818,7 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
     private List<Condition> getQueryAndEntityClassConditions(final FacetStateDto state) {
         final List<Condition> conditions = new ArrayList<>();
         if (StringUtils.isNotEmpty(state.getQuery())) {
-            conditions.add(jooqFTSHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, state.getQuery()));
+            conditions.add(searchCondition(state.getQuery()));
         }
         final Long selectedEntityClass = state.selectedDataEntityClass().orElse(null);
         if (selectedEntityClass != null) {
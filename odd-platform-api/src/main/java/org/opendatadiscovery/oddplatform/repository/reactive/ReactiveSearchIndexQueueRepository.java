@@ -0,0 +1,19 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.List;
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.dto.SearchIndexBacklogDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchIndexQueuePojo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSearchIndexQueueRepository {
+    Mono<Void> enqueue(final Map<SearchVectorKind, List<Long>> dataEntityIds);
+
+    Flux<SearchIndexQueuePojo> listOldest(final int limit);
+
+    Mono<Integer> delete(final List<SearchIndexQueuePojo> entries);
+
+    Mono<SearchIndexBacklogDto> getBacklog();
+}
@@ -0,0 +1,90 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jooq.InsertValuesStep2;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.SearchIndexBacklogDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchIndexQueuePojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.SearchIndexQueueRecord;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_INDEX_QUEUE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyTripleOf;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveSearchIndexQueueRepositoryImpl implements ReactiveSearchIndexQueueRepository {
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    /**
+     * Marks search vectors of data entities as dirty. Repeated marks of the same vector are coalesced
+     * into a single queue entry, which keeps its original enqueue time and gets its update time refreshed.
+     */
+    @Override
+    public Mono<Void> enqueue(final Map<SearchVectorKind, List<Long>> dataEntityIds) {
+        final List<Map.Entry<SearchVectorKind, Long>> entries = dataEntityIds.entrySet().stream()
+            .flatMap(e -> e.getValue().stream().distinct().map(id -> Map.entry(e.getKey(), id)))
+            .toList();
+
+        return jooqReactiveOperations.executeInPartition(entries, partition -> {
+            InsertValuesStep2<SearchIndexQueueRecord, Long, String> query = DSL
+                .insertInto(SEARCH_INDEX_QUEUE, SEARCH_INDEX_QUEUE.DATA_ENTITY_ID, SEARCH_INDEX_QUEUE.VECTOR_KIND);
+            for (final Map.Entry<SearchVectorKind, Long> entry : partition) {
+                query = query.values(entry.getValue(), entry.getKey().name());
+            }
+
+            return jooqReactiveOperations.mono(query
+                .onConflict(SEARCH_INDEX_QUEUE.DATA_ENTITY_ID, SEARCH_INDEX_QUEUE.VECTOR_KIND)
+                .doUpdate()
+                .set(SEARCH_INDEX_QUEUE.UPDATED_AT, DSL.excluded(SEARCH_INDEX_QUEUE.UPDATED_AT)));
+        });
+    }
+
+    @Override
+    public Flux<SearchIndexQueuePojo> listOldest(final int limit) {
+        final var query = DSL.selectFrom(SEARCH_INDEX_QUEUE)
+            .orderBy(SEARCH_INDEX_QUEUE.ENQUEUED_AT)
+            .limit(limit);
+
+        return jooqReactiveOperations.flux(query).map(r -> r.into(SearchIndexQueuePojo.class));
+    }
+
+    /**
+     * Deletes processed queue entries. Entries which were marked dirty again after they had been listed
+     * have a newer update time and are kept in the queue to be processed once more.
+     */
+    @Override
+    public Mono<Integer> delete(final List<SearchIndexQueuePojo> entries) {
+        if (entries.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        final List<Long> dataEntityIds = entries.stream().map(SearchIndexQueuePojo::getDataEntityId).toList();
+        final List<String> vectorKinds = entries.stream().map(SearchIndexQueuePojo::getVectorKind).toList();
+        final List<LocalDateTime> updatedAts = entries.stream().map(SearchIndexQueuePojo::getUpdatedAt).toList();
+
+        final var query = DSL.deleteFrom(SEARCH_INDEX_QUEUE)
+            .where(anyTripleOf(
+                SEARCH_INDEX_QUEUE.DATA_ENTITY_ID, dataEntityIds,
+                SEARCH_INDEX_QUEUE.VECTOR_KIND, vectorKinds,
+                SEARCH_INDEX_QUEUE.UPDATED_AT, updatedAts));
+
+        return jooqReactiveOperations.mono(query);
+    }
+
+    @Override
+    public Mono<SearchIndexBacklogDto> getBacklog() {
+        final var query = DSL.select(DSL.count(), DSL.min(SEARCH_INDEX_QUEUE.ENQUEUED_AT))
+            .from(SEARCH_INDEX_QUEUE);
+
+        return jooqReactiveOperations.mono(query)
+            .map(r -> new SearchIndexBacklogDto(r.value1(), r.value2()));
+    }
+}
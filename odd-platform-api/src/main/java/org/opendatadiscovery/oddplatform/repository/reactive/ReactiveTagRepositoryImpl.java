@@ -39,6 +39,8 @@ import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_TERM;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyOf;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqArrayConditions.anyPairOf;
 
 @Repository
 public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRepository<TagRecord, TagPojo>
@@ -107,7 +109,7 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
         var query = DSL.select(TAG_TO_DATASET_FIELD.fields())
             .from(TAG_TO_DATASET_FIELD)
             .join(TAG).on(TAG.ID.eq(TAG_TO_DATASET_FIELD.TAG_ID))
-            .where(TAG_TO_DATASET_FIELD.DATASET_FIELD_ID.in(datasetFieldIds).and(TAG.DELETED_AT.isNull()));
+            .where(anyOf(TAG_TO_DATASET_FIELD.DATASET_FIELD_ID, datasetFieldIds).and(TAG.DELETED_AT.isNull()));
 
         if (origin != null) {
             query = query.and(TAG_TO_DATASET_FIELD.ORIGIN.eq(origin.toString()));
@@ -119,7 +121,7 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
     @Override
     public Flux<TagPojo> listByNames(final Collection<String> names) {
         final var query = DSL.selectFrom(TAG)
-            .where(addSoftDeleteFilter(TAG.NAME.in(names)));
+            .where(addSoftDeleteFilter(anyOf(TAG.NAME, names)));
         return jooqReactiveOperations.flux(query)
             .map(this::recordToPojo);
     }
@@ -139,7 +141,7 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
                                               final int size) {
         final List<Condition> conditions = listCondition(query);
         if (CollectionUtils.isNotEmpty(ids)) {
-            conditions.add(TAG.ID.in(ids));
+            conditions.add(anyOf(TAG.ID, ids));
         }
         final Select<TagRecord> homogeneousQuery = DSL.selectFrom(TAG)
             .where(conditions);
@@ -171,7 +173,7 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
         final var query = DSL.select(TAG_TO_DATA_ENTITY.fields())
             .from(TAG_TO_DATA_ENTITY)
             .join(TAG).on(TAG.ID.eq(TAG_TO_DATA_ENTITY.TAG_ID))
-            .where(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.in(dataEntityIds).and(TAG.DELETED_AT.isNull()));
+            .where(anyOf(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID, dataEntityIds).and(TAG.DELETED_AT.isNull()));
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(TagToDataEntityPojo.class));
     }
@@ -270,7 +272,7 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
         }
 
         final var query = DSL.deleteFrom(TAG_TO_TERM)
-            .where(TAG_TO_TERM.TERM_ID.eq(termId).and(TAG_TO_TERM.TAG_ID.in(tagIds)))
+            .where(TAG_TO_TERM.TERM_ID.eq(termId).and(anyOf(TAG_TO_TERM.TAG_ID, tagIds)))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(TagToTermPojo.class));
@@ -310,16 +312,17 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
         if (pojos.isEmpty()) {
             return Flux.just();
         }
-        final Condition condition = pojos.stream()
-            .map(pojo -> TAG_TO_DATASET_FIELD.DATASET_FIELD_ID.eq(pojo.getDatasetFieldId())
-                .and(TAG_TO_DATASET_FIELD.TAG_ID.eq(pojo.getTagId())))
-            .reduce(Condition::or)
-            .orElseThrow(() -> new RuntimeException("Couldn't build condition for tag deletion"));
-        final var query = DSL.delete(TAG_TO_DATASET_FIELD)
-            .where(condition)
-            .returning();
-
-        return jooqReactiveOperations.flux(query).map(r -> r.into(TagToDatasetFieldPojo.class));
+        return jooqReactiveOperations.executeInPartitionReturning(pojos, partition -> {
+            final var query = DSL.delete(TAG_TO_DATASET_FIELD)
+                .where(anyPairOf(
+                    TAG_TO_DATASET_FIELD.DATASET_FIELD_ID,
+                    partition.stream().map(TagToDatasetFieldPojo::getDatasetFieldId).toList(),
+                    TAG_TO_DATASET_FIELD.TAG_ID,
+                    partition.stream().map(TagToDatasetFieldPojo::getTagId).toList()))
+                .returning();
+
+            return jooqReactiveOperations.flux(query);
+        }).map(r -> r.into(TagToDatasetFieldPojo.class));
     }
 
     @Override
@@ -356,18 +359,20 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
             .map(p -> jooqReactiveOperations.newRecord(TAG_TO_DATASET_FIELD, p))
             .toList();
 
-        final InsertSetStep<TagToDatasetFieldRecord> insertStep = DSL.insertInto(TAG_TO_DATASET_FIELD);
+        return jooqReactiveOperations.executeInPartitionReturning(records, partition -> {
+            final InsertSetStep<TagToDatasetFieldRecord> insertStep = DSL.insertInto(TAG_TO_DATASET_FIELD);
 
-        for (int i = 0; i < records.size() - 1; i++) {
-            insertStep.set(records.get(i)).newRecord();
-        }
+            for (int i = 0; i < partition.size() - 1; i++) {
+                insertStep.set(partition.get(i)).newRecord();
+            }
 
-        final InsertResultStep<TagToDatasetFieldRecord> query = insertStep
-            .set(records.get(records.size() - 1))
-            .onDuplicateKeyIgnore()
-            .returning();
+            final InsertResultStep<TagToDatasetFieldRecord> query = insertStep
+                .set(partition.get(partition.size() - 1))
+                .onDuplicateKeyIgnore()
+                .returning();
 
-        return jooqReactiveOperations.flux(query).map(r -> r.into(TagToDatasetFieldPojo.class));
+            return jooqReactiveOperations.flux(query);
+        }).map(r -> r.into(TagToDatasetFieldPojo.class));
     }
 
     private static Table<Record> getDataEntityWithDatasetFields(final Table<? extends Record> tagCte,
@@ -0,0 +1,86 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Record;
+import org.opendatadiscovery.oddplatform.config.properties.BatchingProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calculates how many entities fit into a single statement.
+ * A batch is limited by the number of bind parameters, by its estimated size in bytes and by a hard row limit.
+ * Row width is estimated from a few sampled entities: jOOQ records are measured by their values,
+ * scalars by their text representation and POJOs by the number of their fields.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchPlanner {
+    private static final int SAMPLE_SIZE = 8;
+    private static final int ESTIMATED_VALUE_BYTES = 32;
+
+    private static final ClassValue<Integer> POJO_FIELD_COUNTS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            int count = 0;
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        count++;
+                    }
+                }
+            }
+            return Math.max(count, 1);
+        }
+    };
+
+    private final BatchingProperties batchingProperties;
+
+    public int batchSize(final List<?> entities) {
+        if (entities.isEmpty()) {
+            return batchingProperties.getMaxRows();
+        }
+
+        int binds = 1;
+        long bytes = 0;
+        final int step = Math.max(entities.size() / SAMPLE_SIZE, 1);
+        int sampled = 0;
+        for (int i = 0; i < entities.size() && sampled < SAMPLE_SIZE; i += step, sampled++) {
+            final RowEstimate estimate = estimate(entities.get(i));
+            binds = Math.max(binds, estimate.binds());
+            bytes += estimate.bytes();
+        }
+
+        final long rowBytes = Math.max(bytes / sampled, 1);
+        final long byBinds = batchingProperties.getMaxBindParameters() / binds;
+        final long byBytes = batchingProperties.getMaxBatchSize().toBytes() / rowBytes;
+
+        return (int) Math.max(Math.min(batchingProperties.getMaxRows(), Math.min(byBinds, byBytes)), 1);
+    }
+
+    private RowEstimate estimate(final Object entity) {
+        if (entity instanceof Record jooqRecord) {
+            long bytes = 0;
+            for (final org.jooq.Field<?> field : jooqRecord.fields()) {
+                final String value = PostgreSQLCopyEncoder.textValue(jooqRecord, field);
+                bytes += value == null ? 1 : value.length();
+            }
+            return new RowEstimate(jooqRecord.size(), bytes);
+        }
+
+        if (entity instanceof CharSequence || entity instanceof Number || entity instanceof Boolean
+            || entity instanceof UUID || entity instanceof Temporal || entity instanceof Enum<?>) {
+            return new RowEstimate(1, entity.toString().length());
+        }
+
+        final int fields = POJO_FIELD_COUNTS.get(entity.getClass());
+        return new RowEstimate(fields, (long) fields * ESTIMATED_VALUE_BYTES);
+    }
+
+    private record RowEstimate(int binds, long bytes) {
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.SortField;
+import org.opendatadiscovery.oddplatform.dto.DataEntityCursor;
 
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.RANK_FIELD_ALIAS;
 
@@ -28,6 +29,7 @@ public class DataEntityCTEQueryConfig {
     private SortField<?> orderBy;
     private Fts fts;
     private boolean includeDeleted;
+    private DataEntityCursor after;
 
     public record LimitOffset(int limit, int offset) {
     }
@@ -0,0 +1,71 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.experimental.UtilityClass;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * Membership conditions bound as a single array parameter, e.g. {@code field = any(cast(? as varchar[]))}.
+ * Unlike {@code IN (?, ?, ...)} the rendered SQL doesn't depend on the amount of values,
+ * so the statement can be reused by the driver and isn't limited by the maximum number of binds.
+ */
+@UtilityClass
+public class JooqArrayConditions {
+    public static <T> Condition anyOf(final Field<T> field, final Collection<? extends T> values) {
+        return field.eq(DSL.any(arrayParam(field, values)));
+    }
+
+    public static <T> Condition noneOf(final Field<T> field, final Collection<? extends T> values) {
+        return field.ne(DSL.all(arrayParam(field, values)));
+    }
+
+    /**
+     * Matches rows whose pair of fields equals one of the pairs of values at the same positions of the lists,
+     * e.g. {@code (a, b) in (select * from unnest(cast(? as bigint[]), cast(? as bigint[])))}.
+     */
+    public static <A, B> Condition anyPairOf(final Field<A> first, final List<? extends A> firstValues,
+                                             final Field<B> second, final List<? extends B> secondValues) {
+        return anyRowOf(List.of(first, second), List.of(firstValues, secondValues));
+    }
+
+    public static <A, B, C> Condition anyTripleOf(final Field<A> first, final List<? extends A> firstValues,
+                                                  final Field<B> second, final List<? extends B> secondValues,
+                                                  final Field<C> third, final List<? extends C> thirdValues) {
+        return anyRowOf(List.of(first, second, third), List.of(firstValues, secondValues, thirdValues));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Condition anyRowOf(final List<Field<?>> fields, final List<List<?>> values) {
+        if (values.stream().map(List::size).distinct().count() > 1) {
+            throw new IllegalArgumentException("Value lists must have the same size");
+        }
+
+        final String[] columns = new String[fields.size()];
+        final Field<?>[] arrays = new Field<?>[fields.size()];
+        final Field<?>[] selected = new Field<?>[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            final Field<Object> field = (Field<Object>) fields.get(i);
+            columns[i] = "c" + i;
+            arrays[i] = arrayParam(field, values.get(i));
+            selected[i] = DSL.field(DSL.name("tuples", columns[i]), field.getDataType());
+        }
+
+        final String placeholders = IntStream.range(0, arrays.length)
+            .mapToObj(i -> "{" + i + "}")
+            .collect(Collectors.joining(", "));
+        final Table<Record> tuples = DSL.table("unnest(" + placeholders + ")", (Object[]) arrays).as("tuples", columns);
+
+        return DSL.row(fields).in(DSL.select(selected).from(tuples));
+    }
+
+    private static <T> Field<T[]> arrayParam(final Field<T> field, final Collection<? extends T> values) {
+        return DSL.val(values.toArray(), field.getDataType().getArrayDataType());
+    }
+}
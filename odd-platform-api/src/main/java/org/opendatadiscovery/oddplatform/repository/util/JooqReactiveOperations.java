@@ -1,18 +1,37 @@
 package org.opendatadiscovery.oddplatform.repository.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.ListUtils;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertResultStep;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
 import org.jooq.RowCountQuery;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
+import org.jooq.TableRecord;
+import org.jooq.UpdateConditionStep;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.opendatadiscovery.oddplatform.config.properties.BatchingProperties;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -21,11 +40,18 @@ import reactor.core.publisher.Mono;
 @Component
 @RequiredArgsConstructor
 public class JooqReactiveOperations {
-    private static final int BATCH_SIZE = 1000;
+    private static final String BATCH_TIMER = "odd.repository.batch";
+    private static final String ENTITY_TAG = "entity";
+    private static final int COPY_CHUNK_SIZE = 64 * 1024;
+    private static final AtomicLong COPY_STAGING_IDS = new AtomicLong();
+    private static final String UNNEST_ALIAS = "unnested";
 
     private final DSLContext mappingDSLContext = DSL.using(SQLDialect.POSTGRES);
 
     private final DatabaseClient databaseClient;
+    private final BatchPlanner batchPlanner;
+    private final BatchingProperties batchingProperties;
+    private final MeterRegistry meterRegistry;
 
     public Mono<Integer> mono(final RowCountQuery query) {
         return databaseClient.inConnection(c -> {
@@ -50,37 +76,111 @@ public class JooqReactiveOperations {
 
     public <T> Mono<Void> executeInPartition(final List<T> entities,
                                              final Function<List<T>, Mono<Integer>> mapper) {
+        return executeInPartitionReturning(entities, ps -> mapper.apply(ps).flux()).then();
+    }
+
+    /**
+     * Executes the mapper for batches of the entities sized by {@link BatchPlanner}.
+     * Up to {@code repository.batching.concurrency} batches run at the same time,
+     * their results are emitted in the order of the entities.
+     */
+    public <T, R> Flux<R> executeInPartitionReturning(final List<T> entities,
+                                                      final Function<List<T>, Flux<R>> mapper) {
         if (entities.isEmpty()) {
-            return Mono.empty();
+            return Flux.empty();
         }
 
-        if (entities.size() <= BATCH_SIZE) {
-            return mapper.apply(entities).then();
+        final int batchSize = batchPlanner.batchSize(entities);
+        if (entities.size() <= batchSize) {
+            return timedBatch(entities, mapper);
         }
 
-        return ListUtils.partition(entities, BATCH_SIZE)
-            .stream()
-            .map(mapper)
-            .reduce((m1, m2) -> m1.zipWith(m2, Integer::sum))
-            .orElse(Mono.empty())
-            .then();
+        return Flux.fromIterable(ListUtils.partition(entities, batchSize))
+            .flatMapSequential(p -> timedBatch(p, mapper), batchingProperties.getConcurrency());
     }
 
-    public <T, R extends Record> Flux<R> executeInPartitionReturning(final List<T> entities,
-                                                                     final Function<List<T>, Flux<R>> mapper) {
-        if (entities.isEmpty()) {
+    /**
+     * Inserts records using COPY into a temporary staging table followed by a single INSERT ... SELECT.
+     * Unlike multi-row INSERT statements it neither renders nor parses huge SQL texts,
+     * which makes it much faster for large amounts of records.
+     *
+     * @param fields fields to be copied, all other fields of the inserted rows get their default values
+     */
+    public <R extends Record> Flux<R> copyInsertReturning(final Table<R> table,
+                                                          final List<Field<?>> fields,
+                                                          final List<R> records) {
+        if (records.isEmpty()) {
             return Flux.empty();
         }
 
-        if (entities.size() <= BATCH_SIZE) {
-            return mapper.apply(entities);
+        final String stagingTableName =
+            "copy_staging_%s_%d".formatted(table.getName(), COPY_STAGING_IDS.incrementAndGet());
+        final Table<Record> stagingTable = DSL.table(DSL.name(stagingTableName));
+        final List<Field<?>> stagingFields = fields.stream()
+            .<Field<?>>map(f -> DSL.field(DSL.name(stagingTableName, f.getName()), f.getDataType()))
+            .toList();
+
+        final String createStaging = mappingDSLContext.renderInlined(DSL
+            .createTemporaryTable(stagingTable)
+            .as(DSL.select(fields).from(table))
+            .withNoData());
+        final String copy = "COPY %s (%s) FROM STDIN".formatted(
+            mappingDSLContext.render(stagingTable),
+            fields.stream()
+                .map(f -> mappingDSLContext.render(DSL.name(f.getName())))
+                .collect(Collectors.joining(", ")));
+        final String dropStaging = mappingDSLContext.render(DSL.dropTableIfExists(stagingTable));
+
+        return databaseClient.inConnectionMany(c -> {
+            final PostgresqlConnection connection = unwrapPostgresqlConnection(c);
+
+            final Flux<R> insert = connection.copyIn(copy, encodeCopyRows(records, fields))
+                .thenMany(Flux.defer(() -> {
+                    final InsertResultStep<R> query = DSL.insertInto(table)
+                        .columns(fields)
+                        .select(DSL.select(stagingFields).from(stagingTable))
+                        .returning(table.fields());
+                    DSL.using(c).attach(query);
+                    return Flux.from(query);
+                }));
+
+            return Flux.usingWhen(
+                execute(connection, createStaging).thenReturn(stagingTableName),
+                ignored -> insert,
+                ignored -> execute(connection, dropStaging),
+                (ignored, e) -> execute(connection, dropStaging).onErrorResume(dropError -> Mono.empty()),
+                ignored -> execute(connection, dropStaging).onErrorResume(dropError -> Mono.empty())
+            );
+        }).onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
+    }
+
+    /**
+     * Updates records by their key joining the target table with {@code unnest} of one text array per field.
+     * The statement has the same shape and the same number of binds regardless of the amount of records.
+     */
+    public <R extends Record, K> Flux<R> updateManyReturning(final Table<R> table,
+                                                             final Field<K> keyField,
+                                                             final List<Field<?>> fields,
+                                                             final List<R> records) {
+        if (records.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return flux(unnestUpdate(table, keyField, fields, records).returning(table.fields()));
+    }
+
+    /**
+     * Same as {@link #updateManyReturning(Table, Field, List, List)} but returns only the number of updated rows.
+     */
+    public <R extends Record, K> Mono<Integer> updateMany(final Table<R> table,
+                                                          final Field<K> keyField,
+                                                          final List<Field<?>> fields,
+                                                          final List<R> records) {
+        if (records.isEmpty()) {
+            return Mono.just(0);
         }
 
-        return ListUtils.partition(entities, BATCH_SIZE)
-            .stream()
-            .map(mapper)
-            .reduce(Flux::concat)
-            .orElse(Flux.empty());
+        return mono(unnestUpdate(table, keyField, fields, records));
     }
 
     public <R extends Record> R newRecord(final Table<R> table,
@@ -93,4 +193,84 @@ public class JooqReactiveOperations {
         result.addAll(records);
         return result;
     }
+
+    private <R extends Record, K> UpdateConditionStep<R> unnestUpdate(final Table<R> table,
+                                                                      final Field<K> keyField,
+                                                                      final List<Field<?>> fields,
+                                                                      final List<R> records) {
+        final List<Field<?>> sourceFields = Stream.concat(Stream.of(keyField), fields.stream()).toList();
+        final Table<Record> source = DSL
+            .table("unnest({0})", DSL.list(sourceFields.stream().map(f -> textArray(f, records)).toList()))
+            .as(UNNEST_ALIAS, sourceFields.stream().map(Field::getName).toArray(String[]::new));
+
+        final Map<Field<?>, Field<?>> values = fields.stream().collect(Collectors.toMap(
+            Function.identity(),
+            f -> DSL.field(DSL.name(UNNEST_ALIAS, f.getName()), SQLDataType.CLOB).cast(f.getDataType()),
+            (f1, f2) -> f1,
+            LinkedHashMap::new
+        ));
+
+        return DSL.update(table)
+            .set(values)
+            .from(source)
+            .where(keyField.eq(DSL.field(DSL.name(UNNEST_ALIAS, keyField.getName()), SQLDataType.CLOB)
+                .cast(keyField.getDataType())));
+    }
+
+    private <T, R> Flux<R> timedBatch(final List<T> batch, final Function<List<T>, Flux<R>> mapper) {
+        return Flux.defer(() -> {
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            return mapper.apply(batch).doFinally(signal -> sample.stop(Timer.builder(BATCH_TIMER)
+                .tag(ENTITY_TAG, entityName(batch.get(0)))
+                .register(meterRegistry)));
+        });
+    }
+
+    private String entityName(final Object entity) {
+        return entity instanceof TableRecord<?> tableRecord
+            ? tableRecord.getTable().getName()
+            : entity.getClass().getSimpleName();
+    }
+
+    private Flux<ByteBuf> encodeCopyRows(final List<? extends Record> records, final List<Field<?>> fields) {
+        return Flux.generate(() -> 0, (index, sink) -> {
+            final StringBuilder chunk = new StringBuilder();
+            int i = index;
+            while (i < records.size() && chunk.length() < COPY_CHUNK_SIZE) {
+                PostgreSQLCopyEncoder.appendRow(chunk, records.get(i++), fields);
+            }
+
+            sink.next(Unpooled.wrappedBuffer(chunk.toString().getBytes(StandardCharsets.UTF_8)));
+            if (i == records.size()) {
+                sink.complete();
+            }
+            return i;
+        });
+    }
+
+    private Field<String[]> textArray(final Field<?> field, final List<? extends Record> records) {
+        final String[] values = records.stream()
+            .map(r -> PostgreSQLCopyEncoder.textValue(r, field))
+            .toArray(String[]::new);
+        return DSL.val(values, SQLDataType.CLOB.getArrayDataType());
+    }
+
+    private Mono<Void> execute(final PostgresqlConnection connection, final String sql) {
+        return Flux.from(connection.createStatement(sql).execute())
+            .flatMap(result -> result.getRowsUpdated())
+            .then();
+    }
+
+    private PostgresqlConnection unwrapPostgresqlConnection(final Connection connection) {
+        Object current = connection;
+        while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+            current = wrapped.unwrap();
+        }
+
+        if (current instanceof PostgresqlConnection postgresqlConnection) {
+            return postgresqlConnection;
+        }
+
+        throw new IllegalStateException("COPY requires a PostgreSQL connection, got " + connection.getClass());
+    }
 }
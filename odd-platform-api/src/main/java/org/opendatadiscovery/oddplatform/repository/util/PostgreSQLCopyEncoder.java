@@ -0,0 +1,106 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.lang.reflect.Array;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.JSONB;
+import org.jooq.Record;
+
+/**
+ * Encodes jOOQ records as rows of the PostgreSQL COPY text format
+ * and single record values as their PostgreSQL text representation.
+ */
+@UtilityClass
+public class PostgreSQLCopyEncoder {
+    private static final String NULL = "\\N";
+
+    public static void appendRow(final StringBuilder sb, final Record record, final List<Field<?>> fields) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                sb.append('\t');
+            }
+            appendValue(sb, record, fields.get(i));
+        }
+        sb.append('\n');
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static String textValue(final Record record, final Field field) {
+        final Object value = field.getConverter().to(record.get(field));
+        if (value == null) {
+            return null;
+        }
+
+        return value.getClass().isArray() && !(value instanceof byte[]) ? arrayLiteral(value) : literal(value);
+    }
+
+    private static void appendValue(final StringBuilder sb, final Record record, final Field<?> field) {
+        final String value = textValue(record, field);
+        if (value == null) {
+            sb.append(NULL);
+            return;
+        }
+
+        escape(sb, value);
+    }
+
+    private static String literal(final Object value) {
+        if (value instanceof Boolean b) {
+            return b ? "t" : "f";
+        }
+        if (value instanceof JSONB jsonb) {
+            return jsonb.data();
+        }
+        if (value instanceof JSON json) {
+            return json.data();
+        }
+        if (value instanceof EnumType enumType) {
+            return enumType.getLiteral();
+        }
+        if (value instanceof byte[] bytes) {
+            return "\\x" + HexFormat.of().formatHex(bytes);
+        }
+        return value.toString();
+    }
+
+    private static String arrayLiteral(final Object array) {
+        final StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < Array.getLength(array); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+
+            final Object element = Array.get(array, i);
+            if (element == null) {
+                sb.append("NULL");
+            } else {
+                sb.append('"');
+                literal(element).chars().forEach(c -> {
+                    if (c == '"' || c == '\\') {
+                        sb.append('\\');
+                    }
+                    sb.append((char) c);
+                });
+                sb.append('"');
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void escape(final StringBuilder sb, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
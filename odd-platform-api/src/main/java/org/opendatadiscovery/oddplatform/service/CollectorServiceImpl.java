@@ -6,6 +6,7 @@ import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.api.contract.model.Collector;
 import org.opendatadiscovery.oddplatform.api.contract.model.CollectorFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.CollectorList;
+import org.opendatadiscovery.oddplatform.auth.IngestionTokenResolver;
 import org.opendatadiscovery.oddplatform.dto.CollectorDto;
 import org.opendatadiscovery.oddplatform.dto.TokenDto;
 import org.opendatadiscovery.oddplatform.exception.CascadeDeleteException;
@@ -28,6 +29,7 @@ public class CollectorServiceImpl implements CollectorService {
     private final NamespaceService namespaceService;
     private final ReactiveTokenRepository tokenRepository;
     private final ReactiveDataSourceRepository dataSourceRepository;
+    private final IngestionTokenResolver tokenResolver;
 
     @Override
     public Mono<CollectorList> list(final int page, final int size, final String nameQuery) {
@@ -76,6 +78,7 @@ public class CollectorServiceImpl implements CollectorService {
             .switchIfEmpty(Mono.error(new CascadeDeleteException("Collector has associated data sources")))
             .then(collectorRepository.delete(id))
             .switchIfEmpty(Mono.error(new NotFoundException("Collector", id)))
+            .doOnNext(collector -> tokenResolver.evictCollector(collector.getId()))
             .map(CollectorPojo::getId);
     }
 
@@ -86,6 +89,7 @@ public class CollectorServiceImpl implements CollectorService {
             .flatMap(dto -> tokenGenerator
                 .regenerateToken(dto.tokenDto().tokenPojo())
                 .flatMap(tokenRepository::updateToken)
+                .doOnNext(t -> tokenResolver.evictToken(dto.tokenDto().tokenPojo().getValue()))
                 .map(t -> collectorMapper.mapDto(new CollectorDto(dto.collectorPojo(), dto.namespace(), t))));
     }
 
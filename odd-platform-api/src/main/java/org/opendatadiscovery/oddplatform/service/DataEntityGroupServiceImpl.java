@@ -17,6 +17,7 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityGroupItemDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityCreateEvent;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
 import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.CompactDataEntity;
@@ -27,10 +28,10 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityLog;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityParameter;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityService;
+import org.opendatadiscovery.oddplatform.service.search.SearchIndexService;
 import org.opendatadiscovery.oddplatform.utils.ActivityParameterNames.CustomGroupUpdated;
 import org.opendatadiscovery.oddrn.Generator;
 import org.opendatadiscovery.oddrn.model.ODDPlatformDataEntityGroupPath;
@@ -54,7 +55,7 @@ public class DataEntityGroupServiceImpl implements DataEntityGroupService {
 
     private final ReactiveDataEntityRepository reactiveDataEntityRepository;
     private final ReactiveGroupEntityRelationRepository reactiveGroupEntityRelationRepository;
-    private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
+    private final SearchIndexService searchIndexService;
 
     private final DataEntityMapper dataEntityMapper;
 
@@ -200,10 +201,9 @@ public class DataEntityGroupServiceImpl implements DataEntityGroupService {
     }
 
     private Mono<DataEntityPojo> updateSearchVectors(final DataEntityPojo pojo) {
-        return Mono.zip(
-            reactiveSearchEntrypointRepository.updateDataEntityVectors(pojo.getId()),
-            reactiveSearchEntrypointRepository.updateNamespaceVectorForDataEntity(pojo.getId())
-        ).thenReturn(pojo);
+        return searchIndexService
+            .updateVectors(pojo.getId(), SearchVectorKind.DATA_ENTITY, SearchVectorKind.DATA_SOURCE)
+            .thenReturn(pojo);
     }
 
     private Mono<Void> logDEGCreatedActivityEvent(final DataEntityRef ref) {
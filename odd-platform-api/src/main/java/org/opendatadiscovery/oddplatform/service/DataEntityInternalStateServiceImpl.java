@@ -14,6 +14,7 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityContextInfo;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityCreateEvent;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityFilledPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
@@ -21,10 +22,10 @@ import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityR
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupParentGroupRelationRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityLog;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityParameter;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityService;
+import org.opendatadiscovery.oddplatform.service.search.SearchIndexService;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -44,7 +45,7 @@ public class DataEntityInternalStateServiceImpl implements DataEntityInternalSta
     private final ActivityService activityService;
 
     private final ReactiveDataEntityRepository dataEntityRepository;
-    private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
+    private final SearchIndexService searchIndexService;
     private final ReactiveLineageRepository lineageRepository;
     private final ReactiveGroupEntityRelationRepository groupEntityRelationRepository;
     private final ReactiveGroupParentGroupRelationRepository groupParentGroupRelationRepository;
@@ -57,7 +58,7 @@ public class DataEntityInternalStateServiceImpl implements DataEntityInternalSta
     public Mono<DataEntityPojo> updateDescription(@ActivityParameter(DATA_ENTITY_ID) final long dataEntityId,
                                                   final InternalDescriptionFormData formData) {
         return dataEntityRepository.setInternalDescription(dataEntityId, formData.getInternalDescription())
-            .flatMap(pojo -> reactiveSearchEntrypointRepository.updateDataEntityVectors(dataEntityId)
+            .flatMap(pojo -> searchIndexService.updateVectors(dataEntityId, SearchVectorKind.DATA_ENTITY)
                 .thenReturn(pojo))
             .flatMap(pojo -> {
                 if (StringUtils.isNotEmpty(pojo.getInternalDescription())) {
@@ -38,13 +38,29 @@ public interface DataEntityService {
     Mono<List<DataEntityDimensionsDto>> getDimensions(final Collection<String> oddrns);
 
     default Mono<DataEntityList> findByState(final FacetStateDto state, final int page, final int size) {
-        return findByState(state, page, size, null);
+        return findByState(state, page, size, null, false);
     }
 
+    /**
+     * Returns the page of the search results.
+     *
+     * @param exactCount whether the total has to be exact regardless of the configured count mode
+     */
     Mono<DataEntityList> findByState(final FacetStateDto state,
                                      final int page,
                                      final int size,
-                                     final OwnerPojo owner);
+                                     final OwnerPojo owner,
+                                     final boolean exactCount);
+
+    /**
+     * Returns the page of the search results following the cursor, an empty cursor requests the first page.
+     * The page info contains the cursor of the next page.
+     */
+    Mono<DataEntityList> findByStateAfter(final FacetStateDto state,
+                                          final String cursor,
+                                          final int size,
+                                          final OwnerPojo owner,
+                                          final boolean exactCount);
 
     Mono<DataSourceEntityList> getDataEntitiesByDatasourceAndType(final long datasourceId,
                                                                   final Integer typeId,
@@ -62,6 +78,9 @@ public interface DataEntityService {
     Mono<DataEntityList> listByTerm(final long termId, final String query, final Integer entityClassId,
                                     final int page, final int size);
 
+    Mono<DataEntityList> listByTermAfter(final long termId, final String query, final Integer entityClassId,
+                                         final String cursor, final int size);
+
     Mono<MetadataFieldValueList> createMetadata(final long dataEntityId, final List<MetadataObject> metadata);
 
     Mono<Void> deleteMetadata(final long dataEntityId, final long metadataFieldId);
@@ -38,7 +38,10 @@ import org.opendatadiscovery.oddplatform.api.contract.model.MetadataObject;
 import org.opendatadiscovery.oddplatform.api.contract.model.Tag;
 import org.opendatadiscovery.oddplatform.api.contract.model.TagsFormData;
 import org.opendatadiscovery.oddplatform.auth.AuthIdentityProvider;
+import org.opendatadiscovery.oddplatform.config.properties.SearchCountProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchCountProperties.CountMode;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityCursor;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
@@ -51,6 +54,7 @@ import org.opendatadiscovery.oddplatform.dto.attributes.DataInputAttributes;
 import org.opendatadiscovery.oddplatform.dto.attributes.DataQualityTestAttributes;
 import org.opendatadiscovery.oddplatform.dto.attributes.DataSetAttributes;
 import org.opendatadiscovery.oddplatform.dto.attributes.DataTransformerAttributes;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
 import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
 import org.opendatadiscovery.oddplatform.dto.metadata.MetadataKey;
@@ -76,14 +80,15 @@ import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntity
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldValueRepository;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityLog;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityParameter;
+import org.opendatadiscovery.oddplatform.service.search.SearchIndexService;
 import org.opendatadiscovery.oddplatform.service.term.TermService;
 import org.opendatadiscovery.oddplatform.utils.ActivityParameterNames.InternalNameUpdated;
 import org.opendatadiscovery.oddplatform.utils.ActivityParameterNames.TagsAssociationUpdated;
 import org.opendatadiscovery.oddplatform.utils.Page;
+import org.opendatadiscovery.oddplatform.utils.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
@@ -122,7 +127,7 @@ public class DataEntityServiceImpl implements DataEntityService {
     private final ReactiveLineageRepository reactiveLineageRepository;
     private final ReactiveDataEntityTaskRunRepository reactiveDataEntityTaskRunRepository;
     private final ReactiveDatasetVersionRepository reactiveDatasetVersionRepository;
-    private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
+    private final SearchIndexService searchIndexService;
     private final ReactiveGroupEntityRelationRepository reactiveGroupEntityRelationRepository;
     private final ReactiveTagRepository tagRepository;
 
@@ -132,6 +137,8 @@ public class DataEntityServiceImpl implements DataEntityService {
     private final TagMapper tagMapper;
     private final TermMapper termMapper;
 
+    private final SearchCountProperties searchCountProperties;
+
     @Override
     public Mono<DataEntityClassAndTypeDictionary> getDataEntityClassesAndTypes() {
         return Mono.just(dataEntityMapper.getTypeDict());
@@ -175,15 +182,35 @@ public class DataEntityServiceImpl implements DataEntityService {
     public Mono<DataEntityList> findByState(final FacetStateDto state,
                                             final int page,
                                             final int size,
-                                            final OwnerPojo owner) {
+                                            final OwnerPojo owner,
+                                            final boolean exactCount) {
         final Mono<List<DataEntityDimensionsDto>> enrichedDimensions = reactiveDataEntityRepository
             .findByState(state, page, size, owner)
             .flatMap(this::enrichEntityClassDetails)
             .flatMap(this::enrichParentGroups);
-        final Mono<Long> count = reactiveDataEntityRepository.countByState(state, owner);
+        final Mono<Pair<Long, Boolean>> count = countByState(state, owner, exactCount);
         return Mono.zip(enrichedDimensions, count)
-            .map(function((dtos, total) -> new Page<>(dtos, total, true)))
-            .map(dataEntityMapper::mapPojos);
+            .map(function((dtos, total) -> withTotal(
+                dataEntityMapper.mapPojos(new Page<>(dtos, total.getLeft(), true)), total.getRight())));
+    }
+
+    @Override
+    public Mono<DataEntityList> findByStateAfter(final FacetStateDto state,
+                                                 final String cursor,
+                                                 final int size,
+                                                 final OwnerPojo owner,
+                                                 final boolean exactCount) {
+        final Mono<Pair<List<DataEntityDimensionsDto>, DataEntityCursor>> enrichedPage = Mono
+            .defer(() -> reactiveDataEntityRepository
+                .findByStateAfter(state, decodeCursor(cursor, state.getQuery()), size, owner))
+            .flatMap(page -> enrichEntityClassDetails(page.getLeft())
+                .flatMap(this::enrichParentGroups)
+                .map(dtos -> Pair.of(dtos, page.getRight())));
+        final Mono<Pair<Long, Boolean>> count = countByState(state, owner, exactCount);
+        return Mono.zip(enrichedPage, count)
+            .map(function((page, total) -> withNextCursor(withTotal(
+                dataEntityMapper.mapPojos(new Page<>(page.getLeft(), total.getLeft(), page.getRight() != null)),
+                total.getRight()), page.getRight())));
     }
 
     @Override
@@ -235,6 +262,19 @@ public class DataEntityServiceImpl implements DataEntityService {
             .map(dataEntityMapper::mapPojos);
     }
 
+    @Override
+    public Mono<DataEntityList> listByTermAfter(final long termId,
+                                                final String query,
+                                                final Integer entityClassId,
+                                                final String cursor,
+                                                final int size) {
+        return Mono
+            .defer(() -> reactiveDataEntityRepository
+                .listByTermAfter(termId, query, entityClassId, decodeCursor(cursor, query), size))
+            .flatMap(page -> enrichEntityClassDetails(page.getLeft())
+                .map(dtos -> withNextCursor(dataEntityMapper.mapPojos(dtos), page.getRight())));
+    }
+
     @Override
     @ReactiveTransactional
     public Mono<MetadataFieldValueList> createMetadata(final long dataEntityId,
@@ -270,7 +310,7 @@ public class DataEntityServiceImpl implements DataEntityService {
                 .filter(createdValues -> createdValues.size() == metadataFieldValuePojos.size())
                 .switchIfEmpty(Mono.error(new BadUserRequestException("Metadata with this name already exists")))
             ))
-            .flatMap(fields -> reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId)
+            .flatMap(fields -> searchIndexService.updateVectors(dataEntityId, SearchVectorKind.METADATA)
                 .thenReturn(fields))
             .flatMap(fields -> dataEntityFilledService.markEntityFilled(dataEntityId, INTERNAL_METADATA)
                 .thenReturn(fields))
@@ -290,8 +330,8 @@ public class DataEntityServiceImpl implements DataEntityService {
         return metadataFieldService.get(metadataFieldId)
             .flatMap(fieldPojo -> reactiveMetadataFieldValueRepository.update(metadataFieldValuePojo)
                 .map(valuePojo -> Tuples.of(fieldPojo, valuePojo)))
-            .flatMap(function((fieldPojo, valuePojo) -> reactiveSearchEntrypointRepository
-                .updateMetadataVectors(dataEntityId)
+            .flatMap(function((fieldPojo, valuePojo) -> searchIndexService
+                .updateVectors(dataEntityId, SearchVectorKind.METADATA)
                 .thenReturn(Tuples.of(fieldPojo, valuePojo))))
             .map(function(
                 (fieldPojo, valuePojo) -> metadataFieldValueMapper.mapDto(new MetadataDto(fieldPojo, valuePojo))));
@@ -301,7 +341,7 @@ public class DataEntityServiceImpl implements DataEntityService {
     @ReactiveTransactional
     public Mono<Void> deleteMetadata(final long dataEntityId, final long metadataFieldId) {
         return reactiveMetadataFieldValueRepository.delete(dataEntityId, metadataFieldId)
-            .then(reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId))
+            .then(searchIndexService.updateVectors(dataEntityId, SearchVectorKind.METADATA))
             .thenMany(reactiveMetadataFieldValueRepository.listByDataEntityIds(List.of(dataEntityId), INTERNAL))
             .collectList()
             .flatMap(metadata -> {
@@ -333,7 +373,7 @@ public class DataEntityServiceImpl implements DataEntityService {
         final InternalNameFormData formData) {
         return reactiveDataEntityRepository.setInternalName(dataEntityId, formData.getInternalName())
             .map(pojo -> new InternalName(pojo.getInternalName()))
-            .flatMap(in -> reactiveSearchEntrypointRepository.updateDataEntityVectors(dataEntityId)
+            .flatMap(in -> searchIndexService.updateVectors(dataEntityId, SearchVectorKind.DATA_ENTITY)
                 .thenReturn(in))
             .flatMap(in -> {
                 if (StringUtils.isNotEmpty(in.getInternalName())) {
@@ -353,7 +393,7 @@ public class DataEntityServiceImpl implements DataEntityService {
                                 final TagsFormData formData) {
         final Set<String> names = new HashSet<>(formData.getTagNameList());
         return tagService.updateRelationsWithDataEntity(dataEntityId, names)
-            .flatMap(tags -> reactiveSearchEntrypointRepository.updateTagVectorsForDataEntity(dataEntityId)
+            .flatMap(tags -> searchIndexService.updateVectors(dataEntityId, SearchVectorKind.TAG)
                 .thenReturn(tags))
             .flatMap(tags -> {
                 final List<TagDto> internalTags = tags.stream()
@@ -503,6 +543,54 @@ public class DataEntityServiceImpl implements DataEntityService {
             .collect(Collectors.toSet());
     }
 
+    // a rank is a part of the cursor only if the data entities are ranked by a search query
+    private DataEntityCursor decodeCursor(final String cursor, final String query) {
+        final DataEntityCursor after = DataEntityCursor.decode(cursor);
+        if (after != null && StringUtils.isNotEmpty(query) != (after.rank() != null)) {
+            throw new BadUserRequestException("Cursor %s doesn't match the search query", cursor);
+        }
+        return after;
+    }
+
+    /**
+     * Counts the search results according to the configured count mode.
+     *
+     * @return the total and whether it's approximate
+     */
+    private Mono<Pair<Long, Boolean>> countByState(final FacetStateDto state,
+                                                   final OwnerPojo owner,
+                                                   final boolean exactCount) {
+        final CountMode mode = exactCount ? CountMode.EXACT : searchCountProperties.getMode();
+        if (mode == CountMode.EXACT) {
+            return reactiveDataEntityRepository.countByState(state, owner).map(total -> Pair.of(total, false));
+        }
+
+        final long cap = searchCountProperties.getCap();
+        final Mono<Pair<Long, Boolean>> capped = reactiveDataEntityRepository.countByState(state, owner, cap + 1)
+            .map(total -> total > cap ? Pair.of(cap, true) : Pair.of(total, false));
+        if (mode == CountMode.CAPPED) {
+            return capped;
+        }
+
+        // the small totals are counted, since the estimates are the least accurate for them
+        return reactiveDataEntityRepository.estimateCountByState(state, owner)
+            .flatMap(estimate -> estimate > cap ? Mono.just(Pair.of(estimate, true)) : capped);
+    }
+
+    private DataEntityList withTotal(final DataEntityList list, final boolean approximate) {
+        if (approximate) {
+            list.getPageInfo().totalApproximate(true);
+        }
+        return list;
+    }
+
+    private DataEntityList withNextCursor(final DataEntityList list, final DataEntityCursor next) {
+        list.getPageInfo()
+            .hasNext(next != null)
+            .nextCursor(next != null ? next.encode() : null);
+        return list;
+    }
+
     private Mono<List<DataEntityDimensionsDto>> enrichEntityClassDetails(
         final List<DataEntityDimensionsDto> dtos) {
         final Set<String> dependentOddrns = getSpecificAttributesDependentOddrns(dtos);
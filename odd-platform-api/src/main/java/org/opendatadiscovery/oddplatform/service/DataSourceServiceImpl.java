@@ -8,6 +8,7 @@ import org.opendatadiscovery.oddplatform.api.contract.model.DataSource;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSourceFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSourceList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSourceUpdateFormData;
+import org.opendatadiscovery.oddplatform.auth.IngestionTokenResolver;
 import org.opendatadiscovery.oddplatform.dto.DataSourceDto;
 import org.opendatadiscovery.oddplatform.dto.TokenDto;
 import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
@@ -34,6 +35,7 @@ public class DataSourceServiceImpl implements DataSourceService {
     private final ReactiveTokenRepository tokenRepository;
     private final NamespaceService namespaceService;
     private final ReactiveSearchEntrypointRepository searchEntrypointRepository;
+    private final IngestionTokenResolver tokenResolver;
 
     @Override
     public Mono<DataSourceList> list(final Integer page, final Integer size, final String nameQuery) {
@@ -88,7 +90,9 @@ public class DataSourceServiceImpl implements DataSourceService {
         return dataEntityRepository.existsNonDeletedByDataSourceId(id)
             .flatMap(exists -> {
                 if (!exists) {
-                    return dataSourceRepository.delete(id).map(DataSourcePojo::getId);
+                    return dataSourceRepository.delete(id)
+                        .doOnNext(dataSource -> tokenResolver.evictDataSource(dataSource.getOddrn()))
+                        .map(DataSourcePojo::getId);
                 }
                 return Mono.error(new CascadeDeleteException(
                     "Data source cannot be deleted: there are still data entities attached"));
@@ -101,6 +105,7 @@ public class DataSourceServiceImpl implements DataSourceService {
             .switchIfEmpty(Mono.error(new NotFoundException("Data source", id)))
             .flatMap(dto -> tokenGenerator.regenerateToken(dto.token().tokenPojo())
                 .flatMap(tokenRepository::updateToken)
+                .doOnNext(t -> tokenResolver.evictDataSource(dto.dataSource().getOddrn()))
                 .map(t -> new DataSourceDto(dto.dataSource(), dto.namespace(), t)))
             .map(dataSourceMapper::mapDto);
     }
@@ -3,6 +3,7 @@ package org.opendatadiscovery.oddplatform.service;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,8 +12,6 @@ import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.MultiValuedMap;
-import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.JSONB;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
@@ -24,6 +23,7 @@ import org.opendatadiscovery.oddplatform.api.contract.model.InternalName;
 import org.opendatadiscovery.oddplatform.api.contract.model.InternalNameFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.LinkedTerm;
 import org.opendatadiscovery.oddplatform.api.contract.model.Tag;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
 import org.opendatadiscovery.oddplatform.dto.DataEntityFilledField;
 import org.opendatadiscovery.oddplatform.dto.EnumValueOrigin;
 import org.opendatadiscovery.oddplatform.dto.TagOrigin;
@@ -42,6 +42,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.EnumValuePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToDatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveEnumValueRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
@@ -57,9 +58,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.opendatadiscovery.oddplatform.dto.DataEntityFilledField.DATASET_FIELD_TAGS;
+import static reactor.function.TupleUtils.function;
 
 @Service
 @RequiredArgsConstructor
@@ -70,8 +71,10 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
     private final TermService termService;
     private final DatasetFieldInternalInformationService datasetFieldInternalInformationService;
     private final DatasetVersionHashCalculator datasetVersionHashCalculator;
+    private final IngestionProperties ingestionProperties;
 
     private final ReactiveDatasetFieldRepository reactiveDatasetFieldRepository;
+    private final ReactiveDataEntityRepository reactiveDataEntityRepository;
     private final ReactiveTagRepository reactiveTagRepository;
     private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
     private final ReactiveEnumValueRepository enumValueRepository;
@@ -158,26 +161,22 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
     @Override
     @ReactiveTransactional
     public Mono<Void> updateStatistics(final DatasetStatisticsList datasetStatisticsList) {
-        final Map<String, DataSetFieldStat> statistics = datasetStatisticsList.getItems().stream()
-            .map(DataSetStatistics::getFields)
-            .reduce(new HashMap<>(), (acc, fields) -> {
-                acc.putAll(fields);
-                return acc;
-            });
-
         final Set<String> datasetOddrns = datasetStatisticsList.getItems().stream()
             .map(DataSetStatistics::getDatasetOddrn)
             .collect(toSet());
 
-        return reactiveDatasetFieldRepository
-            .getLastVersionDatasetFieldsByOddrns(new ArrayList<>(statistics.keySet()))
-            .collectList()
-            .flatMap(existingFields -> Mono.zipDelayError(
-                updateFieldsStatistics(statistics, existingFields),
-                updateFieldsTags(statistics, existingFields)
-            ))
-            .then(reactiveSearchEntrypointRepository.updateStructureVectorForDataEntitiesByOddrns(datasetOddrns))
-            .then();
+        return Flux.fromIterable(datasetStatisticsList.getItems())
+            .flatMapIterable(statistics -> statistics.getFields().entrySet().stream()
+                .map(e -> new FieldStatistics(statistics.getDatasetOddrn(), e.getKey(), e.getValue()))
+                .toList())
+            .buffer(ingestionProperties.getStatistics().getBatchSize())
+            .concatMap(this::updateStatisticsChunk)
+            .collect(toSet())
+            .flatMap(changedDatasetOddrns -> changedDatasetOddrns.isEmpty()
+                ? Mono.just(0)
+                : reactiveSearchEntrypointRepository.updateStructureVectorForDataEntitiesByOddrns(changedDatasetOddrns))
+            // statistics are reset by the next ingestion of the dataset, so it must not be skipped as unchanged
+            .then(reactiveDataEntityRepository.resetIngestionFingerprint(datasetOddrns));
     }
 
     @Override
@@ -188,66 +187,70 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
             .map(datasetFieldListMapper::mapPojos);
     }
 
-    private Mono<Void> updateFieldsTags(final Map<String, DataSetFieldStat> statisticsDict,
-                                        final List<DatasetFieldPojo> existingFields) {
-        final Set<String> tagNames = statisticsDict.values().stream()
-            .flatMap(stat -> stat.getTags() != null ? stat.getTags().stream() : Stream.empty())
-            .map(org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag::getName)
-            .collect(toSet());
+    /**
+     * Writes statistics of a chunk of fields and returns oddrns of datasets whose statistics tags have changed.
+     */
+    private Flux<String> updateStatisticsChunk(final List<FieldStatistics> chunk) {
+        final Map<String, FieldStatistics> statistics = new LinkedHashMap<>();
+        chunk.forEach(s -> statistics.put(s.fieldOddrn(), s));
 
-        final Map<String, DatasetFieldPojo> datasetFieldDict = existingFields.stream()
-            .collect(toMap(DatasetFieldPojo::getOddrn, identity()));
-
-        return tagService
-            .getOrCreateTagsByName(tagNames)
-            .collectMap(TagPojo::getName, identity())
-            .flatMap(tags -> {
-                final Set<TagToDatasetFieldPojo> relationsToCreate = transposeDatasetStatisticsDict(statisticsDict)
-                    .entries().stream()
-                    .map(e -> createExternalStatisticsRelation(
-                        tags.get(e.getKey()).getId(),
-                        datasetFieldDict.get(e.getValue()).getId()
-                    ))
-                    .collect(toSet());
+        return reactiveDatasetFieldRepository
+            .getLastVersionDatasetFieldIdsByOddrns(new ArrayList<>(statistics.keySet()))
+            .flatMapMany(fieldIds -> {
+                if (fieldIds.isEmpty()) {
+                    return Flux.empty();
+                }
 
-                final List<Long> datasetFieldIds = datasetFieldDict.values().stream()
-                    .map(DatasetFieldPojo::getId)
-                    .toList();
+                final Map<Long, JSONB> serializedStatistics = new HashMap<>();
+                fieldIds.forEach((oddrn, id) -> serializedStatistics.put(id,
+                    JSONB.jsonb(JSONSerDeUtils.serializeJson(statistics.get(oddrn).stat()))));
 
-                return reactiveTagRepository
-                    .listTagsRelations(datasetFieldIds, TagOrigin.EXTERNAL_STATISTICS)
-                    .collectList()
-                    .flatMap(existingRelations -> {
-                        final List<TagToDatasetFieldPojo> relationsToDelete = existingRelations.stream()
-                            .filter(r -> !relationsToCreate.contains(r))
-                            .toList();
-
-                        return reactiveTagRepository
-                            .deleteDatasetFieldRelations(relationsToDelete)
-                            .then(reactiveTagRepository.createDatasetFieldRelations(relationsToCreate).collectList());
-                    });
-            })
-            .then();
+                return reactiveDatasetFieldRepository.updateStatistics(serializedStatistics)
+                    .thenMany(updateStatisticsTags(statistics, fieldIds));
+            });
     }
 
-    private Mono<Void> updateFieldsStatistics(final Map<String, DataSetFieldStat> statisticsDict,
-                                              final List<DatasetFieldPojo> existingFields) {
-        final List<DatasetFieldPojo> fieldsToUpdate = new ArrayList<>();
-
-        for (final DatasetFieldPojo field : existingFields) {
-            final DataSetFieldStat stat = statisticsDict.get(field.getOddrn());
-            if (stat == null) {
-                log.error("Unexpected behaviour while building an update object for datasetField {}",
-                    field.getOddrn());
+    private Flux<String> updateStatisticsTags(final Map<String, FieldStatistics> statistics,
+                                              final Map<String, Long> fieldIds) {
+        final Set<String> tagNames = statistics.values().stream()
+            .flatMap(s -> s.stat().getTags() != null ? s.stat().getTags().stream() : Stream.empty())
+            .map(org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag::getName)
+            .collect(toSet());
 
-                continue;
-            }
+        final Map<Long, String> fieldDatasets = new HashMap<>();
+        fieldIds.forEach((oddrn, id) -> fieldDatasets.put(id, statistics.get(oddrn).datasetOddrn()));
+
+        return tagService.getOrCreateTagsByName(tagNames)
+            .collectMap(TagPojo::getName, TagPojo::getId)
+            .zipWith(reactiveTagRepository
+                .listTagsRelations(fieldIds.values(), TagOrigin.EXTERNAL_STATISTICS)
+                .collect(toSet()))
+            .flatMapMany(function((tagIds, existingRelations) -> {
+                final Set<TagToDatasetFieldPojo> relations = new HashSet<>();
+                fieldIds.forEach((oddrn, id) -> {
+                    final List<org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag> tags =
+                        statistics.get(oddrn).stat().getTags();
+                    if (tags != null) {
+                        tags.forEach(t -> relations.add(createExternalStatisticsRelation(tagIds.get(t.getName()), id)));
+                    }
+                });
+
+                final List<TagToDatasetFieldPojo> relationsToDelete = existingRelations.stream()
+                    .filter(r -> !relations.contains(r))
+                    .toList();
+                final List<TagToDatasetFieldPojo> relationsToCreate = relations.stream()
+                    .filter(r -> !existingRelations.contains(r))
+                    .toList();
 
-            field.setStats(JSONB.jsonb(JSONSerDeUtils.serializeJson(stat)));
-            fieldsToUpdate.add(field);
-        }
+                final Set<String> changedDatasetOddrns = Stream.concat(relationsToDelete.stream(),
+                        relationsToCreate.stream())
+                    .map(r -> fieldDatasets.get(r.getDatasetFieldId()))
+                    .collect(toSet());
 
-        return reactiveDatasetFieldRepository.bulkUpdate(fieldsToUpdate).then();
+                return reactiveTagRepository.deleteDatasetFieldRelations(relationsToDelete)
+                    .thenMany(reactiveTagRepository.createDatasetFieldRelations(relationsToCreate))
+                    .thenMany(Flux.fromIterable(changedDatasetOddrns));
+            }));
     }
 
     private Mono<DataEntityFilledPojo> markDataEntityByTags(final List<String> internalTags,
@@ -277,22 +280,6 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
             .setOrigin(TagOrigin.EXTERNAL_STATISTICS.toString());
     }
 
-    private MultiValuedMap<String, String> transposeDatasetStatisticsDict(
-        final Map<String, DataSetFieldStat> statisticsDict
-    ) {
-        final MultiValuedMap<String, String> result = new HashSetValuedHashMap<>();
-
-        statisticsDict.forEach((datasetOddrn, stat) -> {
-            if (stat.getTags() != null) {
-                for (final org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag tag : stat.getTags()) {
-                    result.put(tag.getName(), datasetOddrn);
-                }
-            }
-        });
-
-        return result;
-    }
-
     private List<DatasetFieldPojo> extractPojosToCreate(final DatasetFieldIngestionDto fieldIngestionDto) {
         return fieldIngestionDto.fieldsToCreate().values().stream()
             .map(pair -> getDatasetFieldUpdatedCopy(pair, false))
@@ -401,4 +388,7 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
 
     record DatasetFieldPair(DatasetFieldPojo lastExistingVersion, DatasetFieldPojo versionToIngest) {
     }
+
+    record FieldStatistics(String datasetOddrn, String fieldOddrn, DataSetFieldStat stat) {
+    }
 }
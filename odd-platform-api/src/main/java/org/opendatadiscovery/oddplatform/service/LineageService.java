@@ -3,9 +3,9 @@ package org.opendatadiscovery.oddplatform.service;
 import java.util.List;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityGroupLineageList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityLineage;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageDeltaDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LineageService {
@@ -15,5 +15,5 @@ public interface LineageService {
 
     Mono<DataEntityGroupLineageList> getDataEntityGroupLineage(final Long dataEntityGroupId);
 
-    Flux<LineagePojo> replaceLineagePaths(final List<LineagePojo> pojos);
+    Mono<LineageDeltaDto> replaceLineagePaths(final List<LineagePojo> pojos);
 }
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +25,7 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.DataEntityGroupLineageDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.DataEntityLineageDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.DataEntityLineageStreamDto;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageDeltaDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageDepth;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageNodeDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
@@ -123,13 +125,30 @@ public class LineageServiceImpl implements LineageService {
 
     @Override
     @ReactiveTransactional
-    public Flux<LineagePojo> replaceLineagePaths(final List<LineagePojo> pojos) {
+    public Mono<LineageDeltaDto> replaceLineagePaths(final List<LineagePojo> pojos) {
+        final Map<LineageEdge, LineagePojo> ingested = new LinkedHashMap<>();
+        pojos.forEach(p -> ingested.putIfAbsent(LineageEdge.of(p), p));
+
         final Set<String> establishers = pojos.stream()
             .map(LineagePojo::getEstablisherOddrn)
             .collect(Collectors.toSet());
 
-        return lineageRepository.batchDeleteByEstablisherOddrn(establishers)
-            .thenMany(lineageRepository.batchInsertLineages(pojos));
+        return lineageRepository.getLineageByEstablisherOddrns(establishers)
+            .collectMap(LineageEdge::of, identity())
+            .flatMap(existing -> {
+                final List<LineagePojo> toDelete = existing.entrySet().stream()
+                    .filter(e -> !ingested.containsKey(e.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toList();
+                final List<LineagePojo> toInsert = ingested.entrySet().stream()
+                    .filter(e -> !existing.containsKey(e.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toList();
+
+                return lineageRepository.batchDeleteLineages(toDelete).collectList()
+                    .flatMap(removed -> lineageRepository.batchInsertLineages(toInsert).collectList()
+                        .map(added -> new LineageDeltaDto(added, removed)));
+            });
     }
 
     private DataEntityLineageStreamDto getLineageStream(
@@ -310,4 +329,10 @@ public class LineageServiceImpl implements LineageService {
         return Arrays.stream(pojo.getEntityClassIds())
             .anyMatch(classId -> DataEntityClassDto.DATA_ENTITY_GROUP.getId() == classId);
     }
+
+    private record LineageEdge(String parentOddrn, String childOddrn, String establisherOddrn) {
+        private static LineageEdge of(final LineagePojo pojo) {
+            return new LineageEdge(pojo.getParentOddrn(), pojo.getChildOddrn(), pojo.getEstablisherOddrn());
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DataEntityFingerprintCalculator {
+    private static final String ALGORITHM = "SHA-256";
+
+    // Must be incremented whenever the way ingested entities are processed changes,
+    // so that entities ingested by previous versions of the platform are processed again
+    private static final int FINGERPRINT_VERSION = 1;
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .addModule(new JavaTimeModule())
+        .build();
+
+    public String calculateFingerprint(final DataEntity dataEntity, final long dataSourceId) {
+        return digest("%d:%d:".formatted(FINGERPRINT_VERSION, dataSourceId), dataEntity);
+    }
+
+    // Fingerprints of the parts of the payload each group of search vectors is built from.
+    // Vectors of an entity have to be recalculated only if the corresponding fingerprint has changed
+    public Map<String, String> calculateSearchVectorFingerprints(final DataEntity dataEntity,
+                                                                 final long dataSourceId) {
+        final Map<String, Object> dataEntityInput = new HashMap<>();
+        dataEntityInput.put("name", dataEntity.getName());
+        dataEntityInput.put("description", dataEntity.getDescription());
+        dataEntityInput.put("type", dataEntity.getType());
+
+        final Map<SearchVectorKind, Object> inputs = new EnumMap<>(SearchVectorKind.class);
+        inputs.put(SearchVectorKind.DATA_ENTITY, dataEntityInput);
+        inputs.put(SearchVectorKind.DATA_SOURCE, dataSourceId);
+        inputs.put(SearchVectorKind.METADATA, dataEntity.getMetadata());
+        inputs.put(SearchVectorKind.STRUCTURE, dataEntity.getDataset() != null
+            ? dataEntity.getDataset().getFieldList()
+            : null);
+        inputs.put(SearchVectorKind.TAG, dataEntity.getTags());
+
+        final Map<String, String> fingerprints = new HashMap<>();
+        inputs.forEach((kind, input) -> fingerprints.put(kind.name(), digest(FINGERPRINT_VERSION + ":", input)));
+        return fingerprints;
+    }
+
+    private String digest(final String prefix, final Object value) {
+        final MessageDigest md = createSHA256MessageDigest();
+        md.update(prefix.getBytes(StandardCharsets.UTF_8));
+
+        final StringBuilder sb = new StringBuilder();
+        for (final byte b : md.digest(serialize(value))) {
+            sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+        }
+
+        return sb.toString();
+    }
+
+    private byte[] serialize(final Object value) {
+        try {
+            return CANONICAL_MAPPER.writeValueAsBytes(value);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MessageDigest createSHA256MessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties.DatasetVersionHashEncoding;
+
+/**
+ * Feeds dataset fields straight into a SHA-256 digest through a small reusable buffer.
+ *
+ * <p>{@link DatasetVersionHashEncoding#COMPATIBLE} writes exactly the UTF-8 bytes of the JSON array
+ * the structure hash was previously calculated from, so hashes of already stored dataset versions stay valid.
+ * {@link DatasetVersionHashEncoding#CANONICAL} writes a length-prefixed binary form which doesn't need escaping.
+ *
+ * <p>A field is written with {@link #startField}, then either {@link #fieldType} or {@link #nullFieldType},
+ * then {@link #endField}. Fields must be written sorted by oddrn.
+ */
+final class DatasetStructureDigest {
+    private static final String ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte CANONICAL_VERSION = 1;
+
+    private static final byte[] ODDRN = ascii("{\"oddrn\":");
+    private static final byte[] NAME = ascii(",\"name\":");
+    private static final byte[] PARENT_FIELD_ODDRN = ascii(",\"parent_field_oddrn\":");
+    private static final byte[] TYPE = ascii(",\"type\":");
+    private static final byte[] TYPE_TYPE = ascii("{\"type\":");
+    private static final byte[] TYPE_LOGICAL_TYPE = ascii(",\"logical_type\":");
+    private static final byte[] TYPE_IS_NULLABLE = ascii(",\"is_nullable\":");
+    private static final byte[] KEY = ascii(",\"key\":");
+    private static final byte[] VALUE = ascii(",\"value\":");
+    private static final byte[] PRIMARY_KEY = ascii(",\"primary_key\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    private final boolean compatible;
+    private final MessageDigest messageDigest;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private boolean firstField = true;
+
+    DatasetStructureDigest(final DatasetVersionHashEncoding encoding) {
+        this.compatible = encoding == DatasetVersionHashEncoding.COMPATIBLE;
+        this.messageDigest = createSHA256MessageDigest();
+        if (compatible) {
+            writeByte('[');
+        } else {
+            writeByte(CANONICAL_VERSION);
+        }
+    }
+
+    void startField(final String oddrn, final String name, final String parentFieldOddrn) {
+        if (compatible) {
+            if (!firstField) {
+                writeByte(',');
+            }
+            writeBytes(ODDRN);
+            writeJsonString(oddrn);
+            writeBytes(NAME);
+            writeJsonString(name);
+            writeBytes(PARENT_FIELD_ODDRN);
+            writeJsonString(parentFieldOddrn);
+            writeBytes(TYPE);
+        } else {
+            writeString(oddrn);
+            writeString(name);
+            writeString(parentFieldOddrn);
+        }
+        firstField = false;
+    }
+
+    void fieldType(final String type, final String logicalType, final Boolean isNullable) {
+        if (compatible) {
+            writeBytes(TYPE_TYPE);
+            writeJsonString(type);
+            writeBytes(TYPE_LOGICAL_TYPE);
+            writeJsonString(logicalType);
+            writeBytes(TYPE_IS_NULLABLE);
+            writeBytes(isNullable == null ? NULL : isNullable ? TRUE : FALSE);
+            writeByte('}');
+        } else {
+            writeByte(1);
+            writeString(type);
+            writeString(logicalType);
+            writeByte(isNullable == null ? 0 : isNullable ? 2 : 1);
+        }
+    }
+
+    void nullFieldType() {
+        if (compatible) {
+            writeBytes(NULL);
+        } else {
+            writeByte(0);
+        }
+    }
+
+    void endField(final boolean isKey, final boolean isValue, final boolean isPrimaryKey) {
+        if (compatible) {
+            writeBytes(KEY);
+            writeBytes(isKey ? TRUE : FALSE);
+            writeBytes(VALUE);
+            writeBytes(isValue ? TRUE : FALSE);
+            writeBytes(PRIMARY_KEY);
+            writeBytes(isPrimaryKey ? TRUE : FALSE);
+            writeByte('}');
+        } else {
+            writeByte((isKey ? 1 : 0) | (isValue ? 2 : 0) | (isPrimaryKey ? 4 : 0));
+        }
+    }
+
+    String hexDigest() {
+        if (compatible) {
+            writeByte(']');
+        }
+        flush();
+
+        final StringBuilder sb = new StringBuilder();
+        for (final byte b : messageDigest.digest()) {
+            sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+        }
+        return sb.toString();
+    }
+
+    // Mirrors the escaping of Jackson's default string serialization
+    // followed by String.getBytes(UTF_8), which replaces unpaired surrogates with '?'
+    private void writeJsonString(final String value) {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+
+        writeByte('"');
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                writeEscapedAscii(c);
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[position++] = (byte) (0xc0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                writeByte('?');
+            } else {
+                ensureCapacity(3);
+                buffer[position++] = (byte) (0xe0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeEscapedAscii(final char c) {
+        if (c >= 0x20 && c != '"' && c != '\\') {
+            writeByte(c);
+            return;
+        }
+
+        ensureCapacity(6);
+        buffer[position++] = '\\';
+        switch (c) {
+            case '"', '\\' -> buffer[position++] = (byte) c;
+            case '\b' -> buffer[position++] = 'b';
+            case '\t' -> buffer[position++] = 't';
+            case '\n' -> buffer[position++] = 'n';
+            case '\f' -> buffer[position++] = 'f';
+            case '\r' -> buffer[position++] = 'r';
+            default -> {
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xf];
+            }
+        }
+    }
+
+    // Strings are written as a presence marker, the number of chars and the chars themselves
+    private void writeString(final String value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+
+        final int length = value.length();
+        writeByte(1);
+        writeInt(length);
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            ensureCapacity(2);
+            buffer[position++] = (byte) (c >> 8);
+            buffer[position++] = (byte) c;
+        }
+    }
+
+    private void writeInt(final int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >> 24);
+        buffer[position++] = (byte) (value >> 16);
+        buffer[position++] = (byte) (value >> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeByte(final int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeBytes(final byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(final int bytes) {
+        if (position + bytes > buffer.length) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        messageDigest.update(buffer, 0, position);
+        position = 0;
+    }
+
+    private static byte[] ascii(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static MessageDigest createSHA256MessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
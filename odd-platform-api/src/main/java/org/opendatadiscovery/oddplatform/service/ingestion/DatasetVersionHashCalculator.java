@@ -1,84 +1,112 @@
 package org.opendatadiscovery.oddplatform.service.ingestion;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.opendatadiscovery.oddplatform.dto.ingestion.HashableDatasetField;
+import org.jooq.JSONB;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
-import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class DatasetVersionHashCalculator {
-    private static final String ALGORITHM = "SHA-256";
     private static final String EMPTY_FIELDS_HASH = "0";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final IngestionProperties ingestionProperties;
 
     public String calculateStructureHash(final List<DataSetField> fields) {
         if (CollectionUtils.isEmpty(fields)) {
             return EMPTY_FIELDS_HASH;
         }
 
-        final List<HashableDatasetField> sortedFields = fields.stream()
-            .map(f -> HashableDatasetField.builder()
-                .name(f.getName())
-                .oddrn(f.getOddrn())
-                .parentFieldOddrn(f.getParentFieldOddrn())
-                .type(f.getType())
-                .isKey(BooleanUtils.toBoolean(f.getIsKey()))
-                .isValue(BooleanUtils.toBoolean(f.getIsValue()))
-                .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
-                .build())
-            .sorted(Comparator.comparing(HashableDatasetField::getOddrn))
-            .toList();
-
-        return calculateHash(sortedFields);
+        final DataSetField[] sortedFields = fields.toArray(DataSetField[]::new);
+        Arrays.sort(sortedFields, Comparator.comparing(DataSetField::getOddrn));
+
+        final DatasetStructureDigest digest = createDigest();
+        for (final DataSetField field : sortedFields) {
+            digest.startField(field.getOddrn(), field.getName(), field.getParentFieldOddrn());
+
+            final DataSetFieldType type = field.getType();
+            if (type == null) {
+                digest.nullFieldType();
+            } else {
+                digest.fieldType(type.getType() != null ? type.getType().getValue() : null,
+                    type.getLogicalType(), type.getIsNullable());
+            }
+
+            digest.endField(BooleanUtils.toBoolean(field.getIsKey()),
+                BooleanUtils.toBoolean(field.getIsValue()),
+                BooleanUtils.toBoolean(field.getIsPrimaryKey()));
+        }
+
+        return digest.hexDigest();
     }
 
     public String calculateStructureHashFromPojos(final List<DatasetFieldPojo> fields) {
         if (CollectionUtils.isEmpty(fields)) {
             return EMPTY_FIELDS_HASH;
         }
-        final List<HashableDatasetField> sortedFields = fields.stream()
-            .map(f -> {
-                final DataSetFieldType dataSetFieldType =
-                    JSONSerDeUtils.deserializeJson(f.getType().data(), DataSetFieldType.class);
-                return HashableDatasetField.builder()
-                    .name(f.getName())
-                    .oddrn(f.getOddrn())
-                    .parentFieldOddrn(f.getParentFieldOddrn())
-                    .type(dataSetFieldType)
-                    .isKey(BooleanUtils.toBoolean(f.getIsKey()))
-                    .isValue(BooleanUtils.toBoolean(f.getIsValue()))
-                    .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
-                    .build();
-            })
-            .sorted(Comparator.comparing(HashableDatasetField::getOddrn))
-            .toList();
-
-        return calculateHash(sortedFields);
-    }
 
-    private String calculateHash(final List<HashableDatasetField> sortedFields) {
-        final MessageDigest md = createSHA256MessageDigest();
-        final StringBuilder sb = new StringBuilder();
+        final DatasetFieldPojo[] sortedFields = fields.toArray(DatasetFieldPojo[]::new);
+        Arrays.sort(sortedFields, Comparator.comparing(DatasetFieldPojo::getOddrn));
 
-        for (final byte b : md.digest(JSONSerDeUtils.serializeJson(sortedFields).getBytes())) {
-            sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+        final DatasetStructureDigest digest = createDigest();
+        for (final DatasetFieldPojo field : sortedFields) {
+            digest.startField(field.getOddrn(), field.getName(), field.getParentFieldOddrn());
+            digestSerializedType(field.getType(), digest);
+            digest.endField(BooleanUtils.toBoolean(field.getIsKey()),
+                BooleanUtils.toBoolean(field.getIsValue()),
+                BooleanUtils.toBoolean(field.getIsPrimaryKey()));
         }
 
-        return sb.toString();
+        return digest.hexDigest();
     }
 
-    private MessageDigest createSHA256MessageDigest() {
-        try {
-            return MessageDigest.getInstance(ALGORITHM);
-        } catch (final NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
+    private DatasetStructureDigest createDigest() {
+        return new DatasetStructureDigest(ingestionProperties.getDatasetVersionHashEncoding());
+    }
+
+    // Reads the serialized DataSetFieldType token by token instead of binding it to an object
+    private void digestSerializedType(final JSONB type, final DatasetStructureDigest digest) {
+        if (type == null) {
+            digest.nullFieldType();
+            return;
+        }
+
+        try (final JsonParser parser = JSON_FACTORY.createParser(type.data())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                digest.nullFieldType();
+                return;
+            }
+
+            String typeName = null;
+            String logicalType = null;
+            Boolean isNullable = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String property = parser.getCurrentName();
+                final JsonToken value = parser.nextToken();
+                switch (property) {
+                    case "type" -> typeName = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "logical_type" -> logicalType = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "is_nullable" -> isNullable = value == JsonToken.VALUE_NULL ? null : parser.getBooleanValue();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            digest.fieldType(typeName, logicalType, isNullable);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Couldn't read dataset field type %s".formatted(type.data()), e);
         }
     }
 }
@@ -0,0 +1,178 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.exception.TooManyRequestsException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.ADMISSION_ACTIVE_GAUGE;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.ADMISSION_COUNTER;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.ADMISSION_QUEUED_GAUGE;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.LIMIT_TAG;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.OUTCOME_TAG;
+
+/**
+ * Limits the number of ingestion requests processed at the same time, globally and per collector.
+ * Requests over the limits wait in a bounded FIFO queue. A request is rejected when the queue is full
+ * or when it hasn't been admitted within the configured time.
+ * A released permit is handed over to the first queued request which fits both limits.
+ */
+@Component
+@Slf4j
+public class IngestionAdmissionControl {
+    private final IngestionProperties.AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Integer> activeByCollector = new HashMap<>();
+    private final LinkedList<Waiter> queue = new LinkedList<>();
+    private int active;
+
+    public IngestionAdmissionControl(final IngestionProperties ingestionProperties,
+                                     final MeterRegistry meterRegistry) {
+        this.properties = ingestionProperties.getAdmission();
+        this.meterRegistry = meterRegistry;
+
+        meterRegistry.gauge(ADMISSION_ACTIVE_GAUGE, this, IngestionAdmissionControl::active);
+        meterRegistry.gauge(ADMISSION_QUEUED_GAUGE, this, IngestionAdmissionControl::queued);
+    }
+
+    /**
+     * Emits a permit once the request is admitted or {@link TooManyRequestsException} if it can't be.
+     * The permit must be released when the request is processed.
+     */
+    public Mono<Permit> acquire(final String collectorKey) {
+        return Mono.defer(() -> {
+            final Waiter waiter;
+            synchronized (this) {
+                final Limit limit = exceededLimit(collectorKey);
+                if (limit == null) {
+                    take(collectorKey);
+                    return Mono.just(admitted(collectorKey));
+                }
+                if (queue.size() >= properties.getQueueCapacity()) {
+                    return rejected(limit);
+                }
+                waiter = new Waiter(collectorKey, Sinks.one());
+                queue.add(waiter);
+            }
+
+            return waiter.sink().asMono()
+                .timeout(properties.getMaxWait())
+                .onErrorResume(TimeoutException.class, e -> {
+                    abandon(waiter);
+                    return rejected(Limit.WAIT_TIMEOUT);
+                })
+                .doOnCancel(() -> abandon(waiter))
+                .map(ignored -> admitted(collectorKey));
+        });
+    }
+
+    private Limit exceededLimit(final String collectorKey) {
+        if (active >= properties.getMaxConcurrentRequests()) {
+            return Limit.GLOBAL;
+        }
+        if (activeByCollector.getOrDefault(collectorKey, 0) >= properties.getMaxConcurrentRequestsPerCollector()) {
+            return Limit.COLLECTOR;
+        }
+        return null;
+    }
+
+    private void take(final String collectorKey) {
+        active++;
+        activeByCollector.merge(collectorKey, 1, Integer::sum);
+    }
+
+    private void release(final String collectorKey) {
+        final List<Waiter> admitted = new ArrayList<>();
+        synchronized (this) {
+            active--;
+            activeByCollector.computeIfPresent(collectorKey, (k, count) -> count > 1 ? count - 1 : null);
+
+            final Iterator<Waiter> iterator = queue.iterator();
+            while (iterator.hasNext() && active < properties.getMaxConcurrentRequests()) {
+                final Waiter waiter = iterator.next();
+                if (exceededLimit(waiter.collectorKey()) == null) {
+                    iterator.remove();
+                    take(waiter.collectorKey());
+                    waiter.granted().set(true);
+                    admitted.add(waiter);
+                }
+            }
+        }
+        admitted.forEach(waiter -> waiter.sink().tryEmitValue(true));
+    }
+
+    // a permit granted to a request which has already timed out or been cancelled is passed on
+    private void abandon(final Waiter waiter) {
+        synchronized (this) {
+            if (queue.remove(waiter) || !waiter.granted().get()) {
+                return;
+            }
+        }
+        release(waiter.collectorKey());
+    }
+
+    private Permit admitted(final String collectorKey) {
+        meterRegistry.counter(ADMISSION_COUNTER, OUTCOME_TAG, "admitted", LIMIT_TAG, "none").increment();
+        return new Permit(collectorKey);
+    }
+
+    private <T> Mono<T> rejected(final Limit limit) {
+        meterRegistry.counter(ADMISSION_COUNTER, OUTCOME_TAG, "rejected", LIMIT_TAG, limit.tag).increment();
+        log.debug("Ingestion request is rejected: {}", limit.tag);
+        return Mono.error(new TooManyRequestsException(
+            "Ingestion request is rejected: %s limit is reached".formatted(limit.tag)));
+    }
+
+    private synchronized int active() {
+        return active;
+    }
+
+    private synchronized int queued() {
+        return queue.size();
+    }
+
+    public class Permit {
+        private final String collectorKey;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final String collectorKey) {
+            this.collectorKey = collectorKey;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                IngestionAdmissionControl.this.release(collectorKey);
+            }
+        }
+    }
+
+    private enum Limit {
+        GLOBAL("global"),
+        COLLECTOR("collector"),
+        WAIT_TIMEOUT("wait_timeout");
+
+        private final String tag;
+
+        Limit(final String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record Waiter(String collectorKey, Sinks.One<Boolean> sink, AtomicBoolean granted) {
+        Waiter(final String collectorKey, final Sinks.One<Boolean> sink) {
+            this(collectorKey, sink, new AtomicBoolean());
+        }
+    }
+}
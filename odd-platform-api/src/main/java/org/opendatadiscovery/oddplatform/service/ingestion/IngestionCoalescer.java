@@ -0,0 +1,204 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.exception.TooManyRequestsException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Runs at most one ingestion per data source at a time.
+ * Requests which arrive while an ingestion of their data source is running are merged into a single next run,
+ * the latest request wins for entities with the same oddrn. Every caller completes when the run containing
+ * its request is committed. If a merged run fails, its requests are retried one by one
+ * so that an invalid payload fails only its own caller.
+ * A run isn't bound to the subscription of a single caller. A caller cancelling before its run has started,
+ * e.g. on a client disconnect or timeout, withdraws its request. A started run is cancelled and rolled back
+ * only when all of its callers have cancelled. Requests over the limit of queued requests are rejected.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionCoalescer {
+    private final IngestionService ingestionService;
+    private final IngestionProperties ingestionProperties;
+
+    private final Map<String, DataSourceQueue> queues = new HashMap<>();
+    private int queuedRequests;
+
+    public Mono<Void> ingest(final DataEntityList dataEntityList) {
+        if (!ingestionProperties.getCoalescing().isEnabled()) {
+            return ingestionService.ingest(dataEntityList);
+        }
+
+        return Mono.defer(() -> {
+            final PendingRequest request = new PendingRequest(dataEntityList, Sinks.empty());
+            final String dataSourceOddrn = dataEntityList.getDataSourceOddrn();
+
+            final PendingRun runToStart;
+            synchronized (queues) {
+                if (queuedRequests >= ingestionProperties.getCoalescing().getMaxQueuedRequests()) {
+                    return Mono.error(new TooManyRequestsException(
+                        "Ingestion request is rejected: queued requests limit is reached"));
+                }
+                final DataSourceQueue queue = queues.computeIfAbsent(dataSourceOddrn, k -> new DataSourceQueue());
+                queue.add(request, ingestionProperties.getCoalescing().getMaxEntities());
+                queuedRequests++;
+                runToStart = queue.running == null ? queue.next() : null;
+            }
+
+            if (runToStart != null) {
+                execute(dataSourceOddrn, runToStart);
+            }
+
+            return request.completion().asMono()
+                .doOnCancel(() -> cancel(dataSourceOddrn, request));
+        });
+    }
+
+    private void cancel(final String dataSourceOddrn, final PendingRequest request) {
+        final PendingRun runToCancel;
+        synchronized (queues) {
+            final DataSourceQueue queue = queues.get(dataSourceOddrn);
+            if (queue == null) {
+                return;
+            }
+            if (queue.remove(request)) {
+                queuedRequests--;
+                return;
+            }
+            final PendingRun running = queue.running;
+            if (running == null || !running.requests.contains(request)) {
+                return;
+            }
+            running.cancelled++;
+            runToCancel = running.cancelled == running.requests.size() ? running : null;
+        }
+
+        if (runToCancel != null) {
+            log.debug("All callers of the ingestion for data source {} cancelled, cancelling it", dataSourceOddrn);
+            runToCancel.execution.dispose();
+        }
+    }
+
+    private void execute(final String dataSourceOddrn, final PendingRun run) {
+        final Mono<Void> ingestion;
+        if (run.requests.size() == 1) {
+            final PendingRequest request = run.requests.get(0);
+            ingestion = ingestionService.ingest(request.dataEntityList())
+                .doOnSuccess(ignored -> request.completion().tryEmitEmpty())
+                .doOnError(e -> request.completion().tryEmitError(e));
+        } else {
+            log.debug("Merged {} ingestion requests for data source {}", run.requests.size(), dataSourceOddrn);
+
+            ingestion = ingestionService.ingest(run.merge(dataSourceOddrn))
+                .doOnSuccess(ignored -> run.requests.forEach(r -> r.completion().tryEmitEmpty()))
+                .onErrorResume(e -> {
+                    log.warn("Merged ingestion for data source {} failed, retrying {} requests one by one",
+                        dataSourceOddrn, run.requests.size(), e);
+                    return Flux.fromIterable(run.requests)
+                        .concatMap(r -> ingestionService.ingest(r.dataEntityList())
+                            .doOnSuccess(ignored -> r.completion().tryEmitEmpty())
+                            .onErrorResume(requestError -> {
+                                r.completion().tryEmitError(requestError);
+                                return Mono.empty();
+                            }))
+                        .then();
+                });
+        }
+
+        run.execution.update(ingestion
+            .onErrorResume(e -> Mono.empty())
+            .doFinally(signal -> {
+                final PendingRun next;
+                synchronized (queues) {
+                    queuedRequests -= run.requests.size();
+                    final DataSourceQueue queue = queues.get(dataSourceOddrn);
+                    next = queue.next();
+                    if (next == null) {
+                        queues.remove(dataSourceOddrn);
+                    }
+                }
+
+                if (next != null) {
+                    execute(dataSourceOddrn, next);
+                }
+            })
+            .subscribe());
+    }
+
+    private static class DataSourceQueue {
+        private final Deque<PendingRun> pending = new ArrayDeque<>();
+        private PendingRun running;
+
+        private void add(final PendingRequest request, final int maxEntities) {
+            final PendingRun last = pending.peekLast();
+            final int size = request.dataEntityList().getItems().size();
+            if (last != null && last.entities + size <= maxEntities) {
+                last.requests.add(request);
+                last.entities += size;
+                return;
+            }
+
+            final PendingRun run = new PendingRun();
+            run.requests.add(request);
+            run.entities = size;
+            pending.add(run);
+        }
+
+        private boolean remove(final PendingRequest request) {
+            for (final PendingRun run : pending) {
+                if (run.requests.remove(request)) {
+                    run.entities -= request.dataEntityList().getItems().size();
+                    if (run.requests.isEmpty()) {
+                        pending.remove(run);
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private PendingRun next() {
+            running = pending.poll();
+            return running;
+        }
+    }
+
+    private static class PendingRun {
+        private final List<PendingRequest> requests = new ArrayList<>();
+        private final Disposable.Swap execution = Disposables.swap();
+        private int entities;
+        private int cancelled;
+
+        private DataEntityList merge(final String dataSourceOddrn) {
+            final Map<String, DataEntity> merged = new LinkedHashMap<>();
+            for (final PendingRequest request : requests) {
+                for (final DataEntity entity : request.dataEntityList().getItems()) {
+                    merged.remove(entity.getOddrn());
+                    merged.put(entity.getOddrn(), entity);
+                }
+            }
+            return new DataEntityList()
+                .dataSourceOddrn(dataSourceOddrn)
+                .items(new ArrayList<>(merged.values()));
+        }
+    }
+
+    private record PendingRequest(DataEntityList dataEntityList, Sinks.Empty<Void> completion) {
+    }
+}
@@ -0,0 +1,13 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobDto;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import reactor.core.publisher.Mono;
+
+public interface IngestionJobService {
+    Mono<IngestionJobDto> enqueue(final DataEntityList dataEntityList);
+
+    Mono<IngestionJobDto> getJob(final long jobId);
+
+    Mono<Boolean> processNext(final int partition, final int partitions);
+}
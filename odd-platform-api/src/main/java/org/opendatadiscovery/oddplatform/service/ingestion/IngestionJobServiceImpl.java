@@ -0,0 +1,124 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.jooq.JSONB;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatus;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionPhaseTimings;
+import org.opendatadiscovery.oddplatform.exception.NotFoundException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.opendatadiscovery.oddplatform.service.search.SearchResultCache;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionJobServiceImpl implements IngestionJobService {
+    private final IngestionService ingestionService;
+    private final ReactiveIngestionJobRepository ingestionJobRepository;
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final IngestionProperties ingestionProperties;
+    private final SearchResultCache searchResultCache;
+
+    @Override
+    public Mono<IngestionJobDto> enqueue(final DataEntityList dataEntityList) {
+        return dataSourceRepository.getDtoByOddrn(dataEntityList.getDataSourceOddrn())
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("dataSource", dataEntityList.getDataSourceOddrn())))
+            .map(dto -> new IngestionJobPojo()
+                .setDataSourceId(dto.dataSource().getId())
+                .setStatus(IngestionJobStatus.PENDING.getCode())
+                .setPayload(JSONB.jsonb(JSONSerDeUtils.serializeJson(dataEntityList)))
+                .setEntitiesCount(dataEntityList.getItems().size()))
+            .flatMap(ingestionJobRepository::create)
+            .map(this::mapJob);
+    }
+
+    @Override
+    public Mono<IngestionJobDto> getJob(final long jobId) {
+        return ingestionJobRepository.get(jobId)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("ingestion job", jobId)))
+            .map(this::mapJob);
+    }
+
+    @Override
+    public Mono<Boolean> processNext(final int partition, final int partitions) {
+        final var staleBefore = DateTimeUtil.generateNow()
+            .minus(ingestionProperties.getAsync().getStaleJobTimeout());
+
+        return ingestionJobRepository.claimNext(partition, partitions, staleBefore)
+            .flatMap(this::process)
+            .thenReturn(true)
+            .defaultIfEmpty(false);
+    }
+
+    private Mono<IngestionJobPojo> process(final IngestionJobPojo job) {
+        final IngestionPhaseTimings timings = new IngestionPhaseTimings();
+
+        log.debug("Processing ingestion job {} of data source {}", job.getId(), job.getDataSourceId());
+
+        // deserialized inside the chain, so that a malformed payload fails the job instead of leaving it running
+        final Mono<IngestionJobPojo> processing = Mono
+            .fromCallable(() -> JSONSerDeUtils.deserializeJson(job.getPayload().data(), DataEntityList.class))
+            .flatMap(ingestionService::ingest)
+            .contextWrite(ctx -> ctx.put(IngestionPhaseTimings.class, timings))
+            .doOnSuccess(ignored -> searchResultCache.bumpEpoch())
+            .then(Mono.defer(() -> ingestionJobRepository.markCompleted(job.getId(), job.getAttempt(),
+                timings.asMap())))
+            .onErrorResume(e -> {
+                log.error("Ingestion job {} failed", job.getId(), e);
+                return ingestionJobRepository.markFailed(job.getId(), job.getAttempt(), timings.asMap(),
+                    ExceptionUtils.getRootCauseMessage(e));
+            })
+            .switchIfEmpty(Mono.fromRunnable(() -> log.warn(
+                "Ingestion job {} was reclaimed by another worker, result of attempt {} is discarded",
+                job.getId(), job.getAttempt())));
+
+        // the processing wins the race as soon as it finishes, the heartbeat never emits
+        return Mono.firstWithSignal(processing, heartbeat(job));
+    }
+
+    // Keeps a running job from being reclaimed as stale for as long as it's being processed
+    private Mono<IngestionJobPojo> heartbeat(final IngestionJobPojo job) {
+        final Duration interval = ingestionProperties.getAsync().getHeartbeatInterval();
+        return Flux.interval(interval)
+            .onBackpressureDrop()
+            .concatMap(tick -> ingestionJobRepository.heartbeat(job.getId(), job.getAttempt())
+                .onErrorResume(e -> {
+                    log.warn("Couldn't refresh the heartbeat of ingestion job {}", job.getId(), e);
+                    return Mono.empty();
+                }), 1)
+            .then(Mono.never());
+    }
+
+    private IngestionJobDto mapJob(final IngestionJobPojo pojo) {
+        final Map<String, Long> phaseTimings = pojo.getPhaseTimings() != null
+            ? JSONSerDeUtils.deserializeJson(pojo.getPhaseTimings().data(), new TypeReference<>() {
+            })
+            : Map.of();
+
+        return new IngestionJobDto(
+            pojo.getId(),
+            pojo.getDataSourceId(),
+            IngestionJobStatus.fromCode(pojo.getStatus()).orElseThrow(),
+            pojo.getEntitiesCount(),
+            phaseTimings,
+            pojo.getError(),
+            DateTimeUtil.mapUTCDateTime(pojo.getCreatedAt()),
+            DateTimeUtil.mapUTCDateTime(pojo.getStartedAt()),
+            DateTimeUtil.mapUTCDateTime(pojo.getFinishedAt())
+        );
+    }
+}
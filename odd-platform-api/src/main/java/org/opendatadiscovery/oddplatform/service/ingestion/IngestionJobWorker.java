@@ -0,0 +1,56 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(value = "ingestion.async.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionJobWorker {
+    private final IngestionJobService ingestionJobService;
+    private final IngestionProperties ingestionProperties;
+
+    private List<Disposable> workers = List.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        final int partitions = ingestionProperties.getAsync().getWorkers();
+        log.debug("Starting {} ingestion job workers", partitions);
+
+        workers = IntStream.range(0, partitions)
+            .mapToObj(partition -> Flux.interval(ingestionProperties.getAsync().getPollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> drain(partition, partitions), 1)
+                .subscribe())
+            .toList();
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.forEach(Disposable::dispose);
+    }
+
+    // Each worker owns a partition of data sources and processes their jobs until the queue is empty
+    private Mono<Void> drain(final int partition, final int partitions) {
+        return Mono.defer(() -> ingestionJobService.processNext(partition, partitions))
+            .repeat()
+            .takeWhile(Boolean::booleanValue)
+            .then()
+            .onErrorResume(e -> {
+                log.error("Error occurred while draining ingestion job partition {}", partition, e);
+                return Mono.empty();
+            });
+    }
+}
@@ -0,0 +1,110 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.IngestionPhaseTimer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+@Component
+@RequiredArgsConstructor
+public class IngestionMetrics {
+    public static final String REQUEST_TIMER = "odd.ingestion.request";
+    public static final String PHASE_TIMER = "odd.ingestion.phase";
+    public static final String PROCESSOR_TIMER = "odd.ingestion.processor";
+    public static final String ROWS_COUNTER = "odd.ingestion.rows";
+    public static final String PAYLOAD_SUMMARY = "odd.ingestion.payload.entities";
+    public static final String ADMISSION_COUNTER = "odd.ingestion.admission";
+    public static final String ADMISSION_ACTIVE_GAUGE = "odd.ingestion.admission.active";
+    public static final String ADMISSION_QUEUED_GAUGE = "odd.ingestion.admission.queued";
+
+    public static final String DATA_SOURCE_TAG = "data_source";
+    public static final String PHASE_TAG = "phase";
+    public static final String PROCESSOR_TAG = "processor";
+    public static final String KIND_TAG = "kind";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String LIMIT_TAG = "limit";
+
+    private static final String UNKNOWN_DATA_SOURCE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Starts tagging the metrics of a request with its data source. The tag is unknown until the data source
+     * is resolved with {@link #resolvedDataSource(String)}, so payloads can't add a tag value per oddrn they claim.
+     */
+    public Context withDataSource(final Context context) {
+        return context.put(DataSourceTag.class, new DataSourceTag(new AtomicReference<>(UNKNOWN_DATA_SOURCE)));
+    }
+
+    public Mono<Void> resolvedDataSource(final String dataSourceOddrn) {
+        return Mono.deferContextual(ctx -> {
+            ctx.<DataSourceTag>getOrEmpty(DataSourceTag.class).ifPresent(tag -> tag.oddrn().set(dataSourceOddrn));
+            return Mono.empty();
+        });
+    }
+
+    public <T> Mono<T> timedRequest(final int payloadSize, final Mono<T> source) {
+        return Mono.deferContextual(ctx -> timed(REQUEST_TIMER, ctx, Tags.empty(), source)
+            .doFinally(signal -> DistributionSummary.builder(PAYLOAD_SUMMARY)
+                .baseUnit("entities")
+                .tags(DATA_SOURCE_TAG, dataSource(ctx))
+                .register(meterRegistry)
+                .record(payloadSize)));
+    }
+
+    public <T> Mono<T> timedPhase(final String phase, final Mono<T> source) {
+        return Mono.deferContextual(ctx -> timed(PHASE_TIMER, ctx, Tags.of(PHASE_TAG, phase),
+            IngestionPhaseTimer.timed(phase, source)));
+    }
+
+    public <T> Mono<T> timedProcessor(final String processor, final Mono<T> source) {
+        return Mono.deferContextual(ctx -> timed(PROCESSOR_TIMER, ctx, Tags.of(PROCESSOR_TAG, processor),
+            IngestionPhaseTimer.timed(processor, source)));
+    }
+
+    public Mono<Void> countRows(final Map<String, Integer> rowsByKind) {
+        return Mono.deferContextual(ctx -> {
+            final String dataSource = dataSource(ctx);
+            rowsByKind.forEach((kind, rows) -> meterRegistry
+                .counter(ROWS_COUNTER, DATA_SOURCE_TAG, dataSource, KIND_TAG, kind)
+                .increment(rows));
+            return Mono.empty();
+        });
+    }
+
+    // the data source is read when the source terminates, as it's resolved after the timers are started
+    private <T> Mono<T> timed(final String name, final ContextView ctx, final Tags tags, final Mono<T> source) {
+        return Mono.defer(() -> {
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            return source.doFinally(signal -> sample.stop(Timer.builder(name)
+                .tags(tags.and(DATA_SOURCE_TAG, dataSource(ctx), OUTCOME_TAG, outcome(signal)))
+                .register(meterRegistry)));
+        });
+    }
+
+    private String outcome(final SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+    }
+
+    private String dataSource(final ContextView ctx) {
+        return ctx.<DataSourceTag>getOrEmpty(DataSourceTag.class)
+            .map(tag -> tag.oddrn().get())
+            .orElse(UNKNOWN_DATA_SOURCE);
+    }
+
+    private record DataSourceTag(AtomicReference<String> oddrn) {
+    }
+}
@@ -15,6 +15,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.jooq.JSONB;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntitySpecificAttributesDelta;
 import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
@@ -39,6 +40,7 @@ import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceR
 import org.opendatadiscovery.oddplatform.service.DataEntityInternalStateService;
 import org.opendatadiscovery.oddplatform.service.DatasetFieldService;
 import org.opendatadiscovery.oddplatform.service.ingestion.processor.IngestionProcessorChain;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
 import org.opendatadiscovery.oddplatform.service.metric.OTLPMetricService;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -61,16 +63,26 @@ public class IngestionServiceImpl implements IngestionService {
     private final ReactiveDataSourceRepository dataSourceRepository;
 
     private final IngestionMapper ingestionMapper;
+    private final IngestionProperties ingestionProperties;
+    private final IngestionMetrics ingestionMetrics;
 
     @Override
     @ReactiveTransactional
     public Mono<Void> ingest(final DataEntityList dataEntityList) {
-        return dataSourceRepository.getIdByOddrnForUpdate(dataEntityList.getDataSourceOddrn())
+        final Mono<Void> ingestion = dataSourceRepository.getIdByOddrnForUpdate(dataEntityList.getDataSourceOddrn())
             .switchIfEmpty(Mono.error(() -> new NotFoundException("dataSource", dataEntityList.getDataSourceOddrn())))
-            .flatMap(dataSourceId -> persistDataEntities(dataSourceId, dataEntityList.getItems()))
-            .flatMap(ingestionProcessorChain::processIngestionRequest)
-            .flatMap(otlpMetricService::exportMetrics)
+            .flatMap(dataSourceId -> ingestionMetrics.resolvedDataSource(dataEntityList.getDataSourceOddrn())
+                .thenReturn(dataSourceId))
+            .flatMap(dataSourceId -> ingestionMetrics.timedPhase("persist",
+                persistDataEntities(dataSourceId, dataEntityList.getItems())))
+            .flatMap(request -> ingestionMetrics.timedPhase("processing",
+                ingestionProcessorChain.processIngestionRequest(request)))
+            .flatMap(request -> ingestionMetrics.timedPhase("metrics_export",
+                otlpMetricService.exportMetrics(request)))
             .then();
+
+        return ingestionMetrics.timedRequest(dataEntityList.getItems().size(), ingestion)
+            .contextWrite(ingestionMetrics::withDataSource);
     }
 
     @Override
@@ -93,13 +105,22 @@ public class IngestionServiceImpl implements IngestionService {
         return dataEntityRepository.listByOddrns(ingestionDtoMap.keySet(), true, true)
             .collect(Collectors.toMap(DataEntityPojo::getOddrn, identity()))
             .flatMap(existingPojoDict -> {
+                final Set<String> unchangedOddrns = ingestionProperties.isSkipUnchangedEntities()
+                    ? ingestionDtoMap.values().stream()
+                        .filter(dto -> isUnchanged(dto, existingPojoDict.get(dto.getOddrn())))
+                        .map(DataEntityIngestionDto::getOddrn)
+                        .collect(Collectors.toSet())
+                    : Set.of();
+
                 final Map<Boolean, List<DataEntityIngestionDto>> ingestionDtoPartitions = ingestionDtoMap.values()
                     .stream()
+                    .filter(d -> !unchangedOddrns.contains(d.getOddrn()))
                     .collect(Collectors.partitioningBy(d -> existingPojoDict.containsKey(d.getOddrn())));
 
                 final List<DataEntitySpecificAttributesDelta> specificAttributesDeltas = ingestionDtoMap.entrySet()
                     .stream()
                     .filter(e -> existingPojoDict.containsKey(e.getKey()))
+                    .filter(e -> !unchangedOddrns.contains(e.getKey()))
                     .filter(e -> DataEntityTypeDto.MICROSERVICE != e.getValue().getType())
                     .map(e -> new DataEntitySpecificAttributesDelta(
                         e.getKey(),
@@ -134,6 +155,10 @@ public class IngestionServiceImpl implements IngestionService {
                 final Flux<DataEntityPojo> updated = dataEntityRepository.bulkUpdate(entitiesToUpdate);
                 final Mono<Void> restoredEntities = dataEntityInternalStateService
                     .restoreDeletedDataEntityRelations(entitiesToRestore);
+                final Mono<Void> unchangedEntities = dataEntityRepository.updateLastIngestedAt(
+                    unchangedOddrns.stream().map(oddrn -> existingPojoDict.get(oddrn).getId()).toList(),
+                    DateTimeUtil.generateNow()
+                );
 
                 final DataEntityTotalDelta totalDelta =
                     calculateTotalDeltaCount(pojosToCreate, entitiesToUpdate, existingPojoDict);
@@ -142,12 +167,26 @@ public class IngestionServiceImpl implements IngestionService {
                     .bulkCreate(pojosToCreate)
                     .map(d -> new EnrichedDataEntityIngestionDto(d.getId(), null, ingestionDtoMap.get(d.getOddrn())));
 
+                if (!unchangedOddrns.isEmpty()) {
+                    log.debug("Skipping {} unchanged data entities", unchangedOddrns.size());
+                }
+
                 return updated
+                    .then(unchangedEntities)
                     .then(restoredEntities)
                     .thenMany(enrichedNewDtos)
                     .collectList()
                     .map(newEntities -> buildIngestionRequest(newEntities, enrichedExistingDtos, taskRuns,
-                        specificAttributesDeltas, totalDelta));
+                        specificAttributesDeltas, totalDelta))
+                    .flatMap(request -> ingestionMetrics.countRows(Map.of(
+                        "new", pojosToCreate.size(),
+                        "updated", entitiesToUpdate.size(),
+                        "restored", entitiesToRestore.size(),
+                        "unchanged", unchangedOddrns.size(),
+                        "task_runs", taskRuns.size(),
+                        "lineage_edges", request.getLineageRelations().size(),
+                        "dataset_fields", countDatasetFields(request)
+                    )).thenReturn(request));
             });
     }
 
@@ -273,6 +312,23 @@ public class IngestionServiceImpl implements IngestionService {
         return result;
     }
 
+    private int countDatasetFields(final IngestionRequest request) {
+        return request.getAllEntities().stream()
+            .filter(dto -> dto.getDataSet() != null && dto.getDataSet().fieldList() != null)
+            .mapToInt(dto -> dto.getDataSet().fieldList().size())
+            .sum();
+    }
+
+    // An entity is unchanged if it's been ingested with exactly the same payload before
+    // and since then it hasn't been deleted or turned into a hollow one
+    private boolean isUnchanged(final DataEntityIngestionDto dto, final DataEntityPojo existingPojo) {
+        return existingPojo != null
+            && existingPojo.getIngestionFingerprint() != null
+            && existingPojo.getIngestionFingerprint().equals(dto.getFingerprint())
+            && !Boolean.TRUE.equals(existingPojo.getHollow())
+            && !existingPojo.getStatus().equals(DataEntityStatusDto.DELETED.getId());
+    }
+
     private DataEntityTotalDelta calculateTotalDeltaCount(final List<DataEntityPojo> newPojos,
                                                           final List<DataEntityPojo> entitiesToUpdate,
                                                           final Map<String, DataEntityPojo> existingPojoDict) {
@@ -0,0 +1,44 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreamingIngestionServiceImpl implements StreamingIngestionService {
+    private final IngestionService ingestionService;
+    private final IngestionProperties ingestionProperties;
+
+    /**
+     * Every batch goes through the regular ingestion pipeline in its own transaction,
+     * so no more than two batches of the stream are held in memory at any moment.
+     */
+    @Override
+    public Mono<Long> ingest(final String dataSourceOddrn, final Flux<DataEntity> dataEntities) {
+        return dataEntities
+            .buffer(ingestionProperties.getStream().getBatchSize())
+            .concatMap(batch -> ingestBatch(dataSourceOddrn, batch), 1)
+            .reduce(0L, Long::sum)
+            .filter(ingested -> ingested > 0)
+            .switchIfEmpty(Mono.error(() -> new BadUserRequestException("Ingestion payload is empty")));
+    }
+
+    private Mono<Long> ingestBatch(final String dataSourceOddrn, final List<DataEntity> batch) {
+        log.debug("Ingesting batch of {} entities for data source {}", batch.size(), dataSourceOddrn);
+
+        final DataEntityList dataEntityList = new DataEntityList()
+            .dataSourceOddrn(dataSourceOddrn)
+            .items(batch);
+
+        return ingestionService.ingest(dataEntityList).thenReturn((long) batch.size());
+    }
+}
@@ -36,11 +36,6 @@ public class ActivityIngestionRequestProcessor implements IngestionRequestProces
         return CollectionUtils.isNotEmpty(request.getNewEntities());
     }
 
-    @Override
-    public IngestionProcessingPhase getPhase() {
-        return IngestionProcessingPhase.FINALIZING;
-    }
-
     private List<ActivityCreateEvent> createActivityEvents(final ActivityContextInfo ctx,
                                                            final Map<Long, String> dtoMap) {
         return dtoMap.entrySet()
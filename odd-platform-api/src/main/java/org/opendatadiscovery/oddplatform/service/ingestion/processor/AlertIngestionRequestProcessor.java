@@ -72,8 +72,13 @@ public class AlertIngestionRequestProcessor implements IngestionRequestProcessor
     }
 
     @Override
-    public IngestionProcessingPhase getPhase() {
-        return IngestionProcessingPhase.FINALIZING;
+    public Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+        return Set.of(
+            HollowDataEntityIngestionRequestProcessor.class,
+            DataQualityTestRelationIngestionRequestProcessor.class,
+            DatasetStructureIngestionRequestProcessor.class,
+            TaskRunIngestionRequestProcessor.class
+        );
     }
 
     private Mono<AlertStateSnapshotKey> getAlertStateSnapshotKey(final IngestionRequest request) {
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
@@ -21,4 +22,9 @@ public class DataQualityTestRelationIngestionRequestProcessor implements Ingesti
     public boolean shouldProcess(final IngestionRequest request) {
         return CollectionUtils.isNotEmpty(request.getDataQARelations());
     }
+
+    @Override
+    public Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+        return Set.of(HollowDataEntityIngestionRequestProcessor.class);
+    }
 }
@@ -49,8 +49,8 @@ public class ExternalTagIngestionRequestProcessor implements IngestionRequestPro
     }
 
     @Override
-    public IngestionProcessingPhase getPhase() {
-        return IngestionProcessingPhase.FINALIZING;
+    public Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+        return Set.of(DatasetStructureIngestionRequestProcessor.class);
     }
 
     private List<TagToDataEntityPojo> getUpdatedRelations(final Map<String, TagPojo> tagsMap,
@@ -1,39 +1,82 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
 import org.opendatadiscovery.oddplatform.dto.ingestion.EnrichedDataEntityIngestionDto;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.service.search.SearchIndexService;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
 public class FTSVectorsIngestionRequestProcessor implements IngestionRequestProcessor {
-    private final ReactiveSearchEntrypointRepository searchEntrypointRepository;
+    private static final TypeReference<Map<String, String>> FINGERPRINTS_TYPE = new TypeReference<>() {
+    };
+
+    private final SearchIndexService searchIndexService;
 
     @Override
     public Mono<Void> process(final IngestionRequest request) {
-        final List<Long> idsToProcess = request.getAllEntities()
-            .stream()
-            .filter(dto -> !DataEntityTypeDto.JOB_RUN.equals(dto.getType()))
-            .map(EnrichedDataEntityIngestionDto::getId)
-            .toList();
-
-        return searchEntrypointRepository.recalculateVectors(idsToProcess);
+        return searchIndexService.updateVectors(collectChangedVectors(request));
     }
 
     @Override
     public boolean shouldProcess(final IngestionRequest request) {
-        return request.getAllEntities()
-            .stream()
-            .anyMatch(dto -> !DataEntityTypeDto.JOB_RUN.equals(dto.getType()));
+        return !collectChangedVectors(request).isEmpty();
     }
 
     @Override
-    public IngestionProcessingPhase getPhase() {
-        return IngestionProcessingPhase.FINALIZING;
+    public Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+        return Set.of(
+            DatasetStructureIngestionRequestProcessor.class,
+            MetadataIngestionRequestProcessor.class,
+            ExternalTagIngestionRequestProcessor.class
+        );
+    }
+
+    private Map<SearchVectorKind, List<Long>> collectChangedVectors(final IngestionRequest request) {
+        final Map<SearchVectorKind, List<Long>> result = new EnumMap<>(SearchVectorKind.class);
+        request.getAllEntities().stream()
+            .filter(dto -> !DataEntityTypeDto.JOB_RUN.equals(dto.getType()))
+            .forEach(dto -> changedVectors(dto)
+                .forEach(kind -> result.computeIfAbsent(kind, k -> new ArrayList<>()).add(dto.getId())));
+        return result;
+    }
+
+    private Set<SearchVectorKind> changedVectors(final EnrichedDataEntityIngestionDto dto) {
+        final DataEntityPojo previousVersion = dto.getPreviousVersionPojo();
+        if (previousVersion == null
+            || Boolean.TRUE.equals(previousVersion.getHollow())
+            || previousVersion.getSearchVectorFingerprints() == null
+            || dto.getSearchVectorFingerprints() == null
+            || Objects.equals(previousVersion.getStatus(), DataEntityStatusDto.DELETED.getId())) {
+            return EnumSet.allOf(SearchVectorKind.class);
+        }
+
+        final Map<String, String> previousFingerprints = JSONSerDeUtils.deserializeJson(
+            previousVersion.getSearchVectorFingerprints().data(), FINGERPRINTS_TYPE);
+
+        final Set<SearchVectorKind> changed = EnumSet.noneOf(SearchVectorKind.class);
+        Arrays.stream(SearchVectorKind.values())
+            .filter(kind -> !Objects.equals(
+                previousFingerprints.get(kind.name()),
+                dto.getSearchVectorFingerprints().get(kind.name())
+            ))
+            .forEach(changed::add);
+        return changed;
     }
 }
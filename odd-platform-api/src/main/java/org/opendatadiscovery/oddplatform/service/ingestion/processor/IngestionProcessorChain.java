@@ -1,56 +1,145 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Executes ingestion request processors as a directed acyclic graph built from their declared dependencies.
+ * A processor starts as soon as all of its dependencies are finished, so independent processors run concurrently,
+ * limited by the configured parallelism. All processors share the caller's transaction.
+ */
 @Component
 @Slf4j
 public class IngestionProcessorChain {
-    private final Map<IngestionProcessingPhase, List<IngestionRequestProcessor>> ingestionRequestProcessors;
-
-    public IngestionProcessorChain(final List<IngestionRequestProcessor> ingestionRequestProcessors) {
-        this.ingestionRequestProcessors = ingestionRequestProcessors.stream()
-            .collect(Collectors.groupingBy(
-                IngestionRequestProcessor::getPhase,
-                () -> new TreeMap<>(Comparator.comparingInt(IngestionProcessingPhase::getOrder)),
-                Collectors.toList()
-            ));
+    private final List<IngestionRequestProcessor> sortedProcessors;
+    private final Map<IngestionRequestProcessor, List<IngestionRequestProcessor>> dependencies;
+    private final int parallelism;
+    private final IngestionMetrics ingestionMetrics;
+
+    public IngestionProcessorChain(final List<IngestionRequestProcessor> ingestionRequestProcessors,
+                                   final IngestionProperties ingestionProperties,
+                                   final IngestionMetrics ingestionMetrics) {
+        this.dependencies = resolveDependencies(ingestionRequestProcessors);
+        this.sortedProcessors = sortTopologically(ingestionRequestProcessors, dependencies);
+        this.parallelism = Math.max(1, ingestionProperties.getProcessorParallelism());
+        this.ingestionMetrics = ingestionMetrics;
     }
 
     public Mono<IngestionRequest> processIngestionRequest(final IngestionRequest request) {
-        return Flux.fromStream(ingestionRequestProcessors.entrySet().stream())
-            .<Mono<IngestionRequest>>handle((e, sink) -> {
-                final List<Mono<IngestionRequest>> phaseExecutions =
-                    getPhaseExecutions(request, e.getKey(), e.getValue());
+        final Map<IngestionRequestProcessor, Mono<Void>> executions = new HashMap<>();
+        for (final IngestionRequestProcessor processor : sortedProcessors) {
+            final List<Mono<Void>> awaitedDependencies = dependencies.get(processor).stream()
+                .map(executions::get)
+                .toList();
 
-                if (CollectionUtils.isNotEmpty(phaseExecutions)) {
-                    sink.next(Mono.zip(phaseExecutions, voids -> request));
-                }
-            })
-            .concatMap(execution -> execution)
+            executions.put(processor, Mono.when(awaitedDependencies)
+                .then(Mono.defer(() -> execute(processor, request)))
+                .cache());
+        }
+
+        // Processors are subscribed in topological order, so every processor waiting for its dependencies
+        // can rely on them being already started, which makes the bounded concurrency deadlock free
+        return Flux.fromIterable(sortedProcessors)
+            .flatMap(executions::get, parallelism)
             .then(Mono.just(request));
     }
 
-    private List<Mono<IngestionRequest>> getPhaseExecutions(final IngestionRequest request,
-                                                            final IngestionProcessingPhase phase,
-                                                            final List<IngestionRequestProcessor> processors) {
-        return processors
-            .stream()
-            .filter(ip -> {
-                final boolean shouldProcess = ip.shouldProcess(request);
-                log.debug("Phase: {}, Processor: {}, Scheduled: {}", phase, ip.getClass().getName(), shouldProcess);
-                return shouldProcess;
-            })
-            .map(ip -> ip.process(request).thenReturn(request))
-            .toList();
+    private Mono<Void> execute(final IngestionRequestProcessor processor, final IngestionRequest request) {
+        final String processorName = processorClass(processor).getSimpleName();
+        final boolean shouldProcess = processor.shouldProcess(request);
+        log.debug("Processor: {}, Scheduled: {}", processorName, shouldProcess);
+
+        if (!shouldProcess) {
+            return Mono.empty();
+        }
+
+        return ingestionMetrics.timedProcessor(processorName, processor.process(request));
+    }
+
+    private static Map<IngestionRequestProcessor, List<IngestionRequestProcessor>> resolveDependencies(
+        final List<IngestionRequestProcessor> processors
+    ) {
+        final Map<Class<?>, IngestionRequestProcessor> processorsByClass = processors.stream()
+            .collect(Collectors.toMap(IngestionProcessorChain::processorClass, p -> p));
+
+        final Map<IngestionRequestProcessor, List<IngestionRequestProcessor>> result = new LinkedHashMap<>();
+        for (final IngestionRequestProcessor processor : processors) {
+            final Set<Class<? extends IngestionRequestProcessor>> declared = processor.getDependencies();
+            final List<IngestionRequestProcessor> resolved = new ArrayList<>();
+            for (final Class<? extends IngestionRequestProcessor> dependencyClass : declared) {
+                final IngestionRequestProcessor dependency = processorsByClass.get(dependencyClass);
+                if (dependency == null) {
+                    log.warn("Dependency {} of {} is not registered, ignoring it",
+                        dependencyClass.getSimpleName(), processorClass(processor).getSimpleName());
+                    continue;
+                }
+                resolved.add(dependency);
+            }
+            result.put(processor, resolved);
+        }
+
+        return result;
+    }
+
+    private static List<IngestionRequestProcessor> sortTopologically(
+        final List<IngestionRequestProcessor> processors,
+        final Map<IngestionRequestProcessor, List<IngestionRequestProcessor>> dependencies
+    ) {
+        final Map<IngestionRequestProcessor, Integer> inDegrees = new HashMap<>();
+        final Map<IngestionRequestProcessor, List<IngestionRequestProcessor>> dependants = new HashMap<>();
+        for (final IngestionRequestProcessor processor : processors) {
+            inDegrees.put(processor, dependencies.get(processor).size());
+            dependencies.get(processor)
+                .forEach(d -> dependants.computeIfAbsent(d, k -> new ArrayList<>()).add(processor));
+        }
+
+        // Sorting by name makes the execution order deterministic between application restarts
+        final Deque<IngestionRequestProcessor> ready = processors.stream()
+            .filter(p -> inDegrees.get(p) == 0)
+            .sorted(Comparator.comparing(p -> processorClass(p).getName()))
+            .collect(Collectors.toCollection(ArrayDeque::new));
+
+        final List<IngestionRequestProcessor> sorted = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            final IngestionRequestProcessor processor = ready.poll();
+            sorted.add(processor);
+
+            for (final IngestionRequestProcessor dependant : dependants.getOrDefault(processor, List.of())) {
+                if (inDegrees.merge(dependant, -1, Integer::sum) == 0) {
+                    ready.add(dependant);
+                }
+            }
+        }
+
+        if (sorted.size() != processors.size()) {
+            final String cycle = processors.stream()
+                .filter(p -> !sorted.contains(p))
+                .map(p -> processorClass(p).getSimpleName())
+                .collect(Collectors.joining(", "));
+
+            throw new IllegalStateException("Ingestion request processors have cyclic dependencies: " + cycle);
+        }
+
+        return sorted;
+    }
+
+    private static Class<?> processorClass(final IngestionRequestProcessor processor) {
+        return ClassUtils.getUserClass(processor);
     }
 }
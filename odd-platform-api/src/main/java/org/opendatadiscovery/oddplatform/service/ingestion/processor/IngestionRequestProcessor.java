@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.util.Set;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
 import reactor.core.publisher.Mono;
 
@@ -8,7 +9,8 @@ public interface IngestionRequestProcessor {
 
     boolean shouldProcess(final IngestionRequest request);
 
-    default IngestionProcessingPhase getPhase() {
-        return IngestionProcessingPhase.MAIN;
+    // Processors whose results this processor relies on. They're guaranteed to be finished before it starts
+    default Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+        return Set.of();
     }
 }
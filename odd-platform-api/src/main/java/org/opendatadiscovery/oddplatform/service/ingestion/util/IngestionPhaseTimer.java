@@ -0,0 +1,17 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.util;
+
+import lombok.experimental.UtilityClass;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionPhaseTimings;
+import reactor.core.publisher.Mono;
+
+@UtilityClass
+public class IngestionPhaseTimer {
+    public static <T> Mono<T> timed(final String phase, final Mono<T> source) {
+        return Mono.deferContextual(ctx -> ctx.<IngestionPhaseTimings>getOrEmpty(IngestionPhaseTimings.class)
+            .map(timings -> {
+                final long start = System.nanoTime();
+                return source.doFinally(signal -> timings.record(phase, System.nanoTime() - start));
+            })
+            .orElse(source));
+    }
+}
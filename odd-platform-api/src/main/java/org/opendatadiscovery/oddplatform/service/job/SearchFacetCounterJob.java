@@ -0,0 +1,27 @@
+package org.opendatadiscovery.oddplatform.service.job;
+
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockAssert;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(value = "search.facets.counters-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchFacetCounterJob {
+    private final ReactiveSearchFacetRepository searchFacetRepository;
+
+    @Scheduled(fixedRate = 1, timeUnit = TimeUnit.MINUTES)
+    @SchedulerLock(name = "searchFacetCounterJob", lockAtLeastFor = "50s", lockAtMostFor = "5m")
+    public void run() {
+        LockAssert.assertLocked();
+        final Integer changed = searchFacetRepository.refreshCounters().block();
+        log.debug("Refreshed search facet counters, {} of them have been changed", changed);
+    }
+}
@@ -2,7 +2,6 @@ package org.opendatadiscovery.oddplatform.service.search;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,6 +26,7 @@ import org.opendatadiscovery.oddplatform.mapper.MetadataFieldValueMapper;
 import org.opendatadiscovery.oddplatform.mapper.TagMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -34,333 +34,138 @@ import org.springframework.util.CollectionUtils;
 @Component
 @RequiredArgsConstructor
 public class DataEntityHighlightConverter {
-    private static final String HIGHLIGHT_TAG = "<b>";
-    private static final String HIGHLIGHT_TAG_END = "</b>";
-
-    private static final String DELIMITER = Character.toString((char) 31);
-    private static final String RECORD_DELIMITER = Character.toString((char) 30);
-    private static final String GROUP_DELIMITER = Character.toString((char) 29);
-    private static final String ENTITY_FIELD_DELIMITER = Character.toString((char) 28);
-
     private final TagMapper tagMapper;
     private final MetadataFieldValueMapper metadataMapper;
 
-    public String convert(final DataEntityDetailsDto detailsDto,
-                          final DatasetStructureDto structureDto) {
-        final String dataEntityFields = dataEntityDetailsFields(detailsDto.getDataEntity());
-        final String dataSourceFields = dataSourceFields(detailsDto.getDataSource());
-        final String namespaceFields = namespaceFields(detailsDto.getNamespace());
-        final String tagFields = tagFields(detailsDto.getTags());
-        final String ownershipFields = ownershipFields(detailsDto.getOwnership());
-        final String internalMetadataFields = internalMetadataFields(detailsDto.getMetadata());
-        final String externalMetadataFields = externalMetadataFields(detailsDto.getMetadata());
-        final String dataSetStructure = dataSetStructure(structureDto);
-        return Stream.of(dataEntityFields, dataSourceFields, namespaceFields, tagFields, ownershipFields,
-                internalMetadataFields, externalMetadataFields, dataSetStructure)
-            .collect(Collectors.joining(ENTITY_FIELD_DELIMITER, "", ENTITY_FIELD_DELIMITER));
-    }
-
-    public DataEntitySearchHighlight parseHighlightedString(final String highlightedString,
-                                                            final DataEntityDetailsDto detailsDto,
-                                                            final DatasetStructureDto structureDto) {
-        final String[] fields = highlightedString.split(ENTITY_FIELD_DELIMITER, -1);
-        final DataEntitySearchHighlight highlight = new DataEntitySearchHighlight();
-        final DataEntityHighlight dataEntityHighlight = parseDataEntitySearch(fields[0]);
-        highlight.setDataEntity(dataEntityHighlight);
-        final DataSourceHighlight dataSourceHighlight = parseDataSourceSearch(fields[1]);
-        highlight.setDataSource(dataSourceHighlight);
-        final NamespaceHighlight namespaceHighlight = parseNamespaceSearch(fields[2]);
-        highlight.setNamespace(namespaceHighlight);
-        final List<Tag> tagHighlight = parseTagSearch(fields[3], detailsDto.getTags());
-        highlight.setTags(tagHighlight);
-        final List<OwnershipHighlight> ownershipHighlight = parseOwnershipSearch(fields[4]);
-        highlight.setOwners(ownershipHighlight);
-        final List<MetadataFieldValue> internalMetadataHighlight =
-            parseMetadata(fields[5], MetadataOrigin.INTERNAL, detailsDto.getMetadata());
-        final List<MetadataFieldValue> externalMetadataHighlight =
-            parseMetadata(fields[6], MetadataOrigin.EXTERNAL, detailsDto.getMetadata());
-        highlight.setMetadata(Stream.of(internalMetadataHighlight, externalMetadataHighlight)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList()));
-        final List<DataSetStructureHighlight> dataSetStructureHighlight =
-            parseDataSetStructureSearch(fields[7], structureDto);
-        highlight.setDatasetStructure(dataSetStructureHighlight);
-        return highlight;
-    }
-
-    private String dataEntityDetailsFields(final DataEntityPojo pojo) {
-        return String.join(RECORD_DELIMITER,
-            searchableString(pojo.getExternalName()),
-            searchableString(pojo.getInternalName()),
-            searchableString(pojo.getExternalDescription()),
-            searchableString(pojo.getInternalDescription())
-        );
-    }
-
-    private String dataSourceFields(final DataSourcePojo pojo) {
+    public DataEntitySearchHighlight highlight(final String queryString,
+                                               final DataEntityDetailsDto detailsDto,
+                                               final DatasetStructureDto structureDto) {
+        final SearchQueryHighlighter highlighter = new SearchQueryHighlighter(queryString);
+        final List<MetadataFieldValue> metadata = Stream.of(MetadataOrigin.INTERNAL, MetadataOrigin.EXTERNAL)
+            .flatMap(origin -> highlightMetadata(highlighter, detailsDto.getMetadata(), origin).stream())
+            .collect(Collectors.toList());
+        return new DataEntitySearchHighlight()
+            .dataEntity(highlightDataEntity(highlighter, detailsDto.getDataEntity()))
+            .dataSource(highlightDataSource(highlighter, detailsDto.getDataSource()))
+            .namespace(highlightNamespace(highlighter, detailsDto.getNamespace()))
+            .tags(nullIfEmpty(highlightTags(highlighter, detailsDto.getTags())))
+            .owners(nullIfEmpty(highlightOwnership(highlighter, detailsDto.getOwnership())))
+            .metadata(metadata)
+            .datasetStructure(nullIfEmpty(highlightDataSetStructure(highlighter, structureDto)));
+    }
+
+    private DataEntityHighlight highlightDataEntity(final SearchQueryHighlighter highlighter,
+                                                    final DataEntityPojo pojo) {
+        final DataEntityHighlight highlight = new DataEntityHighlight()
+            .externalName(highlighter.highlight(pojo.getExternalName()))
+            .internalName(highlighter.highlight(pojo.getInternalName()))
+            .externalDescription(highlighter.highlight(pojo.getExternalDescription()))
+            .internalDescription(highlighter.highlight(pojo.getInternalDescription()));
+        return highlight.equals(new DataEntityHighlight()) ? null : highlight;
+    }
+
+    private DataSourceHighlight highlightDataSource(final SearchQueryHighlighter highlighter,
+                                                    final DataSourcePojo pojo) {
         if (pojo == null) {
-            return "";
-        }
-        return String.join(RECORD_DELIMITER,
-            searchableString(pojo.getName()),
-            searchableString(pojo.getOddrn())
-        );
-    }
-
-    private String namespaceFields(final NamespacePojo pojo) {
-        if (pojo == null) {
-            return "";
-        }
-        return searchableString(pojo.getName());
-    }
-
-    private String tagFields(final Collection<TagDto> tags) {
-        if (CollectionUtils.isEmpty(tags)) {
-            return "";
-        }
-        return tags.stream()
-            .map(t -> searchableString(t.tagPojo().getName()))
-            .collect(Collectors.joining(DELIMITER));
-    }
-
-    private String ownershipFields(final List<OwnershipDto> ownership) {
-        if (CollectionUtils.isEmpty(ownership)) {
-            return "";
-        }
-        return ownership.stream()
-            .map(o -> {
-                final String ownerName = searchableString(o.getOwner().getName());
-                final String ownerTitle = searchableString(o.getTitle().getName());
-                return String.join(RECORD_DELIMITER, ownerName, ownerTitle);
-            })
-            .collect(Collectors.joining(GROUP_DELIMITER));
-    }
-
-    private String internalMetadataFields(final Collection<MetadataDto> metadata) {
-        return metadataFields(metadata, MetadataOrigin.INTERNAL);
-    }
-
-    private String externalMetadataFields(final Collection<MetadataDto> metadata) {
-        return metadataFields(metadata, MetadataOrigin.EXTERNAL);
-    }
-
-    private String metadataFields(final Collection<MetadataDto> metadata,
-                                  final MetadataOrigin origin) {
-        if (CollectionUtils.isEmpty(metadata)) {
-            return "";
-        }
-        return metadata.stream()
-            .filter(m -> m.metadataField().getOrigin().equalsIgnoreCase(origin.name()))
-            .map(m -> {
-                final String key = searchableString(m.metadataField().getName());
-                final String value = searchableString(m.metadataFieldValue().getValue());
-                return String.join(RECORD_DELIMITER, key, value);
-            })
-            .collect(Collectors.joining(GROUP_DELIMITER));
-    }
-
-    private String dataSetStructure(final DatasetStructureDto structureDto) {
-        if (CollectionUtils.isEmpty(structureDto.getDatasetFields())) {
-            return "";
-        }
-        return structureDto.getDatasetFields().stream()
-            .map(f -> {
-                final String name = searchableString(f.getDatasetFieldPojo().getName());
-                final String internalDescription = searchableString(f.getDatasetFieldPojo().getInternalDescription());
-                final String externalDescription = searchableString(f.getDatasetFieldPojo().getExternalDescription());
-                final String tags = mapDatasetFieldTags(f.getTags());
-                return String.join(RECORD_DELIMITER, name, internalDescription, externalDescription, tags);
-            })
-            .collect(Collectors.joining(GROUP_DELIMITER));
-    }
-
-    private String mapDatasetFieldTags(final List<TagDto> tags) {
-        if (CollectionUtils.isEmpty(tags)) {
-            return "";
-        }
-        return tags.stream()
-            .map(l -> searchableString(l.tagPojo().getName()))
-            .collect(Collectors.joining(DELIMITER));
-    }
-
-    private DataEntityHighlight parseDataEntitySearch(final String dataEntityHighlight) {
-        if (!isHighlighted(dataEntityHighlight)) {
             return null;
         }
-        final DataEntityHighlight highlight = new DataEntityHighlight();
-        final String[] fields = dataEntityHighlight.split(RECORD_DELIMITER, -1);
-        final String highlightedExternalName = fields[0];
-        if (isHighlighted(highlightedExternalName)) {
-            highlight.setExternalName(highlightedExternalName);
-        }
-        final String highlightedInternalName = fields[1];
-        if (isHighlighted(highlightedInternalName)) {
-            highlight.setInternalName(highlightedInternalName);
-        }
-        final String highlightedExternalDescription = fields[2];
-        if (isHighlighted(highlightedExternalDescription)) {
-            highlight.setExternalDescription(highlightedExternalDescription);
-        }
-        final String highlightedInternalDescription = fields[3];
-        if (isHighlighted(highlightedInternalDescription)) {
-            highlight.setInternalDescription(highlightedInternalDescription);
-        }
-        return highlight;
+        final DataSourceHighlight highlight = new DataSourceHighlight()
+            .name(highlighter.highlight(pojo.getName()))
+            .oddrn(highlighter.highlight(pojo.getOddrn()));
+        return highlight.equals(new DataSourceHighlight()) ? null : highlight;
     }
 
-    private DataSourceHighlight parseDataSourceSearch(final String dataSourceHighlight) {
-        if (!isHighlighted(dataSourceHighlight)) {
-            return null;
-        }
-        final DataSourceHighlight highlight = new DataSourceHighlight();
-        final String[] fields = dataSourceHighlight.split(RECORD_DELIMITER, -1);
-        final String highlightedName = fields[0];
-        if (isHighlighted(highlightedName)) {
-            highlight.setName(highlightedName);
-        }
-        final String highlightedOddrn = fields[1];
-        if (isHighlighted(highlightedOddrn)) {
-            highlight.setOddrn(highlightedOddrn);
-        }
-        return highlight;
-    }
-
-    private NamespaceHighlight parseNamespaceSearch(final String namespaceHighlight) {
-        if (!isHighlighted(namespaceHighlight)) {
+    private NamespaceHighlight highlightNamespace(final SearchQueryHighlighter highlighter,
+                                                  final NamespacePojo pojo) {
+        if (pojo == null) {
             return null;
         }
-        final NamespaceHighlight highlight = new NamespaceHighlight();
-        highlight.setName(namespaceHighlight);
-        return highlight;
+        final String name = highlighter.highlight(pojo.getName());
+        return name == null ? null : new NamespaceHighlight().name(name);
     }
 
-    private List<Tag> parseTagSearch(final String tagHighlight,
-                                     final Collection<TagDto> originalTags) {
-        if (!isHighlighted(tagHighlight)) {
-            return null;
+    private List<Tag> highlightTags(final SearchQueryHighlighter highlighter,
+                                    final Collection<TagDto> tags) {
+        if (CollectionUtils.isEmpty(tags)) {
+            return List.of();
         }
-        final List<Tag> tags = new ArrayList<>();
-        final String[] rawTags = tagHighlight.split(DELIMITER);
-        for (final String rawTag : rawTags) {
-            if (isHighlighted(rawTag)) {
-                final String name = rawTag.replace(HIGHLIGHT_TAG, "").replace(HIGHLIGHT_TAG_END, "");
-                final TagDto tagDto = originalTags.stream()
-                    .filter(t -> t.tagPojo().getName().equals(name))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Tag not found"));
-                tags.add(tagMapper.mapToHighlightedTag(tagDto, rawTag));
+        final List<Tag> result = new ArrayList<>();
+        for (final TagDto tag : tags) {
+            final String name = highlighter.highlight(tag.tagPojo().getName());
+            if (name != null) {
+                result.add(tagMapper.mapToHighlightedTag(tag, name));
             }
         }
-        return tags;
+        return result;
     }
 
-    private List<OwnershipHighlight> parseOwnershipSearch(final String ownershipHighlight) {
-        if (!isHighlighted(ownershipHighlight)) {
-            return null;
-        }
-        final String[] ownerships = ownershipHighlight.split(GROUP_DELIMITER);
-        final List<OwnershipHighlight> ownershipHighlights = new ArrayList<>();
-        for (final String ownership : ownerships) {
-            final String[] fields = ownership.split(RECORD_DELIMITER);
-            final String highlightedOwnerName = fields[0];
-            final String highlightedOwnerTitle = fields[1];
-            if (isHighlighted(highlightedOwnerName) || isHighlighted(highlightedOwnerTitle)) {
-                final OwnershipHighlight ownershipHighlightDto = new OwnershipHighlight();
-                ownershipHighlightDto.setOwner(highlightedOwnerName);
-                ownershipHighlightDto.setTitle(highlightedOwnerTitle);
-                ownershipHighlights.add(ownershipHighlightDto);
+    private List<OwnershipHighlight> highlightOwnership(final SearchQueryHighlighter highlighter,
+                                                        final List<OwnershipDto> ownership) {
+        if (CollectionUtils.isEmpty(ownership)) {
+            return List.of();
+        }
+        final List<OwnershipHighlight> result = new ArrayList<>();
+        for (final OwnershipDto dto : ownership) {
+            final String ownerName = highlighter.highlight(dto.getOwner().getName());
+            final String ownerTitle = highlighter.highlight(dto.getTitle().getName());
+            if (ownerName != null || ownerTitle != null) {
+                result.add(new OwnershipHighlight()
+                    .owner(orPlain(ownerName, dto.getOwner().getName()))
+                    .title(orPlain(ownerTitle, dto.getTitle().getName())));
             }
         }
-        return ownershipHighlights;
+        return result;
     }
 
-    private List<MetadataFieldValue> parseMetadata(final String metadataHighlight,
-                                                   final MetadataOrigin origin,
-                                                   final Collection<MetadataDto> originalMetadata) {
-        if (!isHighlighted(metadataHighlight)) {
-            return Collections.emptyList();
+    private List<MetadataFieldValue> highlightMetadata(final SearchQueryHighlighter highlighter,
+                                                       final Collection<MetadataDto> metadata,
+                                                       final MetadataOrigin origin) {
+        if (CollectionUtils.isEmpty(metadata)) {
+            return List.of();
         }
         final List<MetadataFieldValue> result = new ArrayList<>();
-        final String[] metadataArray = metadataHighlight.split(GROUP_DELIMITER);
-        for (final String metadata : metadataArray) {
-            final String[] fields = metadata.split(RECORD_DELIMITER);
-            final String highlightedName = fields[0];
-            final String highlightedValue = fields[1];
-            if (isHighlighted(highlightedName) || isHighlighted(highlightedValue)) {
-                final String originalName = highlightedName.replace(HIGHLIGHT_TAG, "").replace(HIGHLIGHT_TAG_END, "");
-                final MetadataDto metadataDto = originalMetadata.stream()
-                    .filter(m -> m.metadataField().getName().equals(originalName)
-                        && m.metadataField().getOrigin().equals(origin.name()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Metadata not found"));
-                result.add(metadataMapper.mapHighlightedDto(metadataDto, highlightedName, highlightedValue));
+        for (final MetadataDto dto : metadata) {
+            if (!dto.metadataField().getOrigin().equalsIgnoreCase(origin.name())) {
+                continue;
             }
-        }
-        return result;
-    }
-
-    private List<DataSetStructureHighlight> parseDataSetStructureSearch(final String dataSetStructureHighlight,
-                                                                        final DatasetStructureDto structureDto) {
-        if (!isHighlighted(dataSetStructureHighlight)) {
-            return null;
-        }
-        final String[] dataSetStructures = dataSetStructureHighlight.split(GROUP_DELIMITER);
-        final List<DataSetStructureHighlight> dataSetStructureHighlights = new ArrayList<>();
-        for (final String dataSetStructure : dataSetStructures) {
-            final String[] fields = dataSetStructure.split(RECORD_DELIMITER, -1);
-            final String highlightedName = fields[0];
-            final String highlightedIntDescription = fields[1];
-            final String highlightedExtDescription = fields[2];
-            final String highlightedTags = fields[3];
-            if (isHighlighted(highlightedName) || isHighlighted(highlightedIntDescription)
-                || isHighlighted(highlightedExtDescription) || isHighlighted(highlightedTags)) {
-                final DataSetStructureHighlight dataSetStructureHighlightDto = new DataSetStructureHighlight();
-                dataSetStructureHighlightDto.setName(highlightedName);
-                if (isHighlighted(highlightedIntDescription)) {
-                    dataSetStructureHighlightDto.setInternalDescription(highlightedIntDescription);
-                }
-                if (isHighlighted(highlightedExtDescription)) {
-                    dataSetStructureHighlightDto.setExternalDescription(highlightedExtDescription);
-                }
-                if (isHighlighted(highlightedTags)) {
-                    final String datasetFieldName =
-                        highlightedName.replace(HIGHLIGHT_TAG, "").replace(HIGHLIGHT_TAG_END, "");
-                    final DatasetFieldDto dataSetFieldDto = structureDto.getDatasetFields().stream()
-                        .filter(f -> f.getDatasetFieldPojo().getName().equals(datasetFieldName))
-                        .findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException("Dataset field not found"));
-                    final List<Tag> tags = parseTags(highlightedTags, dataSetFieldDto);
-                    dataSetStructureHighlightDto.setTags(tags);
-                }
-                dataSetStructureHighlights.add(dataSetStructureHighlightDto);
+            final String name = highlighter.highlight(dto.metadataField().getName());
+            final String value = highlighter.highlight(dto.metadataFieldValue().getValue());
+            if (name != null || value != null) {
+                result.add(metadataMapper.mapHighlightedDto(dto,
+                    orPlain(name, dto.metadataField().getName()), orPlain(value, dto.metadataFieldValue().getValue())));
             }
         }
-        return dataSetStructureHighlights;
+        return result;
     }
 
-    private List<Tag> parseTags(final String highlightedTags,
-                                    final DatasetFieldDto dataSetFieldDto) {
-        final List<Tag> tags = new ArrayList<>();
-        final String[] rawTags = highlightedTags.split(DELIMITER);
-        for (final String rawTag : rawTags) {
-            if (isHighlighted(rawTag)) {
-                final String name = rawTag.replace(HIGHLIGHT_TAG, "").replace(HIGHLIGHT_TAG_END, "");
-                final TagDto tagDto = dataSetFieldDto.getTags().stream()
-                    .filter(l -> l.tagPojo().getName().equals(name))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Tag not found"));
-                tags.add(tagMapper.mapToHighlightedTag(tagDto, rawTag));
+    private List<DataSetStructureHighlight> highlightDataSetStructure(final SearchQueryHighlighter highlighter,
+                                                                      final DatasetStructureDto structureDto) {
+        if (CollectionUtils.isEmpty(structureDto.getDatasetFields())) {
+            return List.of();
+        }
+        final List<DataSetStructureHighlight> result = new ArrayList<>();
+        for (final DatasetFieldDto field : structureDto.getDatasetFields()) {
+            final DatasetFieldPojo pojo = field.getDatasetFieldPojo();
+            final String name = highlighter.highlight(pojo.getName());
+            final String internalDescription = highlighter.highlight(pojo.getInternalDescription());
+            final String externalDescription = highlighter.highlight(pojo.getExternalDescription());
+            final List<Tag> tags = highlightTags(highlighter, field.getTags());
+            if (name != null || internalDescription != null || externalDescription != null || !tags.isEmpty()) {
+                result.add(new DataSetStructureHighlight()
+                    .name(orPlain(name, pojo.getName()))
+                    .internalDescription(internalDescription)
+                    .externalDescription(externalDescription)
+                    .tags(nullIfEmpty(tags)));
             }
         }
-        return tags;
+        return result;
     }
 
-    private boolean isHighlighted(final String field) {
-        return StringUtils.isNotEmpty(field) && field.contains(HIGHLIGHT_TAG) && field.contains(HIGHLIGHT_TAG_END);
+    private String orPlain(final String highlighted, final String plain) {
+        return highlighted != null ? highlighted : StringUtils.defaultString(plain);
     }
 
-    private String searchableString(final String value) {
-        return StringUtils.defaultIfEmpty(value, "")
-            .replace("'", "''");
+    private <T> List<T> nullIfEmpty(final List<T> list) {
+        return list.isEmpty() ? null : list;
     }
 }
@@ -34,14 +34,6 @@ public class DataEntityHighlightServiceImpl implements DataEntityHighlightServic
             .getLatestDatasetVersion(dataEntityId)
             .switchIfEmpty(Mono.just(new DatasetStructureDto()));
         return Mono.zip(queryStringMono, detailsMono, latestDatasetVersion)
-            .flatMap(function(this::getHighlightedResult));
-    }
-
-    private Mono<DataEntitySearchHighlight> getHighlightedResult(final String queryString,
-                                                                 final DataEntityDetailsDto detailsDto,
-                                                                 final DatasetStructureDto structureDto) {
-        final String searchableString = converter.convert(detailsDto, structureDto);
-        return dataEntityRepository.getHighlightedResult(searchableString, queryString)
-            .map(highlightedString -> converter.parseHighlightedString(highlightedString, detailsDto, structureDto));
+            .map(function(converter::highlight));
     }
 }
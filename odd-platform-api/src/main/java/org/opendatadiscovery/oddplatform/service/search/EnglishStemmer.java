@@ -0,0 +1,284 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snowball (Porter2) English stemmer, the algorithm behind the english_stem dictionary of PostgreSQL.
+ */
+final class EnglishStemmer {
+    private static final String VOWELS = "aeiouy";
+    private static final String DOUBLES = "bdfgmnprt";
+    private static final String LI_ENDINGS = "cdeghkmnrt";
+    private static final List<String> R1_PREFIXES = List.of("gener", "commun", "arsen");
+
+    private static final Map<String, String> EXCEPTIONS = Map.ofEntries(
+        Map.entry("skis", "ski"),
+        Map.entry("skies", "sky"),
+        Map.entry("dying", "die"),
+        Map.entry("lying", "lie"),
+        Map.entry("tying", "tie"),
+        Map.entry("idly", "idl"),
+        Map.entry("gently", "gentl"),
+        Map.entry("ugly", "ugli"),
+        Map.entry("early", "earli"),
+        Map.entry("only", "onli"),
+        Map.entry("singly", "singl"),
+        Map.entry("sky", "sky"),
+        Map.entry("news", "news"),
+        Map.entry("howe", "howe"),
+        Map.entry("atlas", "atlas"),
+        Map.entry("cosmos", "cosmos"),
+        Map.entry("bias", "bias"),
+        Map.entry("andes", "andes")
+    );
+
+    private static final Set<String> STEP_1A_INVARIANTS =
+        Set.of("inning", "outing", "canning", "herring", "earring", "proceed", "exceed", "succeed");
+
+    private static final List<Map.Entry<String, String>> STEP_2 = longestFirst(Map.ofEntries(
+        Map.entry("ational", "ate"),
+        Map.entry("tional", "tion"),
+        Map.entry("enci", "ence"),
+        Map.entry("anci", "ance"),
+        Map.entry("abli", "able"),
+        Map.entry("entli", "ent"),
+        Map.entry("izer", "ize"),
+        Map.entry("ization", "ize"),
+        Map.entry("ation", "ate"),
+        Map.entry("ator", "ate"),
+        Map.entry("alism", "al"),
+        Map.entry("aliti", "al"),
+        Map.entry("alli", "al"),
+        Map.entry("fulness", "ful"),
+        Map.entry("ousli", "ous"),
+        Map.entry("ousness", "ous"),
+        Map.entry("iveness", "ive"),
+        Map.entry("iviti", "ive"),
+        Map.entry("biliti", "ble"),
+        Map.entry("bli", "ble"),
+        Map.entry("ogi", "og"),
+        Map.entry("fulli", "ful"),
+        Map.entry("lessli", "less"),
+        Map.entry("li", "")
+    ));
+
+    private static final List<Map.Entry<String, String>> STEP_3 = longestFirst(Map.ofEntries(
+        Map.entry("ational", "ate"),
+        Map.entry("tional", "tion"),
+        Map.entry("alize", "al"),
+        Map.entry("icate", "ic"),
+        Map.entry("iciti", "ic"),
+        Map.entry("ical", "ic"),
+        Map.entry("ful", ""),
+        Map.entry("ness", ""),
+        Map.entry("ative", "")
+    ));
+
+    private static final List<String> STEP_4 = List.of(
+        "ement", "ance", "ence", "able", "ible", "ment", "ant", "ent", "ism", "ate", "iti", "ous", "ive", "ize",
+        "ion", "al", "er", "ic"
+    );
+
+    private EnglishStemmer() {
+    }
+
+    static String stem(final String word) {
+        if (word.length() <= 2) {
+            return word;
+        }
+        final String exception = EXCEPTIONS.get(word);
+        if (exception != null) {
+            return exception;
+        }
+
+        final StringBuilder w = new StringBuilder(word);
+        markConsonantY(w);
+        final int r1 = r1(w);
+        final int r2 = region(w, r1);
+
+        step1a(w);
+        if (STEP_1A_INVARIANTS.contains(w.toString())) {
+            return w.toString();
+        }
+        step1b(w, r1);
+        step1c(w);
+        step2(w, r1);
+        step3(w, r1, r2);
+        step4(w, r2);
+        step5(w, r1, r2);
+        return w.toString().replace('Y', 'y');
+    }
+
+    private static void markConsonantY(final StringBuilder w) {
+        for (int i = 0; i < w.length(); i++) {
+            if (w.charAt(i) == 'y' && (i == 0 || isVowel(w.charAt(i - 1)))) {
+                w.setCharAt(i, 'Y');
+            }
+        }
+    }
+
+    private static int r1(final StringBuilder w) {
+        for (final String prefix : R1_PREFIXES) {
+            if (w.indexOf(prefix) == 0) {
+                return prefix.length();
+            }
+        }
+        return region(w, 0);
+    }
+
+    private static int region(final StringBuilder w, final int start) {
+        for (int i = start + 1; i < w.length(); i++) {
+            if (!isVowel(w.charAt(i)) && isVowel(w.charAt(i - 1))) {
+                return i + 1;
+            }
+        }
+        return w.length();
+    }
+
+    private static void step1a(final StringBuilder w) {
+        if (endsWith(w, "sses")) {
+            replaceSuffix(w, 4, "ss");
+        } else if (endsWith(w, "ied") || endsWith(w, "ies")) {
+            replaceSuffix(w, 3, w.length() > 4 ? "i" : "ie");
+        } else if (endsWith(w, "us") || endsWith(w, "ss")) {
+            return;
+        } else if (endsWith(w, "s") && containsVowel(w, w.length() - 2)) {
+            w.setLength(w.length() - 1);
+        }
+    }
+
+    private static void step1b(final StringBuilder w, final int r1) {
+        if (endsWith(w, "eedly") || endsWith(w, "eed")) {
+            final int suffixLength = endsWith(w, "eedly") ? 5 : 3;
+            if (w.length() - suffixLength >= r1) {
+                replaceSuffix(w, suffixLength, "ee");
+            }
+            return;
+        }
+        for (final String suffix : List.of("ingly", "edly", "ing", "ed")) {
+            if (endsWith(w, suffix)) {
+                final int stemLength = w.length() - suffix.length();
+                if (containsVowel(w, stemLength)) {
+                    w.setLength(stemLength);
+                    if (endsWith(w, "at") || endsWith(w, "bl") || endsWith(w, "iz")) {
+                        w.append('e');
+                    } else if (endsWithDouble(w)) {
+                        w.setLength(w.length() - 1);
+                    } else if (r1 >= w.length() && endsWithShortSyllable(w)) {
+                        w.append('e');
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    private static void step1c(final StringBuilder w) {
+        final int last = w.length() - 1;
+        if (last > 1 && (w.charAt(last) == 'y' || w.charAt(last) == 'Y') && !isVowel(w.charAt(last - 1))) {
+            w.setCharAt(last, 'i');
+        }
+    }
+
+    private static void step2(final StringBuilder w, final int r1) {
+        for (final Map.Entry<String, String> rule : STEP_2) {
+            if (endsWith(w, rule.getKey())) {
+                final int start = w.length() - rule.getKey().length();
+                if (start < r1) {
+                    return;
+                }
+                if ("ogi".equals(rule.getKey()) && w.charAt(start - 1) != 'l') {
+                    return;
+                }
+                if ("li".equals(rule.getKey()) && LI_ENDINGS.indexOf(w.charAt(start - 1)) < 0) {
+                    return;
+                }
+                replaceSuffix(w, rule.getKey().length(), rule.getValue());
+                return;
+            }
+        }
+    }
+
+    private static void step3(final StringBuilder w, final int r1, final int r2) {
+        for (final Map.Entry<String, String> rule : STEP_3) {
+            if (endsWith(w, rule.getKey())) {
+                final int start = w.length() - rule.getKey().length();
+                if (start >= r1 && (!"ative".equals(rule.getKey()) || start >= r2)) {
+                    replaceSuffix(w, rule.getKey().length(), rule.getValue());
+                }
+                return;
+            }
+        }
+    }
+
+    private static void step4(final StringBuilder w, final int r2) {
+        for (final String suffix : STEP_4) {
+            if (endsWith(w, suffix)) {
+                final int start = w.length() - suffix.length();
+                if (start >= r2 && (!"ion".equals(suffix) || "st".indexOf(w.charAt(start - 1)) >= 0)) {
+                    w.setLength(start);
+                }
+                return;
+            }
+        }
+    }
+
+    private static void step5(final StringBuilder w, final int r1, final int r2) {
+        final int last = w.length() - 1;
+        if (w.charAt(last) == 'e') {
+            if (last >= r2 || last >= r1 && !endsWithShortSyllable(w.substring(0, last))) {
+                w.setLength(last);
+            }
+        } else if (w.charAt(last) == 'l' && last >= r2 && w.charAt(last - 1) == 'l') {
+            w.setLength(last);
+        }
+    }
+
+    private static boolean endsWithShortSyllable(final CharSequence w) {
+        final int n = w.length();
+        if (n == 2) {
+            return isVowel(w.charAt(0)) && !isVowel(w.charAt(1));
+        }
+        return n > 2
+            && !isVowel(w.charAt(n - 3))
+            && isVowel(w.charAt(n - 2))
+            && !isVowel(w.charAt(n - 1))
+            && "wxY".indexOf(w.charAt(n - 1)) < 0;
+    }
+
+    private static boolean endsWithDouble(final StringBuilder w) {
+        final int n = w.length();
+        return n > 1 && w.charAt(n - 1) == w.charAt(n - 2) && DOUBLES.indexOf(w.charAt(n - 1)) >= 0;
+    }
+
+    private static boolean containsVowel(final StringBuilder w, final int end) {
+        for (int i = 0; i < end; i++) {
+            if (isVowel(w.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean endsWith(final StringBuilder w, final String suffix) {
+        final int start = w.length() - suffix.length();
+        return start >= 0 && w.indexOf(suffix, start) == start;
+    }
+
+    private static void replaceSuffix(final StringBuilder w, final int suffixLength, final String replacement) {
+        w.replace(w.length() - suffixLength, w.length(), replacement);
+    }
+
+    private static boolean isVowel(final char c) {
+        return VOWELS.indexOf(c) >= 0;
+    }
+
+    private static List<Map.Entry<String, String>> longestFirst(final Map<String, String> rules) {
+        return rules.entrySet().stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, String> e) -> e.getKey().length()).reversed())
+            .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.util.List;
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.dto.SearchIndexBacklogDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
+import reactor.core.publisher.Mono;
+
+public interface SearchIndexService {
+    /**
+     * Recalculates the given search vectors of data entities. If the background search indexer is enabled,
+     * vectors are only marked as dirty and recalculated later by the indexer.
+     */
+    Mono<Void> updateVectors(final Map<SearchVectorKind, List<Long>> dataEntityIds);
+
+    Mono<Void> updateVectors(final long dataEntityId, final SearchVectorKind... kinds);
+
+    /**
+     * Recalculates the oldest batch of dirty search vectors.
+     *
+     * @return number of processed queue entries, zero if the queue is empty
+     */
+    Mono<Integer> indexNextBatch();
+
+    Mono<SearchIndexBacklogDto> getBacklog();
+}
@@ -0,0 +1,90 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.SearchIndexerProperties;
+import org.opendatadiscovery.oddplatform.dto.SearchIndexBacklogDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchIndexQueuePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchIndexQueueRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Slf4j
+public class SearchIndexServiceImpl implements SearchIndexService {
+    private final ReactiveSearchIndexQueueRepository searchIndexQueueRepository;
+    private final SearchIndexerProperties searchIndexerProperties;
+    private final SearchResultCache searchResultCache;
+    private final Map<SearchVectorKind, Function<List<Long>, Mono<Integer>>> updaters;
+
+    public SearchIndexServiceImpl(final ReactiveSearchEntrypointRepository searchEntrypointRepository,
+                                  final ReactiveSearchIndexQueueRepository searchIndexQueueRepository,
+                                  final SearchIndexerProperties searchIndexerProperties,
+                                  final SearchResultCache searchResultCache) {
+        this.searchIndexQueueRepository = searchIndexQueueRepository;
+        this.searchIndexerProperties = searchIndexerProperties;
+        this.searchResultCache = searchResultCache;
+        this.updaters = Map.of(
+            SearchVectorKind.DATA_ENTITY, searchEntrypointRepository::updateDataEntityVectors,
+            SearchVectorKind.DATA_SOURCE, ids -> searchEntrypointRepository.updateDataSourceVectorsForDataEntities(ids)
+                .then(searchEntrypointRepository.updateNamespaceVectorForDataEntities(ids)),
+            SearchVectorKind.METADATA, searchEntrypointRepository::updateMetadataVectors,
+            SearchVectorKind.STRUCTURE, searchEntrypointRepository::updateStructureVectorForDataEntitiesByIds,
+            SearchVectorKind.TAG, searchEntrypointRepository::updateTagVectorsForDataEntities
+        );
+    }
+
+    @Override
+    public Mono<Void> updateVectors(final Map<SearchVectorKind, List<Long>> dataEntityIds) {
+        if (searchIndexerProperties.isEnabled()) {
+            return searchIndexQueueRepository.enqueue(dataEntityIds);
+        }
+
+        return recalculate(dataEntityIds);
+    }
+
+    @Override
+    public Mono<Void> updateVectors(final long dataEntityId, final SearchVectorKind... kinds) {
+        return updateVectors(Arrays.stream(kinds).collect(Collectors.toMap(Function.identity(),
+            kind -> List.of(dataEntityId))));
+    }
+
+    @Override
+    public Mono<Integer> indexNextBatch() {
+        return searchIndexQueueRepository.listOldest(searchIndexerProperties.getBatchSize())
+            .collectList()
+            .filter(entries -> !entries.isEmpty())
+            .flatMap(entries -> recalculate(groupByKind(entries))
+                .then(searchIndexQueueRepository.delete(entries))
+                .doOnSuccess(ignored -> searchResultCache.bumpEpoch())
+                .thenReturn(entries.size()))
+            .defaultIfEmpty(0);
+    }
+
+    @Override
+    public Mono<SearchIndexBacklogDto> getBacklog() {
+        return searchIndexQueueRepository.getBacklog();
+    }
+
+    private Mono<Void> recalculate(final Map<SearchVectorKind, List<Long>> dataEntityIds) {
+        log.debug("Recalculating search vectors: {}", dataEntityIds);
+
+        return Flux.fromIterable(dataEntityIds.entrySet())
+            .concatMap(e -> updaters.get(e.getKey()).apply(e.getValue()))
+            .then();
+    }
+
+    private Map<SearchVectorKind, List<Long>> groupByKind(final List<SearchIndexQueuePojo> entries) {
+        return entries.stream().collect(Collectors.groupingBy(
+            e -> SearchVectorKind.valueOf(e.getVectorKind()),
+            Collectors.mapping(SearchIndexQueuePojo::getDataEntityId, Collectors.toList())
+        ));
+    }
+}
@@ -0,0 +1,107 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.SearchIndexerProperties;
+import org.opendatadiscovery.oddplatform.dto.SearchIndexBacklogDto;
+import org.opendatadiscovery.oddplatform.leaderelection.PostgreSQLLeaderElectionManager;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import reactor.core.Exceptions;
+
+/**
+ * Recalculates dirty search vectors outside of the transactions which have modified the data.
+ * Only the instance holding the advisory lock indexes, the rest are waiting for the lock to be released.
+ * Between the runs the indexer sleeps for the configured lag target, so that vectors marked as dirty
+ * several times during that period are recalculated only once.
+ */
+@Slf4j
+public class SearchIndexerJob extends Thread {
+    public static final String BACKLOG_GAUGE = "odd.search.indexer.backlog";
+    public static final String LAG_GAUGE = "odd.search.indexer.lag";
+
+    private final PostgreSQLLeaderElectionManager leaderElectionManager;
+    private final SearchIndexService searchIndexService;
+    private final SearchIndexerProperties searchIndexerProperties;
+
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public SearchIndexerJob(final PostgreSQLLeaderElectionManager leaderElectionManager,
+                            final SearchIndexService searchIndexService,
+                            final SearchIndexerProperties searchIndexerProperties,
+                            final MeterRegistry meterRegistry) {
+        this.leaderElectionManager = leaderElectionManager;
+        this.searchIndexService = searchIndexService;
+        this.searchIndexerProperties = searchIndexerProperties;
+
+        Gauge.builder(BACKLOG_GAUGE, backlogSize, AtomicLong::get)
+            .description("Number of search vectors waiting to be recalculated")
+            .register(meterRegistry);
+        Gauge.builder(LAG_GAUGE, lagMillis, AtomicLong::get)
+            .description("Age of the oldest search vector waiting to be recalculated")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void run() {
+        while (!Thread.interrupted()) {
+            try (final Connection ignored = leaderElectionManager.acquire(
+                searchIndexerProperties.getAdvisoryLockId(), false)) {
+                while (true) {
+                    observeBacklog();
+
+                    Integer indexed;
+                    do {
+                        indexed = searchIndexService.indexNextBatch().block();
+                        log.debug("Recalculated {} dirty search vectors", indexed);
+                    } while (indexed != null && indexed > 0);
+
+                    observeBacklog();
+                    TimeUnit.MILLISECONDS.sleep(searchIndexerProperties.getLagTarget().toMillis());
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Exception e) {
+                if (Exceptions.unwrap(e) instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                log.error("Error occurred while the search indexer was running", e);
+            }
+
+            log.debug("Released a lock, waiting 10 seconds for next iteration");
+            try {
+                TimeUnit.SECONDS.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void observeBacklog() {
+        final SearchIndexBacklogDto backlog = searchIndexService.getBacklog().block();
+        if (backlog == null) {
+            return;
+        }
+
+        final long lag = backlog.oldestEnqueuedAt() == null
+            ? 0
+            : Math.max(0, Duration.between(backlog.oldestEnqueuedAt(), DateTimeUtil.generateNow()).toMillis());
+
+        backlogSize.set(backlog.size());
+        lagMillis.set(lag);
+
+        if (lag > searchIndexerProperties.getLagTarget().toMillis() * 2) {
+            log.warn("Search index lags behind the target: {} dirty vectors, the oldest one is {} ms old",
+                backlog.size(), lag);
+        }
+    }
+}
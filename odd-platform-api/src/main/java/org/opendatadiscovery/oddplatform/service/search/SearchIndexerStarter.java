@@ -0,0 +1,46 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.SearchIndexerProperties;
+import org.opendatadiscovery.oddplatform.leaderelection.PostgreSQLLeaderElectionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(value = "search.indexer.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexerStarter {
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(
+        r -> new Thread(r, "search-indexer-thread")
+    );
+
+    private final PostgreSQLLeaderElectionManager leaderElectionManager;
+    private final SearchIndexService searchIndexService;
+    private final SearchIndexerProperties searchIndexerProperties;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runSearchIndexer() {
+        log.debug("Background search indexer is enabled");
+
+        executorService.submit(new SearchIndexerJob(
+            leaderElectionManager,
+            searchIndexService,
+            searchIndexerProperties,
+            meterRegistry
+        ));
+    }
+
+    @PreDestroy
+    public void stop() {
+        executorService.shutdownNow();
+    }
+}
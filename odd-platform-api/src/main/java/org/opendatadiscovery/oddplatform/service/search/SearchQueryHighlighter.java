@@ -0,0 +1,100 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Highlights the words of a text matched by a search query the same way as
+ * ts_headline('english', text, to_tsquery(JooqFTSHelper.tsQuery(query)), 'HighlightAll=true'):
+ * every query word is an English prefix lexeme and a text word is highlighted if its lexeme starts with any of them.
+ * HTML tags are skipped like the PostgreSQL parser does. Unlike that parser, compound tokens such as file paths,
+ * emails, dotted names and decimal numbers are split into words, so their parts are highlighted separately.
+ */
+public final class SearchQueryHighlighter {
+    private static final String HIGHLIGHT_TAG = "<b>";
+    private static final String HIGHLIGHT_TAG_END = "</b>";
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern TAG_OR_WORD = Pattern.compile("</?[A-Za-z][^<>]*>|[\\p{L}\\p{N}]+");
+    private static final Pattern DIGIT = Pattern.compile("\\p{N}");
+
+    // english.stop of PostgreSQL
+    private static final Set<String> STOP_WORDS = Set.of(
+        "i", "me", "my", "myself", "we", "our", "ours", "ourselves", "you", "your", "yours", "yourself",
+        "yourselves", "he", "him", "his", "himself", "she", "her", "hers", "herself", "it", "its", "itself", "they",
+        "them", "their", "theirs", "themselves", "what", "which", "who", "whom", "this", "that", "these", "those",
+        "am", "is", "are", "was", "were", "be", "been", "being", "have", "has", "had", "having", "do", "does", "did",
+        "doing", "a", "an", "the", "and", "but", "if", "or", "because", "as", "until", "while", "of", "at", "by",
+        "for", "with", "about", "against", "between", "into", "through", "during", "before", "after", "above",
+        "below", "to", "from", "up", "down", "in", "out", "on", "off", "over", "under", "again", "further", "then",
+        "once", "here", "there", "when", "where", "why", "how", "all", "any", "both", "each", "few", "more", "most",
+        "other", "some", "such", "no", "nor", "not", "only", "own", "same", "so", "than", "too", "very", "s", "t",
+        "can", "will", "just", "don", "should", "now"
+    );
+
+    private final List<String> prefixes;
+    private final Map<String, Boolean> matchedWords = new HashMap<>();
+
+    public SearchQueryHighlighter(final String query) {
+        this.prefixes = StringUtils.isEmpty(query) ? List.of() : WORD.matcher(query).results()
+            .map(MatchResult::group)
+            .map(SearchQueryHighlighter::lexeme)
+            .filter(StringUtils::isNotEmpty)
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * @return the text with the matched words wrapped into highlight tags or null if nothing matched
+     */
+    public String highlight(final String text) {
+        if (prefixes.isEmpty() || StringUtils.isEmpty(text)) {
+            return null;
+        }
+        final Matcher matcher = TAG_OR_WORD.matcher(text);
+        StringBuilder highlighted = null;
+        int copied = 0;
+        while (matcher.find()) {
+            if (text.charAt(matcher.start()) != '<' && matchedWords.computeIfAbsent(matcher.group(), this::matches)) {
+                if (highlighted == null) {
+                    highlighted = new StringBuilder(text.length() + 16);
+                }
+                highlighted.append(text, copied, matcher.start())
+                    .append(HIGHLIGHT_TAG)
+                    .append(text, matcher.start(), matcher.end())
+                    .append(HIGHLIGHT_TAG_END);
+                copied = matcher.end();
+            }
+        }
+        return highlighted == null ? null : highlighted.append(text, copied, text.length()).toString();
+    }
+
+    private boolean matches(final String word) {
+        final String lexeme = lexeme(word);
+        if (lexeme.isEmpty()) {
+            return false;
+        }
+        for (final String prefix : prefixes) {
+            if (lexeme.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String lexeme(final String word) {
+        final String lowerCase = word.toLowerCase(Locale.ROOT);
+        if (STOP_WORDS.contains(lowerCase)) {
+            return "";
+        }
+        // words with digits are not stemmed by the english configuration
+        return DIGIT.matcher(lowerCase).find() ? lowerCase : EnglishStemmer.stem(lowerCase);
+    }
+}
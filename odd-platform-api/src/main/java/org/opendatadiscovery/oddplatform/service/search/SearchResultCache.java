@@ -0,0 +1,123 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.config.properties.SearchCacheProperties;
+import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
+import org.opendatadiscovery.oddplatform.dto.FacetType;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches search result pages and facet counts per normalized facet state.
+ * Every key contains the catalog epoch, which is bumped after the catalog has been changed,
+ * so that values loaded before a change are never returned after it. They are evicted by size or TTL.
+ *
+ * <p>The epoch is local to the instance, the TTL bounds the staleness of changes made by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchResultCache {
+    private static final String RESULTS_CACHE = "search_results";
+    private static final String FACETS_CACHE = "search_facets";
+
+    private final SearchCacheProperties searchCacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong epoch = new AtomicLong();
+
+    private AsyncCache<Key, DataEntityList> results;
+    private AsyncCache<Key, Object> facets;
+
+    @PostConstruct
+    public void init() {
+        this.results = CaffeineCacheMetrics.monitor(meterRegistry, cacheBuilder().buildAsync(), RESULTS_CACHE);
+        this.facets = CaffeineCacheMetrics.monitor(meterRegistry, cacheBuilder().buildAsync(), FACETS_CACHE);
+    }
+
+    public void bumpEpoch() {
+        epoch.incrementAndGet();
+    }
+
+    public Mono<DataEntityList> getResults(final FacetStateDto state,
+                                           final Integer page,
+                                           final Integer size,
+                                           final String cursor,
+                                           final boolean exactCount,
+                                           final Long ownerId,
+                                           final Supplier<Mono<DataEntityList>> loader) {
+        // the page number is ignored when a cursor is given
+        return get(results,
+            key("results", state, cursor != null ? null : page, size, cursor, exactCount, ownerId), loader);
+    }
+
+    /**
+     * Returns a cached count or facet of the given facet state.
+     *
+     * @param operation name of the operation computing the value
+     * @param arguments the rest of the operation arguments, which are a part of the key along with the state
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> getFacet(final String operation,
+                                final FacetStateDto state,
+                                final List<?> arguments,
+                                final Supplier<Mono<T>> loader) {
+        return get(facets, key(operation, state, arguments.toArray()), loader).map(value -> (T) value);
+    }
+
+    private <V> Mono<V> get(final AsyncCache<Key, V> cache,
+                            final Key key,
+                            final Supplier<? extends Mono<? extends V>> loader) {
+        if (!searchCacheProperties.isEnabled()) {
+            return Mono.defer(loader);
+        }
+
+        // the loading future is shared by the concurrent requests, so it mustn't be cancelled by any of them
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.get().toFuture()), true);
+    }
+
+    private Key key(final String operation, final FacetStateDto state, final Object... arguments) {
+        return new Key(epoch.get(), operation, StringUtils.defaultString(state.getQuery()), state.isMyObjects(),
+            normalize(state.getState()), Arrays.asList(arguments));
+    }
+
+    // only the ids and the selection of the filters are used by the queries, not the order or the names
+    private Map<FacetType, Map<Long, Boolean>> normalize(final Map<FacetType, List<SearchFilterDto>> state) {
+        if (state == null) {
+            return Map.of();
+        }
+
+        return state.entrySet().stream()
+            .filter(e -> e.getValue() != null && !e.getValue().isEmpty())
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().stream().collect(
+                Collectors.toMap(SearchFilterDto::getEntityId, SearchFilterDto::isSelected, Boolean::logicalOr))));
+    }
+
+    private Caffeine<Object, Object> cacheBuilder() {
+        return Caffeine.newBuilder()
+            .maximumSize(searchCacheProperties.getMaximumSize())
+            .expireAfterWrite(searchCacheProperties.getTtl())
+            .recordStats();
+    }
+
+    private record Key(long epoch,
+                       String operation,
+                       String query,
+                       boolean myObjects,
+                       Map<FacetType, Map<Long, Boolean>> filters,
+                       List<Object> arguments) {
+    }
+}
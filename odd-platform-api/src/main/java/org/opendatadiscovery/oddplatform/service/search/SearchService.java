@@ -23,7 +23,13 @@ public interface SearchService {
 
     Mono<SearchFacetsData> updateFacets(final UUID searchId, final SearchFormData formData);
 
-    Mono<DataEntityList> getSearchResults(final UUID searchId, final Integer page, final Integer size);
+    /**
+     * Returns a page of the search results, either by the page number or, if the cursor isn't null,
+     * by seeking past the data entity the cursor points to. The total is exact only when requested
+     * or configured so.
+     */
+    Mono<DataEntityList> getSearchResults(final UUID searchId, final Integer page, final Integer size,
+                                          final String cursor, final boolean exactCount);
 
     Flux<DataEntityRef> getQuerySuggestions(final String query, final Integer entityClassId,
                                             final Boolean manuallyCreated);
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service.search;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityMapper;
 import org.opendatadiscovery.oddplatform.mapper.FacetStateMapper;
 import org.opendatadiscovery.oddplatform.mapper.SearchMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchFacetsPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
@@ -46,6 +48,7 @@ public class SearchServiceImpl implements SearchService {
     private final DataEntityService dataEntityService;
     private final ReactiveDataEntityRepository reactiveDataEntityRepository;
     private final AuthIdentityProvider authIdentityProvider;
+    private final SearchResultCache searchResultCache;
 
     @Override
     public Flux<CountableSearchFilter> getFilterOptions(final UUID searchId,
@@ -55,9 +58,11 @@ public class SearchServiceImpl implements SearchService {
                                                         final String query) {
         return fetchFacetState(searchId)
             .map(facetStateMapper::pojoToState)
-            .flatMapMany(state -> getFacetFetchOperation(facetType, query, page, size)
-                .apply(state)
-                .map(facetMap -> removeSelectedFiltersAndMap(facetMap, state, facetType))
+            .flatMapMany(state -> Mono.zip(
+                    searchResultCache.getFacet(facetType.getValue(), state, Arrays.asList(query, page, size),
+                        () -> getFacetFetchOperation(facetType, query, page, size).apply(state)),
+                    isSampled(state))
+                .map(function((facetMap, sampled) -> removeSelectedFiltersAndMap(facetMap, state, facetType, sampled)))
                 .flatMapIterable(Function.identity())
             );
     }
@@ -98,16 +103,20 @@ public class SearchServiceImpl implements SearchService {
     @Override
     public Mono<DataEntityList> getSearchResults(final UUID searchId,
                                                  final Integer page,
-                                                 final Integer size) {
+                                                 final Integer size,
+                                                 final String cursor,
+                                                 final boolean exactCount) {
         return fetchFacetState(searchId)
             .flatMap(pojo -> {
                 final FacetStateDto state = facetStateMapper.pojoToState(pojo);
                 if (state.isMyObjects()) {
                     return authIdentityProvider.fetchAssociatedOwner()
-                        .flatMap(owner -> dataEntityService.findByState(state, page, size, owner))
+                        .flatMap(owner -> searchResultCache.getResults(state, page, size, cursor, exactCount,
+                            owner.getId(), () -> findByState(state, page, size, cursor, exactCount, owner)))
                         .switchIfEmpty(Mono.just(new DataEntityList(List.of(), new PageInfo(0L, false))));
                 }
-                return dataEntityService.findByState(state, page, size);
+                return searchResultCache.getResults(state, page, size, cursor, exactCount, null,
+                    () -> findByState(state, page, size, cursor, exactCount, null));
             });
     }
 
@@ -119,20 +128,33 @@ public class SearchServiceImpl implements SearchService {
             .map(dataEntityMapper::mapRef);
     }
 
+    private Mono<DataEntityList> findByState(final FacetStateDto state,
+                                             final Integer page,
+                                             final Integer size,
+                                             final String cursor,
+                                             final boolean exactCount,
+                                             final OwnerPojo owner) {
+        return cursor != null
+            ? dataEntityService.findByStateAfter(state, cursor, size, owner, exactCount)
+            : dataEntityService.findByState(state, page, size, owner, exactCount);
+    }
+
     private Mono<SearchFacetsData> getFacetsData(final UUID searchId, final FacetStateDto state) {
-        final Mono<Map<SearchFilterId, Long>> entityClassFacet = searchFacetRepository
-            .getEntityClassFacetForDataEntity(state);
+        final Mono<Map<SearchFilterId, Long>> entityClassFacet = searchResultCache.getFacet("entity_classes",
+            state, List.of(), () -> searchFacetRepository.getEntityClassFacetForDataEntity(state));
 
-        final Mono<Long> allCount = reactiveDataEntityRepository.countByState(state);
+        final Mono<Long> allCount = searchResultCache.getFacet("count", state, List.of(),
+            () -> reactiveDataEntityRepository.countByState(state));
 
         final Mono<Long> myObjectsCount = authIdentityProvider.fetchAssociatedOwner()
-            .flatMap(owner -> reactiveDataEntityRepository.countByState(state, owner))
+            .flatMap(owner -> searchResultCache.getFacet("count", state, List.of(owner.getId()),
+                () -> reactiveDataEntityRepository.countByState(state, owner)))
             .switchIfEmpty(Mono.just(0L));
 
-        return Mono.zip(entityClassFacet, allCount, myObjectsCount).map(
-            function((entityClassFacetMap, totalCount, myObjectsTotalCount) -> {
+        return Mono.zip(entityClassFacet, allCount, myObjectsCount, isSampled(state)).map(
+            function((entityClassFacetMap, totalCount, myObjectsTotalCount, sampled) -> {
                 final List<CountableSearchFilter> entityClasses = entityClassFacetMap.entrySet().stream()
-                    .map(e -> searchMapper.mapCountableSearchFilter(e.getKey(), e.getValue()))
+                    .map(e -> mapCountableSearchFilter(e.getKey(), e.getValue(), sampled))
                     .sorted(Comparator.comparing(CountableSearchFilter::getCount).reversed())
                     .toList();
 
@@ -174,13 +196,29 @@ public class SearchServiceImpl implements SearchService {
         };
     }
 
+    private Mono<Boolean> isSampled(final FacetStateDto state) {
+        return searchResultCache.getFacet("sampled", state, List.of(),
+            () -> searchFacetRepository.isSampled(state.getQuery()));
+    }
+
+    private CountableSearchFilter mapCountableSearchFilter(final SearchFilterId filterId,
+                                                           final long count,
+                                                           final boolean sampled) {
+        final CountableSearchFilter filter = searchMapper.mapCountableSearchFilter(filterId, count);
+        if (sampled) {
+            filter.setApproximate(true);
+        }
+        return filter;
+    }
+
     private List<CountableSearchFilter> removeSelectedFiltersAndMap(final Map<SearchFilterId, Long> facetFiltersMap,
                                                                     final FacetStateDto state,
-                                                                    final MultipleFacetType facetType) {
+                                                                    final MultipleFacetType facetType,
+                                                                    final boolean sampled) {
         final Set<Long> selectedFilters = getSelectedFilters(state, facetType);
         return facetFiltersMap.entrySet().stream()
             .filter(e -> !selectedFilters.contains(e.getKey().getEntityId()))
-            .map(e -> searchMapper.mapCountableSearchFilter(e.getKey(), e.getValue()))
+            .map(e -> mapCountableSearchFilter(e.getKey(), e.getValue(), sampled))
             .sorted(Comparator.comparing(CountableSearchFilter::getCount).reversed())
             .collect(Collectors.toList());
     }
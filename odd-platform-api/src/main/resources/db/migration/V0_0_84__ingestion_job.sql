@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS ingestion_job
+(
+    id             BIGSERIAL PRIMARY KEY,
+    data_source_id BIGINT                      NOT NULL,
+    status         SMALLINT                    NOT NULL,
+    payload        JSONB                       NOT NULL,
+    entities_count INTEGER                     NOT NULL,
+    phase_timings  JSONB,
+    error          TEXT,
+    created_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (NOW() AT TIME ZONE ('UTC')),
+    started_at     TIMESTAMP WITHOUT TIME ZONE,
+    finished_at    TIMESTAMP WITHOUT TIME ZONE,
+
+    CONSTRAINT fk_ingestion_job_data_source_id FOREIGN KEY (data_source_id) REFERENCES data_source (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS ingestion_job_data_source_id_status_idx ON ingestion_job (data_source_id, status);
+CREATE INDEX IF NOT EXISTS ingestion_job_finished_at_idx ON ingestion_job (finished_at) WHERE finished_at IS NOT NULL;
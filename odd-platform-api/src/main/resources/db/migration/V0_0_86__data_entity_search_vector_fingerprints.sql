@@ -0,0 +1,2 @@
+ALTER TABLE data_entity
+    ADD COLUMN IF NOT EXISTS search_vector_fingerprints JSONB;
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS search_index_queue
+(
+    data_entity_id BIGINT                      NOT NULL,
+    vector_kind    VARCHAR(32)                 NOT NULL,
+    enqueued_at    TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (NOW() AT TIME ZONE ('UTC')),
+    updated_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (NOW() AT TIME ZONE ('UTC')),
+
+    CONSTRAINT search_index_queue_pk PRIMARY KEY (data_entity_id, vector_kind),
+    CONSTRAINT fk_search_index_queue_data_entity_id FOREIGN KEY (data_entity_id) REFERENCES data_entity (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS search_index_queue_enqueued_at_idx ON search_index_queue (enqueued_at);
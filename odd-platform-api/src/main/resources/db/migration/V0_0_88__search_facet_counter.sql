@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS search_facet_counter
+(
+    facet_type        VARCHAR(32) NOT NULL,
+    entity_class_id   INTEGER     NOT NULL,
+    facet_entity_id   BIGINT      NOT NULL,
+    data_entity_count BIGINT      NOT NULL,
+
+    CONSTRAINT search_facet_counter_pk PRIMARY KEY (facet_type, entity_class_id, facet_entity_id)
+);
@@ -0,0 +1,7 @@
+ALTER TABLE ingestion_job
+    ADD COLUMN IF NOT EXISTS attempt      INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP WITHOUT TIME ZONE;
+
+UPDATE ingestion_job
+SET heartbeat_at = started_at
+WHERE heartbeat_at IS NULL;
@@ -0,0 +1,169 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatus;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+    "ingestion.async.enabled=true",
+    "ingestion.async.poll-interval=100ms"
+})
+public class AsyncIngestionTest extends BaseIngestionTest {
+    @Autowired
+    private ReactiveIngestionJobRepository ingestionJobRepository;
+
+    /**
+     * Enqueues an ingestion job, waits until a worker processes it
+     * and checks the job status and that all entities were ingested.
+     */
+    @Test
+    @DisplayName("Asynchronous ingestion test")
+    public void asyncIngestionTest() {
+        final var createdDataSource = createDataSource();
+
+        final List<DataEntity> datasets = IntStream.range(0, 3)
+            .mapToObj(i -> IngestionModelGenerator.generateSimpleDataEntity(DataEntityType.TABLE)
+                .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(3))))
+            .toList();
+
+        final var dataEntityList = new DataEntityList()
+            .dataSourceOddrn(createdDataSource.getOddrn())
+            .items(datasets);
+
+        final IngestionJobDto enqueuedJob = webTestClient.post()
+            .uri("/ingestion/entities/async")
+            .body(Mono.just(dataEntityList), DataEntityList.class)
+            .exchange()
+            .expectStatus().isAccepted()
+            .expectBody(IngestionJobDto.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(enqueuedJob).isNotNull();
+        assertThat(enqueuedJob.entitiesCount()).isEqualTo(datasets.size());
+
+        final IngestionJobDto finishedJob = awaitJob(enqueuedJob.id(), createdDataSource.getToken().getValue());
+        assertThat(finishedJob.status()).isEqualTo(IngestionJobStatus.COMPLETED);
+        assertThat(finishedJob.error()).isNull();
+        assertThat(finishedJob.startedAt()).isNotNull();
+        assertThat(finishedJob.finishedAt()).isNotNull();
+        assertThat(finishedJob.phaseTimings()).containsKeys("persist", "processing", "metrics_export");
+
+        final var ingestedEntities = extractIngestedEntitiesAndAssert(createdDataSource, datasets.size());
+        assertThat(ingestedEntities.keySet())
+            .containsExactlyInAnyOrderElementsOf(datasets.stream().map(DataEntity::getOddrn).toList());
+    }
+
+    @Test
+    @DisplayName("Asynchronous ingestion to unknown data source is rejected")
+    public void asyncIngestionUnknownDataSourceTest() {
+        final var dataEntityList = new DataEntityList()
+            .dataSourceOddrn("//unknown/data/source")
+            .items(List.of(IngestionModelGenerator.generateSimpleDataEntity(DataEntityType.TABLE)));
+
+        webTestClient.post()
+            .uri("/ingestion/entities/async")
+            .body(Mono.just(dataEntityList), DataEntityList.class)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Asynchronous ingestion job with a malformed payload fails")
+    public void asyncIngestionMalformedPayloadTest() {
+        final var createdDataSource = createDataSource();
+
+        final IngestionJobPojo job = ingestionJobRepository.create(new IngestionJobPojo()
+                .setDataSourceId(createdDataSource.getId())
+                .setStatus(IngestionJobStatus.PENDING.getCode())
+                .setPayload(JSONB.jsonb("{\"data_source_oddrn\": \"%s\", \"items\": \"not a list\"}"
+                    .formatted(createdDataSource.getOddrn())))
+                .setEntitiesCount(1))
+            .block();
+
+        final IngestionJobDto failedJob = awaitJob(job.getId(), createdDataSource.getToken().getValue());
+        assertThat(failedJob.status()).isEqualTo(IngestionJobStatus.FAILED);
+        assertThat(failedJob.error()).isNotBlank();
+        assertThat(failedJob.finishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Ingestion job can be read only with its data source token")
+    public void asyncIngestionJobUnauthorizedTest() {
+        final var createdDataSource = createDataSource();
+        final var anotherDataSource = createDataSource();
+
+        final IngestionJobPojo job = ingestionJobRepository.create(new IngestionJobPojo()
+                .setDataSourceId(createdDataSource.getId())
+                .setStatus(IngestionJobStatus.COMPLETED.getCode())
+                .setPayload(JSONB.jsonb("{}"))
+                .setEntitiesCount(0))
+            .block();
+
+        webTestClient.get()
+            .uri("/ingestion/jobs/{job_id}", job.getId())
+            .exchange()
+            .expectStatus().isUnauthorized();
+
+        webTestClient.get()
+            .uri("/ingestion/jobs/{job_id}", job.getId())
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + anotherDataSource.getToken().getValue())
+            .exchange()
+            .expectStatus().isUnauthorized();
+
+        webTestClient.get()
+            .uri("/ingestion/jobs/{job_id}", Long.MAX_VALUE)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + createdDataSource.getToken().getValue())
+            .exchange()
+            .expectStatus().isUnauthorized();
+
+        assertThat(getJob(job.getId(), createdDataSource.getToken().getValue()).status())
+            .isEqualTo(IngestionJobStatus.COMPLETED);
+    }
+
+    private IngestionJobDto awaitJob(final long jobId, final String token) {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        IngestionJobDto job = getJob(jobId, token);
+        while (job.status() != IngestionJobStatus.COMPLETED && job.status() != IngestionJobStatus.FAILED) {
+            assertThat(System.nanoTime()).as("Ingestion job %d didn't finish in time", jobId).isLessThan(deadline);
+            try {
+                Thread.sleep(200);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            job = getJob(jobId, token);
+        }
+        return job;
+    }
+
+    private IngestionJobDto getJob(final long jobId, final String token) {
+        return webTestClient.get()
+            .uri("/ingestion/jobs/{job_id}", jobId)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(IngestionJobDto.class)
+            .returnResult()
+            .getResponseBody();
+    }
+}
@@ -0,0 +1,86 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import java.time.Duration;
+import java.util.List;
+import org.jooq.Record1;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.dto.SearchIndexBacklogDto;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.search.SearchIndexService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT;
+
+@TestPropertySource(properties = {
+    "search.indexer.enabled=true",
+    "search.indexer.lag-target=100ms"
+})
+public class BackgroundSearchIndexingTest extends BaseIngestionTest {
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    /**
+     * Ingests a dataset with the background search indexer enabled
+     * and waits until the indexer recalculates its search vectors and drains the queue.
+     */
+    @Test
+    @DisplayName("Search vectors are recalculated by the background indexer")
+    public void backgroundSearchIndexingTest() {
+        final var createdDataSource = createDataSource();
+
+        final DataEntity datasetToIngest = IngestionModelGenerator
+            .generateSimpleDataEntity(DataEntityType.TABLE)
+            .description("wombat")
+            .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(3)));
+
+        ingestAndAssert(new DataEntityList()
+            .dataSourceOddrn(createdDataSource.getOddrn())
+            .items(List.of(datasetToIngest)));
+
+        final long dataEntityId = extractIngestedEntityIdAndAssert(createdDataSource);
+
+        final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (readDataEntityVector(dataEntityId) == null || !readDataEntityVector(dataEntityId).contains("wombat")) {
+            assertThat(System.nanoTime()).as("Search vectors weren't recalculated in time").isLessThan(deadline);
+            sleep();
+        }
+
+        SearchIndexBacklogDto backlog = searchIndexService.getBacklog().block();
+        while (backlog != null && backlog.size() > 0) {
+            assertThat(System.nanoTime()).as("Search index queue wasn't drained in time").isLessThan(deadline);
+            sleep();
+            backlog = searchIndexService.getBacklog().block();
+        }
+    }
+
+    private String readDataEntityVector(final long dataEntityId) {
+        return jooqReactiveOperations.mono(DSL
+                .select(SEARCH_ENTRYPOINT.DATA_ENTITY_VECTOR.cast(String.class))
+                .from(SEARCH_ENTRYPOINT)
+                .where(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(dataEntityId)))
+            .map(Record1::value1)
+            .block();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(200);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
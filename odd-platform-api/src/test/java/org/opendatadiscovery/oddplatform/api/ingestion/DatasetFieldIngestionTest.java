@@ -305,6 +305,57 @@ public class DatasetFieldIngestionTest extends BaseIngestionTest {
         assertDatasetStructuresEqual(foundEntityId, expectedOriginalStructure);
     }
 
+    @Test
+    @DisplayName("Re-ingesting statistics removes tags which are not present in the statistics anymore")
+    public void externalStatisticsTagRemovalTest() {
+        final DataSource createdDataSource = createDataSource();
+
+        final DataEntity datasetToIngest = IngestionModelGenerator
+            .generateSimpleDataEntity(DataEntityType.TABLE)
+            .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(5)).rowsNumber(1000L));
+
+        ingestAndAssert(new DataEntityList()
+            .dataSourceOddrn(createdDataSource.getOddrn())
+            .items(List.of(datasetToIngest)));
+
+        final long foundEntityId = extractIngestedEntityIdAndAssert(createdDataSource);
+
+        final Map<String, List<String>> fieldToTagNames = datasetToIngest.getDataset().getFieldList()
+            .stream()
+            .collect(toMap(DataSetField::getOddrn, d -> mixTagState(emptyList(), 3, 0)));
+
+        ingestStatistics(IngestionModelGenerator.generateDatasetStatisticsList(
+            datasetToIngest.getOddrn(),
+            fieldToTagNames
+        ));
+
+        // keep only the first statistics tag of every field
+        final Map<String, List<String>> trimmedFieldToTagNames = fieldToTagNames.entrySet()
+            .stream()
+            .collect(toMap(Map.Entry::getKey, e -> e.getValue().subList(0, 1)));
+
+        final DatasetStatisticsList statistics = IngestionModelGenerator.generateDatasetStatisticsList(
+            datasetToIngest.getOddrn(),
+            trimmedFieldToTagNames
+        );
+
+        ingestStatistics(statistics);
+
+        final DataSetStructure expectedStructure = new DataSetStructure()
+            .dataSetVersion(new DataSetVersion().version(1))
+            .fieldList(datasetToIngest.getDataset().getFieldList().stream()
+                .map(IngestionModelMapper::buildExpectedDataSetField)
+                .peek(d -> d.setTags(mapTags(mergeLists(
+                    trimmedFieldToTagNames.get(d.getOddrn()),
+                    d.getTags().stream().map(Tag::getName).toList()
+                ))))
+                .peek(d -> d.setStats(IngestionModelMapper.buildExpectedDataSetFieldStat(
+                    statistics.getItems().get(0).getFields().get(d.getOddrn()))))
+                .toList());
+
+        assertDatasetStructuresEqual(foundEntityId, expectedStructure);
+    }
+
     @Test
     public void missingFieldDependenciesTest() {
         final DataSource createdDataSource = createDataSource();
@@ -0,0 +1,112 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.DATA_SOURCE_TAG;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.KIND_TAG;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.OUTCOME_TAG;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.PAYLOAD_SUMMARY;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.PHASE_TIMER;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.PROCESSOR_TIMER;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.REQUEST_TIMER;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.ROWS_COUNTER;
+
+public class IngestionMetricsTest extends BaseIngestionTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Ingests the same dataset twice and checks that the request, phase and processor timers,
+     * the payload size summary and the row counters are reported for the data source.
+     */
+    @Test
+    @DisplayName("Ingestion reports metrics tagged by data source")
+    public void ingestionMetricsTest() {
+        final var createdDataSource = createDataSource();
+        final String dataSource = createdDataSource.getOddrn();
+
+        final DataEntity datasetToIngest = IngestionModelGenerator
+            .generateSimpleDataEntity(DataEntityType.TABLE)
+            .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(3)));
+
+        final var dataEntityList = new DataEntityList()
+            .dataSourceOddrn(dataSource)
+            .items(List.of(datasetToIngest));
+
+        ingestAndAssert(dataEntityList);
+        ingestAndAssert(dataEntityList);
+
+        assertThat(meterRegistry.get(REQUEST_TIMER).tag(DATA_SOURCE_TAG, dataSource).timer().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(PAYLOAD_SUMMARY).tag(DATA_SOURCE_TAG, dataSource).summary().totalAmount())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(PHASE_TIMER).tag(DATA_SOURCE_TAG, dataSource).timers())
+            .extracting(t -> t.getId().getTag("phase"))
+            .contains("persist", "processing", "metrics_export");
+        assertThat(meterRegistry.get(PROCESSOR_TIMER).tag(DATA_SOURCE_TAG, dataSource).timers())
+            .isNotEmpty();
+
+        assertThat(rows(dataSource, "new")).isEqualTo(1);
+        assertThat(rows(dataSource, "updated")).isEqualTo(1);
+        assertThat(rows(dataSource, "dataset_fields")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Requests for an unknown data source are tagged as unknown")
+    public void unknownDataSourceMetricsTest() {
+        final String dataSource = "//unknown/" + UUID.randomUUID();
+        final var dataEntityList = new DataEntityList()
+            .dataSourceOddrn(dataSource)
+            .items(List.of(IngestionModelGenerator.generateSimpleDataEntity(DataEntityType.TABLE)));
+
+        webTestClient.post()
+            .uri("/ingestion/entities")
+            .body(Mono.just(dataEntityList), DataEntityList.class)
+            .exchange()
+            .expectStatus().isNotFound();
+
+        assertThat(meterRegistry.find(REQUEST_TIMER).tag(DATA_SOURCE_TAG, dataSource).timers()).isEmpty();
+        assertThat(meterRegistry.find(PAYLOAD_SUMMARY).tag(DATA_SOURCE_TAG, dataSource).summaries()).isEmpty();
+        assertThat(meterRegistry.get(REQUEST_TIMER).tag(DATA_SOURCE_TAG, "unknown").tag(OUTCOME_TAG, "error")
+            .timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Cancelled requests are reported with the cancelled outcome")
+    public void cancelledRequestMetricsTest() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final IngestionMetrics metrics = new IngestionMetrics(registry);
+
+        StepVerifier.create(metrics.timedRequest(1, Mono.never()).contextWrite(metrics::withDataSource))
+            .expectSubscription()
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(registry.get(REQUEST_TIMER).tag(OUTCOME_TAG, "cancelled").timer().count()).isEqualTo(1);
+    }
+
+    private double rows(final String dataSource, final String kind) {
+        return meterRegistry.get(ROWS_COUNTER)
+            .tag(DATA_SOURCE_TAG, dataSource)
+            .tag(KIND_TAG, kind)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,224 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.apache.commons.collections4.ListUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSource;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.SyntheticCatalogGenerator;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.SyntheticCatalogGenerator.CatalogShape;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.PHASE_TIMER;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.PROCESSOR_TIMER;
+
+/**
+ * End-to-end ingestion throughput harness. Generates synthetic catalogs for a number of data sources,
+ * ingests them for several cycles with the configured concurrency and reports the throughput, the request
+ * latencies and the time spent in every ingestion phase, processor and repository batch.
+ *
+ * <p>Excluded from the regular test run, use {@code ./gradlew :odd-platform-api:ingestionThroughput}.
+ * The workload is configured with {@code -Pthroughput.*} properties: the catalog shape ({@code datasets},
+ * {@code fieldsPerDataset}, {@code jobs}, {@code lineageFanOut}, {@code dqTestsPerDataset}, {@code runsPerJob},
+ * {@code mutationRate}, {@code seed}), {@code dataSources}, {@code cycles}, {@code batchSize},
+ * {@code concurrency} and the {@code report} file path.
+ */
+@Tag("throughput")
+@TestPropertySource(properties = {
+    "logging.level.org.jooq.tools.LoggerListener=info",
+    "logging.level.io.r2dbc.postgresql.QUERY=info",
+    "logging.level.io.r2dbc.postgresql.PARAM=info",
+    "logging.level.org.opendatadiscovery.oddplatform.service.ingestion=info",
+    "logging.level.org.springframework.transaction.interceptor=info"
+})
+public class IngestionThroughputTest extends BaseIngestionTest {
+    private static final String REPOSITORY_BATCH_TIMER = "odd.repository.batch";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Ingestion throughput")
+    public void ingestionThroughputTest() throws IOException {
+        final CatalogShape shape = new CatalogShape(
+            Integer.getInteger("throughput.datasets", 200),
+            Integer.getInteger("throughput.fieldsPerDataset", 30),
+            Integer.getInteger("throughput.jobs", 50),
+            Integer.getInteger("throughput.lineageFanOut", 3),
+            Integer.getInteger("throughput.dqTestsPerDataset", 1),
+            Integer.getInteger("throughput.runsPerJob", 2),
+            Double.parseDouble(System.getProperty("throughput.mutationRate", "0.1")),
+            Long.getLong("throughput.seed", 42L)
+        );
+        final int dataSources = Integer.getInteger("throughput.dataSources", 2);
+        final int cycles = Integer.getInteger("throughput.cycles", 3);
+        final int batchSize = Integer.getInteger("throughput.batchSize", 100);
+        final int concurrency = Integer.getInteger("throughput.concurrency", 4);
+        final Path reportPath = Path.of(System.getProperty("throughput.report",
+            "build/reports/ingestion-throughput/report.json"));
+
+        final List<Generator> generators = new ArrayList<>();
+        for (int i = 0; i < dataSources; i++) {
+            final DataSource dataSource = createDataSource();
+            generators.add(new Generator(dataSource.getOddrn(),
+                new SyntheticCatalogGenerator(dataSource.getOddrn(), shape)));
+        }
+
+        final List<Map<String, Object>> cycleReports = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (int cycle = 0; cycle < cycles; cycle++) {
+                cycleReports.add(runCycle(cycle, generators, batchSize, executor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("shape", shape);
+        report.put("dataSources", dataSources);
+        report.put("batchSize", batchSize);
+        report.put("concurrency", concurrency);
+        report.put("cycles", cycleReports);
+
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, JSONSerDeUtils.serializeJson(report));
+        System.out.println("Ingestion throughput report is written to " + reportPath.toAbsolutePath());
+
+        assertThat(cycleReports).hasSize(cycles);
+    }
+
+    private Map<String, Object> runCycle(final int cycle,
+                                         final List<Generator> generators,
+                                         final int batchSize,
+                                         final ExecutorService executor) {
+        final List<List<DataEntityList>> stages = new ArrayList<>();
+        for (final Generator generator : generators) {
+            final List<List<DataEntity>> catalogStages = generator.catalog().next();
+            for (int s = 0; s < catalogStages.size(); s++) {
+                if (stages.size() == s) {
+                    stages.add(new ArrayList<>());
+                }
+                for (final List<DataEntity> batch : ListUtils.partition(catalogStages.get(s), batchSize)) {
+                    stages.get(s).add(new DataEntityList().dataSourceOddrn(generator.dataSourceOddrn()).items(batch));
+                }
+            }
+        }
+
+        final Map<String, Double> phasesBefore = timerTotals(PHASE_TIMER, "phase");
+        final Map<String, Double> processorsBefore = timerTotals(PROCESSOR_TIMER, "processor");
+        final Map<String, Double> batchesBefore = timerTotals(REPOSITORY_BATCH_TIMER, "entity");
+
+        final List<Long> latencies = new ArrayList<>();
+        long entities = 0;
+        final long start = System.nanoTime();
+        for (final List<DataEntityList> stage : stages) {
+            final List<Future<Long>> futures = stage.stream()
+                .map(batch -> executor.submit(() -> ingest(batch)))
+                .toList();
+            for (int i = 0; i < futures.size(); i++) {
+                latencies.add(await(futures.get(i)));
+                entities += stage.get(i).getItems().size();
+            }
+        }
+        final double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        final long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        final Map<String, Object> cycleReport = new LinkedHashMap<>();
+        cycleReport.put("cycle", cycle);
+        cycleReport.put("entities", entities);
+        cycleReport.put("requests", sorted.length);
+        cycleReport.put("elapsedSeconds", elapsedSeconds);
+        cycleReport.put("entitiesPerSecond", entities / elapsedSeconds);
+        cycleReport.put("p50LatencyMs", percentile(sorted, 0.5));
+        cycleReport.put("p99LatencyMs", percentile(sorted, 0.99));
+        cycleReport.put("maxLatencyMs", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        cycleReport.put("phaseMs", delta(phasesBefore, timerTotals(PHASE_TIMER, "phase")));
+        cycleReport.put("processorMs", delta(processorsBefore, timerTotals(PROCESSOR_TIMER, "processor")));
+        cycleReport.put("repositoryBatchMs", delta(batchesBefore, timerTotals(REPOSITORY_BATCH_TIMER, "entity")));
+
+        System.out.printf("cycle %d: %d entities in %d requests, %.1f entities/s, p50 %.1f ms, p99 %.1f ms%n",
+            cycle, entities, sorted.length, entities / elapsedSeconds,
+            percentile(sorted, 0.5), percentile(sorted, 0.99));
+        printTimes("phase", cycleReport.get("phaseMs"));
+        printTimes("processor", cycleReport.get("processorMs"));
+        printTimes("repository batch", cycleReport.get("repositoryBatchMs"));
+
+        return cycleReport;
+    }
+
+    private long ingest(final DataEntityList batch) {
+        final long start = System.nanoTime();
+        webTestClient.post()
+            .uri("/ingestion/entities")
+            .body(Mono.just(batch), DataEntityList.class)
+            .exchange()
+            .expectStatus().isOk();
+        return System.nanoTime() - start;
+    }
+
+    @SneakyThrows
+    private long await(final Future<Long> future) {
+        return future.get();
+    }
+
+    // sums the total time of the timers by the given tag across all data sources
+    private Map<String, Double> timerTotals(final String timerName, final String tag) {
+        final Map<String, Double> totals = new TreeMap<>();
+        for (final Timer timer : meterRegistry.find(timerName).timers()) {
+            totals.merge(String.valueOf(timer.getId().getTag(tag)), timer.totalTime(TimeUnit.MILLISECONDS),
+                Double::sum);
+        }
+        return totals;
+    }
+
+    private Map<String, Double> delta(final Map<String, Double> before, final Map<String, Double> after) {
+        final Map<String, Double> result = new TreeMap<>();
+        after.forEach((key, value) -> {
+            final double spent = value - before.getOrDefault(key, 0.0);
+            if (spent > 0) {
+                result.put(key, spent);
+            }
+        });
+        return result;
+    }
+
+    private double percentile(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void printTimes(final String title, final Object times) {
+        ((Map<String, Double>) times).forEach((key, value) ->
+            System.out.printf("  %-16s %-40s %10.1f ms%n", title, key, value));
+    }
+
+    private record Generator(String dataSourceOddrn, SyntheticCatalogGenerator catalog) {
+    }
+}
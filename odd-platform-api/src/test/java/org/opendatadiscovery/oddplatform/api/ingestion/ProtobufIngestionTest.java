@@ -0,0 +1,138 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetails;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetStructure;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValue;
+import org.opendatadiscovery.oddplatform.api.contract.model.Tag;
+import org.opendatadiscovery.oddplatform.proto.ingestion.IngestionProto;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class ProtobufIngestionTest extends BaseIngestionTest {
+    private static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    /**
+     * Ingests a dataset as a protobuf payload and checks that it is stored
+     * in the same way as it would be for a JSON payload.
+     */
+    @Test
+    @DisplayName("Protobuf data entities ingestion test")
+    public void protobufIngestionTest() {
+        final var createdDataSource = createDataSource();
+        final String datasetOddrn = "//postgresql/host/localhost/databases/db/tables/" + UUID.randomUUID();
+
+        final IngestionProto.DataEntity dataset = IngestionProto.DataEntity.newBuilder()
+            .setOddrn(datasetOddrn)
+            .setName("protobuf_table")
+            .setDescription("Ingested as protobuf")
+            .setType("TABLE")
+            .addTags(IngestionProto.Tag.newBuilder().setName("protobuf_tag"))
+            .addMetadata(IngestionProto.MetadataExtension.newBuilder()
+                .setMetadata(Struct.newBuilder()
+                    .putFields("rows", Value.newBuilder().setNumberValue(42).build())
+                    .putFields("format", Value.newBuilder().setStringValue("parquet").build())))
+            .setDataset(IngestionProto.DataSet.newBuilder()
+                .setRowsNumber(100)
+                .addFieldList(field(datasetOddrn, "id", "TYPE_INTEGER"))
+                .addFieldList(field(datasetOddrn, "name", "TYPE_STRING")))
+            .build();
+
+        final IngestionProto.DataEntityList dataEntityList = IngestionProto.DataEntityList.newBuilder()
+            .setDataSourceOddrn(createdDataSource.getOddrn())
+            .addItems(dataset)
+            .build();
+
+        webTestClient.post()
+            .uri("/ingestion/entities")
+            .contentType(APPLICATION_PROTOBUF)
+            .bodyValue(dataEntityList.toByteArray())
+            .exchange()
+            .expectStatus().isOk();
+
+        final long dataEntityId = extractIngestedEntityIdAndAssert(createdDataSource);
+
+        final DataEntityDetails details = webTestClient.get()
+            .uri("/api/dataentities/{data_entity_id}", dataEntityId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(DataEntityDetails.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(details).isNotNull();
+        assertThat(details.getExternalName()).isEqualTo("protobuf_table");
+        assertThat(details.getExternalDescription()).isEqualTo("Ingested as protobuf");
+        assertThat(details.getTags()).extracting(Tag::getName).containsExactly("protobuf_tag");
+        assertThat(details.getMetadataFieldValues())
+            .extracting(v -> v.getField().getName(), MetadataFieldValue::getValue)
+            .containsExactlyInAnyOrder(
+                tuple("rows", "42"),
+                tuple("format", "parquet"));
+
+        webTestClient.get()
+            .uri("/api/datasets/{dataset_id}/structure", dataEntityId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(DataSetStructure.class)
+            .value(structure -> assertThat(structure.getFieldList())
+                .extracting(DataSetField::getName)
+                .containsExactlyInAnyOrder("id", "name"));
+
+        final IngestionProto.DatasetStatisticsList statistics = IngestionProto.DatasetStatisticsList.newBuilder()
+            .addItems(IngestionProto.DataSetStatistics.newBuilder()
+                .setDatasetOddrn(datasetOddrn)
+                .putFields(datasetOddrn + "/columns/id", IngestionProto.DataSetFieldStat.newBuilder()
+                    .setIntegerStats(IngestionProto.IntegerFieldStat.newBuilder()
+                        .setLowValue(1)
+                        .setHighValue(10)
+                        .setNullsCount(0))
+                    .build()))
+            .build();
+
+        webTestClient.post()
+            .uri("/ingestion/entities/datasets/stats")
+            .contentType(APPLICATION_PROTOBUF)
+            .bodyValue(statistics.toByteArray())
+            .exchange()
+            .expectStatus().isCreated();
+    }
+
+    @Test
+    @DisplayName("Protobuf data entities ingestion with an unknown data source")
+    public void protobufIngestionUnknownDataSourceTest() {
+        final IngestionProto.DataEntityList dataEntityList = IngestionProto.DataEntityList.newBuilder()
+            .setDataSourceOddrn("//unknown/" + UUID.randomUUID())
+            .addItems(IngestionProto.DataEntity.newBuilder()
+                .setOddrn("//unknown/entity")
+                .setName("entity")
+                .setType("TABLE"))
+            .build();
+
+        webTestClient.post()
+            .uri("/ingestion/entities")
+            .contentType(APPLICATION_PROTOBUF)
+            .bodyValue(dataEntityList.toByteArray())
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    private IngestionProto.DataSetField field(final String datasetOddrn, final String name, final String type) {
+        return IngestionProto.DataSetField.newBuilder()
+            .setOddrn(datasetOddrn + "/columns/" + name)
+            .setName(name)
+            .setType(IngestionProto.DataSetFieldType.newBuilder()
+                .setType(type)
+                .setLogicalType(name)
+                .setIsNullable(false))
+            .build();
+    }
+}
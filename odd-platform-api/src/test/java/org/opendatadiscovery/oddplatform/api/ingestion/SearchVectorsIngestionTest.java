@@ -0,0 +1,75 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import java.util.List;
+import org.jooq.Record2;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT;
+
+public class SearchVectorsIngestionTest extends BaseIngestionTest {
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    /**
+     * Ingests a dataset, clears its structure vector out of band and re-ingests it with a changed description,
+     * asserting that only the data entity vector was recalculated. Then changes the dataset structure
+     * and asserts that the structure vector was recalculated as well.
+     */
+    @Test
+    @DisplayName("Only search vectors with changed inputs are recalculated during ingestion")
+    public void changedSearchVectorsAreRecalculatedTest() {
+        final var createdDataSource = createDataSource();
+
+        final DataEntity datasetToIngest = IngestionModelGenerator
+            .generateSimpleDataEntity(DataEntityType.TABLE)
+            .description("wombat")
+            .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(3)));
+
+        final var dataEntityList = new DataEntityList()
+            .dataSourceOddrn(createdDataSource.getOddrn())
+            .items(List.of(datasetToIngest));
+
+        ingestAndAssert(dataEntityList);
+
+        final long dataEntityId = extractIngestedEntityIdAndAssert(createdDataSource);
+        assertThat(readVectors(dataEntityId).value1()).contains("wombat");
+        assertThat(readVectors(dataEntityId).value2()).isNotNull();
+
+        jooqReactiveOperations.mono(DSL.query(
+            "UPDATE search_entrypoint SET structure_vector = NULL WHERE data_entity_id = ?", dataEntityId)).block();
+
+        datasetToIngest.setDescription("quokka");
+        ingestAndAssert(dataEntityList);
+
+        final Record2<String, String> afterDescriptionChange = readVectors(dataEntityId);
+        assertThat(afterDescriptionChange.value1()).contains("quokka").doesNotContain("wombat");
+        assertThat(afterDescriptionChange.value2()).isNull();
+
+        datasetToIngest.getDataset().getFieldList().get(0).setName("axolotl");
+        ingestAndAssert(dataEntityList);
+
+        assertThat(readVectors(dataEntityId).value2()).contains("axolotl");
+    }
+
+    private Record2<String, String> readVectors(final long dataEntityId) {
+        return jooqReactiveOperations.mono(DSL
+                .select(
+                    SEARCH_ENTRYPOINT.DATA_ENTITY_VECTOR.cast(String.class),
+                    SEARCH_ENTRYPOINT.STRUCTURE_VECTOR.cast(String.class)
+                )
+                .from(SEARCH_ENTRYPOINT)
+                .where(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(dataEntityId)))
+            .block();
+    }
+}
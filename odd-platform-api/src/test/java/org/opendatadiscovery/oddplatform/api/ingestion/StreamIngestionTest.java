@@ -0,0 +1,85 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "ingestion.stream.batch-size=2")
+public class StreamIngestionTest extends BaseIngestionTest {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /**
+     * Ingests several datasets as a NDJSON stream which is split into multiple batches
+     * and checks that all of them were ingested.
+     */
+    @Test
+    @DisplayName("NDJSON stream ingestion test")
+    public void streamIngestionTest() {
+        final var createdDataSource = createDataSource();
+
+        final List<DataEntity> datasets = IntStream.range(0, 5)
+            .mapToObj(i -> IngestionModelGenerator.generateSimpleDataEntity(DataEntityType.TABLE)
+                .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(3))))
+            .toList();
+
+        ingestStream(createdDataSource.getOddrn(), datasets);
+
+        final var ingestedEntities = extractIngestedEntitiesAndAssert(createdDataSource, datasets.size());
+        assertThat(ingestedEntities.keySet())
+            .containsExactlyInAnyOrderElementsOf(datasets.stream().map(DataEntity::getOddrn).toList());
+    }
+
+    @Test
+    @DisplayName("Empty NDJSON stream is rejected")
+    public void emptyStreamIngestionTest() {
+        final var createdDataSource = createDataSource();
+
+        webTestClient.post()
+            .uri(b -> b.path("/ingestion/entities/stream")
+                .queryParam("data_source_oddrn", createdDataSource.getOddrn())
+                .build())
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue("")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    private void ingestStream(final String dataSourceOddrn, final List<DataEntity> dataEntities) {
+        final String body = dataEntities.stream()
+            .map(this::toJson)
+            .reduce("", (acc, line) -> acc + line + "\n");
+
+        webTestClient.post()
+            .uri(b -> b.path("/ingestion/entities/stream")
+                .queryParam("data_source_oddrn", dataSourceOddrn)
+                .build())
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(body)
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    private String toJson(final DataEntity dataEntity) {
+        try {
+            return objectMapper.writeValueAsString(dataEntity);
+        } catch (final JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+
+@TestPropertySource(properties = "ingestion.skip-unchanged-entities=true")
+public class UnchangedEntitiesIngestionTest extends BaseIngestionTest {
+    private static final String OUT_OF_BAND_DESCRIPTION = "Description changed out of band";
+
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    /**
+     * Ingests a dataset, changes its row directly in the database and re-ingests the same payload
+     * asserting that the row wasn't rewritten. Then ingests a changed payload and asserts that it was.
+     */
+    @Test
+    @DisplayName("Unchanged data entities are skipped during ingestion")
+    public void unchangedEntitiesAreSkippedTest() {
+        final var createdDataSource = createDataSource();
+
+        final DataEntity datasetToIngest = IngestionModelGenerator
+            .generateSimpleDataEntity(DataEntityType.TABLE)
+            .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(3)));
+
+        final var dataEntityList = new DataEntityList()
+            .dataSourceOddrn(createdDataSource.getOddrn())
+            .items(List.of(datasetToIngest));
+
+        ingestAndAssert(dataEntityList);
+
+        final long dataEntityId = extractIngestedEntityIdAndAssert(createdDataSource);
+        final DataEntityPojo ingested = dataEntityRepository.get(dataEntityId).block();
+        assertThat(ingested).isNotNull();
+        assertThat(ingested.getIngestionFingerprint()).isNotNull();
+
+        jooqReactiveOperations.mono(DSL.update(DATA_ENTITY)
+            .set(DATA_ENTITY.EXTERNAL_DESCRIPTION, OUT_OF_BAND_DESCRIPTION)
+            .where(DATA_ENTITY.ID.eq(dataEntityId))).block();
+
+        final LocalDateTime beforeReingestion = DateTimeUtil.generateNow().truncatedTo(ChronoUnit.MICROS);
+        ingestAndAssert(dataEntityList);
+
+        final DataEntityPojo skipped = dataEntityRepository.get(dataEntityId).block();
+        assertThat(skipped).isNotNull();
+        assertThat(skipped.getExternalDescription()).isEqualTo(OUT_OF_BAND_DESCRIPTION);
+        assertThat(skipped.getIngestionFingerprint()).isEqualTo(ingested.getIngestionFingerprint());
+        assertThat(skipped.getLastIngestedAt())
+            .isAfter(ingested.getLastIngestedAt())
+            .isAfterOrEqualTo(beforeReingestion);
+
+        datasetToIngest.setDescription("New description");
+        ingestAndAssert(dataEntityList);
+
+        final DataEntityPojo updated = dataEntityRepository.get(dataEntityId).block();
+        assertThat(updated).isNotNull();
+        assertThat(updated.getExternalDescription()).isEqualTo("New description");
+        assertThat(updated.getIngestionFingerprint()).isNotEqualTo(ingested.getIngestionFingerprint());
+    }
+}
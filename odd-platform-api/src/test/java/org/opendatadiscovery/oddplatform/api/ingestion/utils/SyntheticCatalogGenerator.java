@@ -0,0 +1,226 @@
+package org.opendatadiscovery.oddplatform.api.ingestion.utils;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataQualityTest;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataQualityTestExpectation;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataQualityTestRun;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransformer;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransformerRun;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.JobRunStatus;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetadataExtension;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.QualityRunStatus;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
+
+/**
+ * Generates a deterministic catalog of a single data source: datasets with their structure, jobs connecting
+ * them into lineage, data quality tests and the runs of both. Every {@link #next()} call returns the catalog
+ * of the following ingestion cycle, in which a share of the datasets has its structure changed and
+ * every job and test reports new runs, the way a collector running on schedule would.
+ */
+public class SyntheticCatalogGenerator {
+    private static final URI METADATA_SCHEMA_URL = URI.create("https://example.com/synthetic.json");
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final DataSetFieldType.TypeEnum[] FIELD_TYPES = {
+        DataSetFieldType.TypeEnum.STRING,
+        DataSetFieldType.TypeEnum.INTEGER,
+        DataSetFieldType.TypeEnum.NUMBER,
+        DataSetFieldType.TypeEnum.BOOLEAN,
+        DataSetFieldType.TypeEnum.DATETIME
+    };
+
+    private final String oddrnPrefix;
+    private final CatalogShape shape;
+    private final Random random;
+    private final int[] datasetRevisions;
+    private int cycle;
+
+    public SyntheticCatalogGenerator(final String oddrnPrefix, final CatalogShape shape) {
+        this.oddrnPrefix = oddrnPrefix;
+        this.shape = shape;
+        this.random = new Random(shape.seed() ^ oddrnPrefix.hashCode());
+        this.datasetRevisions = new int[shape.datasets()];
+    }
+
+    /**
+     * Returns the catalog of the next ingestion cycle split into stages which are expected to be ingested
+     * one after another: datasets, then jobs and data quality tests, then the runs.
+     */
+    public List<List<DataEntity>> next() {
+        if (cycle > 0) {
+            for (int i = 0; i < datasetRevisions.length; i++) {
+                if (random.nextDouble() < shape.mutationRate()) {
+                    datasetRevisions[i]++;
+                }
+            }
+        }
+
+        final List<DataEntity> datasets = IntStream.range(0, shape.datasets()).mapToObj(this::dataset).toList();
+
+        final List<DataEntity> processes = new ArrayList<>();
+        IntStream.range(0, shape.jobs()).mapToObj(this::job).forEach(processes::add);
+        for (int d = 0; d < shape.datasets(); d++) {
+            for (int t = 0; t < shape.dqTestsPerDataset(); t++) {
+                processes.add(dataQualityTest(d, t));
+            }
+        }
+
+        final List<DataEntity> runs = new ArrayList<>();
+        for (int r = 0; r < shape.runsPerJob(); r++) {
+            for (int j = 0; j < shape.jobs(); j++) {
+                runs.add(jobRun(j, r));
+            }
+            for (int d = 0; d < shape.datasets(); d++) {
+                for (int t = 0; t < shape.dqTestsPerDataset(); t++) {
+                    runs.add(dataQualityTestRun(d, t, r));
+                }
+            }
+        }
+
+        cycle++;
+        return List.of(datasets, processes, runs);
+    }
+
+    private DataEntity dataset(final int index) {
+        final int revision = datasetRevisions[index];
+        final String oddrn = datasetOddrn(index);
+
+        final List<DataSetField> fields = IntStream.range(0, shape.fieldsPerDataset())
+            .mapToObj(f -> {
+                // a revision renames the last field and changes the type of the first one
+                final String name = f == shape.fieldsPerDataset() - 1 && revision > 0
+                    ? "column_%d_r%d".formatted(f, revision)
+                    : "column_%d".formatted(f);
+                final int typeIndex = f == 0 ? revision : f;
+                final DataSetFieldType.TypeEnum type = FIELD_TYPES[typeIndex % FIELD_TYPES.length];
+                return new DataSetField()
+                    .oddrn(oddrn + "/columns/" + name)
+                    .name(name)
+                    .description("Column %d of dataset %d".formatted(f, index))
+                    .isPrimaryKey(f == 0)
+                    .isKey(false)
+                    .isValue(false)
+                    .tags(f % 5 == 0 ? List.of(new Tag().name("tag_" + f % 20)) : null)
+                    .type(new DataSetFieldType()
+                        .type(type)
+                        .logicalType(type.getValue().toLowerCase())
+                        .isNullable(f != 0));
+            })
+            .toList();
+
+        return entity(oddrn, "dataset_" + index, DataEntityType.TABLE)
+            .description("Synthetic dataset %d".formatted(index))
+            .tags(List.of(new Tag().name("dataset_tag_" + index % 10)))
+            .dataset(new DataSet().rowsNumber(1000L * (index + 1)).fieldList(fields));
+    }
+
+    private DataEntity job(final int index) {
+        final int datasets = shape.datasets();
+        final int fanOut = Math.min(shape.lineageFanOut(), datasets);
+
+        // inputs and outputs are contiguous windows over the datasets, chaining the jobs into a lineage graph
+        final List<String> inputs = IntStream.range(0, fanOut)
+            .mapToObj(i -> datasetOddrn((index * fanOut + i) % datasets))
+            .toList();
+        final List<String> outputs = IntStream.range(0, fanOut)
+            .mapToObj(i -> datasetOddrn(((index + 1) * fanOut + i) % datasets))
+            .toList();
+
+        return entity(jobOddrn(index), "job_" + index, DataEntityType.JOB)
+            .dataTransformer(new DataTransformer().inputs(inputs).outputs(outputs));
+    }
+
+    private DataEntity dataQualityTest(final int dataset, final int test) {
+        return entity(dataQualityTestOddrn(dataset, test), "dq_test_%d_%d".formatted(dataset, test),
+            DataEntityType.JOB)
+            .dataQualityTest(new DataQualityTest()
+                .suiteName("suite_" + dataset % 10)
+                .datasetList(List.of(datasetOddrn(dataset)))
+                .expectation(new DataQualityTestExpectation().type("expect_column_values_to_not_be_null")));
+    }
+
+    private DataEntity jobRun(final int job, final int run) {
+        final OffsetDateTime startTime = runStartTime(run);
+        return entity(jobOddrn(job) + "/runs/%d_%d".formatted(cycle, run), "job_run_%d_%d".formatted(job, run),
+            DataEntityType.JOB_RUN)
+            .dataTransformerRun(new DataTransformerRun()
+                .transformerOddrn(jobOddrn(job))
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(1))
+                .status(random.nextInt(20) == 0 ? JobRunStatus.FAILED : JobRunStatus.SUCCESS));
+    }
+
+    private DataEntity dataQualityTestRun(final int dataset, final int test, final int run) {
+        final OffsetDateTime startTime = runStartTime(run);
+        final String testOddrn = dataQualityTestOddrn(dataset, test);
+        return entity(testOddrn + "/runs/%d_%d".formatted(cycle, run),
+            "dq_test_run_%d_%d_%d".formatted(dataset, test, run), DataEntityType.JOB_RUN)
+            .dataQualityTestRun(new DataQualityTestRun()
+                .dataQualityTestOddrn(testOddrn)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(1))
+                .status(random.nextInt(20) == 0 ? QualityRunStatus.FAILED : QualityRunStatus.SUCCESS));
+    }
+
+    private DataEntity entity(final String oddrn, final String name, final DataEntityType type) {
+        return new DataEntity()
+            .oddrn(oddrn)
+            .name(name)
+            .type(type)
+            .createdAt(EPOCH)
+            .metadata(List.of(new MetadataExtension()
+                .schemaUrl(METADATA_SCHEMA_URL)
+                .metadata(Map.of("team", "team_" + Math.floorMod(name.hashCode(), 5), "synthetic", true))));
+    }
+
+    private OffsetDateTime runStartTime(final int run) {
+        return EPOCH.plusDays(cycle).plusMinutes(run * 10L);
+    }
+
+    private String datasetOddrn(final int index) {
+        return oddrnPrefix + "/datasets/" + index;
+    }
+
+    private String jobOddrn(final int index) {
+        return oddrnPrefix + "/jobs/" + index;
+    }
+
+    private String dataQualityTestOddrn(final int dataset, final int test) {
+        return oddrnPrefix + "/dq_tests/%d_%d".formatted(dataset, test);
+    }
+
+    /**
+     * @param datasets          number of datasets in the data source
+     * @param fieldsPerDataset  number of fields in every dataset structure
+     * @param jobs              number of jobs
+     * @param lineageFanOut     number of inputs and outputs of every job
+     * @param dqTestsPerDataset number of data quality tests covering every dataset
+     * @param runsPerJob        number of runs reported for every job and test in each cycle
+     * @param mutationRate      share of datasets which have their structure changed in each following cycle
+     * @param seed              seed of the mutations and run statuses
+     */
+    public record CatalogShape(int datasets,
+                               int fieldsPerDataset,
+                               int jobs,
+                               int lineageFanOut,
+                               int dqTestsPerDataset,
+                               int runsPerJob,
+                               double mutationRate,
+                               long seed) {
+        public int entitiesPerCycle() {
+            final int processes = jobs + datasets * dqTestsPerDataset;
+            return datasets + processes + processes * runsPerJob;
+        }
+    }
+}
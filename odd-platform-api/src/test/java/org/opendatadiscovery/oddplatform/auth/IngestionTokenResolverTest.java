@@ -0,0 +1,93 @@
+package org.opendatadiscovery.oddplatform.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.dto.CollectorDto;
+import org.opendatadiscovery.oddplatform.dto.DataSourceDto;
+import org.opendatadiscovery.oddplatform.dto.TokenDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.CollectorPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TokenPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class IngestionTokenResolverTest {
+    private static final String DATA_SOURCE_ODDRN = "//data_source";
+    private static final String COLLECTOR_TOKEN = "collector_token";
+    private static final long COLLECTOR_ID = 1L;
+
+    @Mock
+    private ReactiveDataSourceRepository dataSourceRepository;
+
+    @Mock
+    private ReactiveCollectorRepository collectorRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private IngestionTokenResolver tokenResolver;
+
+    @BeforeEach
+    void setUp() {
+        tokenResolver = new IngestionTokenResolver(dataSourceRepository, collectorRepository,
+            new IngestionProperties(), meterRegistry);
+        tokenResolver.init();
+    }
+
+    @Test
+    @DisplayName("Resolves the collector token of a data source once and evicts it when the token changes")
+    void cachesDataSourceTokenUntilEvicted() {
+        when(dataSourceRepository.getDtoByOddrn(DATA_SOURCE_ODDRN)).thenReturn(Mono.just(
+            new DataSourceDto(new DataSourcePojo().setOddrn(DATA_SOURCE_ODDRN).setCollectorId(COLLECTOR_ID), null)));
+        when(collectorRepository.getDto(COLLECTOR_ID)).thenReturn(Mono.just(new CollectorDto(
+            new CollectorPojo().setId(COLLECTOR_ID), null, new TokenDto(new TokenPojo().setValue(COLLECTOR_TOKEN)))));
+
+        assertThat(tokenResolver.getDataSourceToken(DATA_SOURCE_ODDRN).block()).isEqualTo(COLLECTOR_TOKEN);
+        assertThat(tokenResolver.getDataSourceToken(DATA_SOURCE_ODDRN).block()).isEqualTo(COLLECTOR_TOKEN);
+        verify(dataSourceRepository, times(1)).getDtoByOddrn(DATA_SOURCE_ODDRN);
+
+        tokenResolver.evictToken(COLLECTOR_TOKEN);
+        assertThat(tokenResolver.getDataSourceToken(DATA_SOURCE_ODDRN).block()).isEqualTo(COLLECTOR_TOKEN);
+        verify(dataSourceRepository, times(2)).getDtoByOddrn(DATA_SOURCE_ODDRN);
+
+        assertThat(cacheGets("ingestion_data_source_tokens", "hit")).isEqualTo(1);
+        assertThat(cacheGets("ingestion_data_source_tokens", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Doesn't cache unknown tokens and evicts the tokens of a deleted collector")
+    void cachesOnlyKnownCollectorTokens() {
+        when(collectorRepository.getByToken("unknown")).thenReturn(Mono.empty());
+        when(collectorRepository.getByToken(COLLECTOR_TOKEN))
+            .thenReturn(Mono.just(new CollectorPojo().setId(COLLECTOR_ID)));
+
+        assertThat(tokenResolver.getCollectorId("unknown").block()).isNull();
+        assertThat(tokenResolver.getCollectorId("unknown").block()).isNull();
+        verify(collectorRepository, times(2)).getByToken("unknown");
+
+        assertThat(tokenResolver.getCollectorId(COLLECTOR_TOKEN).block()).isEqualTo(COLLECTOR_ID);
+        assertThat(tokenResolver.getCollectorId(COLLECTOR_TOKEN).block()).isEqualTo(COLLECTOR_ID);
+        verify(collectorRepository, times(1)).getByToken(COLLECTOR_TOKEN);
+
+        tokenResolver.evictCollector(COLLECTOR_ID);
+        assertThat(tokenResolver.getCollectorId(COLLECTOR_TOKEN).block()).isEqualTo(COLLECTOR_ID);
+        verify(collectorRepository, times(2)).getByToken(COLLECTOR_TOKEN);
+    }
+
+    private double cacheGets(final String cache, final String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+}
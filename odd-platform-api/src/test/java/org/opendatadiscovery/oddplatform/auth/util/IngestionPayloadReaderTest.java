@@ -0,0 +1,120 @@
+package org.opendatadiscovery.oddplatform.auth.util;
+
+import com.google.protobuf.CodedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.proto.ingestion.IngestionProto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IngestionPayloadReaderTest {
+    private static final String ODDRN = "//postgresql/host/db";
+
+    @Test
+    @DisplayName("Reads the top level data source oddrn wherever it is placed")
+    void readsJsonDataSourceOddrn() throws IOException {
+        final String before = """
+            {"data_source_oddrn": "%s", "items": [{"oddrn": "//entity", "name": "entity"}]}
+            """.formatted(ODDRN);
+        final String after = """
+            {"items": [{"oddrn": "//entity", "data_source_oddrn": "//nested", "metadata": [{"a": [1, {"b": 2}]}]}],
+             "data_source_oddrn": "%s"}
+            """.formatted(ODDRN);
+
+        for (final String json : List.of(before, after)) {
+            final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            for (final int chunkSize : List.of(1, 7, bytes.length)) {
+                assertThat(IngestionPayloadReader.readJsonDataSourceOddrn(split(bytes, chunkSize))).isEqualTo(ODDRN);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Returns null when the data source oddrn is missing or isn't a string")
+    void returnsNullWithoutJsonDataSourceOddrn() throws IOException {
+        for (final String json : List.of("{\"items\": []}", "{\"data_source_oddrn\": null}", "[]", "\"text\"")) {
+            assertThat(IngestionPayloadReader.readJsonDataSourceOddrn(split(json.getBytes(), 3))).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Rejects payloads which aren't complete JSON values")
+    void rejectsIncompleteJson() {
+        final String afterOddrn = "{\"data_source_oddrn\": \"" + ODDRN + "\", \"items\": [ not json";
+        for (final String json : List.of(afterOddrn, "{\"items\": [ x", "{\"data_source_oddrn\": \"" + ODDRN + "\"")) {
+            assertThatThrownBy(() -> IngestionPayloadReader.readJsonDataSourceOddrn(
+                split(json.getBytes(StandardCharsets.UTF_8), 4)))
+                .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Rejects payloads with more than one top level data source oddrn")
+    void rejectsDuplicateJsonDataSourceOddrn() throws IOException {
+        final String duplicate = """
+            {"data_source_oddrn": "%s", "items": [], "data_source_oddrn": "//victim"}
+            """.formatted(ODDRN);
+        for (final int chunkSize : List.of(1, 7, duplicate.length())) {
+            assertThatThrownBy(() -> IngestionPayloadReader.readJsonDataSourceOddrn(
+                split(duplicate.getBytes(StandardCharsets.UTF_8), chunkSize)))
+                .isInstanceOf(IOException.class);
+        }
+
+        final String nested = """
+            {"items": [{"data_source_oddrn": "//a"}, {"data_source_oddrn": "//b"}], "data_source_oddrn": "%s"}
+            """.formatted(ODDRN);
+        assertThat(IngestionPayloadReader.readJsonDataSourceOddrn(split(nested.getBytes(StandardCharsets.UTF_8), 5)))
+            .isEqualTo(ODDRN);
+    }
+
+    @Test
+    @DisplayName("Reads the data source oddrn of a protobuf payload")
+    void readsProtobufDataSourceOddrn() throws IOException {
+        final byte[] bytes = IngestionProto.DataEntityList.newBuilder()
+            .addItems(IngestionProto.DataEntity.newBuilder().setOddrn("//entity").setName("entity"))
+            .setDataSourceOddrn(ODDRN)
+            .build()
+            .toByteArray();
+
+        for (final int chunkSize : List.of(1, 5, bytes.length)) {
+            assertThat(IngestionPayloadReader.readProtobufDataSourceOddrn(split(bytes, chunkSize))).isEqualTo(ODDRN);
+        }
+    }
+
+    @Test
+    @DisplayName("Takes the last data source oddrn of a protobuf payload like the protobuf parser")
+    void readsLastProtobufDataSourceOddrn() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IngestionProto.DataEntityList.newBuilder()
+            .setDataSourceOddrn("//first")
+            .addItems(IngestionProto.DataEntity.newBuilder().setOddrn("//entity").setName("entity"))
+            .build()
+            .writeTo(bytes);
+        IngestionProto.DataEntityList.newBuilder().setDataSourceOddrn(ODDRN).build().writeTo(bytes);
+        // the field with another wire type is kept as an unknown field by the parser
+        final CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeUInt64(IngestionProto.DataEntityList.DATA_SOURCE_ODDRN_FIELD_NUMBER, 42);
+        output.flush();
+        final byte[] payload = bytes.toByteArray();
+
+        assertThat(IngestionProto.DataEntityList.parseFrom(payload).getDataSourceOddrn()).isEqualTo(ODDRN);
+        for (final int chunkSize : List.of(1, 5, payload.length)) {
+            assertThat(IngestionPayloadReader.readProtobufDataSourceOddrn(split(payload, chunkSize))).isEqualTo(ODDRN);
+        }
+    }
+
+    private List<ByteBuffer> split(final byte[] bytes, final int chunkSize) {
+        final List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            buffers.add(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)).slice().asReadOnlyBuffer());
+        }
+        return buffers;
+    }
+}
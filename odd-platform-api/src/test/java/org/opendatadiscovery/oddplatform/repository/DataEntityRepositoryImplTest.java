@@ -0,0 +1,119 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.DataEntityCursor;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
+import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
+import org.opendatadiscovery.oddplatform.dto.FacetType;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
+import org.opendatadiscovery.oddplatform.utils.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataEntityRepositoryImplTest extends BaseIntegrationTest {
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    @Autowired
+    private ReactiveDataSourceRepository dataSourceRepository;
+
+    @Autowired
+    private ReactiveSearchEntrypointRepository searchEntrypointRepository;
+
+    @Test
+    @DisplayName("Seeking past the cursors returns the same search results as the offset pages")
+    public void findByStateAfterTest() {
+        final DataSourcePojo dataSource = dataSourceRepository.create(new DataSourcePojo()
+                .setName(UUID.randomUUID().toString())
+                .setOddrn(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+
+        // the names differ in the number of matching words, so that the entities are ranked both higher and equally
+        final List<DataEntityPojo> entities = dataEntityRepository.bulkCreate(IntStream.range(0, 8)
+                .mapToObj(i -> new DataEntityPojo()
+                    .setOddrn(UUID.randomUUID().toString())
+                    .setInternalName("keyset " + "match ".repeat(i % 3) + i)
+                    .setDataSourceId(dataSource.getId())
+                    .setStatus(DataEntityStatusDto.UNASSIGNED.getId())
+                    .setHollow(false))
+                .toList())
+            .collectList()
+            .block();
+        searchEntrypointRepository.updateDataEntityVectors(entities.stream().map(DataEntityPojo::getId).toList())
+            .block();
+
+        final Map<FacetType, List<SearchFilterDto>> filters = Map.of(FacetType.DATA_SOURCES,
+            List.of(new SearchFilterDto(dataSource.getId(), dataSource.getName(), true, FacetType.DATA_SOURCES)));
+
+        for (final String query : List.of("", "match")) {
+            final FacetStateDto state = new FacetStateDto(filters, query, false);
+
+            final List<Long> offsetPages = new ArrayList<>();
+            for (int page = 1; page <= 3; page++) {
+                dataEntityRepository.findByState(state, page, PAGE_SIZE, null).block()
+                    .forEach(dto -> offsetPages.add(dto.getDataEntity().getId()));
+            }
+
+            final List<Long> keysetPages = new ArrayList<>();
+            DataEntityCursor cursor = null;
+            do {
+                final Pair<List<DataEntityDimensionsDto>, DataEntityCursor> page = dataEntityRepository
+                    .findByStateAfter(state, cursor, PAGE_SIZE, null)
+                    .block();
+                page.getLeft().forEach(dto -> keysetPages.add(dto.getDataEntity().getId()));
+                cursor = page.getRight() != null ? DataEntityCursor.decode(page.getRight().encode()) : null;
+            } while (cursor != null);
+
+            assertThat(offsetPages).hasSize(query.isEmpty() ? 8 : 5);
+            assertThat(keysetPages).containsExactlyElementsOf(offsetPages);
+        }
+    }
+
+    @Test
+    @DisplayName("Capped count stops at the limit and the planner estimate is parsed")
+    public void countByStateTest() {
+        final DataSourcePojo dataSource = dataSourceRepository.create(new DataSourcePojo()
+                .setName(UUID.randomUUID().toString())
+                .setOddrn(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+        final List<DataEntityPojo> entities = dataEntityRepository.bulkCreate(IntStream.range(0, 5)
+                .mapToObj(i -> new DataEntityPojo()
+                    .setOddrn(UUID.randomUUID().toString())
+                    .setInternalName("count " + i)
+                    .setDataSourceId(dataSource.getId())
+                    .setStatus(DataEntityStatusDto.UNASSIGNED.getId())
+                    .setHollow(false))
+                .toList())
+            .collectList()
+            .block();
+        searchEntrypointRepository.updateDataEntityVectors(entities.stream().map(DataEntityPojo::getId).toList())
+            .block();
+
+        final FacetStateDto state = new FacetStateDto(Map.of(FacetType.DATA_SOURCES,
+            List.of(new SearchFilterDto(dataSource.getId(), dataSource.getName(), true, FacetType.DATA_SOURCES))),
+            "", false);
+
+        assertThat(dataEntityRepository.countByState(state).block()).isEqualTo(5);
+        assertThat(dataEntityRepository.countByState(state, null, 3).block()).isEqualTo(3);
+        assertThat(dataEntityRepository.countByState(state, null, 10).block()).isEqualTo(5);
+        assertThat(dataEntityRepository.estimateCountByState(state, null).block()).isNotNegative();
+    }
+}
@@ -0,0 +1,75 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatus;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for IngestionJobRepository")
+class IngestionJobRepositoryImplTest extends BaseIntegrationTest {
+    // large enough for a fresh data source to be alone in its partition
+    private static final int PARTITIONS = 1_000_000;
+
+    @Autowired
+    private ReactiveIngestionJobRepository ingestionJobRepository;
+
+    @Autowired
+    private ReactiveDataSourceRepository dataSourceRepository;
+
+    @Test
+    @DisplayName("Doesn't reclaim a long running job with a fresh heartbeat and fences the superseded attempt")
+    void reclaimsOnlyStaleJobs() {
+        final DataSourcePojo dataSource = dataSourceRepository.create(new DataSourcePojo()
+                .setName(UUID.randomUUID().toString())
+                .setOddrn(UUID.randomUUID().toString()))
+            .block();
+        final int partition = (int) (dataSource.getId() % PARTITIONS);
+        final LocalDateTime now = DateTimeUtil.generateNow();
+
+        final IngestionJobPojo job = ingestionJobRepository.create(new IngestionJobPojo()
+                .setDataSourceId(dataSource.getId())
+                .setStatus(IngestionJobStatus.RUNNING.getCode())
+                .setPayload(JSONB.jsonb("{}"))
+                .setEntitiesCount(0)
+                .setAttempt(1)
+                .setStartedAt(now.minus(Duration.ofHours(2)))
+                .setHeartbeatAt(now))
+            .block();
+
+        ingestionJobRepository.claimNext(partition, PARTITIONS, now.minus(Duration.ofMinutes(30)))
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        final IngestionJobPojo reclaimed = ingestionJobRepository
+            .claimNext(partition, PARTITIONS, now.plus(Duration.ofMinutes(1)))
+            .block();
+        assertThat(reclaimed.getId()).isEqualTo(job.getId());
+        assertThat(reclaimed.getAttempt()).isEqualTo(2);
+
+        ingestionJobRepository.heartbeat(job.getId(), 1)
+            .as(StepVerifier::create)
+            .verifyComplete();
+        ingestionJobRepository.markCompleted(job.getId(), 1, Map.of())
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        ingestionJobRepository.markFailed(job.getId(), 2, Map.of(), "error")
+            .as(StepVerifier::create)
+            .assertNext(failed -> assertThat(failed.getStatus()).isEqualTo(IngestionJobStatus.FAILED.getCode()))
+            .verifyComplete();
+    }
+}
@@ -45,21 +45,25 @@ class LineageRepositoryTest extends BaseIntegrationTest {
     ReactiveDataEntityRepository dataEntityRepository;
 
     @Test
-    void batchDeleteByEstablisherOddrnTest() {
-        final var firstEstablisherOddrnToDelete = RandomStringUtils.randomAlphabetic(5);
-        final var secondEstablisherOddrnToDelete = RandomStringUtils.randomAlphabetic(5);
-        final var establisherOddrnToKeep = RandomStringUtils.randomAlphabetic(5);
-        final var firstPojoToDelete =
-            EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(firstEstablisherOddrnToDelete);
-        final var secondPojoToDelete =
-            EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(secondEstablisherOddrnToDelete);
-        final var pojoToKeep = EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(establisherOddrnToKeep);
-        lineageRepository.batchInsertLineages(List.of(firstPojoToDelete, secondPojoToDelete, pojoToKeep)).blockLast();
-        lineageRepository.batchDeleteByEstablisherOddrn(
-                List.of(firstEstablisherOddrnToDelete, secondEstablisherOddrnToDelete))
+    void getChildrenCountForManyOddrnsTest() {
+        final var parentOddrn = RandomStringUtils.randomAlphabetic(10);
+        final List<LineagePojo> lineages = Stream.of("child_a", "child_b")
+            .map(child -> new LineagePojo()
+                .setParentOddrn(parentOddrn)
+                .setChildOddrn(parentOddrn + child)
+                .setEstablisherOddrn(parentOddrn))
+            .toList();
+        lineageRepository.batchInsertLineages(lineages).blockLast();
+
+        // more values than a single statement could bind as separate parameters
+        final Set<String> oddrns = Stream.concat(
+            Stream.of(parentOddrn),
+            Stream.generate(() -> RandomStringUtils.randomAlphabetic(20)).limit(40_000)
+        ).collect(Collectors.toSet());
+
+        lineageRepository.getChildrenCount(oddrns)
             .as(StepVerifier::create)
-            .expectNext(firstPojoToDelete)
-            .expectNext(secondPojoToDelete)
+            .assertNext(counts -> assertThat(counts).containsExactly(Map.entry(parentOddrn, 2)))
             .verifyComplete();
     }
 
@@ -310,6 +314,37 @@ class LineageRepositoryTest extends BaseIntegrationTest {
             .verifyComplete();
     }
 
+    @Test
+    void batchDeleteLineagesTest() {
+        final var parentOddrn = RandomStringUtils.randomAlphabetic(10);
+        final var establisherOddrn = RandomStringUtils.randomAlphabetic(10);
+        final var pojoToDelete = new LineagePojo()
+            .setParentOddrn(parentOddrn)
+            .setChildOddrn(parentOddrn + "_deleted")
+            .setEstablisherOddrn(establisherOddrn);
+        final var pojoToKeep = new LineagePojo()
+            .setParentOddrn(parentOddrn)
+            .setChildOddrn(parentOddrn + "_kept")
+            .setEstablisherOddrn(establisherOddrn);
+        final var otherEstablisherPojo = new LineagePojo()
+            .setParentOddrn(parentOddrn)
+            .setChildOddrn(parentOddrn + "_deleted")
+            .setEstablisherOddrn(RandomStringUtils.randomAlphabetic(10));
+        lineageRepository.batchInsertLineages(List.of(pojoToDelete, pojoToKeep, otherEstablisherPojo)).blockLast();
+
+        lineageRepository.batchDeleteLineages(List.of(pojoToDelete))
+            .as(StepVerifier::create)
+            .assertNext(pojo -> assertThat(pojo).usingRecursiveComparison()
+                .ignoringFields("isDeleted")
+                .isEqualTo(pojoToDelete))
+            .verifyComplete();
+
+        lineageRepository.getLineageByEstablisherOddrns(List.of(establisherOddrn))
+            .as(StepVerifier::create)
+            .assertNext(pojo -> assertThat(pojo.getChildOddrn()).isEqualTo(pojoToKeep.getChildOddrn()))
+            .verifyComplete();
+    }
+
     private LineagePojo generateLineageWithParent(final String parentOddrn) {
         return new LineagePojo()
             .setParentOddrn(parentOddrn)
@@ -1,7 +1,9 @@
 package org.opendatadiscovery.oddplatform.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
 import org.jooq.JSONB;
@@ -75,6 +77,78 @@ class ReactiveDatasetFieldRepositoryImplTest extends BaseIntegrationTest {
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Test bulk create via COPY keeps values and defaults")
+    void testBulkCreateViaCopy() {
+        final String trickyText = "tab\there\nnew line \\ backslash \"quoted\" \\N";
+        // both halves reach the COPY threshold on their own, the last record differs in its set fields
+        // and is inserted with a regular INSERT
+        final List<DatasetFieldPojo> pojos = IntStream.range(0, 4001)
+            .mapToObj(i -> EASY_RANDOM.nextObject(DatasetFieldPojo.class)
+                .setId(null)
+                .setOddrn("//copy/field/" + i)
+                .setExternalDescription(i % 2 == 0 ? trickyText : null)
+                .setInternalDescription(i == 4000 ? null : trickyText)
+                .setType(jsonb("{\"type\": \"TYPE_STRING\", \"description\": \"a\\tb\"}")))
+            .toList();
+
+        final Map<String, DatasetFieldPojo> created = reactiveDatasetFieldRepository.bulkCreate(pojos)
+            .collectMap(DatasetFieldPojo::getOddrn)
+            .block();
+
+        assertThat(created).hasSize(pojos.size());
+        for (int i = 0; i < pojos.size(); i++) {
+            final DatasetFieldPojo expected = pojos.get(i);
+            final DatasetFieldPojo actual = created.get(expected.getOddrn());
+            assertNotNull(actual.getId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getExternalDescription(), actual.getExternalDescription());
+            assertEquals(expected.getInternalDescription(), actual.getInternalDescription());
+            assertEquals(expected.getIsKey(), actual.getIsKey());
+            assertEquals(expected.getFieldOrder(), actual.getFieldOrder());
+            assertThat(actual.getType().data()).contains("TYPE_STRING", "a\\tb");
+        }
+    }
+
+    @Test
+    @DisplayName("Test bulk update overwrites values including nulls and json")
+    void testBulkUpdate() {
+        final List<DatasetFieldPojo> created = reactiveDatasetFieldRepository.bulkCreate(IntStream.range(0, 3)
+                .mapToObj(i -> EASY_RANDOM.nextObject(DatasetFieldPojo.class)
+                    .setId(null)
+                    .setOddrn("//update/field/" + i)
+                    .setType(jsonb("{\"type\": \"TYPE_STRING\"}")))
+                .toList())
+            .collectList()
+            .block();
+        assertNotNull(created);
+
+        final String trickyText = "quote \" comma , brace } backslash \\ NULL";
+        final List<DatasetFieldPojo> updated = created.stream()
+            .map(p -> new DatasetFieldPojo(p)
+                .setName(p.getName() + "_updated")
+                .setExternalDescription(trickyText)
+                .setInternalDescription(null)
+                .setIsKey(!p.getIsKey())
+                .setType(jsonb("{\"type\": \"TYPE_INTEGER\"}")))
+            .toList();
+
+        final Map<Long, DatasetFieldPojo> actual = reactiveDatasetFieldRepository.bulkUpdate(updated)
+            .collectMap(DatasetFieldPojo::getId)
+            .block();
+
+        assertThat(actual).hasSize(updated.size());
+        for (final DatasetFieldPojo expected : updated) {
+            final DatasetFieldPojo pojo = actual.get(expected.getId());
+            assertEquals(expected.getName(), pojo.getName());
+            assertEquals(trickyText, pojo.getExternalDescription());
+            assertThat(pojo.getInternalDescription()).isNull();
+            assertEquals(expected.getIsKey(), pojo.getIsKey());
+            assertEquals(expected.getOddrn(), pojo.getOddrn());
+            assertThat(pojo.getType().data()).contains("TYPE_INTEGER");
+        }
+    }
+
     private void assertDataField(final DatasetFieldPojo expectedDatasetFieldPojo,
                                  final DatasetFieldPojo actualDataSetField) {
         assertEquals(expectedDatasetFieldPojo.getId(), actualDataSetField.getId());
@@ -0,0 +1,128 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.config.properties.SearchFacetProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchFacetProperties.CountingMode;
+import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
+import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
+import org.opendatadiscovery.oddplatform.dto.FacetType;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterId;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToDataEntityPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchFacetRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private ReactiveSearchFacetRepository searchFacetRepository;
+
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    @Autowired
+    private ReactiveSearchEntrypointRepository searchEntrypointRepository;
+
+    @Autowired
+    private ReactiveTagRepository tagRepository;
+
+    @Autowired
+    private SearchFacetProperties searchFacetProperties;
+
+    @AfterEach
+    public void resetProperties() {
+        searchFacetProperties.setCountersEnabled(false);
+        searchFacetProperties.setCountingMode(CountingMode.EXACT);
+        searchFacetProperties.setSampleSize(1000);
+    }
+
+    @Test
+    @DisplayName("Facet counters of the searches without a query are equal to the exact counts after a refresh")
+    public void countersTest() {
+        final List<DataEntityPojo> entities = createDataEntities("counters", 3);
+        final TagPojo tag = tagRepository.create(new TagPojo()
+                .setName(UUID.randomUUID().toString())
+                .setImportant(false))
+            .block();
+        tagRepository.createDataEntityRelations(entities.stream().limit(2)
+                .map(de -> new TagToDataEntityPojo().setTagId(tag.getId()).setDataEntityId(de.getId()))
+                .toList())
+            .blockLast();
+
+        final DataEntityClassDto dataSet = DataEntityClassDto.DATA_SET;
+        final FacetStateDto dataSetState = new FacetStateDto(Map.of(FacetType.ENTITY_CLASSES,
+            List.of(new SearchFilterDto(dataSet.getId(), dataSet.name(), true, FacetType.ENTITY_CLASSES))), "", false);
+        final Map<SearchFilterId, Long> exact = getTagFacet(tag, FacetStateDto.empty());
+        assertThat(exact).containsValues(2L).hasSize(1);
+        assertThat(getTagFacet(tag, dataSetState)).isEqualTo(exact);
+
+        searchFacetRepository.refreshCounters().block();
+        searchFacetProperties.setCountersEnabled(true);
+        assertThat(getTagFacet(tag, FacetStateDto.empty())).isEqualTo(exact);
+        assertThat(getTagFacet(tag, dataSetState)).isEqualTo(exact);
+
+        tagRepository.deleteDataEntityRelations(tag.getId()).blockLast();
+        assertThat(getTagFacet(tag, FacetStateDto.empty())).isEqualTo(exact);
+
+        searchFacetRepository.refreshCounters().block();
+        assertThat(getTagFacet(tag, FacetStateDto.empty())).isEmpty();
+        assertThat(getTagFacet(tag, dataSetState)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Facets of a query matching more data entities than the sample size are counted over a sample")
+    public void sampledTest() {
+        final String word = "sampled" + UUID.randomUUID().toString().replace("-", "");
+        createDataEntities(word, 3);
+
+        assertThat(searchFacetRepository.isSampled(word).block()).isFalse();
+
+        searchFacetProperties.setCountingMode(CountingMode.SAMPLED);
+        searchFacetProperties.setSampleSize(3);
+        assertThat(searchFacetRepository.isSampled(word).block()).isFalse();
+
+        searchFacetProperties.setSampleSize(2);
+        assertThat(searchFacetRepository.isSampled(word).block()).isTrue();
+        assertThat(searchFacetRepository.getEntityClassFacetForDataEntity(new FacetStateDto(Map.of(), word, false))
+            .block())
+            .containsEntry(entityClassFilter(DataEntityClassDto.DATA_SET), 2L);
+    }
+
+    private Map<SearchFilterId, Long> getTagFacet(final TagPojo tag, final FacetStateDto state) {
+        return searchFacetRepository.getTagFacetForDataEntity(tag.getName(), 1, 10, state).block();
+    }
+
+    private SearchFilterId entityClassFilter(final DataEntityClassDto entityClass) {
+        return SearchFilterId.builder().entityId(entityClass.getId()).name(entityClass.name()).build();
+    }
+
+    private List<DataEntityPojo> createDataEntities(final String name, final int count) {
+        final List<DataEntityPojo> entities = dataEntityRepository.bulkCreate(IntStream.range(0, count)
+                .mapToObj(i -> new DataEntityPojo()
+                    .setOddrn(UUID.randomUUID().toString())
+                    .setInternalName(name + " " + i)
+                    .setEntityClassIds(new Integer[] {DataEntityClassDto.DATA_SET.getId()})
+                    .setStatus(DataEntityStatusDto.UNASSIGNED.getId())
+                    .setHollow(false))
+                .toList())
+            .collectList()
+            .block();
+        searchEntrypointRepository.updateDataEntityVectors(entities.stream().map(DataEntityPojo::getId).toList())
+            .block();
+        return entities;
+    }
+}
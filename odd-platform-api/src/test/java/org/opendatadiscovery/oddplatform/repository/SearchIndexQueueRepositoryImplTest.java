@@ -0,0 +1,65 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchIndexQueuePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchIndexQueueRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Integration tests for SearchIndexQueueRepository")
+class SearchIndexQueueRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private ReactiveSearchIndexQueueRepository searchIndexQueueRepository;
+
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    @Test
+    @DisplayName("Deletes listed entries and keeps the ones marked dirty again after listing")
+    void deleteKeepsEntriesMarkedAgain() {
+        final List<Long> ids = dataEntityRepository.bulkCreate(IntStream.range(0, 3)
+                .mapToObj(i -> new DataEntityPojo().setOddrn(UUID.randomUUID().toString()))
+                .toList())
+            .map(DataEntityPojo::getId)
+            .collectList()
+            .block();
+        searchIndexQueueRepository.enqueue(Map.of(
+            SearchVectorKind.DATA_ENTITY, ids,
+            SearchVectorKind.TAG, ids.subList(0, 1)
+        )).block();
+
+        final List<SearchIndexQueuePojo> listed = listed(Set.copyOf(ids));
+        assertThat(listed).hasSize(4);
+
+        searchIndexQueueRepository.enqueue(Map.of(SearchVectorKind.DATA_ENTITY, ids.subList(0, 1))).block();
+
+        searchIndexQueueRepository.delete(listed)
+            .as(StepVerifier::create)
+            .expectNext(3)
+            .verifyComplete();
+
+        assertThat(listed(Set.copyOf(ids)))
+            .extracting(SearchIndexQueuePojo::getDataEntityId, SearchIndexQueuePojo::getVectorKind)
+            .containsExactly(tuple(ids.get(0), SearchVectorKind.DATA_ENTITY.name()));
+    }
+
+    private List<SearchIndexQueuePojo> listed(final Set<Long> ids) {
+        return searchIndexQueueRepository.listOldest(Integer.MAX_VALUE)
+            .filter(e -> ids.contains(e.getDataEntityId()))
+            .collectList()
+            .block();
+    }
+}
@@ -0,0 +1,68 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.BatchingProperties;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.LineageRecord;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.LINEAGE;
+
+class BatchPlannerTest {
+
+    @Test
+    void narrowRowsAreLimitedByRowCount() {
+        final BatchPlanner planner = new BatchPlanner(properties(30000, DataSize.ofMegabytes(4), 5000));
+
+        assertThat(planner.batchSize(List.of(1L, 2L, 3L))).isEqualTo(5000);
+    }
+
+    @Test
+    void rowsAreLimitedByBindParameters() {
+        final BatchPlanner planner = new BatchPlanner(properties(1000, DataSize.ofMegabytes(4), 5000));
+
+        final int lineageBatch = planner.batchSize(List.of(new LineagePojo()));
+        final int datasetFieldBatch = planner.batchSize(List.of(new DatasetFieldPojo()));
+
+        assertThat(lineageBatch).isEqualTo(1000 / 4);
+        assertThat(datasetFieldBatch).isLessThan(lineageBatch);
+    }
+
+    @Test
+    void wideRecordsAreLimitedByBatchSize() {
+        final BatchPlanner planner = new BatchPlanner(properties(30000, DataSize.ofKilobytes(100), 5000));
+        final LineageRecord record = DSL.using(SQLDialect.POSTGRES).newRecord(LINEAGE);
+        record.setParentOddrn("p".repeat(1000));
+        record.setChildOddrn("c".repeat(1000));
+        record.setEstablisherOddrn("");
+
+        final List<LineageRecord> records = IntStream.range(0, 100).mapToObj(i -> record).toList();
+
+        assertThat(planner.batchSize(records)).isBetween(40, 60);
+    }
+
+    @Test
+    void batchContainsAtLeastOneRow() {
+        final BatchPlanner planner = new BatchPlanner(properties(1, DataSize.ofBytes(1), 5000));
+
+        assertThat(planner.batchSize(List.of("oddrn"))).isEqualTo(1);
+        assertThat(planner.batchSize(Collections.emptyList())).isEqualTo(5000);
+    }
+
+    private BatchingProperties properties(final int maxBindParameters,
+                                          final DataSize maxBatchSize,
+                                          final int maxRows) {
+        final BatchingProperties properties = new BatchingProperties();
+        properties.setMaxBindParameters(maxBindParameters);
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setMaxRows(maxRows);
+        return properties;
+    }
+}
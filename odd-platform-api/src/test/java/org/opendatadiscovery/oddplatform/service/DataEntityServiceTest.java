@@ -15,6 +15,8 @@ import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValueLi
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValueUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataObject;
 import org.opendatadiscovery.oddplatform.auth.AuthIdentityProvider;
+import org.opendatadiscovery.oddplatform.config.properties.SearchCountProperties;
+import org.opendatadiscovery.oddplatform.dto.ingestion.SearchVectorKind;
 import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityMapper;
 import org.opendatadiscovery.oddplatform.mapper.MetadataFieldMapper;
@@ -32,8 +34,8 @@ import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntity
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldValueRepository;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
+import org.opendatadiscovery.oddplatform.service.search.SearchIndexService;
 import org.opendatadiscovery.oddplatform.service.term.TermService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -67,7 +69,7 @@ public class DataEntityServiceTest {
     @Mock
     private TermMapper termMapper;
     @Mock
-    private ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
+    private SearchIndexService searchIndexService;
     @Mock
     private ReactiveDataEntityRepository reactiveDataEntityRepository;
     @Mock
@@ -113,14 +115,15 @@ public class DataEntityServiceTest {
             reactiveLineageRepository,
             reactiveDataEntityTaskRunRepository,
             datasetVersionRepository,
-            reactiveSearchEntrypointRepository,
+            searchIndexService,
             reactiveGroupEntityRelationRepository,
             tagRepository,
             dataEntityMapper,
             metadataFieldMapper,
             metadataFieldValueMapper,
             tagMapper,
-            termMapper);
+            termMapper,
+            new SearchCountProperties());
     }
 
     @Test
@@ -147,7 +150,7 @@ public class DataEntityServiceTest {
             .thenReturn(Flux.fromIterable(List.of(valuePojo)));
         when(metadataFieldValueMapper.mapDto(new MetadataDto(fieldPojoAfterCreation, valuePojo)))
             .thenReturn(metadataFieldValue);
-        when(reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId)).thenReturn(Mono.just(1));
+        when(searchIndexService.updateVectors(dataEntityId, SearchVectorKind.METADATA)).thenReturn(Mono.empty());
         when(dataEntityFilledService.markEntityFilled(anyLong(), any()))
             .thenReturn(Mono.just(new DataEntityFilledPojo()));
 
@@ -180,7 +183,7 @@ public class DataEntityServiceTest {
         when(metadataFieldValueRepository.update(valuePojo)).thenReturn(Mono.just(valuePojo));
         when(metadataFieldValueMapper.mapDto(new MetadataDto(metadataFieldPojo, valuePojo)))
             .thenReturn(metadataFieldValue);
-        when(reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId)).thenReturn(Mono.just(1));
+        when(searchIndexService.updateVectors(dataEntityId, SearchVectorKind.METADATA)).thenReturn(Mono.empty());
 
         final Mono<MetadataFieldValue> result =
             dataEntityService.upsertMetadataFieldValue(dataEntityId, fieldId, formData);
@@ -0,0 +1,165 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties.DatasetVersionHashEncoding;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasetVersionHashCalculatorTest {
+    // calculated by the JSON based implementation the compatible encoding replaces
+    private static final String LEGACY_HASH = "f02f796db1faaffef66d023fd3c9d6ef54f48ee51f0106bad5730bb5ccdca83b";
+
+    private final DatasetVersionHashCalculator compatible = calculator(DatasetVersionHashEncoding.COMPATIBLE);
+    private final DatasetVersionHashCalculator canonical = calculator(DatasetVersionHashEncoding.CANONICAL);
+
+    @Test
+    @DisplayName("Compatible encoding produces hashes of the previous implementation")
+    void compatibleEncodingKeepsLegacyHashes() {
+        final DataSetFieldType type = new DataSetFieldType()
+            .type(DataSetFieldType.TypeEnum.STRING)
+            .logicalType("varchar")
+            .isNullable(true);
+        final String cyrillicName = new String(new int[] {0x41A, 0x43E, 0x43B, 0x43E, 0x43D, 0x43A, 0x430}, 0, 7);
+        final String name = cyrillicName + " \"a\"\n\t\u0001 " + Character.toString(0x1F600) + " \\";
+        final List<DataSetField> fields = List.of(
+            new DataSetField().oddrn("//db/table/col_b").name("col_b").type(type).isValue(true).isPrimaryKey(false),
+            new DataSetField().oddrn("//db/table/col_a").name(name).parentFieldOddrn("//db/table/col_b").isKey(true)
+        );
+
+        assertThat(compatible.calculateStructureHash(fields)).isEqualTo(LEGACY_HASH);
+        assertThat(compatible.calculateStructureHashFromPojos(toPojos(fields))).isEqualTo(LEGACY_HASH);
+    }
+
+    @Test
+    @DisplayName("Compatible encoding matches JSON serialization for arbitrary field values")
+    void compatibleEncodingMatchesJsonSerialization() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            final List<DataSetField> fields = IntStream.range(0, 1 + random.nextInt(20))
+                .mapToObj(n -> randomField(random))
+                .toList();
+
+            assertThat(compatible.calculateStructureHash(fields)).isEqualTo(legacyHash(fields));
+            assertThat(compatible.calculateStructureHashFromPojos(toPojos(fields))).isEqualTo(legacyHash(fields));
+        }
+    }
+
+    @Test
+    @DisplayName("Canonical encoding doesn't depend on the order of fields and on the source of fields")
+    void canonicalEncodingIsStable() {
+        final Random random = new Random(7);
+        final List<DataSetField> fields = IntStream.range(0, 10).mapToObj(n -> randomField(random)).toList();
+        final List<DataSetField> reversed = new ArrayList<>(fields);
+        Collections.reverse(reversed);
+
+        final String hash = canonical.calculateStructureHash(fields);
+
+        assertThat(canonical.calculateStructureHash(reversed)).isEqualTo(hash);
+        assertThat(canonical.calculateStructureHashFromPojos(toPojos(fields))).isEqualTo(hash);
+        assertThat(hash).isNotEqualTo(compatible.calculateStructureHash(fields));
+        assertThat(canonical.calculateStructureHash(List.of())).isEqualTo("0");
+    }
+
+    private DataSetField randomField(final Random random) {
+        final DataSetField field = new DataSetField()
+            .oddrn("//field/" + random.nextInt(1000) + randomString(random))
+            .name(random.nextInt(10) == 0 ? null : randomString(random))
+            .parentFieldOddrn(random.nextBoolean() ? null : randomString(random))
+            .isKey(random.nextInt(3) == 0 ? null : random.nextBoolean())
+            .isValue(random.nextBoolean())
+            .isPrimaryKey(random.nextInt(3) == 0 ? null : random.nextBoolean());
+
+        if (random.nextInt(5) != 0) {
+            final DataSetFieldType.TypeEnum[] types = DataSetFieldType.TypeEnum.values();
+            field.type(new DataSetFieldType()
+                .type(random.nextInt(10) == 0 ? null : types[random.nextInt(types.length)])
+                .logicalType(random.nextBoolean() ? null : randomString(random))
+                .isNullable(random.nextInt(3) == 0 ? null : random.nextBoolean()));
+        }
+        return field;
+    }
+
+    // covers all ASCII characters, multi-byte characters, surrogate pairs and unpaired surrogates
+    private String randomString(final Random random) {
+        final StringBuilder sb = new StringBuilder();
+        final int length = random.nextInt(30);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(6)) {
+                case 0 -> sb.append((char) random.nextInt(0x80));
+                case 1 -> sb.append((char) (0x80 + random.nextInt(0x780)));
+                case 2 -> sb.append((char) (0x800 + random.nextInt(0xD000)));
+                case 3 -> sb.appendCodePoint(0x10000 + random.nextInt(0x1000));
+                case 4 -> sb.append((char) (0xD800 + random.nextInt(0x800)));
+                default -> sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private List<DatasetFieldPojo> toPojos(final List<DataSetField> fields) {
+        return fields.stream()
+            .map(f -> new DatasetFieldPojo()
+                .setOddrn(f.getOddrn())
+                .setName(f.getName())
+                .setParentFieldOddrn(f.getParentFieldOddrn())
+                .setType(JSONB.jsonb(f.getType() == null ? "null" : JSONSerDeUtils.serializeJson(f.getType())))
+                .setIsKey(f.getIsKey())
+                .setIsValue(f.getIsValue())
+                .setIsPrimaryKey(f.getIsPrimaryKey()))
+            .toList();
+    }
+
+    private String legacyHash(final List<DataSetField> fields) {
+        final List<Map<String, Object>> sorted = fields.stream()
+            .sorted(Comparator.comparing(DataSetField::getOddrn))
+            .map(f -> {
+                final Map<String, Object> json = new LinkedHashMap<>();
+                json.put("oddrn", f.getOddrn());
+                json.put("name", f.getName());
+                json.put("parent_field_oddrn", f.getParentFieldOddrn());
+                json.put("type", f.getType());
+                json.put("key", Boolean.TRUE.equals(f.getIsKey()));
+                json.put("value", Boolean.TRUE.equals(f.getIsValue()));
+                json.put("primary_key", Boolean.TRUE.equals(f.getIsPrimaryKey()));
+                return json;
+            })
+            .toList();
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(JSONSerDeUtils.serializeJson(sorted).getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder();
+            for (final byte b : digest) {
+                sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+            }
+            return sb.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DatasetVersionHashCalculator calculator(final DatasetVersionHashEncoding encoding) {
+        final IngestionProperties properties = new IngestionProperties();
+        properties.setDatasetVersionHashEncoding(encoding);
+        return new DatasetVersionHashCalculator(properties);
+    }
+}
@@ -0,0 +1,95 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.exception.TooManyRequestsException;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionAdmissionControl;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionAdmissionControl.Permit;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.ADMISSION_COUNTER;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.ADMISSION_QUEUED_GAUGE;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.LIMIT_TAG;
+import static org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics.OUTCOME_TAG;
+
+public class IngestionAdmissionControlTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Requests over the collector limit wait until a request of the same collector is released")
+    void queuesRequestsOverCollectorLimit() {
+        final IngestionAdmissionControl admissionControl = admissionControl(2, 1, 10, Duration.ofSeconds(5));
+
+        final Permit first = admissionControl.acquire("a").block();
+        final StepVerifier queued = StepVerifier.create(admissionControl.acquire("a"))
+            .expectNextCount(1)
+            .expectComplete()
+            .verifyLater();
+        assertThat(meterRegistry.get(ADMISSION_QUEUED_GAUGE).gauge().value()).isEqualTo(1);
+
+        // another collector isn't blocked by the queued request
+        StepVerifier.create(admissionControl.acquire("b")).expectNextCount(1).verifyComplete();
+
+        first.release();
+        queued.verify(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get(ADMISSION_QUEUED_GAUGE).gauge().value()).isZero();
+        assertThat(count("admitted", "none")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Requests are rejected when the queue is full")
+    void rejectsWhenQueueIsFull() {
+        final IngestionAdmissionControl admissionControl = admissionControl(1, 1, 1, Duration.ofSeconds(5));
+
+        admissionControl.acquire("a").block();
+        admissionControl.acquire("b").subscribe();
+
+        StepVerifier.create(admissionControl.acquire("c"))
+            .expectError(TooManyRequestsException.class)
+            .verify(Duration.ofSeconds(5));
+        assertThat(count("rejected", "global")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Requests waiting longer than allowed are rejected and leave the queue")
+    void rejectsAfterMaxWait() {
+        final IngestionAdmissionControl admissionControl = admissionControl(1, 1, 10, Duration.ofMillis(50));
+
+        final Permit first = admissionControl.acquire("a").block();
+        StepVerifier.create(admissionControl.acquire("b"))
+            .expectError(TooManyRequestsException.class)
+            .verify(Duration.ofSeconds(5));
+        assertThat(count("rejected", "wait_timeout")).isEqualTo(1);
+        assertThat(meterRegistry.get(ADMISSION_QUEUED_GAUGE).gauge().value()).isZero();
+
+        // the permit is released exactly once
+        first.release();
+        first.release();
+        final Permit second = admissionControl.acquire("b").block();
+        StepVerifier.create(admissionControl.acquire("c"))
+            .expectError(TooManyRequestsException.class)
+            .verify(Duration.ofSeconds(5));
+        second.release();
+    }
+
+    private IngestionAdmissionControl admissionControl(final int maxConcurrentRequests,
+                                                      final int maxConcurrentRequestsPerCollector,
+                                                      final int queueCapacity,
+                                                      final Duration maxWait) {
+        final IngestionProperties properties = new IngestionProperties();
+        properties.getAdmission().setMaxConcurrentRequests(maxConcurrentRequests);
+        properties.getAdmission().setMaxConcurrentRequestsPerCollector(maxConcurrentRequestsPerCollector);
+        properties.getAdmission().setQueueCapacity(queueCapacity);
+        properties.getAdmission().setMaxWait(maxWait);
+        return new IngestionAdmissionControl(properties, meterRegistry);
+    }
+
+    private double count(final String outcome, final String limit) {
+        return meterRegistry.get(ADMISSION_COUNTER).tag(OUTCOME_TAG, outcome).tag(LIMIT_TAG, limit).counter().count();
+    }
+}
@@ -0,0 +1,211 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
+import org.opendatadiscovery.oddplatform.exception.TooManyRequestsException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionCoalescer;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionService;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IngestionCoalescerTest {
+    private static final String DATA_SOURCE_ODDRN = "//data_source";
+
+    private final Sinks.Empty<Void> firstRunGate = Sinks.empty();
+    private final RecordingIngestionService ingestionService = new RecordingIngestionService();
+
+    @Test
+    @DisplayName("Requests arriving during a running ingestion are merged into the next run")
+    void mergesConcurrentRequests() {
+        final IngestionCoalescer coalescer = new IngestionCoalescer(ingestionService, properties(true));
+
+        final List<StepVerifier> verifiers = List.of(
+            coalescer.ingest(list(entity("a", "a1"))),
+            coalescer.ingest(list(entity("b", "b1"), entity("c", "c1"))),
+            coalescer.ingest(list(entity("b", "b2")))
+        ).stream().map(m -> StepVerifier.create(m).expectComplete().verifyLater()).toList();
+        assertThat(ingestionService.calls).hasSize(1);
+
+        firstRunGate.tryEmitEmpty();
+
+        verifiers.forEach(v -> v.verify(Duration.ofSeconds(5)));
+        assertThat(ingestionService.calls).hasSize(2);
+        assertThat(ingestionService.calls.get(0).getItems()).extracting(DataEntity::getName).containsExactly("a1");
+        assertThat(ingestionService.calls.get(1).getDataSourceOddrn()).isEqualTo(DATA_SOURCE_ODDRN);
+        assertThat(ingestionService.calls.get(1).getItems())
+            .extracting(DataEntity::getName)
+            .containsExactly("c1", "b2");
+    }
+
+    @Test
+    @DisplayName("Two concurrent requests for the same data source are merged and the later payload wins")
+    void laterPayloadWins() {
+        final IngestionCoalescer coalescer = new IngestionCoalescer(ingestionService, properties(true));
+
+        final Disposable running = coalescer.ingest(list(entity("a", "a1"))).subscribe();
+        final StepVerifier earlier = StepVerifier.create(coalescer.ingest(list(entity("b", "b1"), entity("c", "c1"))))
+            .expectComplete()
+            .verifyLater();
+        final StepVerifier later = StepVerifier.create(coalescer.ingest(list(entity("c", "c2"), entity("b", "b2"))))
+            .expectComplete()
+            .verifyLater();
+
+        firstRunGate.tryEmitEmpty();
+
+        earlier.verify(Duration.ofSeconds(5));
+        later.verify(Duration.ofSeconds(5));
+        assertThat(running.isDisposed()).isTrue();
+        assertThat(ingestionService.calls).hasSize(2);
+        assertThat(ingestionService.calls.get(1).getItems())
+            .extracting(DataEntity::getName)
+            .containsExactly("c2", "b2");
+    }
+
+    @Test
+    @DisplayName("A request cancelled before its run has started is withdrawn")
+    void withdrawsCancelledQueuedRequest() {
+        final IngestionCoalescer coalescer = new IngestionCoalescer(ingestionService, properties(true));
+
+        coalescer.ingest(list(entity("a", "a1"))).subscribe();
+        final Disposable cancelled = coalescer.ingest(list(entity("b", "b1"))).subscribe();
+        final StepVerifier remaining = StepVerifier.create(coalescer.ingest(list(entity("c", "c1"))))
+            .expectComplete()
+            .verifyLater();
+
+        cancelled.dispose();
+        firstRunGate.tryEmitEmpty();
+
+        remaining.verify(Duration.ofSeconds(5));
+        assertThat(ingestionService.calls)
+            .extracting(l -> l.getItems().stream().map(DataEntity::getName).toList())
+            .containsExactly(List.of("a1"), List.of("c1"));
+    }
+
+    @Test
+    @DisplayName("A started run is cancelled once all of its callers have cancelled and the next run starts")
+    void cancelsRunWithoutCallers() {
+        final IngestionCoalescer coalescer = new IngestionCoalescer(ingestionService, properties(true));
+
+        final Disposable first = coalescer.ingest(list(entity("a", "a1"))).subscribe();
+        final StepVerifier next = StepVerifier.create(coalescer.ingest(list(entity("b", "b1"))))
+            .expectComplete()
+            .verifyLater();
+
+        first.dispose();
+
+        next.verify(Duration.ofSeconds(5));
+        assertThat(ingestionService.cancelledRuns).hasValue(1);
+        assertThat(ingestionService.calls)
+            .extracting(l -> l.getItems().stream().map(DataEntity::getName).toList())
+            .containsExactly(List.of("a1"), List.of("b1"));
+    }
+
+    @Test
+    @DisplayName("Requests over the limit of queued requests are rejected")
+    void rejectsOverQueuedRequestsLimit() {
+        final IngestionProperties properties = properties(true);
+        properties.getCoalescing().setMaxQueuedRequests(2);
+        final IngestionCoalescer coalescer = new IngestionCoalescer(ingestionService, properties);
+
+        coalescer.ingest(list(entity("a", "a1"))).subscribe();
+        coalescer.ingest(list(entity("b", "b1"))).subscribe();
+
+        StepVerifier.create(coalescer.ingest(list(entity("c", "c1"))))
+            .expectError(TooManyRequestsException.class)
+            .verify(Duration.ofSeconds(5));
+
+        firstRunGate.tryEmitEmpty();
+        StepVerifier.create(coalescer.ingest(list(entity("c", "c1"))))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Requests of a failed merged run are retried one by one")
+    void retriesFailedMergedRunRequestsSeparately() {
+        final IngestionCoalescer coalescer = new IngestionCoalescer(ingestionService, properties(true));
+
+        final Mono<Void> first = coalescer.ingest(list(entity("a", "a1")));
+        final Mono<Void> valid = coalescer.ingest(list(entity("b", "b1")));
+        final Mono<Void> invalid = coalescer.ingest(list(entity("c", "invalid")));
+
+        first.subscribe();
+        final StepVerifier validVerifier = StepVerifier.create(valid).expectComplete().verifyLater();
+        final StepVerifier invalidVerifier = StepVerifier.create(invalid)
+            .expectError(BadUserRequestException.class)
+            .verifyLater();
+
+        firstRunGate.tryEmitEmpty();
+
+        validVerifier.verify(Duration.ofSeconds(5));
+        invalidVerifier.verify(Duration.ofSeconds(5));
+        assertThat(ingestionService.calls)
+            .extracting(l -> l.getItems().stream().map(DataEntity::getName).toList())
+            .containsExactly(List.of("a1"), List.of("b1", "invalid"), List.of("b1"), List.of("invalid"));
+    }
+
+    @Test
+    @DisplayName("Requests are passed through when coalescing is disabled")
+    void passesThroughWhenDisabled() {
+        final IngestionCoalescer coalescer = new IngestionCoalescer(ingestionService, properties(false));
+        firstRunGate.tryEmitEmpty();
+
+        StepVerifier.create(Mono.when(
+            coalescer.ingest(list(entity("a", "a1"))),
+            coalescer.ingest(list(entity("a", "a2")))
+        )).verifyComplete();
+
+        assertThat(ingestionService.calls).hasSize(2);
+    }
+
+    private IngestionProperties properties(final boolean enabled) {
+        final IngestionProperties properties = new IngestionProperties();
+        properties.getCoalescing().setEnabled(enabled);
+        return properties;
+    }
+
+    private DataEntityList list(final DataEntity... entities) {
+        return new DataEntityList().dataSourceOddrn(DATA_SOURCE_ODDRN).items(List.of(entities));
+    }
+
+    private DataEntity entity(final String oddrn, final String name) {
+        return new DataEntity().oddrn(oddrn).name(name);
+    }
+
+    private class RecordingIngestionService implements IngestionService {
+        private final List<DataEntityList> calls = new CopyOnWriteArrayList<>();
+        private final AtomicInteger cancelledRuns = new AtomicInteger();
+
+        @Override
+        public Mono<Void> ingest(final DataEntityList dataEntityList) {
+            return Mono.defer(() -> {
+                calls.add(dataEntityList);
+                if (calls.size() == 1) {
+                    return firstRunGate.asMono().doOnCancel(cancelledRuns::incrementAndGet);
+                }
+                if (dataEntityList.getItems().stream().anyMatch(e -> e.getName().equals("invalid"))) {
+                    return Mono.error(new BadUserRequestException("Invalid entity"));
+                }
+                return Mono.empty();
+            });
+        }
+
+        @Override
+        public Mono<Void> ingestStats(final DatasetStatisticsList datasetStatisticsList) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionMetrics;
+import org.opendatadiscovery.oddplatform.service.ingestion.processor.IngestionProcessorChain;
+import org.opendatadiscovery.oddplatform.service.ingestion.processor.IngestionRequestProcessor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IngestionProcessorChainTest {
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final IngestionRequest request = IngestionRequest.builder()
+        .newEntities(List.of())
+        .existingEntities(List.of())
+        .build();
+
+    @Test
+    @DisplayName("Runs processors respecting dependencies and runs independent processors concurrently")
+    void runsProcessorsAsGraph() {
+        final IngestionProcessorChain chain = new IngestionProcessorChain(
+            List.of(new DependantProcessor(), new SlowProcessor(), new IndependentProcessor(), new SkippedProcessor()),
+            properties(4),
+            new IngestionMetrics(meterRegistry)
+        );
+
+        StepVerifier.create(chain.processIngestionRequest(request))
+            .expectNext(request)
+            .verifyComplete();
+
+        assertThat(events).containsExactlyInAnyOrder(
+            "slow:start", "slow:end", "independent:start", "independent:end", "dependant:start", "dependant:end");
+        assertThat(events.indexOf("independent:end")).isLessThan(events.indexOf("slow:end"));
+        assertThat(events.indexOf("dependant:start")).isGreaterThan(events.indexOf("slow:end"));
+
+        assertThat(meterRegistry.find(IngestionMetrics.PROCESSOR_TIMER).timers())
+            .extracting(t -> t.getId().getTag(IngestionMetrics.PROCESSOR_TAG))
+            .containsExactlyInAnyOrder("SlowProcessor", "IndependentProcessor", "DependantProcessor");
+    }
+
+    @Test
+    @DisplayName("Respects dependencies with parallelism of one")
+    void runsProcessorsSequentially() {
+        final IngestionProcessorChain chain = new IngestionProcessorChain(
+            List.of(new DependantProcessor(), new SlowProcessor(), new IndependentProcessor()),
+            properties(1),
+            new IngestionMetrics(meterRegistry)
+        );
+
+        StepVerifier.create(chain.processIngestionRequest(request))
+            .expectNext(request)
+            .verifyComplete();
+
+        assertThat(events.indexOf("dependant:start")).isGreaterThan(events.indexOf("slow:end"));
+        assertThat(events).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Fails on cyclic dependencies")
+    void failsOnCycle() {
+        assertThatThrownBy(() -> new IngestionProcessorChain(
+            List.of(new CyclicProcessorA(), new CyclicProcessorB()),
+            properties(4),
+            new IngestionMetrics(meterRegistry)
+        ))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("cyclic");
+    }
+
+    private IngestionProperties properties(final int parallelism) {
+        final IngestionProperties properties = new IngestionProperties();
+        properties.setProcessorParallelism(parallelism);
+        return properties;
+    }
+
+    private Mono<Void> record(final String name, final Duration delay) {
+        return Mono.fromRunnable(() -> events.add(name + ":start"))
+            .then(Mono.delay(delay))
+            .then(Mono.fromRunnable(() -> events.add(name + ":end")));
+    }
+
+    private class SlowProcessor implements IngestionRequestProcessor {
+        @Override
+        public Mono<Void> process(final IngestionRequest request) {
+            return record("slow", Duration.ofMillis(300));
+        }
+
+        @Override
+        public boolean shouldProcess(final IngestionRequest request) {
+            return true;
+        }
+    }
+
+    private class IndependentProcessor implements IngestionRequestProcessor {
+        @Override
+        public Mono<Void> process(final IngestionRequest request) {
+            return record("independent", Duration.ofMillis(10));
+        }
+
+        @Override
+        public boolean shouldProcess(final IngestionRequest request) {
+            return true;
+        }
+    }
+
+    private class DependantProcessor implements IngestionRequestProcessor {
+        @Override
+        public Mono<Void> process(final IngestionRequest request) {
+            return record("dependant", Duration.ofMillis(10));
+        }
+
+        @Override
+        public boolean shouldProcess(final IngestionRequest request) {
+            return true;
+        }
+
+        @Override
+        public Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+            return Set.of(SlowProcessor.class, SkippedProcessor.class);
+        }
+    }
+
+    private class SkippedProcessor implements IngestionRequestProcessor {
+        @Override
+        public Mono<Void> process(final IngestionRequest request) {
+            return record("skipped", Duration.ZERO);
+        }
+
+        @Override
+        public boolean shouldProcess(final IngestionRequest request) {
+            return false;
+        }
+    }
+
+    private static class CyclicProcessorA implements IngestionRequestProcessor {
+        @Override
+        public Mono<Void> process(final IngestionRequest request) {
+            return Mono.empty();
+        }
+
+        @Override
+        public boolean shouldProcess(final IngestionRequest request) {
+            return true;
+        }
+
+        @Override
+        public Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+            return Set.of(CyclicProcessorB.class);
+        }
+    }
+
+    private static class CyclicProcessorB implements IngestionRequestProcessor {
+        @Override
+        public Mono<Void> process(final IngestionRequest request) {
+            return Mono.empty();
+        }
+
+        @Override
+        public boolean shouldProcess(final IngestionRequest request) {
+            return true;
+        }
+
+        @Override
+        public Set<Class<? extends IngestionRequestProcessor>> getDependencies() {
+            return Set.of(CyclicProcessorA.class);
+        }
+    }
+}
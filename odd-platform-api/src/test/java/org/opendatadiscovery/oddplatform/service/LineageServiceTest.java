@@ -172,4 +172,26 @@ class LineageServiceTest {
             )
             .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Replacing lineage paths deletes only removed edges and inserts only new ones")
+    void replaceLineagePathsTest() {
+        final var kept = new LineagePojo("parent", "kept", "establisher", false);
+        final var removed = new LineagePojo("parent", "removed", "establisher", false);
+        final var added = new LineagePojo("parent", "added", "establisher", null);
+
+        when(lineageRepository.getLineageByEstablisherOddrns(eq(Set.of("establisher"))))
+            .thenReturn(Flux.just(kept, removed));
+        when(lineageRepository.batchDeleteLineages(eq(List.of(removed)))).thenReturn(Flux.just(removed));
+        when(lineageRepository.batchInsertLineages(eq(List.of(added)))).thenReturn(Flux.just(added));
+
+        lineageService
+            .replaceLineagePaths(List.of(new LineagePojo("parent", "kept", "establisher", null), added, added))
+            .as(StepVerifier::create)
+            .assertNext(delta -> {
+                assertThat(delta.added()).isEqualTo(List.of(added));
+                assertThat(delta.removed()).isEqualTo(List.of(removed));
+            })
+            .verifyComplete();
+    }
+}
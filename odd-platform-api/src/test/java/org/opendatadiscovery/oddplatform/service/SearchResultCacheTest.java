@@ -0,0 +1,114 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.api.contract.model.PageInfo;
+import org.opendatadiscovery.oddplatform.config.properties.SearchCacheProperties;
+import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
+import org.opendatadiscovery.oddplatform.dto.FacetType;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
+import org.opendatadiscovery.oddplatform.service.search.SearchResultCache;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchResultCacheTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SearchResultCache searchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        searchResultCache = new SearchResultCache(new SearchCacheProperties(), meterRegistry);
+        searchResultCache.init();
+    }
+
+    @Test
+    @DisplayName("States with the same filters in a different order share the cached page")
+    void cachesByNormalizedState() {
+        final FacetStateDto state = state(filter(FacetType.TAGS, 1, "a"), filter(FacetType.TAGS, 2, "b"),
+            filter(FacetType.OWNERS, 3, "c"));
+        final FacetStateDto reordered = state(filter(FacetType.OWNERS, 3, "renamed"), filter(FacetType.TAGS, 2, "b"),
+            filter(FacetType.TAGS, 1, "a"));
+
+        final DataEntityList page = searchResultCache.getResults(state, 1, 30, null, false, null, loader()).block();
+        assertThat(searchResultCache.getResults(reordered, 1, 30, null, false, null, loader()).block()).isSameAs(page);
+        assertThat(loads).hasValue(1);
+
+        searchResultCache.getResults(state, 2, 30, null, false, null, loader()).block();
+        searchResultCache.getResults(state, 1, 30, null, true, null, loader()).block();
+        searchResultCache.getResults(state, 1, 30, null, false, 1L, loader()).block();
+        searchResultCache.getResults(state(filter(FacetType.TAGS, 1, "a")), 1, 30, null, false, null, loader())
+            .block();
+        assertThat(loads).hasValue(5);
+
+        assertThat(cacheGets("search_results", "hit")).isEqualTo(1);
+        assertThat(cacheGets("search_results", "miss")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Values loaded before the catalog epoch is bumped aren't returned after it")
+    void reloadsAfterEpochBump() {
+        final FacetStateDto state = state(filter(FacetType.TAGS, 1, "a"));
+        final AtomicLong count = new AtomicLong(10);
+        final Supplier<Mono<Long>> counter = () -> Mono.fromSupplier(count::getAndIncrement);
+
+        assertThat(searchResultCache.getFacet("count", state, List.of(), counter).block()).isEqualTo(10L);
+        assertThat(searchResultCache.getFacet("count", state, List.of(), counter).block()).isEqualTo(10L);
+
+        searchResultCache.bumpEpoch();
+        assertThat(searchResultCache.getFacet("count", state, List.of(), counter).block()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("Empty and failed loads aren't cached")
+    void doesNotCacheEmptyOrFailedLoads() {
+        final FacetStateDto state = FacetStateDto.empty();
+        final Supplier<Mono<Long>> empty = () -> Mono.fromRunnable(loads::incrementAndGet);
+        final Supplier<Mono<Long>> failing = () -> Mono.error(new IllegalStateException());
+
+        assertThat(searchResultCache.getFacet("count", state, List.of(), empty).block()).isNull();
+        assertThat(searchResultCache.getFacet("count", state, List.of(), empty).block()).isNull();
+        assertThat(loads).hasValue(2);
+
+        assertThat(searchResultCache.getFacet("count", state, List.of(), failing).onErrorReturn(-1L).block())
+            .isEqualTo(-1L);
+        assertThat(searchResultCache.getFacet("count", state, List.of(), () -> Mono.just(5L)).block())
+            .isEqualTo(5L);
+    }
+
+    private Supplier<Mono<DataEntityList>> loader() {
+        return () -> Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return new DataEntityList(List.of(), new PageInfo(0L, false));
+        });
+    }
+
+    private FacetStateDto state(final SearchFilterDto... filters) {
+        final Map<FacetType, List<SearchFilterDto>> state = new LinkedHashMap<>();
+        for (final SearchFilterDto filter : filters) {
+            state.computeIfAbsent(filter.getType(), t -> new ArrayList<>()).add(filter);
+        }
+        return new FacetStateDto(state, "query", false);
+    }
+
+    private SearchFilterDto filter(final FacetType type, final long id, final String name) {
+        return new SearchFilterDto(id, name, true, type);
+    }
+
+    private double cacheGets(final String cache, final String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,123 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the expected stems are the ones ts_lexize('english_stem', word) returns
+public class EnglishStemmerTest {
+    @ParameterizedTest
+    @CsvSource({"at, at", "ay, ay", "by, by", "ski, ski"})
+    @DisplayName("Words of up to two letters and the words without a matching suffix are kept")
+    void shortWords(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "skis, ski", "skies, sky", "dying, die", "lying, lie", "tying, tie", "idly, idl", "gently, gentl",
+        "ugly, ugli", "early, earli", "only, onli", "singly, singl", "sky, sky", "news, news", "howe, howe",
+        "atlas, atlas", "cosmos, cosmos", "bias, bias", "andes, andes"
+    })
+    @DisplayName("Exceptional forms are replaced as a whole")
+    void exceptions(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "caresses, caress", "ponies, poni", "ties, tie", "cries, cri", "gas, gas", "gaps, gap", "kiwis, kiwi",
+        "bus, bus", "cats, cat"
+    })
+    @DisplayName("Step 1a removes plural endings")
+    void step1a(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "inning, inning", "innings, inning", "outing, outing", "canning, canning", "herring, herring",
+        "proceed, proceed", "exceed, exceed", "succeeded, succeed"
+    })
+    @DisplayName("Words left by step 1a are kept if they are invariant")
+    void step1aInvariants(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "agreed, agre", "feed, feed", "bleed, bleed", "hopping, hop", "hoping, hope", "filing, file",
+        "falling, fall", "hissing, hiss", "conflated, conflat", "troubled, troubl", "sized, size",
+        "luxuriating, luxuri", "plastered, plaster"
+    })
+    @DisplayName("Step 1b removes ed and ing endings and restores the e of short words")
+    void step1b(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "cry, cri", "sly, sli", "say, say", "boy, boy", "happily, happili", "daily, daili", "played, play",
+        "crying, cri", "yelling, yell", "youth, youth"
+    })
+    @DisplayName("Step 1c replaces the y after a consonant and the y after a vowel or at the start is kept")
+    void step1c(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "relational, relat", "conditional, condit", "valenci, valenc", "digitizer, digit",
+        "conformabli, conform", "radicalli, radic", "differentli, differ", "vileli, vile",
+        "analogousli, analog", "vietnamization, vietnam", "predication, predic", "operator, oper",
+        "feudalism, feudal", "decisiveness, decis", "hopefulness, hope", "callousness, callous",
+        "formaliti, formal", "sensitiviti, sensit", "sensibiliti, sensibl", "geology, geolog",
+        "fearlessly, fearless"
+    })
+    @DisplayName("Step 2 normalizes derivational suffixes in R1")
+    void step2(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "triplicate, triplic", "formative, format", "formalize, formal", "electriciti, electr",
+        "electrical, electr", "hopeful, hope", "goodness, good"
+    })
+    @DisplayName("Step 3 removes suffixes in R1 and ative in R2")
+    void step3(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "revival, reviv", "allowance, allow", "inference, infer", "airliner, airlin", "gyroscopic, gyroscop",
+        "adjustable, adjust", "defensible, defens", "irritant, irrit", "replacement, replac",
+        "adjustment, adjust", "dependent, depend", "adoption, adopt", "onion, onion", "communism, communism",
+        "activate, activ", "angulariti, angular", "homologous, homolog", "effective, effect",
+        "bowdlerize, bowdler"
+    })
+    @DisplayName("Step 4 removes suffixes in R2")
+    void step4(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"probate, probat", "rate, rate", "cease, ceas", "controll, control", "roll, roll"})
+    @DisplayName("Step 5 removes the final e unless it follows a short syllable and the double l in R2")
+    void step5(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "generalization, general", "generous, generous", "communication, communic", "arsenal, arsenal",
+        "customer, custom", "ordering, order"
+    })
+    @DisplayName("R1 starts after the gener, commun and arsen prefixes")
+    void regionPrefixes(final String word, final String stem) {
+        assertThat(EnglishStemmer.stem(word)).isEqualTo(stem);
+    }
+}
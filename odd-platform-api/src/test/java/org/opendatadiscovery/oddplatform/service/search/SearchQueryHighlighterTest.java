@@ -0,0 +1,107 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// unless stated otherwise, the expected values are what ts_headline returns for the same text and query
+public class SearchQueryHighlighterTest {
+    @Test
+    @DisplayName("Words are matched by the prefixes of their English lexemes")
+    void prefixLexemes() {
+        assertThat(highlight("customer", "Customers and their orders"))
+            .isEqualTo("<b>Customers</b> and their orders");
+        assertThat(highlight("cust", "Customers, custom and customizable"))
+            .isEqualTo("<b>Customers</b>, <b>custom</b> and <b>customizable</b>");
+        assertThat(highlight("customers", "customizable customs"))
+            .isEqualTo("<b>customizable</b> <b>customs</b>");
+        assertThat(highlight("hope", "hoping, hopping"))
+            .isEqualTo("<b>hoping</b>, hopping");
+        assertThat(highlight("general", "generous generalization"))
+            .isEqualTo("generous <b>generalization</b>");
+        assertThat(highlight("stomer", "customer")).isNull();
+    }
+
+    @Test
+    @DisplayName("Every word of a multi-term query is highlighted on its own")
+    void multiTermQuery() {
+        assertThat(highlight("cust ord", "Customers and their orders"))
+            .isEqualTo("<b>Customers</b> and their <b>orders</b>");
+        assertThat(highlight("customer order", "customer only"))
+            .isEqualTo("<b>customer</b> only");
+        assertThat(highlight("the customers", "the customers"))
+            .isEqualTo("the <b>customers</b>");
+    }
+
+    @Test
+    @DisplayName("Matching ignores the case and keeps the case of the text")
+    void caseInsensitive() {
+        assertThat(highlight("CUSTOMER", "Customer CUSTOMER customer"))
+            .isEqualTo("<b>Customer</b> <b>CUSTOMER</b> <b>customer</b>");
+    }
+
+    @Test
+    @DisplayName("Punctuation separates words and quotes need no escaping")
+    void punctuation() {
+        assertThat(highlight("customer_id", "customer_id, customer-name id"))
+            .isEqualTo("<b>customer</b>_<b>id</b>, <b>customer</b>-name <b>id</b>");
+        assertThat(highlight("activ", "activation_status of activity"))
+            .isEqualTo("<b>activation</b>_status of <b>activity</b>");
+        assertThat(highlight("brien", "O'Brien's table"))
+            .isEqualTo("O'<b>Brien</b>'s table");
+        assertThat(highlight("localhost", "host localhost:5432 here"))
+            .isEqualTo("host <b>localhost</b>:5432 here");
+    }
+
+    @Test
+    @DisplayName("Words with digits are not stemmed")
+    void digits() {
+        assertThat(highlight("v2", "schema v2, v20 and v3"))
+            .isEqualTo("schema <b>v2</b>, <b>v20</b> and v3");
+        assertThat(highlight("order", "orders_2023 order2"))
+            .isEqualTo("<b>orders</b>_2023 <b>order2</b>");
+        assertThat(highlight("2023", "orders_2023 2023-01-01"))
+            .isEqualTo("orders_<b>2023</b> <b>2023</b>-01-01");
+    }
+
+    @Test
+    @DisplayName("HTML tags of already marked text are not highlighted")
+    void markedText() {
+        assertThat(highlight("order", "<b>orders</b> and orders"))
+            .isEqualTo("<b><b>orders</b></b> and <b>orders</b>");
+        assertThat(highlight("b", "<b>orders</b> b"))
+            .isEqualTo("<b>orders</b> <b>b</b>");
+        assertThat(highlight("order", "a<b orders"))
+            .isEqualTo("a<b <b>orders</b>");
+    }
+
+    @Test
+    @DisplayName("Compound tokens are split into words unlike ts_headline does")
+    void compoundTokens() {
+        // ts_headline doesn't highlight the path, as its lexeme starts with the whole path
+        assertThat(highlight("shop", "//postgresql/host/localhost/databases/shop"))
+            .isEqualTo("//postgresql/host/localhost/databases/<b>shop</b>");
+        // ts_headline highlights the whole email and the whole dotted name
+        assertThat(highlight("mail", "write to mail@example.com"))
+            .isEqualTo("write to <b>mail</b>@example.com");
+        assertThat(highlight("customer", "(customer.email)"))
+            .isEqualTo("(<b>customer</b>.email)");
+        // ts_headline highlights the whole decimal numbers starting with 1.5
+        assertThat(highlight("1.5", "version 1.5 and 1.52"))
+            .isEqualTo("version <b>1</b>.<b>5</b> and <b>1</b>.<b>52</b>");
+    }
+
+    @Test
+    @DisplayName("Nothing is highlighted for stop words and texts without matches")
+    void noHighlight() {
+        assertThat(highlight("the", "the orders")).isNull();
+        assertThat(highlight("", "the orders")).isNull();
+        assertThat(highlight("payment", "the orders")).isNull();
+        assertThat(highlight("payment", null)).isNull();
+    }
+
+    private String highlight(final String query, final String text) {
+        return new SearchQueryHighlighter(query).highlight(text);
+    }
+}
@@ -0,0 +1,224 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.jooq.JSONB;
+import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
+import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
+import org.opendatadiscovery.oddplatform.dto.DatasetStructureDto;
+import org.opendatadiscovery.oddplatform.dto.OwnershipDto;
+import org.opendatadiscovery.oddplatform.dto.TagDto;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataOrigin;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataTypeEnum;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransformer;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetadataExtension;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldValuePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnershipPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TitlePojo;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+/**
+ * Deterministic payloads shared by benchmarks.
+ */
+final class BenchmarkData {
+    private static final long SEED = 42;
+    private static final long DATA_ENTITY_ID = 1L;
+    private static final long DATA_SOURCE_ID = 1L;
+    private static final long NAMESPACE_ID = 1L;
+
+    private BenchmarkData() {
+    }
+
+    static List<DataSetField> datasetFields(final int count) {
+        final Random random = new Random(SEED);
+        // reference fields need a reference_oddrn to pass the structure validation
+        final DataSetFieldType.TypeEnum[] types = Arrays.stream(DataSetFieldType.TypeEnum.values())
+            .filter(t -> t != DataSetFieldType.TypeEnum.REFERENCE)
+            .toArray(DataSetFieldType.TypeEnum[]::new);
+        final String datasetOddrn = "//postgresql/host/localhost/databases/benchmark/schemas/public/tables/wide_table";
+
+        // not in the order of fields, so that sorting them by oddrn isn't a no-op
+        final String[] oddrns = IntStream.range(0, count)
+            .mapToObj(i -> datasetOddrn + "/columns/column_" + random.nextInt(count * 10) + "_" + i)
+            .toArray(String[]::new);
+
+        return IntStream.range(0, count)
+            .mapToObj(i -> new DataSetField()
+                .oddrn(oddrns[i])
+                .name("column_" + i)
+                .parentFieldOddrn(i % 10 == 0 ? null : oddrns[i - i % 10])
+                .type(new DataSetFieldType()
+                    .type(types[random.nextInt(types.length)])
+                    .logicalType(random.nextBoolean() ? "character varying" : "numeric(10, 2)")
+                    .isNullable(random.nextBoolean()))
+                .isKey(random.nextInt(20) == 0)
+                .isValue(random.nextBoolean())
+                .isPrimaryKey(i == 0)
+                .description(random.nextBoolean() ? "Column number " + i : null))
+            .toList();
+    }
+
+    static DataEntity tableEntity(final int fieldCount) {
+        final String oddrn = "//postgresql/host/localhost/databases/benchmark/schemas/public/tables/wide_table";
+        return new DataEntity()
+            .oddrn(oddrn)
+            .name("wide_table")
+            .description("A table with " + fieldCount + " columns")
+            .type(DataEntityType.TABLE)
+            .createdAt(OffsetDateTime.parse("2023-01-01T00:00:00Z"))
+            .updatedAt(OffsetDateTime.parse("2023-06-01T00:00:00Z"))
+            .dataset(new DataSet().rowsNumber(1_000_000L).fieldList(datasetFields(fieldCount)))
+            .tags(IntStream.range(0, 5).mapToObj(i -> new Tag().name("tag_" + i)).toList())
+            .metadata(List.of(new MetadataExtension()
+                .schemaUrl(URI.create("https://example.com/schema.json"))
+                .metadata(metadataExtension())));
+    }
+
+    static DataEntity jobEntity(final int inputCount) {
+        final String tables = "//postgresql/host/localhost/databases/benchmark/schemas/public/tables/";
+        return new DataEntity()
+            .oddrn("//airflow/host/localhost/dags/benchmark/tasks/load")
+            .name("load")
+            .type(DataEntityType.JOB)
+            .dataTransformer(new DataTransformer()
+                .sql("insert into target select * from source")
+                .inputs(IntStream.range(0, inputCount).mapToObj(i -> tables + "source_" + i).toList())
+                .outputs(List.of(tables + "target")))
+            .metadata(List.of(new MetadataExtension().metadata(metadataExtension())));
+    }
+
+    static List<DatasetFieldPojo> datasetFieldPojos(final List<DataSetField> fields) {
+        return fields.stream()
+            .map(f -> new DatasetFieldPojo()
+                .setOddrn(f.getOddrn())
+                .setName(f.getName())
+                .setParentFieldOddrn(f.getParentFieldOddrn())
+                .setType(JSONB.jsonb(JSONSerDeUtils.serializeJson(f.getType())))
+                .setIsKey(f.getIsKey())
+                .setIsValue(f.getIsValue())
+                .setIsPrimaryKey(f.getIsPrimaryKey())
+                .setExternalDescription(f.getDescription()))
+            .toList();
+    }
+
+    static DataEntityPojo dataEntityPojo(final int fieldCount) {
+        return new DataEntityPojo()
+            .setId(DATA_ENTITY_ID)
+            .setOddrn("//postgresql/host/localhost/databases/benchmark/schemas/public/tables/wide_table")
+            .setExternalName("wide_table")
+            .setInternalName("Wide table")
+            .setExternalDescription("A table with " + fieldCount + " columns")
+            .setInternalDescription("Table with the customer's orders, one row per order line")
+            .setTypeId(DataEntityTypeDto.TABLE.getId())
+            .setEntityClassIds(new Integer[] {DataEntityClassDto.DATA_SET.getId()})
+            .setHollow(false)
+            .setManuallyCreated(false)
+            .setDataSourceId(DATA_SOURCE_ID)
+            .setNamespaceId(NAMESPACE_ID)
+            .setSpecificAttributes(JSONB.jsonb(
+                "{\"DATA_SET\": {\"rows_count\": 1000000, \"fields_count\": %d}}".formatted(fieldCount)));
+    }
+
+    static DataSourcePojo dataSourcePojo() {
+        return new DataSourcePojo()
+            .setId(DATA_SOURCE_ID)
+            .setName("Benchmark PostgreSQL")
+            .setOddrn("//postgresql/host/localhost/databases/benchmark")
+            .setNamespaceId(NAMESPACE_ID);
+    }
+
+    static NamespacePojo namespacePojo() {
+        return new NamespacePojo().setId(NAMESPACE_ID).setName("benchmark");
+    }
+
+    static List<OwnershipDto> ownership(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> OwnershipDto.builder()
+                .ownership(new OwnershipPojo()
+                    .setId((long) i)
+                    .setDataEntityId(DATA_ENTITY_ID)
+                    .setOwnerId((long) i)
+                    .setTitleId((long) i % 3))
+                .owner(new OwnerPojo().setId((long) i).setName("owner_" + i))
+                .title(new TitlePojo().setId((long) i % 3).setName("title_" + i % 3))
+                .build())
+            .toList();
+    }
+
+    static List<TagDto> tags(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new TagDto(new TagPojo().setId((long) i).setName("tag_" + i).setImportant(i == 0), null,
+                i % 2 == 0))
+            .toList();
+    }
+
+    static List<MetadataDto> metadata(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new MetadataDto(
+                new MetadataFieldPojo()
+                    .setId((long) i)
+                    .setName("metadata_" + i)
+                    .setType(MetadataTypeEnum.STRING.name())
+                    .setOrigin((i % 2 == 0 ? MetadataOrigin.EXTERNAL : MetadataOrigin.INTERNAL).name()),
+                new MetadataFieldValuePojo()
+                    .setDataEntityId(DATA_ENTITY_ID)
+                    .setMetadataFieldId((long) i)
+                    .setValue("value of metadata " + i)
+                    .setActive(true)))
+            .toList();
+    }
+
+    static DataEntityDetailsDto dataEntityDetails(final int fieldCount) {
+        return DataEntityDetailsDto.detailsBuilder()
+            .dataEntity(dataEntityPojo(fieldCount))
+            .dataSource(dataSourcePojo())
+            .namespace(namespacePojo())
+            .ownership(ownership(5))
+            .tags(tags(10))
+            .metadata(metadata(20))
+            .build();
+    }
+
+    static DatasetStructureDto datasetStructure(final int fieldCount) {
+        final List<DatasetFieldPojo> pojos = datasetFieldPojos(datasetFields(fieldCount));
+        final List<TagDto> tags = tags(3);
+        final List<DatasetFieldDto> fields = IntStream.range(0, pojos.size())
+            .mapToObj(i -> DatasetFieldDto.builder()
+                .datasetFieldPojo(pojos.get(i).setId((long) i))
+                .tags(i % 5 == 0 ? tags : List.of())
+                .build())
+            .toList();
+        return DatasetStructureDto.builder().datasetFields(fields).build();
+    }
+
+    private static Map<String, Object> metadataExtension() {
+        final Map<String, Object> metadata = new HashMap<>();
+        metadata.put("owner", "benchmark");
+        metadata.put("partitioned", true);
+        metadata.put("retention_days", 30);
+        metadata.put("created", "2023-01-01T00:00:00Z");
+        return metadata;
+    }
+}
@@ -0,0 +1,65 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
+import org.opendatadiscovery.oddplatform.dto.TagDto;
+import org.opendatadiscovery.oddplatform.dto.policy.DataEntityPolicyResolverContext;
+import org.opendatadiscovery.oddplatform.dto.policy.PolicyConditionDto;
+import org.opendatadiscovery.oddplatform.service.policy.resolver.DataEntityConditionResolver;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConditionResolverBenchmark {
+    // every branch is evaluated: the "any" lists only match on their last condition
+    private static final String CONDITION = """
+        {
+          "all": [
+            {"eq": {"dataEntity:type": "TABLE"}},
+            {"not_eq": {"dataEntity:datasource:name": "Production PostgreSQL"}},
+            {"any": [
+              {"eq": {"dataEntity:tag:name": "pii"}},
+              {"match": {"dataEntity:externalName": "wide_.*"}},
+              {"eq": {"dataEntity:namespace:name": "benchmark"}}
+            ]},
+            {"any": [
+              {"eq": {"dataEntity:owner": "owner_100"}},
+              {"eq": {"dataEntity:owner:title": "title_100"}},
+              {"is": "dataEntity:owner"}
+            ]},
+            {"not_match": {"dataEntity:oddrn": ".*/views/.*"}}
+          ]
+        }
+        """;
+
+    private PolicyConditionDto condition;
+    private DataEntityPolicyResolverContext context;
+    private DataEntityConditionResolver resolver;
+
+    @Setup
+    public void setUp() {
+        condition = JSONSerDeUtils.deserializeJson(CONDITION, PolicyConditionDto.class);
+        final DataEntityDetailsDto details = BenchmarkData.dataEntityDetails(10);
+        context = new DataEntityPolicyResolverContext(details,
+            details.getTags().stream().map(TagDto::tagPojo).toList(),
+            details.getOwnership().get(0).getOwner());
+        resolver = new DataEntityConditionResolver();
+
+        if (!resolver.resolve(condition, context)) {
+            throw new IllegalStateException("Condition is expected to be resolved to true");
+        }
+    }
+
+    @Benchmark
+    public boolean resolve() {
+        return resolver.resolve(condition, context);
+    }
+}
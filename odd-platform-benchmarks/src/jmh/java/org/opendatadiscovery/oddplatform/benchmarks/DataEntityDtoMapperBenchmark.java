@@ -0,0 +1,168 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TableRecord;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDto;
+import org.opendatadiscovery.oddplatform.dto.OwnershipDto;
+import org.opendatadiscovery.oddplatform.dto.TagDto;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToDataEntityPojo;
+import org.opendatadiscovery.oddplatform.repository.mapper.DataEntityDtoMapper;
+import org.opendatadiscovery.oddplatform.repository.util.JooqRecordHelper;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
+import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_VALUE_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_OWNERSHIP_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_OWNER_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TAGS_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TAGS_RELATION_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TITLE_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.DATA_ENTITY_CTE_NAME;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.HAS_ALERTS_FIELD;
+
+/**
+ * Maps records shaped like the results of the data entity queries: the data entity CTE columns,
+ * the joined data source and namespace and the relations aggregated with {@code json_agg}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataEntityDtoMapperBenchmark {
+    @Param({"5", "50"})
+    private int relationCount;
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+
+    private Record cteRecord;
+    private Record searchFieldsRecord;
+    private DataEntityDtoMapper mapper;
+
+    @Setup
+    public void setUp() {
+        mapper = new DataEntityDtoMapper(new JooqRecordHelper(dslContext));
+
+        final DataEntityDetailsDto details = BenchmarkData.dataEntityDetails(100);
+        final List<OwnershipDto> ownership = BenchmarkData.ownership(relationCount);
+        final List<TagDto> tags = BenchmarkData.tags(relationCount);
+        final List<MetadataDto> metadata = BenchmarkData.metadata(relationCount);
+
+        final RecordBuilder cte = new RecordBuilder();
+        final Record dataEntity = dslContext.newRecord(DATA_ENTITY, details.getDataEntity());
+        for (final Field<?> f : DATA_ENTITY.fields()) {
+            cte.add(field(name(DATA_ENTITY_CTE_NAME, f.getName()), f.getDataType()), dataEntity.get(f));
+        }
+        cte.add(field(name(HAS_ALERTS_FIELD), Boolean.class), true);
+        cte.addTable(DATA_SOURCE, details.getDataSource());
+        cte.addTable(NAMESPACE, details.getNamespace());
+        cte.addOwnership(ownership);
+        cteRecord = cte.build();
+
+        final RecordBuilder searchFields = new RecordBuilder();
+        searchFields.addTable(DATA_ENTITY, details.getDataEntity());
+        searchFields.addTable(DATA_SOURCE, details.getDataSource());
+        searchFields.addTable(NAMESPACE, details.getNamespace());
+        searchFields.addOwnership(ownership);
+        searchFields.addAgg(AGG_TAGS_FIELD, tags.stream().map(TagDto::tagPojo).toList());
+        searchFields.addAgg(AGG_TAGS_RELATION_FIELD, tags.stream()
+            .map(t -> new TagToDataEntityPojo()
+                .setTagId(t.tagPojo().getId())
+                .setDataEntityId(details.getDataEntity().getId())
+                .setExternal(t.external()))
+            .toList());
+        searchFields.addAgg(AGG_METADATA_FIELD, metadata.stream().map(MetadataDto::metadataField).toList());
+        searchFields.addAgg(AGG_METADATA_VALUE_FIELD, metadata.stream().map(MetadataDto::metadataFieldValue).toList());
+        searchFieldsRecord = searchFields.build();
+
+        if (mapDetailsRecord().getOwnership().size() != relationCount
+            || mapDataEntitySearchFieldsRecord().getMetadata().size() != relationCount) {
+            throw new IllegalStateException("Aggregated relations aren't mapped");
+        }
+    }
+
+    @Benchmark
+    public DataEntityDto mapDtoRecordFromCTE() {
+        return mapper.mapDtoRecordFromCTE(cteRecord);
+    }
+
+    @Benchmark
+    public DataEntityDimensionsDto mapDimensionRecord() {
+        return mapper.mapDimensionRecord(cteRecord);
+    }
+
+    @Benchmark
+    public DataEntityDetailsDto mapDetailsRecord() {
+        return mapper.mapDetailsRecord(cteRecord);
+    }
+
+    @Benchmark
+    public DataEntityDetailsDto mapDataEntitySearchFieldsRecord() {
+        return mapper.mapDataEntitySearchFieldsRecord(searchFieldsRecord);
+    }
+
+    private class RecordBuilder {
+        private final List<Field<?>> fields = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+
+        void add(final Field<?> field, final Object value) {
+            fields.add(field);
+            values.add(value);
+        }
+
+        void addTable(final Table<? extends TableRecord<?>> table, final Object pojo) {
+            final Record tableRecord = dslContext.newRecord(table, pojo);
+            for (final Field<?> f : table.fields()) {
+                add(f, tableRecord.get(f));
+            }
+        }
+
+        void addOwnership(final List<OwnershipDto> ownership) {
+            addAgg(AGG_OWNER_FIELD, ownership.stream().map(OwnershipDto::getOwner).toList());
+            addAgg(AGG_TITLE_FIELD, ownership.stream().map(OwnershipDto::getTitle).distinct().toList());
+            addAgg(AGG_OWNERSHIP_FIELD, ownership.stream().map(OwnershipDto::getOwnership).toList());
+        }
+
+        void addAgg(final String fieldName, final Collection<?> pojos) {
+            final String json = pojos.stream()
+                .map(JSONSerDeUtils::serializeJson)
+                .collect(Collectors.joining(",", "[", "]"));
+            add(field(name(fieldName), SQLDataType.JSON), JSON.json(json));
+        }
+
+        @SuppressWarnings("unchecked")
+        Record build() {
+            final Record result = dslContext.newRecord(fields);
+            for (int i = 0; i < fields.size(); i++) {
+                result.set((Field<Object>) fields.get(i), values.get(i));
+            }
+            return result;
+        }
+    }
+}
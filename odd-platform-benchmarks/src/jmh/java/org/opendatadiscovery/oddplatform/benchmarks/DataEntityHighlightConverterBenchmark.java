@@ -0,0 +1,88 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntitySearchHighlight;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
+import org.opendatadiscovery.oddplatform.dto.DatasetStructureDto;
+import org.opendatadiscovery.oddplatform.mapper.MetadataFieldMapperImpl;
+import org.opendatadiscovery.oddplatform.mapper.MetadataFieldValueMapperImpl;
+import org.opendatadiscovery.oddplatform.mapper.TagMapperImpl;
+import org.opendatadiscovery.oddplatform.service.search.DataEntityHighlightConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares the in-JVM highlighting with the ts_headline round-trip it replaced. The round-trip needs a PostgreSQL:
+ * a Testcontainers one is started unless a JDBC url is passed in the benchmark.jdbc.url system property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataEntityHighlightConverterBenchmark {
+    private static final String JDBC_URL_PROPERTY = "benchmark.jdbc.url";
+
+    @Param({"10", "1000"})
+    private int fieldCount;
+
+    // a query matching a few words and one matching the name of every column
+    @Param({"customer order", "column"})
+    private String query;
+
+    private DataEntityDetailsDto details;
+    private DatasetStructureDto structure;
+    private DataEntityHighlightConverter converter;
+    private LegacyDataEntityHighlightConverter legacyConverter;
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        details = BenchmarkData.dataEntityDetails(fieldCount);
+        structure = BenchmarkData.datasetStructure(fieldCount);
+        final TagMapperImpl tagMapper = new TagMapperImpl();
+        final MetadataFieldValueMapperImpl metadataMapper =
+            new MetadataFieldValueMapperImpl(new MetadataFieldMapperImpl());
+        converter = new DataEntityHighlightConverter(tagMapper, metadataMapper);
+        legacyConverter = new LegacyDataEntityHighlightConverter(tagMapper, metadataMapper);
+
+        final String jdbcUrl = System.getProperty(JDBC_URL_PROPERTY);
+        if (jdbcUrl != null) {
+            connection = DriverManager.getConnection(jdbcUrl);
+        } else {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:13.2-alpine"));
+            postgres.start();
+            connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public DataEntitySearchHighlight highlight() {
+        return converter.highlight(query, details, structure);
+    }
+
+    @Benchmark
+    public DataEntitySearchHighlight tsHeadline() throws SQLException {
+        return legacyConverter.highlight(connection, query, details, structure);
+    }
+}
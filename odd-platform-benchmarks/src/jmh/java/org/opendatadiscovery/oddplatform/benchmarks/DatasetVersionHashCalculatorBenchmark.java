@@ -0,0 +1,79 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties.DatasetVersionHashEncoding;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatasetVersionHashCalculatorBenchmark {
+    @Param({"100", "5000", "20000"})
+    private int fieldCount;
+
+    private List<DataSetField> fields;
+    private List<DatasetFieldPojo> pojos;
+    private DatasetVersionHashCalculator compatible;
+    private DatasetVersionHashCalculator canonical;
+
+    @Setup
+    public void setUp() {
+        fields = BenchmarkData.datasetFields(fieldCount);
+        pojos = BenchmarkData.datasetFieldPojos(fields);
+        compatible = calculator(DatasetVersionHashEncoding.COMPATIBLE);
+        canonical = calculator(DatasetVersionHashEncoding.CANONICAL);
+
+        if (!compatible.calculateStructureHash(fields).equals(LegacyDatasetVersionHashCalculator
+            .calculateStructureHash(fields))) {
+            throw new IllegalStateException("Compatible encoding doesn't match the legacy hash");
+        }
+    }
+
+    @Benchmark
+    public String legacyFromFields() {
+        return LegacyDatasetVersionHashCalculator.calculateStructureHash(fields);
+    }
+
+    @Benchmark
+    public String compatibleFromFields() {
+        return compatible.calculateStructureHash(fields);
+    }
+
+    @Benchmark
+    public String canonicalFromFields() {
+        return canonical.calculateStructureHash(fields);
+    }
+
+    @Benchmark
+    public String legacyFromPojos() {
+        return LegacyDatasetVersionHashCalculator.calculateStructureHashFromPojos(pojos);
+    }
+
+    @Benchmark
+    public String compatibleFromPojos() {
+        return compatible.calculateStructureHashFromPojos(pojos);
+    }
+
+    @Benchmark
+    public String canonicalFromPojos() {
+        return canonical.calculateStructureHashFromPojos(pojos);
+    }
+
+    private DatasetVersionHashCalculator calculator(final DatasetVersionHashEncoding encoding) {
+        final IngestionProperties properties = new IngestionProperties();
+        properties.setDatasetVersionHashEncoding(encoding);
+        return new DatasetVersionHashCalculator(properties);
+    }
+}
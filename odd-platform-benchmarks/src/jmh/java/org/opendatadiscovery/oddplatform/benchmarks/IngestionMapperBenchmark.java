@@ -0,0 +1,53 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.mapper.ingestion.DatasetFieldIngestionMapperImpl;
+import org.opendatadiscovery.oddplatform.mapper.ingestion.IngestionMapperImpl;
+import org.opendatadiscovery.oddplatform.service.ingestion.DataEntityFingerprintCalculator;
+import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IngestionMapperBenchmark {
+    private static final long DATA_SOURCE_ID = 1L;
+
+    @Param({"10", "1000"})
+    private int fieldCount;
+
+    private DataEntity table;
+    private DataEntity job;
+    private IngestionMapperImpl ingestionMapper;
+
+    @Setup
+    public void setUp() {
+        table = BenchmarkData.tableEntity(fieldCount);
+        job = BenchmarkData.jobEntity(fieldCount);
+        ingestionMapper = new IngestionMapperImpl(
+            new DatasetFieldIngestionMapperImpl(),
+            new DatasetVersionHashCalculator(new IngestionProperties()),
+            new DataEntityFingerprintCalculator()
+        );
+    }
+
+    @Benchmark
+    public DataEntityIngestionDto createTableIngestionDto() {
+        return ingestionMapper.createIngestionDto(table, DATA_SOURCE_ID);
+    }
+
+    @Benchmark
+    public DataEntityIngestionDto createJobIngestionDto() {
+        return ingestionMapper.createIngestionDto(job, DATA_SOURCE_ID);
+    }
+}
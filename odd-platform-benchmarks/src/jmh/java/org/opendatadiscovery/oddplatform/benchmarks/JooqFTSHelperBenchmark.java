@@ -0,0 +1,131 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatusDto;
+import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
+import org.opendatadiscovery.oddplatform.dto.FacetType;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
+import org.opendatadiscovery.oddplatform.repository.util.FTSConfig;
+import org.opendatadiscovery.oddplatform.repository.util.FTSEntity;
+import org.opendatadiscovery.oddplatform.repository.util.JooqFTSHelper;
+import org.opendatadiscovery.oddplatform.utils.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.jooq.impl.DSL.field;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNER;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT;
+import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
+import static org.opendatadiscovery.oddplatform.repository.util.FTSConfig.FTS_CONFIG_DETAILS_MAP;
+
+/**
+ * Builds and renders the search vector upserts and the search conditions the way the repositories do.
+ * Rendering is included as jOOQ queries are rendered to SQL on every execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JooqFTSHelperBenchmark {
+    private static final String QUERY = "customer orders daily";
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+    private final FTSConfig.FTSConfigDetails configDetails = FTS_CONFIG_DETAILS_MAP.get(FTSEntity.DATA_ENTITY);
+
+    private List<Long> dataEntityIds;
+    private FacetStateDto facetState;
+    private JooqFTSHelper ftsHelper;
+
+    @Setup
+    public void setUp() {
+        ftsHelper = new JooqFTSHelper();
+        dataEntityIds = LongStream.range(0, 1000).boxed().toList();
+        facetState = new FacetStateDto(Map.of(
+            FacetType.DATA_SOURCES, filters(FacetType.DATA_SOURCES, 5),
+            FacetType.ENTITY_CLASSES, filters(FacetType.ENTITY_CLASSES, 2),
+            FacetType.TYPES, filters(FacetType.TYPES, 3),
+            FacetType.NAMESPACES, filters(FacetType.NAMESPACES, 2),
+            FacetType.OWNERS, filters(FacetType.OWNERS, 3),
+            FacetType.TAGS, filters(FacetType.TAGS, 10)
+        ), QUERY, false);
+    }
+
+    @Benchmark
+    public String dataEntityVectorUpsert() {
+        final Field<Long> dataEntityIdField = field("data_entity_id", Long.class);
+        final List<Field<?>> vectorFields = List.of(
+            DATA_ENTITY.EXTERNAL_NAME,
+            DATA_ENTITY.INTERNAL_NAME,
+            DATA_ENTITY.EXTERNAL_DESCRIPTION,
+            DATA_ENTITY.INTERNAL_DESCRIPTION
+        );
+
+        final Select<Record> vectorSelect = DSL
+            .select(vectorFields)
+            .select(DATA_ENTITY.ID.as(dataEntityIdField))
+            .from(DATA_ENTITY)
+            .where(DATA_ENTITY.ID.in(dataEntityIds))
+            .and(DATA_ENTITY.HOLLOW.isFalse());
+
+        return dslContext.render(ftsHelper.buildVectorUpsert(vectorSelect, dataEntityIdField, vectorFields,
+            SEARCH_ENTRYPOINT.DATA_ENTITY_VECTOR, configDetails, false));
+    }
+
+    @Benchmark
+    public String aggregatedOwnerVectorUpsert() {
+        final Field<Long> dataEntityId = field("data_entity_id", Long.class);
+        final Field<String> ownerNameAlias = field("owner_name", String.class);
+        final Field<String> titleNameAlias = field("title_name", String.class);
+        final List<Field<?>> vectorFields = List.of(OWNER.NAME.as(ownerNameAlias), TITLE.NAME.as(titleNameAlias));
+
+        final Select<Record> vectorSelect = DSL.select(vectorFields)
+            .select(DATA_ENTITY.ID.as(dataEntityId))
+            .from(OWNER)
+            .join(OWNERSHIP).on(OWNERSHIP.OWNER_ID.eq(OWNER.ID))
+            .join(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID))
+            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(OWNERSHIP.DATA_ENTITY_ID))
+            .and(DATA_ENTITY.HOLLOW.isFalse())
+            .and(DATA_ENTITY.STATUS.ne(DataEntityStatusDto.DELETED.getId()))
+            .where(OWNER.ID.eq(1L));
+
+        return dslContext.render(ftsHelper.buildVectorUpsert(vectorSelect, dataEntityId, vectorFields,
+            SEARCH_ENTRYPOINT.OWNER_VECTOR, configDetails, true,
+            Map.of(ownerNameAlias, OWNER.NAME, titleNameAlias, TITLE.NAME)));
+    }
+
+    @Benchmark
+    public String searchConditions() {
+        final Pair<List<Condition>, List<Condition>> conditions = ftsHelper.resultFacetStateConditions(facetState);
+        final Condition ftsCondition = ftsHelper.ftsCondition(SEARCH_ENTRYPOINT.SEARCH_VECTOR, QUERY);
+        final Field<?> rank = ftsHelper.ftsRankField(SEARCH_ENTRYPOINT.SEARCH_VECTOR, QUERY);
+
+        return dslContext.render(DSL.select(DATA_ENTITY.ID, rank)
+            .from(DATA_ENTITY)
+            .join(SEARCH_ENTRYPOINT).on(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
+            .where(conditions.getLeft())
+            .and(DSL.and(conditions.getRight()))
+            .and(ftsCondition));
+    }
+
+    private List<SearchFilterDto> filters(final FacetType type, final int count) {
+        return LongStream.range(1, count + 1)
+            .mapToObj(id -> new SearchFilterDto(id, type.name() + " " + id, true, type))
+            .toList();
+    }
+}
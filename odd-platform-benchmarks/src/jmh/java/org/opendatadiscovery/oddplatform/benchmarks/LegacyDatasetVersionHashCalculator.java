@@ -0,0 +1,114 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.commons.lang3.BooleanUtils;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+/**
+ * The JSON based structure hash calculation the streaming encoder replaced, kept as a baseline.
+ * The order of the boolean properties is pinned: without it Jackson takes the order of
+ * {@code Class.getDeclaredMethods()}, which isn't guaranteed to be the same between JVM runs.
+ */
+final class LegacyDatasetVersionHashCalculator {
+    private LegacyDatasetVersionHashCalculator() {
+    }
+
+    static String calculateStructureHash(final List<DataSetField> fields) {
+        final List<HashableField> sortedFields = fields.stream()
+            .map(f -> new HashableField(f.getOddrn(), f.getName(), f.getParentFieldOddrn(), f.getType(),
+                BooleanUtils.toBoolean(f.getIsKey()),
+                BooleanUtils.toBoolean(f.getIsValue()),
+                BooleanUtils.toBoolean(f.getIsPrimaryKey())))
+            .sorted(Comparator.comparing(HashableField::getOddrn))
+            .toList();
+
+        return calculateHash(sortedFields);
+    }
+
+    static String calculateStructureHashFromPojos(final List<DatasetFieldPojo> fields) {
+        final List<HashableField> sortedFields = fields.stream()
+            .map(f -> new HashableField(f.getOddrn(), f.getName(), f.getParentFieldOddrn(),
+                JSONSerDeUtils.deserializeJson(f.getType().data(), DataSetFieldType.class),
+                BooleanUtils.toBoolean(f.getIsKey()),
+                BooleanUtils.toBoolean(f.getIsValue()),
+                BooleanUtils.toBoolean(f.getIsPrimaryKey())))
+            .sorted(Comparator.comparing(HashableField::getOddrn))
+            .toList();
+
+        return calculateHash(sortedFields);
+    }
+
+    private static String calculateHash(final List<HashableField> sortedFields) {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (final byte b : md.digest(JSONSerDeUtils.serializeJson(sortedFields).getBytes(StandardCharsets.UTF_8))) {
+            sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+        }
+        return sb.toString();
+    }
+
+    @JsonPropertyOrder({"oddrn", "name", "parent_field_oddrn", "type", "key", "value", "primary_key"})
+    public static final class HashableField {
+        private final String oddrn;
+        private final String name;
+        private final String parentFieldOddrn;
+        private final DataSetFieldType type;
+        private final boolean isKey;
+        private final boolean isValue;
+        private final boolean isPrimaryKey;
+
+        private HashableField(final String oddrn, final String name, final String parentFieldOddrn,
+                              final DataSetFieldType type, final boolean isKey, final boolean isValue,
+                              final boolean isPrimaryKey) {
+            this.oddrn = oddrn;
+            this.name = name;
+            this.parentFieldOddrn = parentFieldOddrn;
+            this.type = type;
+            this.isKey = isKey;
+            this.isValue = isValue;
+            this.isPrimaryKey = isPrimaryKey;
+        }
+
+        public String getOddrn() {
+            return oddrn;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getParentFieldOddrn() {
+            return parentFieldOddrn;
+        }
+
+        public DataSetFieldType getType() {
+            return type;
+        }
+
+        public boolean isKey() {
+            return isKey;
+        }
+
+        public boolean isValue() {
+            return isValue;
+        }
+
+        public boolean isPrimaryKey() {
+            return isPrimaryKey;
+        }
+    }
+}
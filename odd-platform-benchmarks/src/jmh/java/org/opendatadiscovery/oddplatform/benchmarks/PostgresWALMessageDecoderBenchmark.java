@@ -0,0 +1,155 @@
+package org.opendatadiscovery.oddplatform.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.jooq.Field;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.opendatadiscovery.oddplatform.notification.dto.DecodedWALMessage;
+import org.opendatadiscovery.oddplatform.notification.wal.PostgresWALMessageDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.ALERT;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostgresWALMessageDecoderBenchmark {
+    private static final int RELATION_ID = 16384;
+    private static final int COLUMN_NAME_ID = 4;
+    private static final int COLUMN_TYPE_ID = 6;
+
+    private final List<Field<?>> columns = List.of(ALERT.fields());
+
+    private byte[] insertMessage;
+    private byte[] updateMessage;
+    private PostgresWALMessageDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        decoder = new PostgresWALMessageDecoder(new MetadataConnectionFactory());
+        decoder.decode(ByteBuffer.wrap(relationMessage()));
+        insertMessage = tupleMessage('I', false);
+        updateMessage = tupleMessage('U', true);
+    }
+
+    @Benchmark
+    public Optional<DecodedWALMessage> decodeInsert() {
+        return decoder.decode(ByteBuffer.wrap(insertMessage));
+    }
+
+    @Benchmark
+    public Optional<DecodedWALMessage> decodeUpdate() {
+        return decoder.decode(ByteBuffer.wrap(updateMessage));
+    }
+
+    private byte[] relationMessage() {
+        return message(out -> {
+            out.writeByte('R');
+            out.writeInt(RELATION_ID);
+            out.write("public\0".getBytes(StandardCharsets.UTF_8));
+            out.write("alert\0".getBytes(StandardCharsets.UTF_8));
+            out.writeByte('d');
+            out.writeShort(columns.size());
+        });
+    }
+
+    // pgoutput INSERT and UPDATE messages, the latter carrying the old tuple of a REPLICA IDENTITY FULL table
+    private byte[] tupleMessage(final char type, final boolean withOldTuple) {
+        return message(out -> {
+            out.writeByte(type);
+            out.writeInt(RELATION_ID);
+            if (withOldTuple) {
+                out.writeByte('O');
+                writeTuple(out);
+            }
+            out.writeByte('N');
+            writeTuple(out);
+        });
+    }
+
+    private void writeTuple(final DataOutputStream out) throws IOException {
+        out.writeShort(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            if (i % 4 == 3) {
+                out.writeByte('n');
+                continue;
+            }
+            final byte[] value = ("value of " + columns.get(i).getName() + " " + i).getBytes(StandardCharsets.UTF_8);
+            out.writeByte('t');
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    private byte[] message(final MessageWriter writer) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private interface MessageWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // Serves the column metadata the decoder reads on a RELATION message without a database
+    private class MetadataConnectionFactory extends PGConnectionFactory {
+        MetadataConnectionFactory() {
+            super(new DataSourceProperties());
+        }
+
+        @Override
+        public Connection getConnection() {
+            final DatabaseMetaData metaData = proxy(DatabaseMetaData.class, (method, args) ->
+                method.equals("getColumns") ? columnsResultSet() : null);
+            return proxy(Connection.class, (method, args) -> method.equals("getMetaData") ? metaData : null);
+        }
+
+        private ResultSet columnsResultSet() {
+            final Iterator<Field<?>> iterator = columns.iterator();
+            final Field<?>[] current = new Field<?>[1];
+            return proxy(ResultSet.class, (method, args) -> switch (method) {
+                case "next" -> {
+                    current[0] = iterator.hasNext() ? iterator.next() : null;
+                    yield current[0] != null;
+                }
+                case "getString" -> (int) args[0] == COLUMN_NAME_ID
+                    ? current[0].getName()
+                    : (int) args[0] == COLUMN_TYPE_ID ? current[0].getDataType().getTypeName() : null;
+                default -> null;
+            });
+        }
+    }
+
+    private interface MethodHandler {
+        Object handle(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final MethodHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> handler.handle(method.getName(), args));
+    }
+}